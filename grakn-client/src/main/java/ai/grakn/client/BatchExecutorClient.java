@@ -50,8 +50,10 @@ import rx.schedulers.Schedulers;
 import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.net.ConnectException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -70,6 +72,10 @@ import static com.codahale.metrics.MetricRegistry.name;
  * a batch finishes loading. BatchExecutorClient will block when the configured resources are being
  * used to execute tasks.
  *
+ * By default the queries are sent in batches of HTTP requests. With {@link Builder#grpc(SimpleURI)} they are
+ * pipelined through gRPC transaction streams instead, see {@link GrpcLoader}. With
+ * {@link Builder#grpcIfAvailable(Keyspace)} they are pipelined through the gRPC port of engine when engine reports it.
+ *
  * @author Domenico Corapi
  */
 public class BatchExecutorClient implements Closeable {
@@ -96,6 +102,8 @@ public class BatchExecutorClient implements Closeable {
     private final Scheduler scheduler;
     private final ExecutorService executor;
     private boolean requestLogEnabled;
+    private final boolean ingest;
+    private final @Nullable GrpcLoader grpcLoader;
 
     @Nullable
     private Consumer<? super QueryResponse> queryResponseHandler = null;
@@ -115,6 +123,11 @@ public class BatchExecutorClient implements Closeable {
         timeoutMs = builder.timeoutMs;
         threadPoolCoreSize = builder.threadPoolCoreSize;
         requestLogEnabled = builder.requestLogEnabled;
+        ingest = builder.ingest;
+        SimpleURI grpcUri = builder.grpcUri != null ? builder.grpcUri : engineGrpcUri(builder);
+        grpcLoader = grpcUri != null ?
+                GrpcLoader.create(grpcUri, threadPoolCoreSize, builder.commitEvery, maxDelay, maxRetries) :
+                null;
         // Note that the pool on which the observables run is different from the Hystrix pool
         // They need to be of comparable sizes and they should match the capabilities
         // of the server
@@ -125,6 +138,22 @@ public class BatchExecutorClient implements Closeable {
         failureMeter = metricRegistry.meter(name(BatchExecutorClient.class, "failure"));
     }
 
+    /**
+     * The gRPC address reported by engine for {@link Builder#grpcIfAvailable(Keyspace)}, or null to load through HTTP
+     */
+    private static @Nullable SimpleURI engineGrpcUri(Builder builder) {
+        if (builder.grpcKeyspace == null) return null;
+
+        try {
+            Optional<SimpleURI> grpcUri = builder.graknClient.grpcUri(builder.grpcKeyspace);
+            if (!grpcUri.isPresent()) LOG.info("Engine does not report a gRPC port, loading through HTTP");
+            return grpcUri.orElse(null);
+        } catch (GraknClientException | RuntimeException e) {
+            LOG.warn("Could not read the gRPC port of engine, loading through HTTP", e);
+            return null;
+        }
+    }
+
     /**
      * Will block until there is space for the query to be submitted
      */
@@ -133,6 +162,27 @@ public class BatchExecutorClient implements Closeable {
         queryRequest.acquirePermit();
 
         Context contextAddTimer = addTimer.time();
+
+        if (grpcLoader != null) {
+            grpcLoader.add(query, keyspace).whenComplete((result, error) -> {
+                try {
+                    if (error == null) {
+                        if (queryResponseHandler != null) queryResponseHandler.accept(QueryResponse.INSTANCE);
+                    } else {
+                        failureMeter.mark();
+                        if (exceptionHandler != null) {
+                            exceptionHandler.accept(error instanceof Exception ?
+                                    (Exception) error : new RuntimeException(error));
+                        }
+                    }
+                } finally {
+                    contextAddTimer.close();
+                    queryRequest.releasePermit();
+                }
+            });
+            return;
+        }
+
         Observable<QueryResponse> observable = new QueriesObservableCollapser(queryRequest, keyspace)
                 .observe()
                 .doOnError(error -> failureMeter.mark())
@@ -151,6 +201,17 @@ public class BatchExecutorClient implements Closeable {
         this.exceptionHandler = exceptionHandler;
     }
 
+    /**
+     * Will block until all submitted queries have executed, without closing the client. Queries must not be
+     * submitted concurrently.
+     */
+    public void flush() {
+        LOG.trace("Flushing: acquiring all {} permits ({} available)",
+                maxQueries, queryExecutionSemaphore.availablePermits());
+        queryExecutionSemaphore.acquireUninterruptibly(maxQueries);
+        queryExecutionSemaphore.release(maxQueries);
+    }
+
     /**
      * Will block until all submitted queries have executed
      */
@@ -166,6 +227,7 @@ public class BatchExecutorClient implements Closeable {
 
         context.close();
         executor.shutdownNow();
+        if (grpcLoader != null) grpcLoader.close();
     }
 
     public static Builder newBuilder() {
@@ -191,6 +253,10 @@ public class BatchExecutorClient implements Closeable {
         private int timeoutMs = 60_000;
         private int maxQueries = 10_000;
         private boolean requestLogEnabled = false;
+        private boolean ingest = false;
+        private @Nullable SimpleURI grpcUri = null;
+        private @Nullable Keyspace grpcKeyspace = null;
+        private int commitEvery = 1_000;
         private MetricRegistry metricRegistry = new MetricRegistry();
 
         private Builder() {
@@ -231,6 +297,42 @@ public class BatchExecutorClient implements Closeable {
             return this;
         }
 
+        /**
+         * Send the queries to the ingest queue of engine, which commits the queries of all clients together
+         */
+        public Builder ingest(boolean val) {
+            ingest = val;
+            return this;
+        }
+
+        /**
+         * Load the queries through the gRPC transaction streams of the server at the given gRPC address, rather than
+         * in batches of HTTP requests. Queries are then committed and reported to {@link #onNext(Consumer)} and
+         * {@link #onError(Consumer)} one by one, and a failed query does not fail the other queries of its batch.
+         */
+        public Builder grpc(SimpleURI val) {
+            grpcUri = val;
+            return this;
+        }
+
+        /**
+         * Load the queries through gRPC, like {@link #grpc(SimpleURI)}, at the gRPC port in the config which engine
+         * serves for the keyspace. Queries are sent in batches of HTTP requests when the config cannot be read or has
+         * no gRPC port. Requires the {@link #taskClient(GraknClient)}.
+         */
+        public Builder grpcIfAvailable(Keyspace val) {
+            grpcKeyspace = val;
+            return this;
+        }
+
+        /**
+         * The number of queries after which a transaction is committed, when loading through gRPC
+         */
+        public Builder commitEvery(int val) {
+            commitEvery = val;
+            return this;
+        }
+
         public BatchExecutorClient build() {
             return new BatchExecutorClient(this);
         }
@@ -380,6 +482,7 @@ public class BatchExecutorClient implements Closeable {
             try {
                 List<QueryResponse> responses = retryer.call(() -> {
                     try (Context c = graqlExecuteTimer.time()) {
+                        if (ingest) return graknClient.graqlIngest(queryList, keyspace);
                         return graknClient.graqlExecute(queryList, keyspace);
                     }
                 });
@@ -391,7 +494,9 @@ public class BatchExecutorClient implements Closeable {
                 return responses;
             } catch (RetryException | ExecutionException e) {
                 Throwable cause = e.getCause();
-                if (cause instanceof GraknClientException) {
+                if (cause instanceof PartialIngestException) {
+                    return reportPartialIngest(queryList, (PartialIngestException) cause);
+                } else if (cause instanceof GraknClientException) {
                     if (exceptionHandler != null) {
                         exceptionHandler.accept((GraknClientException) cause);
                     }
@@ -409,6 +514,25 @@ public class BatchExecutorClient implements Closeable {
         }
     }
 
+    /**
+     * Report the queries of an ingested batch which failed to the {@link #onError(Consumer)} handler, and the ones
+     * which were committed to the {@link #onNext(Consumer)} handler
+     */
+    private List<QueryResponse> reportPartialIngest(List<Query<?>> queryList, PartialIngestException exception) {
+        List<QueryResponse> responses = new ArrayList<>(queryList.size());
+        for (int i = 0; i < queryList.size(); i++) {
+            String failure = exception.failures().get(i);
+            if (failure != null) {
+                failureMeter.mark();
+                if (exceptionHandler != null) exceptionHandler.accept(new GraknClientException(failure));
+            } else if (queryResponseHandler != null) {
+                queryResponseHandler.accept(QueryResponse.INSTANCE);
+            }
+            responses.add(QueryResponse.INSTANCE);
+        }
+        return responses;
+    }
+
     /**
      * This is the hystrix collapser. It's instantiated with a single query but
      * internally it waits until a timeout expires to batch the requests together.
@@ -40,5 +40,21 @@ public interface GraknClient {
 
     List<QueryResponse> graqlExecute(List<Query<?>> queryList, Keyspace keyspace) throws GraknClientException;
 
+    /**
+     * Queue insert queries in the ingest queue of engine, which commits them together with the queries of other
+     * clients. Clients which cannot reach the ingest queue execute the queries directly.
+     */
+    default List<QueryResponse> graqlIngest(List<Query<?>> queryList, Keyspace keyspace) throws GraknClientException {
+        return graqlExecute(queryList, keyspace);
+    }
+
     Optional<Keyspace> keyspace(String keyspace) throws GraknClientException;
+
+    /**
+     * The gRPC address of engine, at the gRPC port of the config which engine serves for the keyspace. Clients which
+     * cannot read the config of engine return nothing.
+     */
+    default Optional<SimpleURI> grpcUri(Keyspace keyspace) throws GraknClientException {
+        return Optional.empty();
+    }
 }
@@ -17,8 +17,10 @@
  */
 package ai.grakn.client;
 
+import ai.grakn.GraknConfigKey;
 import ai.grakn.GraknTxType;
 import ai.grakn.Keyspace;
+import ai.grakn.engine.GraknConfig;
 import ai.grakn.graql.Query;
 import ai.grakn.util.REST;
 import ai.grakn.util.SimpleURI;
@@ -33,14 +35,20 @@ import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.Response.Status.Family;
 import javax.ws.rs.core.UriBuilder;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 import static ai.grakn.util.REST.Request.Graql.ALLOW_MULTIPLE_QUERIES;
 import static ai.grakn.util.REST.Request.Graql.EXECUTE_WITH_INFERENCE;
 import static ai.grakn.util.REST.Request.Graql.LOADING_DATA;
 import static ai.grakn.util.REST.Request.Graql.TX_TYPE;
+import static ai.grakn.util.REST.Response.EXCEPTION;
+import static ai.grakn.util.REST.Response.COMMITTED;
+import static ai.grakn.util.REST.Response.QUERIES;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
 
 /**
@@ -94,6 +102,45 @@ public class GraknClientImpl implements GraknClient {
         }
     }
 
+    @Override
+    public List<QueryResponse> graqlIngest(List<Query<?>> queryList, Keyspace keyspace)
+            throws GraknClientException {
+        LOG.debug("Ingesting query list size {} to keyspace {}", queryList.size(), keyspace);
+
+        String body = queryList.stream().map(Object::toString).collect(Collectors.joining("\n"));
+        URI fullURI = UriBuilder.fromUri(uri.toURI())
+                .path(REST.resolveTemplate(REST.WebPath.KEYSPACE_INGEST, keyspace.getValue()))
+                .build();
+        ClientResponse response = client.resource(fullURI)
+                .accept(APPLICATION_JSON)
+                .post(ClientResponse.class, body);
+        try {
+            Response.StatusType status = response.getStatusInfo();
+            String entity = response.getEntity(String.class);
+            if (!status.getFamily().equals(Family.SUCCESSFUL)) {
+                Json json = Json.read(entity);
+                if (json.has(QUERIES)) {
+                    // Only the failed queries are reported, the others have been committed
+                    List<Json> statuses = json.at(QUERIES).asJsonList();
+                    Map<Integer, String> failures = new HashMap<>();
+                    for (int i = 0; i < statuses.size(); i++) {
+                        Json queryStatus = statuses.get(i);
+                        if (!queryStatus.at(COMMITTED).asBoolean()) {
+                            failures.put(i, queryStatus.at(EXCEPTION).asString() + "\nquery: " + queryList.get(i));
+                        }
+                    }
+                    throw new PartialIngestException("Failed graqlIngest. Error status: " + status.getStatusCode() + ", " + failures.size() + " of " + queryList.size() + " queries failed", response.getStatusInfo(), failures);
+                }
+                String error = json.at(EXCEPTION).asString();
+                throw new GraknClientException("Failed graqlIngest. Error status: " + status.getStatusCode() + ", error info: " + error, response.getStatusInfo());
+            }
+            LOG.debug("Received {}", status.getStatusCode());
+            return queryList.stream().map(q -> QueryResponse.INSTANCE).collect(Collectors.toList());
+        } finally {
+            response.close();
+        }
+    }
+
     @Override
     public Optional<Keyspace> keyspace(String keyspace) throws GraknClientException {
         URI fullURI = UriBuilder.fromUri(uri.toURI())
@@ -114,4 +161,30 @@ public class GraknClientImpl implements GraknClient {
         response.close();
         return Optional.of(Keyspace.of(keyspace));
     }
+
+    @Override
+    public Optional<SimpleURI> grpcUri(Keyspace keyspace) throws GraknClientException {
+        URI fullURI = UriBuilder.fromUri(uri.toURI())
+                .path(REST.resolveTemplate(REST.WebPath.KB_KEYSPACE, keyspace.getValue()))
+                .build();
+        ClientResponse response = client.resource(fullURI)
+                .accept(APPLICATION_JSON)
+                .put(ClientResponse.class);
+        try {
+            Response.StatusType status = response.getStatusInfo();
+            String entity = response.getEntity(String.class);
+            if (!status.getFamily().equals(Family.SUCCESSFUL)) {
+                throw new GraknClientException("Failed config. Error status: " + status.getStatusCode() + ", error info: " + entity, response.getStatusInfo());
+            }
+            Properties properties = new Properties();
+            properties.putAll(Json.read(entity).asMap());
+            if (!properties.containsKey(GraknConfigKey.GRPC_PORT.name())) {
+                return Optional.empty();
+            }
+            int grpcPort = GraknConfig.of(properties).getProperty(GraknConfigKey.GRPC_PORT);
+            return Optional.of(new SimpleURI(uri.getHost(), grpcPort));
+        } finally {
+            response.close();
+        }
+    }
 }
@@ -0,0 +1,298 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.client;
+
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.exception.TemporaryWriteException;
+import ai.grakn.graql.Query;
+import ai.grakn.remote.AsyncRemoteGraknTx;
+import ai.grakn.remote.RemoteGraknSession;
+import ai.grakn.util.SimpleURI;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     Loads queries through the gRPC transaction streams of a Grakn server, as the transport of
+ *     {@link BatchExecutorClient}.
+ * </p>
+ *
+ * <p>
+ *     Every keyspace is loaded by a number of workers, each of which keeps a transaction open and pipelines the
+ *     queries into it without waiting for their responses. A worker commits after every {@code commitEvery} queries,
+ *     or when no further query arrives within the linger time.
+ * </p>
+ *
+ * <p>
+ *     The server closes a transaction when one of its queries fails. The first failed query is then reported and the
+ *     other queries since the last commit are sent again in a new transaction. If the commit itself fails, the
+ *     queries are split in halves which are committed separately, until the failing queries are isolated.
+ * </p>
+ *
+ * <p>
+ *     Queries which fail temporarily, because of a {@link TemporaryWriteException} or because the server is
+ *     unavailable, are sent again after an exponential backoff, like the HTTP transport of {@link BatchExecutorClient}
+ *     waits between its retries.
+ * </p>
+ */
+final class GrpcLoader implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GrpcLoader.class);
+
+    private static final long BACKOFF_MULTIPLIER_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final SimpleURI uri;
+    private final int workers;
+    private final int commitEvery;
+    private final long lingerMillis;
+    private final int maxRetries;
+
+    private final Map<Keyspace, BlockingQueue<Statement>> queues = new ConcurrentHashMap<>();
+    private final Map<Keyspace, RemoteGraknSession> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("grpc-loader-%d").setDaemon(true).build());
+    private volatile boolean closed = false;
+
+    private GrpcLoader(SimpleURI uri, int workers, int commitEvery, long lingerMillis, int maxRetries) {
+        this.uri = uri;
+        this.workers = workers;
+        this.commitEvery = commitEvery;
+        this.lingerMillis = lingerMillis;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * @param uri          the gRPC address of the Grakn server
+     * @param workers      the number of transactions which load each keyspace concurrently
+     * @param commitEvery  the number of queries after which a transaction is committed
+     * @param lingerMillis how long a transaction waits for further queries before it is committed
+     * @param maxRetries   how often queries which fail temporarily are sent again
+     */
+    static GrpcLoader create(SimpleURI uri, int workers, int commitEvery, long lingerMillis, int maxRetries) {
+        return new GrpcLoader(uri, workers, commitEvery, lingerMillis, maxRetries);
+    }
+
+    /**
+     * Queue a query to be loaded
+     *
+     * @return a future which completes once the query is committed, or fails with the reason it was not
+     */
+    CompletableFuture<Void> add(Query<?> query, Keyspace keyspace) {
+        Statement statement = new Statement(query);
+        queue(keyspace).add(statement);
+        return statement.committed;
+    }
+
+    private BlockingQueue<Statement> queue(Keyspace keyspace) {
+        return queues.computeIfAbsent(keyspace, k -> {
+            RemoteGraknSession session = RemoteGraknSession.create(keyspace, uri);
+            sessions.put(keyspace, session);
+            BlockingQueue<Statement> queue = new LinkedBlockingQueue<>();
+            for (int i = 0; i < workers; i++) {
+                executor.submit(() -> work(session, queue));
+            }
+            return queue;
+        });
+    }
+
+    private void work(RemoteGraknSession session, BlockingQueue<Statement> queue) {
+        List<Statement> pending = new ArrayList<>(commitEvery);
+        AsyncRemoteGraknTx tx = null;
+
+        while (!closed) {
+            try {
+                Statement statement = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+
+                if (statement != null) {
+                    pending.add(statement);
+                    if (tx == null) tx = session.open(GraknTxType.BATCH).async();
+                    statement.send(tx);
+                }
+
+                if (tx != null && (statement == null || pending.size() >= commitEvery)) {
+                    AsyncRemoteGraknTx sent = tx;
+                    tx = null;
+                    write(session, sent, pending);
+                    pending = new ArrayList<>(commitEvery);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // For example the server cannot be reached, so the queries fail rather than the worker
+                LOG.error("Failed to load queries", e);
+                pending.forEach(statement -> statement.fail(e));
+                pending = new ArrayList<>(commitEvery);
+                if (tx != null) closeQuietly(tx);
+                tx = null;
+            }
+        }
+    }
+
+    /**
+     * Commit queries which have been sent in a transaction, sending them again in new transactions until each of them
+     * has been committed or has failed
+     */
+    private void write(
+            RemoteGraknSession session, AsyncRemoteGraknTx tx, List<Statement> statements
+    ) throws InterruptedException {
+        List<Statement> remaining = commit(session, tx, statements);
+        while (!remaining.isEmpty()) {
+            AsyncRemoteGraknTx retry = session.open(GraknTxType.BATCH).async();
+            remaining.forEach(statement -> statement.send(retry));
+            remaining = commit(session, retry, remaining);
+        }
+    }
+
+    /**
+     * @return the queries which need to be sent again
+     */
+    private List<Statement> commit(
+            RemoteGraknSession session, AsyncRemoteGraknTx tx, List<Statement> statements
+    ) throws InterruptedException {
+        try {
+            tx.commit();
+            statements.forEach(statement -> statement.committed.complete(null));
+            return Collections.emptyList();
+        } catch (RuntimeException e) {
+            closeQuietly(tx);
+
+            // The server executes the queries in order, so the first failure is the cause and the later ones follow
+            for (int i = 0; i < statements.size(); i++) {
+                Statement statement = statements.get(i);
+                if (statement.response.isCompletedExceptionally()) {
+                    Throwable cause = statement.cause();
+                    if (isRetriable(cause) && statement.attempts++ < maxRetries) {
+                        LOG.warn("Retrying queries after exception {}", cause.getMessage());
+                        backoff(statement.attempts);
+                        return statements;
+                    }
+                    statement.fail(cause);
+                    List<Statement> remaining = new ArrayList<>(statements.subList(0, i));
+                    remaining.addAll(statements.subList(i + 1, statements.size()));
+                    return remaining;
+                }
+            }
+
+            if (isRetriable(e) && statements.get(0).attempts++ < maxRetries) {
+                LOG.warn("Retrying queries after exception {}", e.getMessage());
+                backoff(statements.get(0).attempts);
+                return statements;
+            } else if (statements.size() == 1) {
+                statements.get(0).fail(e);
+            } else {
+                int half = statements.size() / 2;
+                write(session, statements.subList(0, half));
+                write(session, statements.subList(half, statements.size()));
+            }
+            return Collections.emptyList();
+        }
+    }
+
+    private void write(RemoteGraknSession session, List<Statement> statements) throws InterruptedException {
+        AsyncRemoteGraknTx tx = session.open(GraknTxType.BATCH).async();
+        statements.forEach(statement -> statement.send(tx));
+        write(session, tx, statements);
+    }
+
+    /**
+     * Wait before queries are sent again, twice as long after every attempt, up to {@link #MAX_BACKOFF_MILLIS}
+     */
+    private static void backoff(int attempts) throws InterruptedException {
+        Thread.sleep(Math.min(BACKOFF_MULTIPLIER_MILLIS << Math.min(attempts, 32), MAX_BACKOFF_MILLIS));
+    }
+
+    private static boolean isRetriable(Throwable error) {
+        return error instanceof TemporaryWriteException || (error instanceof StatusRuntimeException &&
+                ((StatusRuntimeException) error).getStatus().getCode() == Status.Code.UNAVAILABLE);
+    }
+
+    private static void closeQuietly(AsyncRemoteGraknTx tx) {
+        try {
+            tx.tx().close();
+        } catch (RuntimeException e) {
+            LOG.debug("Could not close failed transaction", e);
+        }
+    }
+
+    /**
+     * Stop the workers. Queries which have not been committed yet are not loaded.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        sessions.values().forEach(RemoteGraknSession::close);
+    }
+
+    /**
+     * A query, the response to its latest sending and the future completed once it is committed
+     */
+    private static class Statement {
+        private final Query<?> query;
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+        private CompletableFuture<Void> response;
+        private int attempts = 0;
+
+        private Statement(Query<?> query) {
+            this.query = query;
+        }
+
+        private void send(AsyncRemoteGraknTx tx) {
+            try {
+                response = tx.executeIgnoringResults(query);
+            } catch (RuntimeException e) {
+                // Sending fails if the transaction has been closed because an earlier query failed
+                response = new CompletableFuture<>();
+                response.completeExceptionally(e);
+            }
+        }
+
+        private Throwable cause() {
+            try {
+                response.join();
+                throw new IllegalStateException("The query did not fail");
+            } catch (CompletionException e) {
+                return e.getCause();
+            }
+        }
+
+        private void fail(Throwable error) {
+            committed.completeExceptionally(error);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+package ai.grakn.client;
+
+import com.google.common.collect.ImmutableMap;
+
+import javax.ws.rs.core.Response.StatusType;
+import java.util.Map;
+
+/**
+ * Thrown when only some of the queries sent to the ingest endpoint of engine failed. The other queries are committed,
+ * so the request must not be sent again.
+ */
+public class PartialIngestException extends GraknClientException {
+
+    private final ImmutableMap<Integer, String> failures;
+
+    public PartialIngestException(String s, StatusType statusInfo, Map<Integer, String> failures) {
+        super(s, statusInfo);
+        this.failures = ImmutableMap.copyOf(failures);
+    }
+
+    /**
+     * The error of every failed query, by the index of the query in the request
+     */
+    public ImmutableMap<Integer, String> failures() {
+        return failures;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.remote;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.exception.InvalidKBException;
+import ai.grakn.graql.AggregateQuery;
+import ai.grakn.graql.DefineQuery;
+import ai.grakn.graql.DeleteQuery;
+import ai.grakn.graql.GetQuery;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.UndefineQuery;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.grpc.GrpcClient;
+import com.google.common.collect.Iterables;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import static ai.grakn.util.CommonUtil.toImmutableList;
+
+/**
+ * Asynchronous view of a {@link RemoteGraknTx}, which sends requests without waiting for the earlier ones to be
+ * answered.
+ *
+ * <p>
+ *     All requests share the bidirectional stream of the transaction. The server handles the requests of a
+ *     transaction one at a time, in the order they were sent, and answers them in the same order, so every response
+ *     is matched to the oldest request which has not been answered yet. Inserts, deletes, defines and undefines are
+ *     executed in the order they were sent. A get query is executed lazily while its answers are retrieved, so it may
+ *     observe the writes of requests sent after it - call {@link #flush()} first where this matters.
+ * </p>
+ *
+ * <p>
+ *     At most {@code maxInFlight} queries are outstanding at once: when the window is full, sending another query
+ *     blocks until one of them completes. The futures are completed on a gRPC thread, so anything chained onto them
+ *     must not block or send further requests through this class.
+ * </p>
+ */
+public final class AsyncRemoteGraknTx {
+
+    static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+    private final RemoteGraknTx tx;
+    private final GrpcClient client;
+    private final int maxInFlight;
+    private final Semaphore window;
+
+    private AsyncRemoteGraknTx(RemoteGraknTx tx, int maxInFlight) {
+        this.tx = tx;
+        this.client = tx.client();
+        this.maxInFlight = maxInFlight;
+        this.window = new Semaphore(maxInFlight);
+    }
+
+    static AsyncRemoteGraknTx create(RemoteGraknTx tx, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("At least one request must be allowed in flight, not " + maxInFlight);
+        }
+        return new AsyncRemoteGraknTx(tx, maxInFlight);
+    }
+
+    /**
+     * @return the transaction which the requests are sent to
+     */
+    public RemoteGraknTx tx() {
+        return tx;
+    }
+
+    public CompletableFuture<List<Answer>> execute(GetQuery query) {
+        return executeAnswers(query);
+    }
+
+    public CompletableFuture<List<Answer>> execute(InsertQuery query) {
+        return executeAnswers(query);
+    }
+
+    public CompletableFuture<Void> execute(DeleteQuery query) {
+        return executeVoid(query);
+    }
+
+    public CompletableFuture<Answer> execute(DefineQuery query) {
+        return executeSingle(query).thenApply(Answer.class::cast);
+    }
+
+    public CompletableFuture<Void> execute(UndefineQuery query) {
+        return executeVoid(query);
+    }
+
+    public <T> CompletableFuture<T> execute(AggregateQuery<T> query) {
+        return executeSingle(query).thenApply(result -> (T) result);
+    }
+
+    /**
+     * Execute a query of any kind, for example when loading data, without retrieving its results
+     */
+    public CompletableFuture<Void> executeIgnoringResults(Query<?> query) {
+        return executeVoid(query);
+    }
+
+    public CompletableFuture<Optional<Concept>> getConcept(ConceptId id) {
+        return inWindow(() -> client.getConceptAsync(id));
+    }
+
+    /**
+     * Block until all requests sent so far have completed
+     */
+    public void flush() {
+        window.acquireUninterruptibly(maxInFlight);
+        window.release(maxInFlight);
+    }
+
+    /**
+     * Wait for all requests sent so far, then commit the transaction.
+     *
+     * The commit fails if any of the queries failed, because the server closes the transaction on an error.
+     */
+    public void commit() throws InvalidKBException {
+        flush();
+        tx.commit();
+    }
+
+    private CompletableFuture<List<Answer>> executeAnswers(Query<?> query) {
+        return inWindow(() -> client.execQueryAsync(query))
+                .thenApply(results -> results.stream().map(Answer.class::cast).collect(toImmutableList()));
+    }
+
+    private CompletableFuture<Void> executeVoid(Query<?> query) {
+        return inWindow(() -> client.execQueryAsync(query)).thenApply(results -> null);
+    }
+
+    private CompletableFuture<Object> executeSingle(Query<?> query) {
+        return inWindow(() -> client.execQueryAsync(query)).thenApply(Iterables::getOnlyElement);
+    }
+
+    /**
+     * Send a request once there is room in the window. The room is taken by the calling thread, never by a gRPC
+     * thread, so a full window cannot stop responses from being handled.
+     */
+    private <T> CompletableFuture<T> inWindow(Supplier<CompletableFuture<T>> request) {
+        window.acquireUninterruptibly();
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            window.release();
+            throw e;
+        }
+        return response.whenComplete((result, error) -> window.release());
+    }
+}
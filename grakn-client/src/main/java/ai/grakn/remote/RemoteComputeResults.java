@@ -0,0 +1,132 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.remote;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.admin.Answer;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import static ai.grakn.util.CommonUtil.toImmutableList;
+import static ai.grakn.util.CommonUtil.toImmutableSet;
+
+/**
+ * Decodes the results of compute queries received over gRPC into the types the queries return.
+ *
+ * <p>
+ *     A numeric result is received as one JSON value. A map is received as one or more JSON objects, each holding a
+ *     chunk of its entries. A large collection value is split between chunks, so the values of a key are merged. A path of concepts is received as an {@link Answer} whose variables are the positions
+ *     of the concepts in the path. JSON loses the types of map keys and collections, so they are restored here.
+ * </p>
+ */
+final class RemoteComputeResults {
+
+    private RemoteComputeResults() {}
+
+    static Long count(List<Object> results) {
+        return ((Number) single(results)).longValue();
+    }
+
+    static Optional<Number> number(List<Object> results) {
+        return Optional.ofNullable((Number) single(results));
+    }
+
+    static Optional<Double> decimal(List<Object> results) {
+        return number(results).map(Number::doubleValue);
+    }
+
+    static Map<Long, Set<String>> conceptIdsByLong(List<Object> results) {
+        return merge(results, Long::valueOf, RemoteComputeResults::stringSet, RemoteComputeResults::union);
+    }
+
+    static Map<String, Set<String>> conceptIdsByString(List<Object> results) {
+        return merge(results, Function.identity(), RemoteComputeResults::stringSet, RemoteComputeResults::union);
+    }
+
+    /**
+     * Decode the result of a connected component query, which maps each cluster to either its members or its size
+     */
+    static <T> T clusters(List<Object> results) {
+        //Only the members of a cluster can be split between chunks, never its size
+        Map<String, Object> clusters = merge(results, Function.identity(), value -> {
+            if (value instanceof Collection) {
+                return stringSet(value);
+            } else {
+                return ((Number) value).longValue();
+            }
+        }, (members1, members2) -> union((Set<String>) members1, (Set<String>) members2));
+        return (T) clusters;
+    }
+
+    static Optional<List<Concept>> path(List<Object> results) {
+        if (results.isEmpty() || (results.size() == 1 && results.get(0) == null)) {
+            return Optional.empty();
+        }
+        return Optional.of(toPath(single(results)));
+    }
+
+    static List<List<Concept>> paths(List<Object> results) {
+        return results.stream().map(RemoteComputeResults::toPath).collect(toImmutableList());
+    }
+
+    private static List<Concept> toPath(Object result) {
+        Answer answer = (Answer) result;
+        return answer.vars().stream()
+                .sorted(Comparator.comparing(var -> Integer.valueOf(var.getValue())))
+                .map(answer::get)
+                .collect(toImmutableList());
+    }
+
+    /**
+     * @param combiner combines the values of a key whose value was split between chunks
+     */
+    private static <K, V> Map<K, V> merge(
+            List<Object> chunks, Function<String, K> keyDecoder, Function<Object, V> valueDecoder,
+            BinaryOperator<V> combiner) {
+        Map<K, V> merged = new HashMap<>();
+        for (Object chunk : chunks) {
+            ((Map<?, ?>) chunk).forEach((key, value) ->
+                    merged.merge(keyDecoder.apply(key.toString()), valueDecoder.apply(value), combiner)
+            );
+        }
+        return merged;
+    }
+
+    private static Set<String> stringSet(Object value) {
+        return ((Collection<?>) value).stream().map(Object::toString).collect(toImmutableSet());
+    }
+
+    private static Set<String> union(Set<String> values1, Set<String> values2) {
+        return ImmutableSet.<String>builder().addAll(values1).addAll(values2).build();
+    }
+
+    private static Object single(List<Object> results) {
+        return Iterables.getOnlyElement(results);
+    }
+}
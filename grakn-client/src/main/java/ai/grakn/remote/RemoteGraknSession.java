@@ -22,6 +22,7 @@ import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
 import ai.grakn.Keyspace;
 import ai.grakn.exception.GraknTxOperationException;
+import ai.grakn.grpc.AnswerProjection;
 import ai.grakn.grpc.GrpcUtil;
 import ai.grakn.rpc.generated.GraknGrpc;
 import ai.grakn.rpc.generated.GraknGrpc.GraknBlockingStub;
@@ -76,6 +77,15 @@ public class RemoteGraknSession implements GraknSession {
         return RemoteGraknTx.create(this, GrpcUtil.openRequest(keyspace, transactionType));
     }
 
+    /**
+     * Open a transaction whose answers are sent together with the labels, types and values of their concepts, and
+     * with the attributes of the given types which their things own, so reading these does not need a round trip to
+     * the server for every concept.
+     */
+    public RemoteGraknTx open(GraknTxType transactionType, AnswerProjection projection) {
+        return RemoteGraknTx.create(this, GrpcUtil.openRequest(keyspace, transactionType), projection);
+    }
+
     @Override
     public void close() throws GraknTxOperationException {
         channel.shutdown();
@@ -37,6 +37,7 @@ import ai.grakn.exception.InvalidKBException;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.internal.query.QueryBuilderImpl;
+import ai.grakn.grpc.AnswerProjection;
 import ai.grakn.grpc.ConceptMethods;
 import ai.grakn.grpc.GrpcClient;
 import ai.grakn.grpc.GrpcUtil;
@@ -46,13 +47,17 @@ import ai.grakn.rpc.generated.GraknGrpc.GraknStub;
 import ai.grakn.rpc.generated.GrpcConcept;
 import ai.grakn.rpc.generated.GrpcGrakn.DeleteRequest;
 import ai.grakn.rpc.generated.GrpcGrakn.TxRequest;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import static ai.grakn.util.CommonUtil.toImmutableSet;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Remote implementation of {@link GraknTx} and {@link GraknAdmin} that communicates with a Grakn server using gRPC.
@@ -79,7 +84,20 @@ public final class RemoteGraknTx implements GraknTx, GraknAdmin {
 
     // TODO: ideally the transaction should not hold a reference to the session or at least depend on a session interface
     public static RemoteGraknTx create(RemoteGraknSession session, TxRequest openRequest) {
+        return create(session, openRequest, null);
+    }
+
+    /**
+     * @param projection what the server should send together with every answer, or null to send only the concepts
+     */
+    public static RemoteGraknTx create(
+            RemoteGraknSession session, TxRequest openRequest, @Nullable AnswerProjection projection) {
         GraknStub stub = session.stub();
+        if (projection != null) {
+            Metadata headers = new Metadata();
+            headers.put(AnswerProjection.KEY, projection);
+            stub = MetadataUtils.attachHeaders(stub, headers);
+        }
         return new RemoteGraknTx(session, GrpcUtil.convert(openRequest.getOpen().getTxType()), openRequest, stub);
     }
 
@@ -87,6 +105,21 @@ public final class RemoteGraknTx implements GraknTx, GraknAdmin {
         return client;
     }
 
+    /**
+     * @return an asynchronous view of this transaction, which keeps many requests in flight at once
+     */
+    public AsyncRemoteGraknTx async() {
+        return async(AsyncRemoteGraknTx.DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * @param maxInFlight the maximum number of requests which are sent but not yet answered
+     * @return an asynchronous view of this transaction, which keeps many requests in flight at once
+     */
+    public AsyncRemoteGraknTx async(int maxInFlight) {
+        return AsyncRemoteGraknTx.create(this, maxInFlight);
+    }
+
     @Override
     public EntityType putEntityType(Label label) {
         return client().putEntityType(label).asEntityType();
@@ -118,6 +151,11 @@ public final class RemoteGraknTx implements GraknTx, GraknAdmin {
         return (T) client().getConcept(id).orElse(null);
     }
 
+    @Override
+    public <T extends Concept> List<T> getConcepts(Collection<ConceptId> ids) {
+        return client().getConcepts(ids).stream().map(concept -> (T) concept.orElse(null)).collect(toList());
+    }
+
     @Nullable
     @Override
     public <T extends SchemaConcept> T getSchemaConcept(Label label) {
@@ -21,6 +21,7 @@ package ai.grakn.remote;
 import ai.grakn.ComputeJob;
 import ai.grakn.QueryRunner;
 import ai.grakn.concept.Concept;
+import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.ComputeQuery;
 import ai.grakn.graql.DefineQuery;
@@ -34,6 +35,7 @@ import ai.grakn.graql.analytics.ConnectedComponentQuery;
 import ai.grakn.graql.analytics.CorenessQuery;
 import ai.grakn.graql.analytics.CountQuery;
 import ai.grakn.graql.analytics.DegreeQuery;
+import ai.grakn.graql.analytics.Estimate;
 import ai.grakn.graql.analytics.KCoreQuery;
 import ai.grakn.graql.analytics.MaxQuery;
 import ai.grakn.graql.analytics.MeanQuery;
@@ -46,11 +48,13 @@ import ai.grakn.graql.analytics.SumQuery;
 import ai.grakn.grpc.GrpcClient;
 import com.google.common.collect.Iterators;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -107,67 +111,92 @@ final class RemoteQueryRunner implements QueryRunner {
 
     @Override
     public <T> ComputeJob<T> run(ConnectedComponentQuery<T> query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::clusters);
     }
 
     @Override
     public ComputeJob<Map<Long, Set<String>>> run(CorenessQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::conceptIdsByLong);
     }
 
     @Override
     public ComputeJob<Long> run(CountQuery query) {
-        return runCompute(query, Long.class);
+        return runCompute(query, RemoteComputeResults::count);
     }
 
     @Override
     public ComputeJob<Map<Long, Set<String>>> run(DegreeQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::conceptIdsByLong);
     }
 
     @Override
     public ComputeJob<Map<String, Set<String>>> run(KCoreQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::conceptIdsByString);
     }
 
     @Override
     public ComputeJob<Optional<Number>> run(MaxQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::number);
     }
 
     @Override
     public ComputeJob<Optional<Double>> run(MeanQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::decimal);
     }
 
     @Override
     public ComputeJob<Optional<Number>> run(MedianQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::number);
     }
 
     @Override
     public ComputeJob<Optional<Number>> run(MinQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::number);
     }
 
     @Override
     public ComputeJob<Optional<List<Concept>>> run(PathQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::path);
     }
 
     @Override
     public ComputeJob<List<List<Concept>>> run(PathsQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::paths);
     }
 
     @Override
     public ComputeJob<Optional<Double>> run(StdQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::decimal);
     }
 
     @Override
     public ComputeJob<Optional<Number>> run(SumQuery query) {
-        return runComputeUnchecked(query);
+        return runCompute(query, RemoteComputeResults::number);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(CountQuery query) {
+        throw GraqlQueryException.estimateNotAvailableRemotely(query);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(MeanQuery query) {
+        throw GraqlQueryException.estimateNotAvailableRemotely(query);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(MedianQuery query) {
+        throw GraqlQueryException.estimateNotAvailableRemotely(query);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(StdQuery query) {
+        throw GraqlQueryException.estimateNotAvailableRemotely(query);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(SumQuery query) {
+        throw GraqlQueryException.estimateNotAvailableRemotely(query);
     }
 
     private Iterator<Object> run(Query<?> query) {
@@ -184,12 +213,11 @@ final class RemoteQueryRunner implements QueryRunner {
         return stream.map(Answer.class::cast);
     }
 
-    private <T> ComputeJob<T> runCompute(ComputeQuery<? extends T> query, Class<? extends T> clazz) {
-        return RemoteComputeJob.of(runSingle(query, clazz));
-    }
-
-    private <T> ComputeJob<T> runComputeUnchecked(ComputeQuery<? extends T> query) {
-        return RemoteComputeJob.of(runSingleUnchecked(query));
+    private <T> ComputeJob<T> runCompute(ComputeQuery<? extends T> query, Function<List<Object>, T> decoder) {
+        // Large results arrive in several chunks, which the decoder merges
+        List<Object> results = new ArrayList<>();
+        run(query).forEachRemaining(results::add);
+        return RemoteComputeJob.of(decoder.apply(results));
     }
 
     private <T> T runSingle(Query<? extends T> query, Class<? extends T> clazz) {
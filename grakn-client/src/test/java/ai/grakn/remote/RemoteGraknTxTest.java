@@ -26,16 +26,22 @@ import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
+import ai.grakn.concept.Thing;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.graql.DefineQuery;
 import ai.grakn.graql.GetQuery;
+import ai.grakn.graql.Graql;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.analytics.CountQuery;
+import ai.grakn.graql.analytics.DegreeQuery;
+import ai.grakn.grpc.AnswerProjection;
+import ai.grakn.grpc.ConceptMethods;
 import ai.grakn.grpc.GrpcUtil;
 import ai.grakn.grpc.GrpcUtil.ErrorType;
 import ai.grakn.remote.concept.RemoteConcepts;
@@ -47,19 +53,28 @@ import ai.grakn.rpc.generated.GrpcGrakn.QueryResult;
 import ai.grakn.rpc.generated.GrpcGrakn.TxRequest;
 import ai.grakn.rpc.generated.GrpcGrakn.TxResponse;
 import ai.grakn.rpc.generated.GrpcIterator.IteratorId;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import io.grpc.Metadata;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import mjson.Json;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static ai.grakn.graql.Graql.ask;
 import static ai.grakn.graql.Graql.define;
@@ -68,15 +83,18 @@ import static ai.grakn.graql.Graql.match;
 import static ai.grakn.graql.Graql.var;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.isA;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -187,6 +205,93 @@ public class RemoteGraknTxTest {
         assertEquals(ConceptId.of("V123"), answer.get(var("x")).getId());
     }
 
+    @Test
+    public void whenExecutingAQueryWithAProjection_ReadTheProjectedFactsWithoutAskingTheServer() {
+        Query<?> query = match(var("x").isa("person")).get();
+        String queryString = query.toString();
+
+        Json name = Json.object(
+                AnswerProjection.ID, "V3", AnswerProjection.BASE_TYPE, "Attribute",
+                AnswerProjection.DATA_TYPE, AttributeType.DataType.STRING.getName(), AnswerProjection.VALUE, "Alice"
+        );
+        Json person = Json.object(
+                AnswerProjection.ID, "V1", AnswerProjection.BASE_TYPE, "Entity",
+                AnswerProjection.TYPE, Json.object(
+                        AnswerProjection.ID, "V2", AnswerProjection.BASE_TYPE, "EntityType",
+                        AnswerProjection.LABEL, "person"
+                ),
+                AnswerProjection.ATTRIBUTES, Json.object("V4", Json.array(name))
+        );
+        Json projectedAnswer = Json.object(AnswerProjection.ANSWER, Json.object("x", person));
+        QueryResult queryResult = QueryResult.newBuilder().setOtherResult(projectedAnswer.toString()).build();
+        TxResponse response = TxResponse.newBuilder().setQueryResult(queryResult).build();
+
+        server.setResponseSequence(GrpcUtil.execQueryRequest(query), response);
+
+        TxRequest openRequest = GrpcUtil.openRequest(KEYSPACE, GraknTxType.READ);
+        AnswerProjection projection = AnswerProjection.create(Label.of("name"));
+
+        try (RemoteGraknTx tx = RemoteGraknTx.create(session, openRequest, projection)) {
+            verify(server.requests()).onNext(any()); // The open request
+
+            Answer answer = Iterables.getOnlyElement(tx.graql().<GetQuery>parse(queryString).execute());
+            Thing thing = answer.get(var("x")).asThing();
+            AttributeType<?> nameType = RemoteConcepts.createAttributeType(tx, ConceptId.of("V4"));
+
+            assertEquals(Label.of("person"), thing.type().getLabel());
+            Attribute<?> attribute = Iterables.getOnlyElement(thing.attributes(nameType).collect(toList()));
+            assertEquals("Alice", attribute.getValue());
+        }
+
+        verify(server.requests(), times(2)).onNext(any()); // Only the open and query requests
+    }
+
+    @Test
+    public void whenAWriteIsSentBeforeTheResultsOfAProjectedQueryAreRead_AskTheServerInsteadOfUsingTheProjectedFacts() {
+        Query<?> query = match(var("x").isa("person")).get();
+        String queryString = query.toString();
+
+        Json person = Json.object(
+                AnswerProjection.ID, "V1", AnswerProjection.BASE_TYPE, "Entity",
+                AnswerProjection.TYPE, Json.object(
+                        AnswerProjection.ID, "V2", AnswerProjection.BASE_TYPE, "EntityType",
+                        AnswerProjection.LABEL, "person"
+                )
+        );
+        Json projectedAnswer = Json.object(AnswerProjection.ANSWER, Json.object("x", person));
+        QueryResult queryResult = QueryResult.newBuilder().setOtherResult(projectedAnswer.toString()).build();
+        TxResponse response = TxResponse.newBuilder().setQueryResult(queryResult).build();
+
+        server.setResponseSequence(GrpcUtil.execQueryRequest(query), response);
+
+        TxRequest openRequest = GrpcUtil.openRequest(KEYSPACE, GraknTxType.WRITE);
+        AnswerProjection projection = AnswerProjection.create(Label.of("name"));
+        TxRequest getTypeRequest = GrpcUtil.runConceptMethodRequest(ConceptId.of("V1"), ConceptMethods.GET_DIRECT_TYPE);
+
+        try (RemoteGraknTx tx = RemoteGraknTx.create(session, openRequest, projection)) {
+            verify(server.requests()).onNext(any()); // The open request
+
+            Label dog = Label.of("dog");
+            server.setResponse(
+                    GrpcUtil.putEntityTypeRequest(dog),
+                    GrpcUtil.conceptResponse(RemoteConcepts.createEntityType(tx, ConceptId.of("V3")))
+            );
+            Concept personType = RemoteConcepts.createEntityType(tx, ConceptId.of("V2"));
+            server.setResponse(
+                    getTypeRequest, ConceptMethods.GET_DIRECT_TYPE.createTxResponse(server.grpcIterators(), personType)
+            );
+
+            // The query is sent when the stream is created, but its answers are only read after the write
+            Stream<Answer> answers = tx.graql().<GetQuery>parse(queryString).stream();
+            tx.putEntityType(dog);
+            Thing thing = answers.findFirst().get().get(var("x")).asThing();
+
+            assertEquals(personType, thing.type());
+        }
+
+        verify(server.requests()).onNext(getTypeRequest);
+    }
+
     @Test
     public void whenExecutingAQueryWithAVoidResult_GetANullBack() {
         Query<?> query = match(var("x").isa("person")).delete("x");
@@ -369,6 +474,109 @@ public class RemoteGraknTxTest {
         }
     }
 
+    @Test
+    public void whenExecutingAQueryAsynchronously_GetAResultBack() {
+        GetQuery query = match(var("x").isa("person")).get();
+
+        GrpcConcept.Concept v123 = GrpcConcept.Concept.newBuilder().setId(V123).build();
+        GrpcGrakn.Answer grpcAnswer = GrpcGrakn.Answer.newBuilder().putAnswer("x", v123).build();
+        QueryResult queryResult = QueryResult.newBuilder().setAnswer(grpcAnswer).build();
+        TxResponse response = TxResponse.newBuilder().setQueryResult(queryResult).build();
+
+        server.setResponseSequence(GrpcUtil.execQueryRequest(query), response);
+
+        List<Answer> results;
+
+        try (RemoteGraknTx tx = RemoteGraknTx.create(session, GrpcUtil.openRequest(KEYSPACE, GraknTxType.WRITE))) {
+            verify(server.requests()).onNext(any()); // The open request
+            results = tx.async().execute(query).join();
+        }
+
+        Answer answer = Iterables.getOnlyElement(results);
+        assertEquals(answer.vars(), ImmutableSet.of(var("x")));
+        assertEquals(ConceptId.of("V123"), answer.get(var("x")).getId());
+    }
+
+    @Test
+    public void whenAnAsynchronousQueryFails_CompleteItsFutureExceptionally() {
+        GetQuery query = match(var("x")).get();
+
+        TxRequest execQueryRequest = GrpcUtil.execQueryRequest(query);
+        throwOn(execQueryRequest, ErrorType.GRAQL_QUERY_EXCEPTION, "well something went wrong");
+
+        try (RemoteGraknTx tx = RemoteGraknTx.create(session, GrpcUtil.openRequest(KEYSPACE, GraknTxType.WRITE))) {
+            CompletableFuture<List<Answer>> results = tx.async().execute(query);
+
+            exception.expect(CompletionException.class);
+            exception.expectCause(isA(GraqlQueryException.class));
+
+            results.join();
+        }
+    }
+
+    @Test
+    public void whenExecutingAComputeQueryWithAChunkedResult_MergeTheChunksIntoTheResult() {
+        String queryString = "compute degree;";
+        Query<?> query = Graql.parse(queryString);
+
+        TxResponse chunk1 = TxResponse.newBuilder()
+                .setQueryResult(QueryResult.newBuilder().setOtherResult("{\"1\": [\"V1\", \"V2\"]}")).build();
+        TxResponse chunk2 = TxResponse.newBuilder()
+                .setQueryResult(QueryResult.newBuilder().setOtherResult("{\"2\": [\"V3\"]}")).build();
+
+        server.setResponseSequence(GrpcUtil.execQueryRequest(query), chunk1, chunk2);
+
+        Map<Long, Set<String>> degrees;
+
+        try (GraknTx tx = RemoteGraknTx.create(session, GrpcUtil.openRequest(KEYSPACE, GraknTxType.READ))) {
+            verify(server.requests()).onNext(any()); // The open request
+            degrees = tx.graql().<DegreeQuery>parse(queryString).execute();
+        }
+
+        assertEquals(ImmutableMap.of(1L, ImmutableSet.of("V1", "V2"), 2L, ImmutableSet.of("V3")), degrees);
+    }
+
+    @Test
+    public void whenExecutingAComputeQueryWithAValueSplitBetweenChunks_MergeTheValue() {
+        String queryString = "compute degree;";
+        Query<?> query = Graql.parse(queryString);
+
+        TxResponse chunk1 = TxResponse.newBuilder()
+                .setQueryResult(QueryResult.newBuilder().setOtherResult("{\"1\": [\"V1\", \"V2\"]}")).build();
+        TxResponse chunk2 = TxResponse.newBuilder()
+                .setQueryResult(QueryResult.newBuilder().setOtherResult("{\"1\": [\"V3\"], \"2\": [\"V4\"]}")).build();
+
+        server.setResponseSequence(GrpcUtil.execQueryRequest(query), chunk1, chunk2);
+
+        Map<Long, Set<String>> degrees;
+
+        try (GraknTx tx = RemoteGraknTx.create(session, GrpcUtil.openRequest(KEYSPACE, GraknTxType.READ))) {
+            verify(server.requests()).onNext(any()); // The open request
+            degrees = tx.graql().<DegreeQuery>parse(queryString).execute();
+        }
+
+        assertEquals(ImmutableMap.of(1L, ImmutableSet.of("V1", "V2", "V3"), 2L, ImmutableSet.of("V4")), degrees);
+    }
+
+    @Test
+    public void whenEstimatingAComputeQuery_ThrowBeforeSendingTheQuery() {
+        String queryString = "compute count; approximate 0.1;";
+
+        try (GraknTx tx = RemoteGraknTx.create(session, GrpcUtil.openRequest(KEYSPACE, GraknTxType.READ))) {
+            verify(server.requests()).onNext(any()); // The open request
+            CountQuery query = tx.graql().parse(queryString);
+
+            try {
+                query.estimate();
+                fail("Expected the estimate to be rejected");
+            } catch (GraqlQueryException e) {
+                assertEquals(GraqlQueryException.estimateNotAvailableRemotely(query).getMessage(), e.getMessage());
+            }
+
+            verify(server.requests(), never()).onNext(GrpcUtil.execQueryRequest(query));
+        }
+    }
+
     @Test
     public void whenPuttingEntityType_EnsureCorrectRequestIsSent(){
         ConceptId id = ConceptId.of(V123.getValue());
@@ -474,6 +682,27 @@ public class RemoteGraknTxTest {
         }
     }
 
+    @Test
+    public void whenGettingConceptsViaIDs_ReturnTheConceptsInTheOrderOfTheIDs(){
+        ConceptId a = ConceptId.of("A");
+        ConceptId b = ConceptId.of("B");
+        ConceptId missing = ConceptId.of("C");
+
+        try (RemoteGraknTx tx = RemoteGraknTx.create(session, GrpcUtil.openRequest(KEYSPACE, GraknTxType.READ))) {
+            verify(server.requests()).onNext(any()); // The open request
+
+            Concept conceptA = RemoteConcepts.createEntity(tx, a);
+            Concept conceptB = RemoteConcepts.createEntity(tx, b);
+            server.setResponse(GrpcUtil.getConceptRequest(a), GrpcUtil.optionalConceptResponse(Optional.of(conceptA)));
+            server.setResponse(GrpcUtil.getConceptRequest(b), GrpcUtil.optionalConceptResponse(Optional.of(conceptB)));
+            server.setResponse(GrpcUtil.getConceptRequest(missing), GrpcUtil.optionalConceptResponse(Optional.empty()));
+
+            List<Concept> concepts = tx.getConcepts(ImmutableList.of(b, missing, a));
+
+            assertEquals(Arrays.asList(conceptB, null, conceptA), concepts);
+        }
+    }
+
     @Test
     public void whenGettingSchemaConceptViaLabel_EnsureCorrectRequestIsSent(){
         Label label = Label.of("foo");
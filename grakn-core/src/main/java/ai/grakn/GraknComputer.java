@@ -78,6 +78,16 @@ public interface GraknComputer {
     ComputerResult compute(@Nullable VertexProgram program, @Nullable MapReduce mapReduce,
                            @Nullable Set<LabelId> types);
 
+    /**
+     * Reuse a persisted in-memory snapshot of the subgraph rather than loading it from storage for every computation.
+     * The snapshot is created by the first computation over the subgraph and shared by the following computations
+     * until the keyspace is committed to or the snapshot is evicted.
+     *
+     * @param useSnapshot whether the following computations should use a snapshot
+     * @return this {@link GraknComputer}
+     */
+    GraknComputer useSnapshot(boolean useSnapshot);
+
     /**
      * Kill all the jobs the graph computer has
      */
@@ -73,6 +73,11 @@ public abstract class GraknConfigKey<T> {
     };
 
     public static final GraknConfigKey<Integer> WEBSERVER_THREADS = key("webserver.threads", INT);
+    public static final GraknConfigKey<Integer> INGEST_QUEUE_SIZE = key("loader.ingest.queue-size", INT);
+    public static final GraknConfigKey<Integer> INGEST_BATCH_SIZE = key("loader.ingest.batch-size", INT);
+    public static final GraknConfigKey<Integer> INGEST_LINGER_MS = key("loader.ingest.linger-ms", INT);
+    public static final GraknConfigKey<Integer> INGEST_WRITERS = key("loader.ingest.writers", INT);
+    public static final GraknConfigKey<Integer> INGEST_THREADS = key("loader.ingest.threads", INT);
     public static final GraknConfigKey<Integer> NUM_BACKGROUND_THREADS = key("background-tasks.threads", INT);
 
     public static final GraknConfigKey<String> SERVER_HOST_NAME = key("server.host");
@@ -99,8 +104,17 @@ public abstract class GraknConfigKey<T> {
     public static final GraknConfigKey<Integer> TASKS_RETRY_DELAY = key("tasks.retry.delay", INT);
 
     public static final GraknConfigKey<Long> SHARDING_THRESHOLD = key("knowledge-base.sharding-threshold", LONG);
+    public static final GraknConfigKey<Integer> KEYSPACE_WARM_UP_THREADS = key("knowledge-base.warm-up-threads", INT);
     public static final GraknConfigKey<String> KB_MODE = key("knowledge-base.mode");
     public static final GraknConfigKey<String> KB_ANALYTICS = key("knowledge-base.analytics");
+    public static final GraknConfigKey<Long> KB_ANALYTICS_NATIVE_THRESHOLD =
+            key("knowledge-base.analytics.native-threshold", LONG);
+    public static final GraknConfigKey<Long> KB_ANALYTICS_PATH_SEARCH_BUDGET =
+            key("knowledge-base.analytics.path-search-budget", LONG);
+    public static final GraknConfigKey<List<String>> KB_ANALYTICS_INCREMENTAL_TYPES =
+            key("knowledge-base.analytics.incremental-types", CSV);
+    public static final GraknConfigKey<Boolean> KB_REASONER_COST_BASED_PLANNING =
+            key("knowledge-base.reasoner.cost-based-planning", BOOL);
     public static final GraknConfigKey<String> DATA_DIR = key("data-dir");
     public static final GraknConfigKey<String> LOG_DIR = key("log.dirs");
 
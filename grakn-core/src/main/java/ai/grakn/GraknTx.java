@@ -37,7 +37,9 @@ import ai.grakn.kb.admin.GraknAdmin;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * <p>
@@ -213,6 +215,26 @@ public interface GraknTx extends AutoCloseable{
     @Nullable
     <T extends Concept> T getConcept(ConceptId id);
 
+    /**
+     * Get the {@link Concept}s with the identifiers provided. This is equivalent to calling
+     * {@link #getConcept(ConceptId)} for every identifier, but the {@link Concept}s may be read together.
+     *
+     * @param ids Unique identifiers for {@link Concept}s in the graph.
+     * @return The {@link Concept} with each id, in the order of the ids, with null for every id where no such
+     * {@link Concept} exists.
+     *
+     * @throws GraknTxOperationException if the graph is closed
+     * @throws ClassCastException if a concept is not an instance of {@link T}
+     */
+    @CheckReturnValue
+    default <T extends Concept> List<T> getConcepts(Collection<ConceptId> ids) {
+        List<T> concepts = new ArrayList<>(ids.size());
+        for (ConceptId id : ids) {
+            concepts.add(getConcept(id));
+        }
+        return concepts;
+    }
+
     /**
      * Get the {@link SchemaConcept} with the label provided, if it exists.
      *
@@ -30,6 +30,7 @@ import ai.grakn.graql.analytics.ConnectedComponentQuery;
 import ai.grakn.graql.analytics.CorenessQuery;
 import ai.grakn.graql.analytics.CountQuery;
 import ai.grakn.graql.analytics.DegreeQuery;
+import ai.grakn.graql.analytics.Estimate;
 import ai.grakn.graql.analytics.KCoreQuery;
 import ai.grakn.graql.analytics.MaxQuery;
 import ai.grakn.graql.analytics.MeanQuery;
@@ -96,4 +97,14 @@ public interface QueryRunner {
     ComputeJob<Optional<Double>> run(StdQuery query);
 
     ComputeJob<Optional<Number>> run(SumQuery query);
+
+    ComputeJob<Optional<Estimate>> estimate(CountQuery query);
+
+    ComputeJob<Optional<Estimate>> estimate(MeanQuery query);
+
+    ComputeJob<Optional<Estimate>> estimate(MedianQuery query);
+
+    ComputeJob<Optional<Estimate>> estimate(StdQuery query);
+
+    ComputeJob<Optional<Estimate>> estimate(SumQuery query);
 }
@@ -131,6 +131,16 @@ public class GraknConfig {
         return key.parse(Optional.ofNullable(prop.getProperty(key.name())), CONFIG_FILE_PATH);
     }
 
+    /**
+     * @param key A config key for an optional property
+     * @param defaultValue The value to use if the property is not in the config
+     * @return The value of the property or the default value
+     */
+    public <T> T getProperty(GraknConfigKey<T> key, T defaultValue) {
+        if (!prop.containsKey(key.name())) return defaultValue;
+        return getProperty(key);
+    }
+
     public SimpleURI uri() {
         return new SimpleURI(getProperty(GraknConfigKey.SERVER_HOST_NAME), getProperty(GraknConfigKey.SERVER_PORT));
     }
@@ -21,6 +21,10 @@ package ai.grakn.exception;
 import ai.grakn.Keyspace;
 
 import static ai.grakn.util.ErrorMessage.CANNOT_DELETE_KEYSPACE;
+import static ai.grakn.util.ErrorMessage.INGEST_QUEUE_CLOSED;
+import static ai.grakn.util.ErrorMessage.INGEST_QUEUE_FULL;
+import static ai.grakn.util.ErrorMessage.INGEST_TOO_MANY_QUERIES;
+import static ai.grakn.util.ErrorMessage.INGEST_UNSUPPORTED_QUERY;
 import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_BODY_REQUEST_PARAMETERS;
 import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_REQUEST_PARAMETERS;
 import static ai.grakn.util.ErrorMessage.MISSING_REQUEST_BODY;
@@ -28,6 +32,8 @@ import static ai.grakn.util.ErrorMessage.UNSUPPORTED_CONTENT_TYPE;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
 import static org.apache.http.HttpStatus.SC_NOT_ACCEPTABLE;
+import static org.apache.http.HttpStatus.SC_REQUEST_TOO_LONG;
+import static org.apache.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
 
 /**
  * <p>
@@ -104,6 +110,35 @@ public class GraknServerException extends GraknBackendException {
         return new GraknServerException(CANNOT_DELETE_KEYSPACE.getMessage(keyspace), SC_INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Thrown when queries cannot be ingested because too many queries of the keyspace are waiting to be written.
+     * None of the queries of the request were queued, so it is safe to retry.
+     */
+    public static GraknServerException ingestQueueFull(Keyspace keyspace){
+        return new GraknServerException(INGEST_QUEUE_FULL.getMessage(keyspace), SC_SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Thrown when a request ingests more queries than the ingest queue of a keyspace can hold, so it can never succeed
+     */
+    public static GraknServerException ingestTooManyQueries(int queries, int queueSize){
+        return new GraknServerException(INGEST_TOO_MANY_QUERIES.getMessage(queries, queueSize), SC_REQUEST_TOO_LONG);
+    }
+
+    /**
+     * Thrown when a query is ingested while engine is shutting down
+     */
+    public static GraknServerException ingestQueueClosed(){
+        return new GraknServerException(INGEST_QUEUE_CLOSED.getMessage(), SC_SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Thrown when a query which is not an insert query is ingested
+     */
+    public static GraknServerException ingestUnsupportedQuery(String query){
+        return new GraknServerException(INGEST_UNSUPPORTED_QUERY.getMessage(query), SC_BAD_REQUEST);
+    }
+
     /**
      * Thrown when an internal server error occurs. This is likely due to incorrect configs
      */
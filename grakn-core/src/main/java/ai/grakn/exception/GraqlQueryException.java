@@ -24,6 +24,7 @@ import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.Type;
+import ai.grakn.graql.Query;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.VarPattern;
 import ai.grakn.graql.admin.Atomic;
@@ -264,6 +265,14 @@ public class GraqlQueryException extends GraknException {
         return new GraqlQueryException(ErrorMessage.K_SMALLER_THAN_TWO.getMessage());
     }
 
+    public static GraqlQueryException estimateNotAvailableRemotely(Query<?> query) {
+        return new GraqlQueryException(ErrorMessage.REMOTE_ESTIMATE.getMessage(query));
+    }
+
+    public static GraqlQueryException relativeErrorMustBePositive(double relativeError) {
+        return new GraqlQueryException(ErrorMessage.RELATIVE_ERROR_NOT_POSITIVE.getMessage(relativeError));
+    }
+
     public static GraqlQueryException resourceMustBeANumber(AttributeType.DataType dataType, Label resourceType) {
         return new GraqlQueryException(resourceType + " must have data type of `long` or `double`, but was " + dataType.getName());
     }
@@ -0,0 +1,60 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql;
+
+import ai.grakn.graql.analytics.Estimate;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Optional;
+
+/**
+ * A {@link ComputeQuery} whose result can be estimated from a random sample of the instances rather than computed
+ * exactly.
+ *
+ * @param <T> the type of result this query will return
+ */
+public interface ApproximableQuery<T> extends ComputeQuery<T> {
+
+    /**
+     * The relative error used by {@link #estimate()} when none has been set
+     */
+    double DEFAULT_RELATIVE_ERROR = 0.01;
+
+    /**
+     * Estimate the result rather than computing it exactly. Instances are read until the estimate is, with 95%
+     * confidence, within the given fraction of its value of the exact result.
+     *
+     * @param relativeError the acceptable error of the estimate, relative to the estimate, greater than 0
+     * @return an ApproximableQuery which estimates the result
+     */
+    @CheckReturnValue
+    ApproximableQuery<T> approximate(double relativeError);
+
+    /**
+     * Get the acceptable relative error of the estimate, or nothing if the result is computed exactly
+     */
+    Optional<Double> relativeError();
+
+    /**
+     * Execute the query approximately, with the {@link #DEFAULT_RELATIVE_ERROR} unless another has been set
+     *
+     * @return the estimated result together with its bounds, or nothing if the query has no result
+     */
+    Optional<Estimate> estimate();
+}
@@ -71,6 +71,20 @@ public interface ComputeQuery<T> extends Query<T> {
      */
     boolean isAttributeIncluded();
 
+    /**
+     * Allow analytics query to reuse a persisted in-memory snapshot of the subgraph shared with other compute queries,
+     * rather than loading the subgraph from storage
+     *
+     * @return a ComputeQuery which uses a snapshot
+     */
+    @CheckReturnValue
+    ComputeQuery<T> useSnapshot();
+
+    /**
+     * Get if this query will reuse a persisted snapshot of the subgraph
+     */
+    boolean isSnapshotUsed();
+
     /**
      * Whether this query will modify the graph
      */
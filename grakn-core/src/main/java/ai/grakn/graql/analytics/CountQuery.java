@@ -20,7 +20,7 @@ package ai.grakn.graql.analytics;
 
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
-import ai.grakn.graql.ComputeQuery;
+import ai.grakn.graql.ApproximableQuery;
 
 import java.util.Collection;
 
@@ -30,7 +30,7 @@ import java.util.Collection;
  * @author Jason Liu
  */
 
-public interface CountQuery extends ComputeQuery<Long> {
+public interface CountQuery extends ApproximableQuery<Long> {
 
     /**
      * @param subTypeLabels an array of types to include in the subgraph
@@ -46,6 +46,13 @@ public interface CountQuery extends ComputeQuery<Long> {
     @Override
     CountQuery in(Collection<? extends Label> subLabels);
 
+    /**
+     * @param relativeError the acceptable error of the estimate, relative to the estimate
+     * @return a CountQuery which estimates the result
+     */
+    @Override
+    CountQuery approximate(double relativeError);
+
     /**
      * Execute the query.
      *
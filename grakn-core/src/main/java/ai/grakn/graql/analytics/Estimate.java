@@ -0,0 +1,59 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.analytics;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * The result of an approximate analytics query, together with the interval which contains the exact result with the
+ * given confidence.
+ */
+@AutoValue
+public abstract class Estimate {
+
+    public abstract double value();
+
+    public abstract double lowerBound();
+
+    public abstract double upperBound();
+
+    /**
+     * @return the probability that the exact result lies between the bounds
+     */
+    public abstract double confidence();
+
+    /**
+     * @return the fraction of the shards of the queried types which were read to produce the estimate, 1 if the
+     * estimate is exact
+     */
+    public abstract double sampledFraction();
+
+    public static Estimate create(double value, double lowerBound, double upperBound, double confidence,
+                                  double sampledFraction) {
+        return new AutoValue_Estimate(value, lowerBound, upperBound, confidence, sampledFraction);
+    }
+
+    public static Estimate exact(double value) {
+        return create(value, value, value, 1D, 1D);
+    }
+
+    public boolean isExact() {
+        return sampledFraction() >= 1D;
+    }
+}
@@ -20,6 +20,7 @@ package ai.grakn.graql.analytics;
 
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
+import ai.grakn.graql.ApproximableQuery;
 import ai.grakn.graql.StatisticsQuery;
 
 import java.util.Collection;
@@ -30,7 +31,7 @@ import java.util.Optional;
  *
  * @author Jason Liu
  */
-public interface StdQuery extends StatisticsQuery<Optional<Double>> {
+public interface StdQuery extends StatisticsQuery<Optional<Double>>, ApproximableQuery<Optional<Double>> {
 
     /**
      * @param resourceTypeLabels an array of types of resources to execute the query on
@@ -58,6 +59,13 @@ public interface StdQuery extends StatisticsQuery<Optional<Double>> {
     @Override
     StdQuery in(Collection<? extends Label> subLabels);
 
+    /**
+     * @param relativeError the acceptable error of the estimate, relative to the estimate
+     * @return a StdQuery which estimates the result
+     */
+    @Override
+    StdQuery approximate(double relativeError);
+
     /**
      * Execute the query.
      *
@@ -20,6 +20,7 @@ package ai.grakn.graql.analytics;
 
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
+import ai.grakn.graql.ApproximableQuery;
 import ai.grakn.graql.StatisticsQuery;
 
 import java.util.Collection;
@@ -30,7 +31,7 @@ import java.util.Optional;
  *
  * @author Jason Liu
  */
-public interface SumQuery extends StatisticsQuery<Optional<Number>> {
+public interface SumQuery extends StatisticsQuery<Optional<Number>>, ApproximableQuery<Optional<Number>> {
 
     /**
      * @param resourceTypeLabels an array of types of resources to execute the query on
@@ -58,6 +59,13 @@ public interface SumQuery extends StatisticsQuery<Optional<Number>> {
     @Override
     SumQuery in(Collection<? extends Label> subLabels);
 
+    /**
+     * @param relativeError the acceptable error of the estimate, relative to the estimate
+     * @return a SumQuery which estimates the result
+     */
+    @Override
+    SumQuery approximate(double relativeError);
+
     /**
      * Execute the query.
      *
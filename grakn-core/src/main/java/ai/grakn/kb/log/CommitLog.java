@@ -23,8 +23,12 @@ import ai.grakn.concept.ConceptId;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.auto.value.AutoValue;
+import com.google.common.collect.Sets;
 
+import javax.annotation.Nullable;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,13 +57,44 @@ public abstract class CommitLog {
     @JsonProperty("new-attributes")
     public abstract Map<String, Set<ConceptId>> attributes();
 
+    /**
+     * Only tracked when incremental analytics are enabled
+     */
+    @JsonProperty("new-things")
+    public abstract Set<ConceptId> newThings();
+
+    /**
+     * Only tracked when incremental analytics are enabled
+     */
+    @JsonProperty("new-role-players")
+    public abstract Map<ConceptId, List<ConceptId>> newRolePlayers();
+
+    /**
+     * The {@link ai.grakn.concept.Thing}s which have been deleted or which have stopped playing a role in a
+     * {@link ai.grakn.concept.Relationship}. Only tracked when incremental analytics are enabled
+     */
+    @JsonProperty("detached-things")
+    public abstract Set<ConceptId> detachedThings();
+
+    public static CommitLog create(
+            Keyspace keyspace, Map<ConceptId, Long> instanceCount, Map<String, Set<ConceptId>> newAttributes
+    ){
+        return create(keyspace, instanceCount, newAttributes, new HashSet<>(), new HashMap<>(), new HashSet<>());
+    }
+
     @JsonCreator
     public static CommitLog create(
             @JsonProperty("keyspace") Keyspace keyspace,
             @JsonProperty("instance-count") Map<ConceptId, Long> instanceCount,
-            @JsonProperty("new-attributes") Map<String, Set<ConceptId>> newAttributes
+            @JsonProperty("new-attributes") Map<String, Set<ConceptId>> newAttributes,
+            @JsonProperty("new-things") @Nullable Set<ConceptId> newThings,
+            @JsonProperty("new-role-players") @Nullable Map<ConceptId, List<ConceptId>> newRolePlayers,
+            @JsonProperty("detached-things") @Nullable Set<ConceptId> detachedThings
     ){
-        return new AutoValue_CommitLog(keyspace, instanceCount, newAttributes);
+        return new AutoValue_CommitLog(keyspace, instanceCount, newAttributes,
+                newThings == null ? new HashSet<>() : newThings,
+                newRolePlayers == null ? new HashMap<>() : newRolePlayers,
+                detachedThings == null ? new HashSet<>() : detachedThings);
     }
 
     /**
@@ -67,7 +102,8 @@ public abstract class CommitLog {
      * @return a thread safe {@link CommitLog}
      */
     public static CommitLog createThreadSafe(Keyspace keyspace){
-        return create(keyspace, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        return create(keyspace, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                Sets.newConcurrentHashSet(), new ConcurrentHashMap<>(), Sets.newConcurrentHashSet());
     }
 
     /**
@@ -78,8 +114,19 @@ public abstract class CommitLog {
         return create(keyspace, new HashMap<>(), new HashMap<>());
     }
 
+    /**
+     * @return true if the {@link CommitLog} contains anything to post process
+     */
+    public boolean isEmpty(){
+        return instanceCount().isEmpty() && attributes().isEmpty() &&
+                newThings().isEmpty() && newRolePlayers().isEmpty() && detachedThings().isEmpty();
+    }
+
     public void clear(){
         instanceCount().clear();
         attributes().clear();
+        newThings().clear();
+        newRolePlayers().clear();
+        detachedThings().clear();
     }
 }
@@ -189,6 +189,10 @@ public enum ErrorMessage {
     MISSING_REQUEST_BODY("Empty body- it should contain the Graql query to be executed."),
     UNSUPPORTED_CONTENT_TYPE("Unsupported Content-Type [%s] requested"),
     CANNOT_DELETE_KEYSPACE("Could not delete keyspace [%s]"),
+    INGEST_QUEUE_FULL("The ingest queue of keyspace [%s] is full, try again later"),
+    INGEST_TOO_MANY_QUERIES("[%s] queries cannot be ingested in one request, the ingest queue holds at most [%s]"),
+    INGEST_QUEUE_CLOSED("Engine is shutting down and no longer ingests queries"),
+    INGEST_UNSUPPORTED_QUERY("Only insert queries can be ingested, not [%s]"),
 
     PID_ALREADY_EXISTS("pid file already exists: '[%s]'."),
 
@@ -208,7 +212,9 @@ public enum ErrorMessage {
     NO_DESTINATION("No valid destination id provided"),
     ATTRIBUTE_TYPE_NOT_SPECIFIED("No attribute type provided for compute query."),
     K_SMALLER_THAN_TWO("k can't be smaller than 2."),
+    RELATIVE_ERROR_NOT_POSITIVE("The relative error of an approximation must be greater than 0, but was [%s]."),
     INSTANCE_DOES_NOT_EXIST("Instance does not exist in the subgraph."),
+    REMOTE_ESTIMATE("Approximate results of [%s] can only be computed with an embedded transaction, not over a remote connection."),
     MAX_ITERATION_REACHED("Max iteration of [%s] reached."),
 
     //--------------------------------------------- Shell Errors ---------------------------------------------------
@@ -55,6 +55,7 @@ public class REST {
         public static final String KEYSPACE_RULE = "/kb/:keyspace/rule";
         public static final String KEYSPACE_GRAQL = "/kb/:keyspace/graql";
         public static final String KEYSPACE_EXPLAIN = "/kb/:keyspace/explain";
+        public static final String KEYSPACE_INGEST = "/kb/:keyspace/ingest";
         public static final String COMMIT_LOG_URI = "/kb/:keyspace/commit_log";
 
         /**
@@ -109,6 +110,9 @@ public class REST {
             public static final String TX_TYPE = "txType";
             public static final String DEFINE_ALL_VARS = "defineAllVars";
             public static final String LOADING_DATA = "loading";
+            public static final String PROFILE = "profile";
+            public static final String CHUNK_SIZE = "chunkSize";
+            public static final String CURSOR = "cursor";
         }
     }
 
@@ -135,6 +139,9 @@ public class REST {
     public static class Response{
 
         public static final String EXCEPTION = "exception";
+        public static final String COMMITTED = "committed";
+        public static final String CURSOR = "cursor";
+        public static final String QUERIES = "queries";
 
         /**
          * Response content types
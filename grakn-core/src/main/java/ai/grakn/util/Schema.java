@@ -21,6 +21,7 @@ package ai.grakn.util;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
@@ -300,4 +301,30 @@ public final class Schema {
     public static String generateAttributeIndex(Label label, String value){
         return Schema.BaseType.ATTRIBUTE.name() + "-" + label + "-" + value;
     }
+
+    /**
+     * {@link ConceptId}s of vertices are derived from the native id of the vertex, so a vertex can be looked up
+     * directly rather than via the {@link VertexProperty#ID} index.
+     *
+     * @param id The {@link ConceptId} which may have been derived from a vertex id
+     * @return The native vertex id the {@link ConceptId} was derived from, or null if it has a different form
+     */
+    @Nullable
+    @CheckReturnValue
+    public static Long nativeVertexId(ConceptId id){
+        String value = id.getValue();
+        if(value.length() < 2 || !value.startsWith(PREFIX_VERTEX)) return null;
+
+        String digits = value.substring(1);
+        for (int i = 0; i < digits.length(); i++) {
+            if(!Character.isDigit(digits.charAt(i))) return null;
+        }
+
+        //Numbers with as many digits as the largest long are compared as strings to check they fit
+        String maxLong = Long.toString(Long.MAX_VALUE);
+        if(digits.length() > maxLong.length() || (digits.length() == maxLong.length() && digits.compareTo(maxLong) > 0)) {
+            return null;
+        }
+        return Long.parseLong(digits);
+    }
 }
@@ -18,19 +18,31 @@
 package ai.grakn.engine;
 
 import ai.grakn.GraknConfigKey;
+import ai.grakn.Keyspace;
 import ai.grakn.engine.data.QueueSanityCheck;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.engine.task.BackgroundTaskRunner;
 import ai.grakn.engine.util.EngineID;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.stream.Collectors.toList;
+
 import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace;
 
 /**
@@ -51,8 +63,10 @@ public class GraknEngineServer implements AutoCloseable {
     private final BackgroundTaskRunner backgroundTaskRunner;
 
     private final GraknKeyspaceStore graknKeyspaceStore;
+    private final EngineGraknTxFactory engineGraknTxFactory;
+    private final MetricRegistry metricRegistry;
 
-    public GraknEngineServer(EngineID engineId, GraknConfig config, GraknEngineStatus graknEngineStatus, LockProvider lockProvider, QueueSanityCheck queueSanityCheck, HttpHandler httpHandler, BackgroundTaskRunner backgroundTaskRunner, GraknKeyspaceStore graknKeyspaceStore) {
+    public GraknEngineServer(EngineID engineId, GraknConfig config, GraknEngineStatus graknEngineStatus, LockProvider lockProvider, QueueSanityCheck queueSanityCheck, HttpHandler httpHandler, BackgroundTaskRunner backgroundTaskRunner, GraknKeyspaceStore graknKeyspaceStore, EngineGraknTxFactory engineGraknTxFactory, MetricRegistry metricRegistry) {
         this.config = config;
         this.graknEngineStatus = graknEngineStatus;
         // Redis connection pool
@@ -63,23 +77,81 @@ public class GraknEngineServer implements AutoCloseable {
         this.httpHandler = httpHandler;
         this.engineId = engineId;
         this.backgroundTaskRunner = backgroundTaskRunner;
+        this.engineGraknTxFactory = engineGraknTxFactory;
+        this.metricRegistry = metricRegistry;
     }
 
     public void start() throws IOException {
-        queueSanityCheck.testConnection();
         Stopwatch timer = Stopwatch.createStarted();
+        startupPhase("queue-connection", queueSanityCheck::testConnection);
         logStartMessage(
                 config.getProperty(GraknConfigKey.SERVER_HOST_NAME),
                 config.getProperty(GraknConfigKey.SERVER_PORT));
         synchronized (this){
-            queueSanityCheck.checkVersion();
-            lockAndInitializeSystemSchema();
-            httpHandler.startHTTP();
+            startupPhase("version-check", queueSanityCheck::checkVersion);
+            startupPhase("system-schema", this::lockAndInitializeSystemSchema);
+            startupPhase("http", httpHandler::startHTTP);
+            startupPhase("keyspace-warm-up", this::warmUpKeyspaces);
         }
         graknEngineStatus.setReady(true);
+        metricRegistry.timer(name(GraknEngineServer.class, "startup", "total")).update(timer.elapsed(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
         LOG.info("Grakn started in {}", timer.stop());
     }
 
+    /**
+     * Runs a single phase of the server startup, recording how long it took.
+     *
+     * @param phase the name of the phase, used in the startup metrics
+     * @param action the work done by the phase
+     */
+    private <E extends Exception> void startupPhase(String phase, StartupAction<E> action) throws E {
+        Stopwatch timer = Stopwatch.createStarted();
+        try {
+            action.run();
+        } finally {
+            metricRegistry.timer(name(GraknEngineServer.class, "startup", phase)).update(timer.elapsed(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            LOG.info("Startup phase {} completed in {}", phase, timer.stop());
+        }
+    }
+
+    @FunctionalInterface
+    private interface StartupAction<E extends Exception> {
+        void run() throws E;
+    }
+
+    /**
+     * Opens the sessions of all existing {@link Keyspace}s in parallel, so that their storage and Grakn schemas are
+     * loaded before the first request arrives rather than when it arrives.
+     * Keyspaces which fail to warm up are logged and left to be opened lazily.
+     */
+    private void warmUpKeyspaces() {
+        int threads = config.getProperty(GraknConfigKey.KEYSPACE_WARM_UP_THREADS);
+        if (threads <= 0) return;
+
+        Set<Keyspace> keyspaces = graknKeyspaceStore.keyspaces();
+        if (keyspaces.isEmpty()) return;
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, keyspaces.size()),
+                new ThreadFactoryBuilder().setNameFormat("keyspace-warm-up-%d").build());
+        try {
+            List<CompletableFuture<Void>> warmUps = keyspaces.stream()
+                    .map(keyspace -> CompletableFuture.runAsync(() -> warmUpKeyspace(keyspace), pool))
+                    .collect(toList());
+            CompletableFuture.allOf(warmUps.toArray(new CompletableFuture[warmUps.size()])).join();
+        } finally {
+            pool.shutdown();
+        }
+        LOG.info("{} warmed up {} keyspaces", this.engineId, keyspaces.size());
+    }
+
+    private void warmUpKeyspace(Keyspace keyspace) {
+        try {
+            engineGraknTxFactory.warmUp(keyspace);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not warm up keyspace {}: {}", keyspace, e.getMessage());
+        }
+    }
+
     @VisibleForTesting
     public BackgroundTaskRunner backgroundTaskRunner(){
         return backgroundTaskRunner;
@@ -32,6 +32,7 @@ import ai.grakn.engine.rpc.GrpcServer;
 import ai.grakn.engine.task.BackgroundTaskRunner;
 import ai.grakn.engine.task.postprocessing.CountPostProcessor;
 import ai.grakn.engine.task.postprocessing.CountStorage;
+import ai.grakn.engine.task.postprocessing.IncrementalAnalytics;
 import ai.grakn.engine.task.postprocessing.IndexPostProcessor;
 import ai.grakn.engine.task.postprocessing.IndexStorage;
 import ai.grakn.engine.task.postprocessing.PostProcessingTask;
@@ -40,7 +41,10 @@ import ai.grakn.engine.task.postprocessing.redisstorage.RedisCountStorage;
 import ai.grakn.engine.task.postprocessing.redisstorage.RedisIndexStorage;
 import ai.grakn.engine.util.EngineID;
 import ai.grakn.factory.SystemKeyspaceSession;
+import ai.grakn.graql.internal.reasoner.cache.SharedQueryCache;
 import ai.grakn.grpc.GrpcOpenRequestExecutor;
+import ai.grakn.kb.internal.computer.GraphSnapshots;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
@@ -49,6 +53,8 @@ import spark.Service;
 import java.util.Collection;
 import java.util.Collections;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * This is a factory class which contains methods for instantiating a {@link GraknEngineServer} in different ways.
  *
@@ -81,6 +87,8 @@ public class GraknEngineServerFactory {
 
         // tx-factory
         EngineGraknTxFactory engineGraknTxFactory = EngineGraknTxFactory.create(lockProvider, config, graknKeyspaceStore);
+        registerGraphSnapshotMetrics(metricRegistry, engineGraknTxFactory);
+        registerSharedQueryCacheMetrics(metricRegistry, engineGraknTxFactory);
 
 
         // post-processing
@@ -88,7 +96,9 @@ public class GraknEngineServerFactory {
         CountStorage countStorage = RedisCountStorage.create(redisWrapper.getJedisPool(), metricRegistry);
         IndexPostProcessor indexPostProcessor = IndexPostProcessor.create(lockProvider, indexStorage);
         CountPostProcessor countPostProcessor = CountPostProcessor.create(config, engineGraknTxFactory, lockProvider, metricRegistry, countStorage);
-        PostProcessor postProcessor = PostProcessor.create(indexPostProcessor, countPostProcessor);
+        IncrementalAnalytics incrementalAnalytics = IncrementalAnalytics.create(config, engineGraknTxFactory);
+        if (incrementalAnalytics.isEnabled()) engineGraknTxFactory.maintainAnalytics(incrementalAnalytics);
+        PostProcessor postProcessor = PostProcessor.create(indexPostProcessor, countPostProcessor, incrementalAnalytics);
 
         // http services: spark, http controller, and gRPC server
         Service sparkHttp = Service.ignite();
@@ -114,7 +124,7 @@ public class GraknEngineServerFactory {
 
         BackgroundTaskRunner taskRunner = configureBackgroundTaskRunner(config, engineGraknTxFactory, postProcessor.index());
 
-        GraknEngineServer graknEngineServer = new GraknEngineServer(engineId, config, graknEngineStatus, lockProvider, queueSanityCheck, httpHandler, taskRunner, graknKeyspaceStore);
+        GraknEngineServer graknEngineServer = new GraknEngineServer(engineId, config, graknEngineStatus, lockProvider, queueSanityCheck, httpHandler, taskRunner, graknKeyspaceStore, engineGraknTxFactory, metricRegistry);
 
         Thread thread = new Thread(graknEngineServer::close, "GraknEngineServer-shutdown");
         Runtime.getRuntime().addShutdownHook(thread);
@@ -122,6 +132,24 @@ public class GraknEngineServerFactory {
         return graknEngineServer;
     }
 
+    private static void registerGraphSnapshotMetrics(MetricRegistry metricRegistry, EngineGraknTxFactory factory) {
+        metricRegistry.register(name(GraphSnapshots.class, "hits"), (Gauge<Long>) () ->
+                factory.sessions().stream().mapToLong(session -> session.graphSnapshots().hits()).sum());
+        metricRegistry.register(name(GraphSnapshots.class, "misses"), (Gauge<Long>) () ->
+                factory.sessions().stream().mapToLong(session -> session.graphSnapshots().misses()).sum());
+        metricRegistry.register(name(GraphSnapshots.class, "load-time-saved-ms"), (Gauge<Long>) () ->
+                factory.sessions().stream().mapToLong(session -> session.graphSnapshots().loadTimeSavedMs()).sum());
+    }
+
+    private static void registerSharedQueryCacheMetrics(MetricRegistry metricRegistry, EngineGraknTxFactory factory) {
+        metricRegistry.register(name(SharedQueryCache.class, "hits"), (Gauge<Long>) () ->
+                factory.sessions().stream().mapToLong(session -> session.sharedAnswers().hits()).sum());
+        metricRegistry.register(name(SharedQueryCache.class, "misses"), (Gauge<Long>) () ->
+                factory.sessions().stream().mapToLong(session -> session.sharedAnswers().misses()).sum());
+        metricRegistry.register(name(SharedQueryCache.class, "evictions"), (Gauge<Long>) () ->
+                factory.sessions().stream().mapToLong(session -> session.sharedAnswers().evictions()).sum());
+    }
+
     private static BackgroundTaskRunner configureBackgroundTaskRunner(GraknConfig graknEngineConfig, EngineGraknTxFactory factory, IndexPostProcessor postProcessor) {
         PostProcessingTask postProcessingTask = new PostProcessingTask(factory, postProcessor, graknEngineConfig);
         BackgroundTaskRunner taskRunner = new BackgroundTaskRunner(graknEngineConfig);
@@ -24,8 +24,10 @@ import ai.grakn.engine.controller.CommitLogController;
 import ai.grakn.engine.controller.ConceptController;
 import ai.grakn.engine.controller.GraqlController;
 import ai.grakn.engine.controller.HttpController;
+import ai.grakn.engine.controller.IngestController;
 import ai.grakn.engine.controller.SystemController;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.loader.IngestQueue;
 import ai.grakn.engine.printer.JacksonPrinter;
 import ai.grakn.engine.rpc.GrpcServer;
 import ai.grakn.engine.task.postprocessing.PostProcessor;
@@ -58,6 +60,7 @@ public class HttpHandler {
     private final PostProcessor postProcessor;
     private final GrpcServer grpcServer;
     private final Collection<HttpController> additionalCollaborators;
+    private final IngestQueue ingestQueue;
 
     public HttpHandler(
             GraknConfig prop, Service spark, EngineGraknTxFactory factory, MetricRegistry metricRegistry,
@@ -73,6 +76,7 @@ public class HttpHandler {
         this.postProcessor = postProcessor;
         this.grpcServer = grpcServer;
         this.additionalCollaborators = additionalCollaborators;
+        this.ingestQueue = IngestQueue.create(prop, factory, postProcessor, metricRegistry);
     }
 
 
@@ -93,7 +97,8 @@ public class HttpHandler {
         new GraqlController(factory, postProcessor, printer, metricRegistry).start(spark);
         new ConceptController(factory, metricRegistry).start(spark);
         new SystemController(prop, factory.keyspaceStore(), graknEngineStatus, metricRegistry).start(spark);
-        new CommitLogController(postProcessor).start(spark);
+        new CommitLogController(factory, postProcessor).start(spark);
+        new IngestController(ingestQueue).start(spark);
 
         additionalCollaborators.forEach(httpController -> httpController.start(spark));
     }
@@ -148,6 +153,9 @@ public class HttpHandler {
                 running = false;
             }
         }
+
+        // Write the queries which were queued before the server stopped
+        ingestQueue.close();
     }
 
     /**
@@ -0,0 +1,274 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.controller;
+
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.task.postprocessing.PostProcessor;
+import ai.grakn.exception.GraknServerException;
+import ai.grakn.graql.DeleteQuery;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.Match;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.VarPattern;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import static ai.grakn.util.CommonUtil.toImmutableList;
+import static ai.grakn.util.REST.Request.Graql.CURSOR;
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * <p>
+ *     Runs a {@code delete} or {@code match ... insert} query in chunks of answers, committing after every chunk
+ *     instead of once at the end, so the query does not need to fit in one transaction.
+ * </p>
+ *
+ * <p>
+ *     The answers are applied in the order of the ids of their concepts. Every chunk is applied in a new transaction,
+ *     by running the query once per answer with its match replaced by the ids of the concepts in the answer. The ids
+ *     of the last answer committed are the cursor of the mutation: a failed chunk is retried from the cursor, and
+ *     a client which receives the cursor can resume the mutation from it in a later request.
+ * </p>
+ *
+ * <p>
+ *     The match is streamed in a read transaction, which keeps only the ids of the next few chunks after the cursor,
+ *     so the answers never need to fit in memory. The match is streamed again once these chunks are committed.
+ *     Concepts inserted by a {@code match ... insert} can match again: answers with ids after the last answer of the
+ *     first read of the match are never applied, answers with ids before the cursor are never applied again.
+ * </p>
+ */
+class ChunkedMutation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedMutation.class);
+
+    /**
+     * Number of chunks read from every stream of the match
+     */
+    private static final int CHUNKS_PER_READ = 10;
+
+    private static final Comparator<List<ConceptId>> BY_IDS = (ids1, ids2) -> {
+        for (int i = 0; i < ids1.size(); i++) {
+            int comparison = ids1.get(i).getValue().compareTo(ids2.get(i).getValue());
+            if (comparison != 0) return comparison;
+        }
+        return 0;
+    };
+
+    private final EngineGraknTxFactory factory;
+    private final Keyspace keyspace;
+    private final GraknTxType txType;
+    private final PostProcessor postProcessor;
+    private final Match match;
+    private final List<Var> vars;
+    private final Mutation mutation;
+    private final int chunkSize;
+
+    private final Meter answers;
+    private final Timer chunks;
+
+    private long committed = 0;
+
+    /**
+     * The ids of the last answer committed
+     */
+    @Nullable
+    private List<ConceptId> cursor;
+
+    /**
+     * The ids of the last answer of the first read of the match, later answers have been inserted by the mutation
+     */
+    @Nullable
+    private List<ConceptId> last = null;
+
+    /**
+     * Applies a query to the concepts of one answer
+     */
+    @FunctionalInterface
+    private interface Mutation {
+        void apply(Match byIds);
+    }
+
+    private ChunkedMutation(
+            EngineGraknTxFactory factory, Keyspace keyspace, GraknTxType txType, PostProcessor postProcessor,
+            MetricRegistry metricRegistry, Match match, Mutation mutation, int chunkSize, @Nullable String cursor
+    ) {
+        this.factory = factory;
+        this.keyspace = keyspace;
+        this.txType = txType;
+        this.postProcessor = postProcessor;
+        this.match = match;
+        this.vars = match.admin().getSelectedNames().stream()
+                .sorted(Comparator.comparing(Var::getValue))
+                .collect(toImmutableList());
+        this.mutation = mutation;
+        this.chunkSize = chunkSize;
+        this.cursor = cursor == null ? null : parseCursor(cursor, vars.size());
+        this.answers = metricRegistry.meter(name(ChunkedMutation.class, "answers"));
+        this.chunks = metricRegistry.timer(name(ChunkedMutation.class, "chunk"));
+    }
+
+    /**
+     * @return true if the query is a {@code delete} or a {@code match ... insert}, which can be run in chunks
+     */
+    static boolean supports(Query<?> query) {
+        return query instanceof DeleteQuery ||
+                (query instanceof InsertQuery && ((InsertQuery) query).admin().match().isPresent());
+    }
+
+    /**
+     * @param query     a query which this class {@link #supports(Query)}, whose match is inferred if it was parsed so
+     * @param txType    the type of the transactions the chunks are committed in, which must be able to write
+     * @param chunkSize the number of answers to apply in every transaction
+     * @param cursor    the cursor returned by an earlier run of the query, to resume it from, or null to start it
+     */
+    static ChunkedMutation create(
+            EngineGraknTxFactory factory, Keyspace keyspace, GraknTxType txType, PostProcessor postProcessor,
+            MetricRegistry metricRegistry, Query<?> query, int chunkSize, @Nullable String cursor
+    ) {
+        if (query instanceof DeleteQuery) {
+            DeleteQuery delete = (DeleteQuery) query;
+            Collection<? extends Var> deleted = delete.admin().vars();
+            return new ChunkedMutation(
+                    factory, keyspace, txType, postProcessor, metricRegistry,
+                    delete.admin().match(), byIds -> byIds.delete(deleted).execute(), chunkSize, cursor
+            );
+        } else {
+            InsertQuery insert = (InsertQuery) query;
+            Match match = insert.admin().match().orElseThrow(() -> new IllegalArgumentException(query.toString()));
+            Collection<VarPatternAdmin> varPatterns = insert.admin().varPatterns();
+            return new ChunkedMutation(
+                    factory, keyspace, txType, postProcessor, metricRegistry,
+                    match, byIds -> byIds.insert(varPatterns).execute(), chunkSize, cursor
+            );
+        }
+    }
+
+    /**
+     * Apply the query to every answer after the cursor, continuing from where an earlier call failed
+     *
+     * @return the number of answers committed, including the ones committed by earlier calls
+     */
+    long run() {
+        while (true) {
+            List<List<ConceptId>> next = readAfterCursor();
+            for (int from = 0; from < next.size(); from += chunkSize) {
+                commit(next.subList(from, Math.min(from + chunkSize, next.size())));
+            }
+            if (next.size() < readSize()) return committed;
+        }
+    }
+
+    /**
+     * @return the cursor to resume the mutation from, or null if no answer has been committed
+     */
+    @Nullable
+    String cursor() {
+        if (cursor == null) return null;
+        return Json.array(cursor.stream().map(ConceptId::getValue).toArray()).toString();
+    }
+
+    /**
+     * @return the ids of the answers of the next chunks after the cursor, in order
+     */
+    private List<List<ConceptId>> readAfterCursor() {
+        int readSize = readSize();
+        // Keeps the smallest ids, the largest of them is at the head so it can be replaced
+        PriorityQueue<List<ConceptId>> next = new PriorityQueue<>(BY_IDS.reversed());
+        boolean firstRead = last == null;
+
+        try (GraknTx tx = factory.tx(keyspace, GraknTxType.READ)) {
+            Iterator<List<ConceptId>> answerIds = match.withTx(tx).stream().map(this::ids).iterator();
+            while (answerIds.hasNext()) {
+                List<ConceptId> ids = answerIds.next();
+                if (firstRead && (last == null || BY_IDS.compare(ids, last) > 0)) last = ids;
+                if (cursor != null && BY_IDS.compare(ids, cursor) <= 0) continue;
+                if (!firstRead && BY_IDS.compare(ids, last) > 0) continue;
+
+                if (next.size() < readSize) {
+                    next.add(ids);
+                } else if (BY_IDS.compare(ids, next.peek()) < 0) {
+                    next.poll();
+                    next.add(ids);
+                }
+            }
+        }
+
+        return next.stream().sorted(BY_IDS).collect(Collectors.toList());
+    }
+
+    private int readSize() {
+        return (int) Math.min(Integer.MAX_VALUE, (long) chunkSize * CHUNKS_PER_READ);
+    }
+
+    private List<ConceptId> ids(Answer answer) {
+        return vars.stream().map(var -> answer.get(var).getId()).collect(toImmutableList());
+    }
+
+    private void commit(List<List<ConceptId>> chunk) {
+        try (EmbeddedGraknTx<?> tx = factory.tx(keyspace, txType); Timer.Context context = chunks.time()) {
+            for (List<ConceptId> ids : chunk) {
+                List<VarPattern> patterns = new ArrayList<>(ids.size());
+                for (int i = 0; i < vars.size(); i++) {
+                    patterns.add(vars.get(i).id(ids.get(i)));
+                }
+                mutation.apply(tx.graql().match(patterns));
+            }
+            tx.commitSubmitNoLogs().ifPresent(postProcessor::submit);
+        }
+
+        committed += chunk.size();
+        cursor = chunk.get(chunk.size() - 1);
+        answers.mark(chunk.size());
+        LOG.info("Committed {} answers of chunked query on {}, at {} answers/s",
+                committed, keyspace, String.format("%.0f", answers.getOneMinuteRate()));
+    }
+
+    private static List<ConceptId> parseCursor(String cursor, int size) {
+        try {
+            List<ConceptId> ids = Json.read(cursor).asJsonList().stream()
+                    .map(id -> ConceptId.of(id.asString()))
+                    .collect(toImmutableList());
+            if (ids.size() == size) return ids;
+        } catch (RuntimeException e) {
+            LOG.debug("Invalid cursor {}", cursor, e);
+        }
+        throw GraknServerException.requestInvalidParameter(CURSOR, cursor);
+    }
+}
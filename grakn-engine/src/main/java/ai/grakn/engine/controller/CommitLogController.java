@@ -18,6 +18,7 @@
 
 package ai.grakn.engine.controller;
 
+import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.task.postprocessing.PostProcessor;
 import ai.grakn.kb.log.CommitLog;
 import ai.grakn.util.REST;
@@ -37,9 +38,11 @@ import java.util.concurrent.CompletableFuture;
  */
 public class CommitLogController implements HttpController {
     private static final ObjectMapper mapper = new ObjectMapper();
+    private final EngineGraknTxFactory factory;
     private final PostProcessor postProcessor;
 
-    public CommitLogController(PostProcessor postProcessor){
+    public CommitLogController(EngineGraknTxFactory factory, PostProcessor postProcessor){
+        this.factory = factory;
         this.postProcessor = postProcessor;
 
     }
@@ -48,6 +51,10 @@ public class CommitLogController implements HttpController {
     @Path("/kb/{keyspace}/commit_log")
     private String submitConcepts(Request req) throws IOException {
         CommitLog commitLog = mapper.readValue(req.body(), CommitLog.class);
+        // Embedded client sessions commit in their own JVMs, so their commit logs are the only sign of their commits.
+        if (!commitLog.isEmpty()) {
+            factory.session(commitLog.keyspace()).committedElsewhere();
+        }
         CompletableFuture.allOf(CompletableFuture.runAsync(() -> postProcessor.submit(commitLog))).join();
         return "";
     }
@@ -25,12 +25,14 @@ import ai.grakn.engine.controller.response.ExplanationBuilder;
 import ai.grakn.engine.controller.util.Requests;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.task.postprocessing.PostProcessor;
+import ai.grakn.exception.GraknServerException;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.exception.GraqlSyntaxException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.exception.TemporaryWriteException;
 import ai.grakn.graql.GetQuery;
+import ai.grakn.graql.Graql;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
@@ -38,6 +40,8 @@ import ai.grakn.graql.QueryParser;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.internal.printer.Printers;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.profile.QueryProfile;
+import ai.grakn.graql.internal.query.profile.TraversalProfile;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.util.REST;
 import com.codahale.metrics.MetricRegistry;
@@ -51,6 +55,7 @@ import com.github.rholder.retry.Retryer;
 import com.github.rholder.retry.RetryerBuilder;
 import com.github.rholder.retry.StopStrategies;
 import com.github.rholder.retry.WaitStrategies;
+import com.google.common.primitives.Ints;
 import mjson.Json;
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.entity.ContentType;
@@ -76,12 +81,16 @@ import static ai.grakn.engine.controller.util.Requests.mandatoryPathParameter;
 import static ai.grakn.engine.controller.util.Requests.mandatoryQueryParameter;
 import static ai.grakn.engine.controller.util.Requests.queryParameter;
 import static ai.grakn.util.REST.Request.Graql.ALLOW_MULTIPLE_QUERIES;
+import static ai.grakn.util.REST.Request.Graql.CHUNK_SIZE;
+import static ai.grakn.util.REST.Request.Graql.CURSOR;
 import static ai.grakn.util.REST.Request.Graql.DEFINE_ALL_VARS;
 import static ai.grakn.util.REST.Request.Graql.EXECUTE_WITH_INFERENCE;
 import static ai.grakn.util.REST.Request.Graql.LOADING_DATA;
+import static ai.grakn.util.REST.Request.Graql.PROFILE;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
 import static ai.grakn.util.REST.Request.Graql.TX_TYPE;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
+import static ai.grakn.util.REST.Response.COMMITTED;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_TEXT;
 import static com.codahale.metrics.MetricRegistry.name;
@@ -104,6 +113,7 @@ public class GraqlController implements HttpController {
     private final Printer<?> printer;
     private final EngineGraknTxFactory factory;
     private final PostProcessor postProcessor;
+    private final MetricRegistry metricRegistry;
     private final Timer executeGraql;
     private final Timer executeExplanation;
 
@@ -113,6 +123,7 @@ public class GraqlController implements HttpController {
         this.factory = factory;
         this.postProcessor = postProcessor;
         this.printer = printer;
+        this.metricRegistry = metricRegistry;
         this.executeGraql = metricRegistry.timer(name(GraqlController.class, "execute-graql"));
         this.executeExplanation = metricRegistry.timer(name(GraqlController.class, "execute-explanation"));
     }
@@ -164,6 +175,13 @@ public class GraqlController implements HttpController {
         //Used to check if serialisation of results is needed. When loading we skip this for the sake of speed
         boolean skipSerialisation = parseBoolean(queryParameter(request, LOADING_DATA).orElse("false"));
 
+        //Return the execution profile of the query instead of its results
+        boolean profile = parseBoolean(queryParameter(request, PROFILE).orElse("false"));
+
+        //Run a delete or match-insert query in chunks of this many answers, committing after every chunk. The query
+        //can be resumed from the cursor it returns
+        Optional<Integer> chunkSize = queryParameter(request, CHUNK_SIZE).map(GraqlController::parseChunkSize);
+
         //Check the transaction type to use
         GraknTxType txType = queryParameter(request, TX_TYPE)
                 .map(String::toUpperCase).map(GraknTxType::valueOf).orElse(GraknTxType.WRITE);
@@ -182,6 +200,30 @@ public class GraqlController implements HttpController {
         LOG.debug("Executing graql query: {}", StringUtils.abbreviate(queryString, 100));
         LOG.trace("Full query: {}", queryString);
 
+        if (chunkSize.isPresent() && !multiQuery && !profile) {
+            QueryBuilder builder = Graql.withoutGraph();
+            infer.ifPresent(builder::infer);
+            QueryParser parser = builder.parser();
+            defineAllVars.ifPresent(parser::defineAllVars);
+            Query<?> query = parser.parseQuery(queryString);
+
+            if (ChunkedMutation.supports(query)) {
+                if (GraknTxType.READ.equals(txType)) {
+                    throw GraknServerException.requestInvalidParameter(TX_TYPE, txType.name());
+                }
+                ChunkedMutation mutation = ChunkedMutation.create(
+                        factory, keyspace, txType, postProcessor, metricRegistry, query, chunkSize.get(),
+                        queryParameter(request, CURSOR).orElse(null)
+                );
+                response.status(SC_OK);
+                // A retry resumes the mutation from the cursor, without applying the chunks which were committed again
+                return executeFunctionWithRetrying(() -> {
+                    long committed = mutation.run();
+                    return Json.object(COMMITTED, committed, REST.Response.CURSOR, mutation.cursor()).toString();
+                });
+            }
+        }
+
         return executeFunctionWithRetrying(() -> {
             try (EmbeddedGraknTx<?> tx = factory.tx(keyspace, txType); Timer.Context context = executeGraql.time()) {
 
@@ -194,6 +236,8 @@ public class GraqlController implements HttpController {
 
                 response.status(SC_OK);
 
+                if (profile) return profileQuery(tx, queryString, parser);
+
                 return executeQuery(tx, queryString, acceptType, multiQuery, skipSerialisation, parser);
             } finally {
                 LOG.debug("Executed graql query");
@@ -201,6 +245,14 @@ public class GraqlController implements HttpController {
         });
     }
 
+    private static int parseChunkSize(String value) {
+        Integer chunkSize = Ints.tryParse(value);
+        if (chunkSize == null || chunkSize <= 0) {
+            throw GraknServerException.requestInvalidParameter(CHUNK_SIZE, value);
+        }
+        return chunkSize;
+    }
+
     private String executeFunctionWithRetrying(Callable<String> callable) throws RetryException, ExecutionException {
         try {
             Retryer<String> retryer = RetryerBuilder.<String>newBuilder()
@@ -293,6 +345,40 @@ public class GraqlController implements HttpController {
         return formatted;
     }
 
+    /**
+     * Execute a query, returning its execution profile rather than its results.
+     * The profile is also recorded in the metrics, grouped by the shape of the executed plans. Shapes and fragment
+     * kinds contain no constants of the query, so the number of registered metrics stays bounded.
+     *
+     * @param tx          open transaction to current graph
+     * @param queryString query to be profiled
+     * @param parser      parser for the query
+     */
+    private String profileQuery(EmbeddedGraknTx<?> tx, String queryString, QueryParser parser) {
+        Query<?> query = parser.parseQuery(queryString);
+        QueryProfile profile = QueryProfile.profile(query);
+
+        for (TraversalProfile traversal : profile.traversals()) {
+            metricRegistry.timer(name(GraqlController.class, "profile", "plan", traversal.shape()))
+                    .update(traversal.fragmentNanos(), TimeUnit.NANOSECONDS);
+            for (List<TraversalProfile.FragmentProfile> conjunction : traversal.conjunctions()) {
+                for (TraversalProfile.FragmentProfile fragment : conjunction) {
+                    metricRegistry.timer(name(GraqlController.class, "profile", "fragment", fragment.kind()))
+                            .update(fragment.nanos(), TimeUnit.NANOSECONDS);
+                    metricRegistry.histogram(name(GraqlController.class, "profile", "fragment", fragment.kind(), "traversers"))
+                            .update(fragment.actualTraversers());
+                }
+            }
+        }
+        metricRegistry.histogram(name(GraqlController.class, "profile", "reasoner", "sub-goals")).update(profile.subGoals());
+        metricRegistry.meter(name(GraqlController.class, "profile", "reasoner", "cache-hits")).mark(profile.cacheHits());
+        metricRegistry.meter(name(GraqlController.class, "profile", "reasoner", "cache-misses")).mark(profile.cacheMisses());
+
+        if (!query.isReadOnly()) tx.commitSubmitNoLogs().ifPresent(postProcessor::submit);
+
+        return profile.toJson().toString();
+    }
+
     private Object executeAndMonitor(Query<?> query) {
         return query.execute();
     }
@@ -0,0 +1,108 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.controller;
+
+import ai.grakn.Keyspace;
+import ai.grakn.engine.loader.IngestQueue;
+import ai.grakn.exception.GraknServerException;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.Query;
+import ai.grakn.util.REST;
+import mjson.Json;
+import spark.Request;
+import spark.Response;
+import spark.Service;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static ai.grakn.engine.controller.util.Requests.mandatoryBody;
+import static ai.grakn.engine.controller.util.Requests.mandatoryPathParameter;
+import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
+import static ai.grakn.util.REST.Response.COMMITTED;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
+import static ai.grakn.util.REST.Response.EXCEPTION;
+import static ai.grakn.util.REST.Response.QUERIES;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.apache.http.HttpStatus.SC_UNPROCESSABLE_ENTITY;
+
+/**
+ * <p>
+ *     Endpoint which queues insert queries in the {@link IngestQueue}, so that the queries of concurrent requests are
+ *     committed together.
+ * </p>
+ *
+ * <p>
+ *     All the queries of a request are queued, or none of them are if the queue does not have room for all of them.
+ *     The request returns once all of its queries are written. The response holds the number of queries committed
+ *     and the status of every query, in the order of the request: whether it was committed and, if not, its error.
+ *     Failed queries do not prevent the others from being committed.
+ * </p>
+ */
+public class IngestController implements HttpController {
+
+    private final IngestQueue ingestQueue;
+
+    public IngestController(IngestQueue ingestQueue) {
+        this.ingestQueue = ingestQueue;
+    }
+
+    @Override
+    public void start(Service spark) {
+        spark.post(REST.WebPath.KEYSPACE_INGEST, this::ingest);
+    }
+
+    @POST
+    @Path("/kb/{keyspace}/ingest")
+    private String ingest(Request request, Response response) throws InterruptedException {
+        Keyspace keyspace = Keyspace.of(mandatoryPathParameter(request, KEYSPACE_PARAM));
+        List<Query<?>> queries = Graql.parser().parseList(mandatoryBody(request)).collect(Collectors.toList());
+
+        List<InsertQuery> insertQueries = new ArrayList<>(queries.size());
+        for (Query<?> query : queries) {
+            if (!(query instanceof InsertQuery)) throw GraknServerException.ingestUnsupportedQuery(query.toString());
+            insertQueries.add((InsertQuery) query);
+        }
+
+        //Either every query is queued or the request is rejected before any of them is, so it can be retried safely
+        List<CompletableFuture<Void>> futures = ingestQueue.submit(keyspace, insertQueries);
+
+        int committed = 0;
+        Json statuses = Json.array();
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.get();
+                committed++;
+                statuses.add(Json.object(COMMITTED, true));
+            } catch (ExecutionException e) {
+                statuses.add(Json.object(COMMITTED, false, EXCEPTION, e.getCause().getMessage()));
+            }
+        }
+
+        response.type(APPLICATION_JSON);
+        response.status(committed == futures.size() ? SC_OK : SC_UNPROCESSABLE_ENTITY);
+        return Json.object(COMMITTED, committed, QUERIES, statuses).toString();
+    }
+}
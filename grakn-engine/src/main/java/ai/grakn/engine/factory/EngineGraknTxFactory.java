@@ -30,10 +30,14 @@ import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.factory.EmbeddedGraknSession;
 import ai.grakn.factory.GraknTxFactoryBuilder;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.kb.internal.computer.MaintainedAnalytics;
 import com.google.common.annotations.VisibleForTesting;
 
-import java.util.HashMap;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -56,13 +60,14 @@ public class EngineGraknTxFactory {
     private final GraknKeyspaceStore graknKeyspaceStore;
     private final Map<Keyspace, EmbeddedGraknSession> openedSessions;
     private final LockProvider lockProvider;
+    private volatile @Nullable MaintainedAnalytics maintainedAnalytics = null;
 
     public static EngineGraknTxFactory create(LockProvider lockProvider, GraknConfig engineConfig, GraknKeyspaceStore keyspaceStore) {
         return new EngineGraknTxFactory(engineConfig, lockProvider, keyspaceStore);
     }
 
     private EngineGraknTxFactory(GraknConfig engineConfig, LockProvider lockProvider, GraknKeyspaceStore keyspaceStore) {
-        this.openedSessions = new HashMap<>();
+        this.openedSessions = new ConcurrentHashMap<>();
         this.engineConfig = engineConfig;
         this.lockProvider = lockProvider;
         this.graknKeyspaceStore = keyspaceStore;
@@ -90,11 +95,33 @@ public class EngineGraknTxFactory {
      * @param keyspace The {@link Keyspace} of the {@link GraknSession} to retrieve
      * @return a new or existing {@link GraknSession} connecting to the provided {@link Keyspace}
      */
-    private EmbeddedGraknSession session(Keyspace keyspace){
-        if(!openedSessions.containsKey(keyspace)){
-            openedSessions.put(keyspace, EmbeddedGraknSession.createEngineSession(keyspace, engineURI(), engineConfig, GraknTxFactoryBuilder.getInstance()));
-        }
-        return openedSessions.get(keyspace);
+    public EmbeddedGraknSession session(Keyspace keyspace){
+        return openedSessions.computeIfAbsent(keyspace, k -> {
+            EmbeddedGraknSession session =
+                    EmbeddedGraknSession.createEngineSession(k, engineURI(), engineConfig, GraknTxFactoryBuilder.getInstance());
+            if (maintainedAnalytics != null) session.maintainAnalytics(maintainedAnalytics);
+            return session;
+        });
+    }
+
+    /**
+     * Answers degree and connected component queries with the given maintained results when possible
+     *
+     * @param maintainedAnalytics the results maintained by engine
+     */
+    public void maintainAnalytics(MaintainedAnalytics maintainedAnalytics) {
+        this.maintainedAnalytics = maintainedAnalytics;
+        openedSessions.values().forEach(session -> session.maintainAnalytics(maintainedAnalytics));
+    }
+
+    /**
+     * Opens the {@link GraknSession} of an existing {@link Keyspace} and loads its schema by opening and closing a
+     * read transaction on it, so that the first transaction requested by a client does not have to.
+     *
+     * @param keyspace the existing {@link Keyspace} to warm up
+     */
+    public void warmUp(Keyspace keyspace) {
+        session(keyspace).open(GraknTxType.READ).close();
     }
 
     /**
@@ -120,6 +147,13 @@ public class EngineGraknTxFactory {
         return "/creating-new-keyspace-lock/" + keyspace.getValue();
     }
 
+    /**
+     * @return the {@link GraknSession}s opened so far, one for each {@link Keyspace}
+     */
+    public Collection<EmbeddedGraknSession> sessions() {
+        return Collections.unmodifiableCollection(openedSessions.values());
+    }
+
     public GraknConfig config() {
         return engineConfig;
     }
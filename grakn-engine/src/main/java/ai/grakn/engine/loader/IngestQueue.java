@@ -0,0 +1,372 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.loader;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.engine.GraknConfig;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.task.postprocessing.PostProcessor;
+import ai.grakn.exception.GraknServerException;
+import ai.grakn.exception.TemporaryWriteException;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.github.rholder.retry.Attempt;
+import com.github.rholder.retry.RetryException;
+import com.github.rholder.retry.RetryListener;
+import com.github.rholder.retry.Retryer;
+import com.github.rholder.retry.RetryerBuilder;
+import com.github.rholder.retry.StopStrategies;
+import com.github.rholder.retry.WaitStrategies;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * <p>
+ *     Writes insert queries of many clients in shared transactions
+ * </p>
+ *
+ * <p>
+ *     Every query submitted to a keyspace is put in the queue of the keyspace and its future is returned. The writers
+ *     of the keyspace take the queued queries in groups, execute each group in one transaction and commit it once, so
+ *     validation, commit and the commit log are paid once per group rather than once per query. A group is committed
+ *     when it reaches the batch size, or when no further query arrives within the linger time.
+ * </p>
+ *
+ * <p>
+ *     The writers of all keyspaces share a fixed number of threads. A writer only runs while its keyspace has queued
+ *     queries and gives its thread back after every group, so idle or deleted keyspaces hold no thread and busy
+ *     keyspaces take turns. The queue of a keyspace is dropped once it is empty and none of its writers run.
+ * </p>
+ *
+ * <p>
+ *     If a group fails with a {@link TemporaryWriteException}, the whole group is retried with an exponential backoff.
+ *     If it fails for another reason, it is split in halves which are written separately, until the failing queries
+ *     are isolated and only their futures fail.
+ * </p>
+ *
+ * <p>
+ *     The queries of one submission are queued together or not at all. When the queue of a keyspace does not have room
+ *     for all of them, submitting waits for the linger time and then rejects every query, so clients can back off and
+ *     retry without duplicating queries, rather than growing the queue without bound.
+ * </p>
+ */
+public class IngestQueue implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IngestQueue.class);
+
+    private static final int DEFAULT_QUEUE_SIZE = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_LINGER_MS = 50;
+    private static final int DEFAULT_WRITERS = 2;
+    private static final int DEFAULT_THREADS = 8;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BACKOFF_MULTIPLIER_MILLIS = 100;
+    private static final long MAX_BACKOFF_SECONDS = 5;
+    private static final long POLL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+    private static final RetryLogger retryLogger = new RetryLogger();
+
+    private final EngineGraknTxFactory factory;
+    private final PostProcessor postProcessor;
+    private final int queueSize;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int writers;
+
+    private final Map<Keyspace, KeyspaceQueue> queues = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private volatile boolean closed = false;
+
+    private final Meter queries;
+    private final Meter failures;
+    private final Histogram groupSizes;
+    private final Timer commits;
+
+    private IngestQueue(
+            EngineGraknTxFactory factory, PostProcessor postProcessor, MetricRegistry metricRegistry,
+            int queueSize, int batchSize, long lingerMillis, int writers, int threads
+    ) {
+        this.factory = factory;
+        this.postProcessor = postProcessor;
+        this.queueSize = queueSize;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.writers = writers;
+        this.executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("ingest-writer-%d").setDaemon(true).build());
+        this.queries = metricRegistry.meter(name(IngestQueue.class, "queries"));
+        this.failures = metricRegistry.meter(name(IngestQueue.class, "failures"));
+        this.groupSizes = metricRegistry.histogram(name(IngestQueue.class, "group-size"));
+        this.commits = metricRegistry.timer(name(IngestQueue.class, "commit"));
+    }
+
+    public static IngestQueue create(
+            GraknConfig config, EngineGraknTxFactory factory, PostProcessor postProcessor, MetricRegistry metricRegistry
+    ) {
+        return new IngestQueue(factory, postProcessor, metricRegistry,
+                config.getProperty(GraknConfigKey.INGEST_QUEUE_SIZE, DEFAULT_QUEUE_SIZE),
+                config.getProperty(GraknConfigKey.INGEST_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                config.getProperty(GraknConfigKey.INGEST_LINGER_MS, DEFAULT_LINGER_MS),
+                config.getProperty(GraknConfigKey.INGEST_WRITERS, DEFAULT_WRITERS),
+                config.getProperty(GraknConfigKey.INGEST_THREADS, DEFAULT_THREADS));
+    }
+
+    /**
+     * Queue an insert query to be written to a keyspace
+     *
+     * @return a future which completes once the query is committed, or fails with the reason the query was not
+     * @throws GraknServerException if the queue of the keyspace stays full or engine is shutting down
+     */
+    public CompletableFuture<Void> submit(Keyspace keyspace, InsertQuery query) throws InterruptedException {
+        return submit(keyspace, ImmutableList.of(query)).get(0);
+    }
+
+    /**
+     * Queue insert queries to be written to a keyspace, either all of them or none
+     *
+     * @return a future for every query, in the same order, which completes once the query is committed or fails with
+     * the reason the query was not
+     * @throws GraknServerException if the queue of the keyspace stays too full to hold all the queries, if it can never
+     * hold so many queries or if engine is shutting down. No query is queued in these cases.
+     */
+    public List<CompletableFuture<Void>> submit(
+            Keyspace keyspace, List<InsertQuery> insertQueries
+    ) throws InterruptedException {
+        if (closed) throw GraknServerException.ingestQueueClosed();
+        if (insertQueries.size() > queueSize) {
+            throw GraknServerException.ingestTooManyQueries(insertQueries.size(), queueSize);
+        }
+
+        KeyspaceQueue queue = queue(keyspace);
+        if (!queue.capacity.tryAcquire(insertQueries.size(), lingerMillis, TimeUnit.MILLISECONDS)) {
+            throw GraknServerException.ingestQueueFull(keyspace);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(insertQueries.size());
+        for (InsertQuery query : insertQueries) {
+            Ingested ingested = new Ingested(query);
+            queue.queries.add(ingested);
+            futures.add(ingested.future);
+        }
+        queries.mark(insertQueries.size());
+        startWriters(keyspace, queue);
+        return futures;
+    }
+
+    private KeyspaceQueue queue(Keyspace keyspace) {
+        return queues.computeIfAbsent(keyspace, k -> new KeyspaceQueue(queueSize));
+    }
+
+    /**
+     * Start writers for the queued queries of a keyspace, up to the number of writers per keyspace
+     */
+    private void startWriters(Keyspace keyspace, KeyspaceQueue keyspaceQueue) {
+        while (!keyspaceQueue.queries.isEmpty()) {
+            int running = keyspaceQueue.writers.get();
+            if (running >= writers) return;
+            if (keyspaceQueue.writers.compareAndSet(running, running + 1)) {
+                executor.execute(() -> writeGroup(keyspace, keyspaceQueue));
+            }
+        }
+    }
+
+    /**
+     * Write one group of the queued queries of a keyspace, then start a writer again if more queries are queued
+     */
+    private void writeGroup(Keyspace keyspace, KeyspaceQueue keyspaceQueue) {
+        List<Ingested> group = new ArrayList<>(batchSize);
+        try {
+            takeGroup(keyspaceQueue.queries, group);
+            if (!group.isEmpty()) {
+                keyspaceQueue.capacity.release(group.size());
+                groupSizes.update(group.size());
+                write(keyspace, group);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(group, GraknServerException.ingestQueueClosed());
+        } catch (RuntimeException e) {
+            LOG.error("Ingest writer of keyspace {} failed", keyspace, e);
+            fail(group, e);
+        } finally {
+            keyspaceQueue.writers.decrementAndGet();
+            if (!dropIfIdle(keyspace, keyspaceQueue) && !Thread.currentThread().isInterrupted()) {
+                startWriters(keyspace, keyspaceQueue);
+            }
+        }
+    }
+
+    /**
+     * Drop the queue of a keyspace if it is empty and none of its writers run. A submission still holding the dropped
+     * queue starts its own writers, so its queries are written all the same.
+     */
+    private boolean dropIfIdle(Keyspace keyspace, KeyspaceQueue keyspaceQueue) {
+        return keyspaceQueue.isIdle() && queues.remove(keyspace, keyspaceQueue);
+    }
+
+    /**
+     * Take queued queries into the group until it reaches the batch size or no further query arrives within the linger
+     * time
+     */
+    private void takeGroup(BlockingQueue<Ingested> queue, List<Ingested> group) throws InterruptedException {
+        Ingested first = queue.poll();
+        if (first == null) return;
+
+        group.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (group.size() < batchSize) {
+            if (queue.drainTo(group, batchSize - group.size()) > 0) continue;
+
+            long remaining = deadline - System.nanoTime();
+            Ingested next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) break;
+            group.add(next);
+        }
+    }
+
+    /**
+     * Write a group of queries, retrying it while it fails temporarily and splitting it to isolate the queries which
+     * fail for other reasons
+     */
+    private void write(Keyspace keyspace, List<Ingested> group) {
+        Retryer<Void> retryer = RetryerBuilder.<Void>newBuilder()
+                .retryIfExceptionOfType(TemporaryWriteException.class)
+                .withRetryListener(retryLogger)
+                .withWaitStrategy(WaitStrategies.exponentialWait(
+                        BACKOFF_MULTIPLIER_MILLIS, MAX_BACKOFF_SECONDS, TimeUnit.SECONDS))
+                .withStopStrategy(StopStrategies.stopAfterAttempt(MAX_ATTEMPTS))
+                .build();
+
+        try {
+            retryer.call(() -> commit(keyspace, group));
+            group.forEach(ingested -> ingested.future.complete(null));
+        } catch (RetryException e) {
+            // Splitting does not help with a write which keeps failing temporarily, so the whole group fails
+            Throwable cause = e.getLastFailedAttempt().hasException() ? e.getLastFailedAttempt().getExceptionCause() : e;
+            fail(group, cause);
+        } catch (ExecutionException e) {
+            if (group.size() > 1) {
+                int half = group.size() / 2;
+                write(keyspace, group.subList(0, half));
+                write(keyspace, group.subList(half, group.size()));
+            } else {
+                fail(group, e.getCause());
+            }
+        }
+    }
+
+    private void fail(List<Ingested> group, Throwable cause) {
+        failures.mark(group.size());
+        group.forEach(ingested -> ingested.future.completeExceptionally(cause));
+    }
+
+    private Void commit(Keyspace keyspace, List<Ingested> group) {
+        try (EmbeddedGraknTx<?> tx = factory.tx(keyspace, GraknTxType.BATCH); Timer.Context context = commits.time()) {
+            for (Ingested ingested : group) {
+                ingested.query.withTx(tx).execute();
+            }
+            tx.commitSubmitNoLogs().ifPresent(postProcessor::submit);
+        }
+        return null;
+    }
+
+    /**
+     * Stop accepting queries and wait for the writers to write the queued ones
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        while (!isIdle() && System.nanoTime() < deadline) {
+            Thread.sleep(POLL_MILLIS);
+        }
+        if (!isIdle()) LOG.warn("Ingest writers did not finish writing the queued queries");
+        executor.shutdownNow();
+        queues.values().forEach(queue -> queue.queries.forEach(ingested ->
+                ingested.future.completeExceptionally(GraknServerException.ingestQueueClosed())));
+    }
+
+    private boolean isIdle() {
+        return queues.values().stream().allMatch(KeyspaceQueue::isIdle);
+    }
+
+    private static class RetryLogger implements RetryListener {
+        @Override
+        public <V> void onRetry(Attempt<V> attempt) {
+            if (attempt.hasException()) {
+                LOG.warn("Retrying ingested queries after {} attempts due to exception {}",
+                        attempt.getAttemptNumber(), attempt.getExceptionCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * The queued queries of a keyspace, the room left for more of them, which is reserved for all the queries of a
+     * submission before any of them is queued, and the number of its writers which run
+     */
+    private static class KeyspaceQueue {
+        private final BlockingQueue<Ingested> queries = new LinkedBlockingQueue<>();
+        private final Semaphore capacity;
+        private final AtomicInteger writers = new AtomicInteger(0);
+
+        private KeyspaceQueue(int queueSize) {
+            this.capacity = new Semaphore(queueSize);
+        }
+
+        private boolean isIdle() {
+            return queries.isEmpty() && writers.get() == 0;
+        }
+    }
+
+    /**
+     * A queued query and the future completed once it is written
+     */
+    private static class Ingested {
+        private final InsertQuery query;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Ingested(InsertQuery query) {
+            this.query = query;
+        }
+    }
+}
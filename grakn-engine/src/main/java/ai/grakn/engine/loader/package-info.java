@@ -17,7 +17,7 @@
  */
 
 /**
- *  Implements MutatorTask.
+ *  Groups the insert queries of many clients into shared transactions.
  */
 
 package ai.grakn.engine.loader;
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.rpc;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Attribute;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Thing;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.grpc.AnswerProjection;
+import ai.grakn.grpc.GrpcUtil;
+import ai.grakn.rpc.generated.GrpcGrakn.QueryResult;
+import com.google.common.collect.ImmutableList;
+import mjson.Json;
+
+import java.util.Objects;
+
+import static ai.grakn.util.CommonUtil.toImmutableList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Converts {@link Answer}s into the JSON format described by {@link AnswerProjection}, filling in the information
+ * the client asked for while the concepts are still cached in the transaction.
+ */
+final class AnswerEnricher {
+
+    private final ImmutableList<AttributeType<?>> attributeTypes;
+
+    private AnswerEnricher(ImmutableList<AttributeType<?>> attributeTypes) {
+        this.attributeTypes = attributeTypes;
+    }
+
+    /**
+     * @param tx the transaction the answers come from, used to look up the attribute types of the projection
+     */
+    static AnswerEnricher create(GraknTx tx, AnswerProjection projection) {
+        // Labels which do not refer to an attribute type are ignored, because no thing can own such attributes
+        ImmutableList<AttributeType<?>> attributeTypes = projection.attributeTypes().stream()
+                .map(tx::<SchemaConcept>getSchemaConcept)
+                .filter(Objects::nonNull)
+                .filter(Concept::isAttributeType)
+                .<AttributeType<?>>map(Concept::asAttributeType)
+                .collect(toImmutableList());
+        return new AnswerEnricher(attributeTypes);
+    }
+
+    QueryResult convert(Answer answer) {
+        Json vars = Json.object();
+        answer.forEach((var, concept) -> vars.set(var.getValue(), convert(concept, true)));
+        String json = Json.object(AnswerProjection.ANSWER, vars).toString();
+        return QueryResult.newBuilder().setOtherResult(json).build();
+    }
+
+    private Json convert(Concept concept, boolean withAttributes) {
+        Json json = Json.object(
+                AnswerProjection.ID, concept.getId().getValue(),
+                AnswerProjection.BASE_TYPE, GrpcUtil.getBaseType(concept).name()
+        );
+
+        if (concept.isSchemaConcept()) {
+            json.set(AnswerProjection.LABEL, concept.asSchemaConcept().getLabel().getValue());
+        }
+
+        if (concept.isThing()) {
+            Thing thing = concept.asThing();
+            json.set(AnswerProjection.TYPE, convert(thing.type(), false));
+
+            if (withAttributes && !attributeTypes.isEmpty()) {
+                Json attributes = Json.object();
+                for (AttributeType<?> attributeType : attributeTypes) {
+                    // An empty list is sent as well, so the client knows the thing owns no such attributes
+                    attributes.set(attributeType.getId().getValue(), Json.make(
+                            thing.attributes(attributeType).map(attribute -> convert(attribute, false)).collect(toList())
+                    ));
+                }
+                json.set(AnswerProjection.ATTRIBUTES, attributes);
+            }
+        }
+
+        if (concept.isAttribute()) {
+            Attribute<?> attribute = concept.asAttribute();
+            json.set(AnswerProjection.DATA_TYPE, attribute.dataType().getName());
+            json.set(AnswerProjection.VALUE, persistenceValue(attribute));
+        }
+
+        return json;
+    }
+
+    /**
+     * The value is sent as a string in the format it is persisted in, so no precision is lost in JSON
+     */
+    private static <D> String persistenceValue(Attribute<D> attribute) {
+        return String.valueOf(attribute.dataType().getPersistenceValue(attribute.getValue()));
+    }
+}
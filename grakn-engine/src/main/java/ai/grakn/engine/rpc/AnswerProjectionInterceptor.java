@@ -0,0 +1,59 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.rpc;
+
+import ai.grakn.grpc.AnswerProjection;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the {@link AnswerProjection} which a client may send when it opens a transaction, and makes it available to
+ * the service handling the call.
+ */
+final class AnswerProjectionInterceptor implements ServerInterceptor {
+
+    private static final Context.Key<AnswerProjection> PROJECTION = Context.key("answer-projection");
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        AnswerProjection projection = headers.get(AnswerProjection.KEY);
+
+        if (projection == null) {
+            return next.startCall(call, headers);
+        }
+
+        Context context = Context.current().withValue(PROJECTION, projection);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    /**
+     * @return the projection of the current call, or null if the client did not send one
+     */
+    @Nullable
+    static AnswerProjection current() {
+        return PROJECTION.get();
+    }
+}
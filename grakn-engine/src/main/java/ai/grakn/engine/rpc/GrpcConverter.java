@@ -26,18 +26,40 @@ import ai.grakn.grpc.GrpcUtil;
 import ai.grakn.rpc.generated.GrpcConcept;
 import ai.grakn.rpc.generated.GrpcGrakn;
 import ai.grakn.rpc.generated.GrpcGrakn.QueryResult;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterables;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Converts to GRPC result format. This is a special format for {@link Answer}s, but JSON strings for everything else.
  *
+ * <p>
+ *     The results of compute queries which are maps or collections can be converted into a stream of chunks with
+ *     {@link #convertChunks(Object)}, so they are not sent as one message. Maps and collections are split into chunks
+ *     of at most {@link #CHUNK_SIZE} values, which are JSON strings. A map value which is a collection counts as its
+ *     number of elements, and one which does not fit in a chunk is split into sub-ranges of its elements, each sent
+ *     under the same key, so the chunks must be merged by key. A path of concepts is sent as an {@link Answer}
+ *     whose variables are the positions of the concepts in the path, so the concepts keep their native format.
+ * </p>
+ *
  * @author Felix Chapman
  */
 class GrpcConverter implements GraqlConverter<Object, QueryResult> {
 
+    static final int CHUNK_SIZE = 1000;
+
     private GrpcConverter() {
 
     }
@@ -46,6 +68,91 @@ class GrpcConverter implements GraqlConverter<Object, QueryResult> {
         return new GrpcConverter();
     }
 
+    /**
+     * @return true if the result should be converted with {@link #convertChunks(Object)}
+     */
+    static boolean isChunked(Object result) {
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).map(GrpcConverter::isPath).orElse(false);
+        }
+        return result instanceof Map || result instanceof Collection;
+    }
+
+    /**
+     * Convert a map, collection or optional path into a stream of chunks, which are converted lazily
+     */
+    Stream<QueryResult> convertChunks(Object result) {
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).map(path -> Stream.of(convertPath((List<?>) path))).orElse(Stream.empty());
+        } else if (result instanceof Map) {
+            Iterator<Map<Object, Object>> chunks = new MapChunks((Map<?, ?>) result);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                    .map(this::convert);
+        } else {
+            Collection<?> collection = (Collection<?>) result;
+            if (collection.stream().allMatch(GrpcConverter::isPath)) {
+                return collection.stream().map(path -> convertPath((List<?>) path));
+            }
+            Iterable<? extends List<?>> chunks = Iterables.partition(collection, CHUNK_SIZE);
+            return StreamSupport.stream(chunks.spliterator(), false).map(this::convert);
+        }
+    }
+
+    /**
+     * Splits a map into chunks of at most {@link #CHUNK_SIZE} values, splitting collection values between chunks
+     */
+    private static class MapChunks extends AbstractIterator<Map<Object, Object>> {
+        private final Iterator<? extends Map.Entry<?, ?>> entries;
+
+        // The key and remaining elements of a collection value which is being split between chunks
+        private Object key = null;
+        private Iterator<?> elements = Collections.emptyIterator();
+
+        MapChunks(Map<?, ?> map) {
+            this.entries = map.entrySet().iterator();
+        }
+
+        @Override
+        protected Map<Object, Object> computeNext() {
+            Map<Object, Object> chunk = new LinkedHashMap<>();
+            int size = 0;
+            while (size < CHUNK_SIZE) {
+                if (elements.hasNext()) {
+                    List<Object> range = new ArrayList<>();
+                    while (elements.hasNext() && size < CHUNK_SIZE) {
+                        range.add(elements.next());
+                        size++;
+                    }
+                    chunk.put(key, range);
+                } else if (entries.hasNext()) {
+                    Map.Entry<?, ?> entry = entries.next();
+                    if (entry.getValue() instanceof Collection && !((Collection<?>) entry.getValue()).isEmpty()) {
+                        key = entry.getKey();
+                        elements = ((Collection<?>) entry.getValue()).iterator();
+                    } else {
+                        chunk.put(entry.getKey(), entry.getValue());
+                        size++;
+                    }
+                } else {
+                    break;
+                }
+            }
+            return chunk.isEmpty() ? endOfData() : chunk;
+        }
+    }
+
+    private static boolean isPath(Object object) {
+        return object instanceof List && ((List<?>) object).stream().allMatch(Concept.class::isInstance);
+    }
+
+    private QueryResult convertPath(List<?> path) {
+        GrpcGrakn.Answer.Builder answerRps = GrpcGrakn.Answer.newBuilder();
+        for (int i = 0; i < path.size(); i++) {
+            answerRps.putAnswer(String.valueOf(i), GrpcUtil.convert((Concept) path.get(i)));
+        }
+        return complete(answerRps.build());
+    }
+
     @Override
     public QueryResult complete(Object builder) {
         if (builder instanceof GrpcGrakn.Answer) {
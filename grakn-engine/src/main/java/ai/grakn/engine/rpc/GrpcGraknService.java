@@ -37,6 +37,8 @@ import ai.grakn.rpc.generated.GrpcGrakn.DeleteResponse;
 import ai.grakn.rpc.generated.GrpcGrakn.TxRequest;
 import ai.grakn.rpc.generated.GrpcGrakn.TxResponse;
 import io.grpc.Metadata;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
@@ -61,9 +63,14 @@ public class GrpcGraknService extends GraknGrpc.GraknImplBase {
         this.postProcessor = postProcessor;
     }
 
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerInterceptors.intercept(super.bindService(), new AnswerProjectionInterceptor());
+    }
+
     @Override
     public StreamObserver<TxRequest> tx(StreamObserver<TxResponse> responseObserver) {
-        return TxObserver.create(responseObserver, executor, postProcessor);
+        return TxObserver.create(responseObserver, executor, postProcessor, AnswerProjectionInterceptor.current());
     }
 
     @Override
@@ -27,10 +27,14 @@ import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Rule;
 import ai.grakn.engine.task.postprocessing.PostProcessor;
+import ai.grakn.graql.ComputeQuery;
+import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.Streamable;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.grpc.AnswerProjection;
 import ai.grakn.grpc.ConceptMethod;
 import ai.grakn.grpc.ConceptMethods;
 import ai.grakn.grpc.GrpcConceptConverter;
@@ -51,6 +55,7 @@ import ai.grakn.rpc.generated.GrpcGrakn.TxResponse;
 import ai.grakn.rpc.generated.GrpcIterator.IteratorId;
 import ai.grakn.rpc.generated.GrpcIterator.Next;
 import ai.grakn.rpc.generated.GrpcIterator.Stop;
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -58,7 +63,9 @@ import io.grpc.stub.StreamObserver;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -87,20 +94,31 @@ class TxObserver implements StreamObserver<TxRequest> {
     private final PostProcessor postProcessor;
     private final GrpcIterators grpcIterators = GrpcIterators.create();
 
+    // Inserts whose results have not all been requested yet, see executePendingInserts
+    private final Map<IteratorId, PendingInsert> pendingInserts = new HashMap<>();
+
+    @Nullable
+    private final AnswerProjection projection;
+
     @Nullable
     private EmbeddedGraknTx<?> tx = null;
 
-    private TxObserver(StreamObserver<TxResponse> responseObserver, ExecutorService threadExecutor, GrpcOpenRequestExecutor requestExecutor, PostProcessor postProcessor) {
+    private TxObserver(StreamObserver<TxResponse> responseObserver, ExecutorService threadExecutor, GrpcOpenRequestExecutor requestExecutor, PostProcessor postProcessor, @Nullable AnswerProjection projection) {
         this.responseObserver = responseObserver;
         this.threadExecutor = threadExecutor;
         this.requestExecutor = requestExecutor;
         this.postProcessor = postProcessor;
+        this.projection = projection;
     }
 
-    public static TxObserver create(StreamObserver<TxResponse> responseObserver, GrpcOpenRequestExecutor requestExecutor, PostProcessor postProcessor) {
+    /**
+     * @param projection what the client wants to know about the concepts in each answer, or null to send only their
+     *                   ids and base types
+     */
+    public static TxObserver create(StreamObserver<TxResponse> responseObserver, GrpcOpenRequestExecutor requestExecutor, PostProcessor postProcessor, @Nullable AnswerProjection projection) {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("tx-observer-%s").build();
         ExecutorService threadExecutor = Executors.newSingleThreadExecutor(threadFactory);
-        return new TxObserver(responseObserver, threadExecutor, requestExecutor, postProcessor);
+        return new TxObserver(responseObserver, threadExecutor, requestExecutor, postProcessor, projection);
     }
 
     @Override
@@ -115,6 +133,13 @@ class TxObserver implements StreamObserver<TxRequest> {
     }
 
     private void handleRequest(TxRequest request) {
+        boolean continuesPendingInsert =
+                (request.getRequestCase() == TxRequest.RequestCase.NEXT &&
+                        pendingInserts.containsKey(request.getNext().getIteratorId())) ||
+                (request.getRequestCase() == TxRequest.RequestCase.STOP &&
+                        pendingInserts.containsKey(request.getStop().getIteratorId()));
+        if (!continuesPendingInsert) executePendingInserts();
+
         switch (request.getRequestCase()) {
             case OPEN:
                 open(request.getOpen());
@@ -231,14 +256,31 @@ class TxObserver implements StreamObserver<TxRequest> {
         GrpcConverter grpcConverter = GrpcConverter.get();
 
         if (query instanceof Streamable) {
-            Stream<QueryResult> queryResultStream = ((Streamable<?>) query).stream().map(grpcConverter::convert);
+            Stream<?> results = ((Streamable<?>) query).stream();
+
+            Stream<QueryResult> queryResultStream;
+            if (projection != null) {
+                AnswerEnricher enricher = AnswerEnricher.create(tx(), projection);
+                queryResultStream = results.map(result ->
+                        result instanceof Answer ? enricher.convert((Answer) result) : grpcConverter.convert(result)
+                );
+            } else {
+                queryResultStream = results.map(grpcConverter::convert);
+            }
 
             Stream<TxResponse> txResponseStream =
                     queryResultStream.map(this::txResponse);
 
             Iterator<TxResponse> iterator = txResponseStream.iterator();
 
-            IteratorId iteratorId = grpcIterators.add(iterator);
+            IteratorId iteratorId;
+            if (query instanceof InsertQuery) {
+                PendingInsert pendingInsert = new PendingInsert(iterator);
+                iteratorId = grpcIterators.add(pendingInsert);
+                pendingInserts.put(iteratorId, pendingInsert);
+            } else {
+                iteratorId = grpcIterators.add(iterator);
+            }
 
             responseObserver.onNext(TxResponse.newBuilder().setIteratorId(iteratorId).build());
         } else {
@@ -246,12 +288,32 @@ class TxObserver implements StreamObserver<TxRequest> {
 
             if (result == null) {
                 responseObserver.onNext(GrpcUtil.doneResponse());
+            } else if (query instanceof ComputeQuery && GrpcConverter.isChunked(result)) {
+                // Large compute results are streamed in chunks, rather than converted into one message
+                Iterator<TxResponse> iterator = grpcConverter.convertChunks(result).map(this::txResponse).iterator();
+                IteratorId iteratorId = grpcIterators.add(iterator);
+                responseObserver.onNext(GrpcUtil.iteratorResponse(iteratorId));
             } else {
                 responseObserver.onNext(txResponse(grpcConverter.convert(result)));
             }
         }
     }
 
+    /**
+     * Execute the rest of every insert whose results have not all been requested.
+     *
+     * <p>
+     *     An insert is executed lazily, as its results are requested, like any other query. A client which pipelines
+     *     its requests may send more requests before it has requested all the results of an insert, so those
+     *     requests would run before the insert. Any request other than one for the results of the insert therefore
+     *     executes the rest of the insert first, and buffers its remaining results.
+     * </p>
+     */
+    private void executePendingInserts() {
+        pendingInserts.values().forEach(PendingInsert::execute);
+        pendingInserts.clear();
+    }
+
     private TxResponse txResponse(QueryResult queryResult) {
         return TxResponse.newBuilder().setQueryResult(queryResult).build();
     }
@@ -262,11 +324,14 @@ class TxObserver implements StreamObserver<TxRequest> {
         TxResponse response =
                 grpcIterators.next(iteratorId).orElseThrow(() -> GrpcGraknService.error(Status.FAILED_PRECONDITION));
 
+        if (response.getResponseCase() == TxResponse.ResponseCase.DONE) pendingInserts.remove(iteratorId);
+
         responseObserver.onNext(response);
     }
 
     private void stop(Stop stop) {
         IteratorId iteratorId = stop.getIteratorId();
+        pendingInserts.remove(iteratorId);
         grpcIterators.stop(iteratorId);
         responseObserver.onNext(GrpcUtil.doneResponse());
     }
@@ -345,4 +410,29 @@ class TxObserver implements StreamObserver<TxRequest> {
     private EmbeddedGraknTx<?> tx() {
         return nonNull(tx);
     }
+
+    /**
+     * The results of an insert, which are produced lazily until {@link #execute()} is called
+     */
+    private static final class PendingInsert implements Iterator<TxResponse> {
+        private Iterator<TxResponse> results;
+
+        PendingInsert(Iterator<TxResponse> results) {
+            this.results = results;
+        }
+
+        void execute() {
+            results = ImmutableList.copyOf(results).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return results.hasNext();
+        }
+
+        @Override
+        public TxResponse next() {
+            return results.next();
+        }
+    }
 }
@@ -0,0 +1,335 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.task.postprocessing;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Relationship;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Thing;
+import ai.grakn.engine.GraknConfig;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.kb.internal.computer.MaintainedAnalytics;
+import ai.grakn.kb.log.CommitLog;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ *     Maintains the degrees and connected components of the subgraph made up of the instances of the types listed in
+ *     {@link GraknConfigKey#KB_ANALYTICS_INCREMENTAL_TYPES}, so that degree and cluster queries over exactly those
+ *     types are answered without running the vertex programs.
+ * </p>
+ *
+ * <p>
+ *     The results of each keyspace are built once from the knowledge base and then updated from the
+ *     {@link CommitLog}s received by the {@link PostProcessor}: new instances and role players are added as they
+ *     arrive, while deleting an instance or a role player recomputes only the connected components it belonged to.
+ *     Updates are applied in order on a single background thread and results are not served while any are
+ *     outstanding. The results are saved to the data directory whenever a keyspace is up to date, so they survive
+ *     a restart of engine.
+ * </p>
+ */
+public class IncrementalAnalytics implements MaintainedAnalytics {
+    private final static Logger LOG = LoggerFactory.getLogger(IncrementalAnalytics.class);
+
+    /**
+     * The number of instances above which a deletion rebuilds the results of the keyspace rather than
+     * recomputing the connected components it affected
+     */
+    static final int MAX_RECOMPUTED_INSTANCES = 10_000;
+
+    private final Set<Label> types;
+    private final Set<String> typeLabels;
+    private final EngineGraknTxFactory factory;
+    private final Path directory;
+    private final ExecutorService executor;
+
+    private final Map<Keyspace, IncrementalAnalyticsState> states = new ConcurrentHashMap<>();
+    private final Map<Keyspace, AtomicInteger> outstandingUpdates = new ConcurrentHashMap<>();
+    private final Set<Keyspace> unsupportedKeyspaces = ConcurrentHashMap.newKeySet();
+
+    private IncrementalAnalytics(Set<Label> types, @Nullable EngineGraknTxFactory factory, @Nullable Path directory) {
+        this.types = types;
+        this.typeLabels = types.stream().map(Label::getValue).collect(Collectors.toSet());
+        this.factory = factory;
+        this.directory = directory;
+        this.executor = types.isEmpty() ? null : Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("incremental-analytics-%d").setDaemon(true).build());
+    }
+
+    public static IncrementalAnalytics create(GraknConfig config, EngineGraknTxFactory factory) {
+        List<String> labels = config.getProperty(GraknConfigKey.KB_ANALYTICS_INCREMENTAL_TYPES, Collections.emptyList());
+        if (labels.isEmpty()) return disabled();
+
+        Set<Label> types = labels.stream().map(Label::of).collect(Collectors.toSet());
+        Path directory = GraknConfig.PROJECT_PATH
+                .resolve(config.getProperty(GraknConfigKey.DATA_DIR, "db/"))
+                .resolve("incremental-analytics");
+        return new IncrementalAnalytics(types, factory, directory);
+    }
+
+    public static IncrementalAnalytics disabled() {
+        return new IncrementalAnalytics(Collections.emptySet(), null, null);
+    }
+
+    public boolean isEnabled() {
+        return !types.isEmpty();
+    }
+
+    /**
+     * Queues the changes in the {@link CommitLog} to be applied to the maintained results
+     *
+     * @param commitLog The {@link CommitLog} of a committed transaction
+     */
+    public void submit(CommitLog commitLog) {
+        if (!isEnabled() || unsupportedKeyspaces.contains(commitLog.keyspace())) return;
+        if (commitLog.newThings().isEmpty() && commitLog.newRolePlayers().isEmpty() &&
+                commitLog.detachedThings().isEmpty()) {
+            return;
+        }
+        schedule(commitLog.keyspace(), () -> update(commitLog));
+    }
+
+    @Override
+    public Optional<Map<Long, Set<String>>> degrees(Keyspace keyspace, Set<Label> types) {
+        return upToDateState(keyspace, types).map(IncrementalAnalyticsState::degrees);
+    }
+
+    @Override
+    public Optional<Map<String, Set<String>>> clusters(Keyspace keyspace, Set<Label> types) {
+        return upToDateState(keyspace, types).map(IncrementalAnalyticsState::clusters);
+    }
+
+    @Override
+    public void deleted(Keyspace keyspace) {
+        if (!isEnabled()) return;
+        // Discarded after the updates already queued, so they cannot bring the results back
+        schedule(keyspace, () -> {
+            states.remove(keyspace);
+            unsupportedKeyspaces.remove(keyspace);
+            delete(keyspace);
+        });
+    }
+
+    private Optional<IncrementalAnalyticsState> upToDateState(Keyspace keyspace, Set<Label> types) {
+        if (!isEnabled() || !this.types.equals(types) || unsupportedKeyspaces.contains(keyspace)) {
+            return Optional.empty();
+        }
+        if (outstandingUpdates(keyspace).get() > 0) return Optional.empty();
+
+        IncrementalAnalyticsState state = states.get(keyspace);
+        if (state == null) {
+            // The results will be loaded or built in the background and used by later queries
+            schedule(keyspace, () -> state(keyspace));
+        }
+        return Optional.ofNullable(state);
+    }
+
+    private AtomicInteger outstandingUpdates(Keyspace keyspace) {
+        return outstandingUpdates.computeIfAbsent(keyspace, k -> new AtomicInteger());
+    }
+
+    private void schedule(Keyspace keyspace, Runnable task) {
+        outstandingUpdates(keyspace).incrementAndGet();
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOG.error("Could not update the maintained analytics of keyspace {}, they will be rebuilt", keyspace, e);
+                states.remove(keyspace);
+                delete(keyspace);
+            } finally {
+                if (outstandingUpdates(keyspace).decrementAndGet() == 0) {
+                    IncrementalAnalyticsState state = states.get(keyspace);
+                    if (state != null) save(keyspace, state);
+                }
+            }
+        });
+    }
+
+    /**
+     * Loads the results of the keyspace from disk, or builds them from the knowledge base if they were never saved
+     */
+    @Nullable
+    private IncrementalAnalyticsState state(Keyspace keyspace) {
+        IncrementalAnalyticsState state = states.get(keyspace);
+        if (state == null) state = load(keyspace);
+        if (state == null) state = rebuild(keyspace);
+        if (state != null) states.put(keyspace, state);
+        return state;
+    }
+
+    private void update(CommitLog commitLog) {
+        Keyspace keyspace = commitLog.keyspace();
+        boolean saved = states.containsKey(keyspace) || Files.exists(file(keyspace));
+        IncrementalAnalyticsState state = state(keyspace);
+
+        // Results which have just been built already contain the changes
+        if (state == null || !saved) return;
+
+        try (EmbeddedGraknTx<?> tx = factory.tx(keyspace, GraknTxType.READ)) {
+            for (ConceptId id : commitLog.newThings()) {
+                Thing thing = tx.getConcept(id);
+                if (inSubgraph(thing)) state.addThing(id.getValue());
+            }
+
+            // The role players are read again from the knowledge base, so the edges are counted as they are now and
+            // re-applying a commit which the results already contain leaves them unchanged
+            for (ConceptId relationshipId : commitLog.newRolePlayers().keySet()) {
+                Thing relationship = tx.getConcept(relationshipId);
+                if (inSubgraph(relationship)) add(state, relationship);
+            }
+
+            List<String> detached = commitLog.detachedThings().stream()
+                    .map(ConceptId::getValue).filter(state::contains).collect(Collectors.toList());
+            if (detached.isEmpty()) return;
+
+            Set<String> affected = state.components(detached);
+            if (affected.size() > MAX_RECOMPUTED_INSTANCES) {
+                LOG.debug("Deletions affected {} instances, rebuilding the maintained analytics", affected.size());
+                states.put(keyspace, build(tx));
+                return;
+            }
+
+            state.removeComponents(affected);
+            for (String id : affected) {
+                Thing thing = tx.getConcept(ConceptId.of(id));
+                if (inSubgraph(thing)) add(state, thing);
+            }
+        }
+    }
+
+    @Nullable
+    private IncrementalAnalyticsState rebuild(Keyspace keyspace) {
+        try (EmbeddedGraknTx<?> tx = factory.tx(keyspace, GraknTxType.READ)) {
+            for (Label label : types) {
+                SchemaConcept type = tx.getSchemaConcept(label);
+                if (type != null && (type.isAttributeType() || type.isImplicit())) {
+                    LOG.warn("Degrees and clusters involving attribute or implicit type {} are not maintained in keyspace {}",
+                            label, keyspace);
+                    unsupportedKeyspaces.add(keyspace);
+                    return null;
+                }
+            }
+            return build(tx);
+        }
+    }
+
+    private IncrementalAnalyticsState build(EmbeddedGraknTx<?> tx) {
+        IncrementalAnalyticsState state = new IncrementalAnalyticsState(typeLabels);
+        for (Label label : types) {
+            SchemaConcept type = tx.getSchemaConcept(label);
+            if (type == null || !type.isType()) continue;
+
+            type.asType().instances()
+                    .filter(thing -> thing.type().getLabel().equals(label))
+                    .forEach(thing -> add(state, thing));
+        }
+        return state;
+    }
+
+    private void add(IncrementalAnalyticsState state, Thing thing) {
+        state.addThing(thing.getId().getValue());
+        if (!thing.isRelationship()) return;
+
+        // A role player has one edge for each role it plays in the relationship
+        Relationship relationship = thing.asRelationship();
+        Map<String, Integer> edges = new HashMap<>();
+        relationship.allRolePlayers().values().forEach(rolePlayers -> rolePlayers.forEach(rolePlayer -> {
+            if (inSubgraph(rolePlayer)) edges.merge(rolePlayer.getId().getValue(), 1, Integer::sum);
+        }));
+        edges.forEach((rolePlayer, count) ->
+                state.addRolePlayer(relationship.getId().getValue(), rolePlayer, count));
+    }
+
+    private boolean inSubgraph(@Nullable Thing thing) {
+        return thing != null && types.contains(thing.type().getLabel());
+    }
+
+    private Path file(Keyspace keyspace) {
+        return directory.resolve(keyspace.getValue() + ".ser");
+    }
+
+    @Nullable
+    private IncrementalAnalyticsState load(Keyspace keyspace) {
+        Path file = file(keyspace);
+        if (!Files.exists(file)) return null;
+
+        try (InputStream input = Files.newInputStream(file);
+             ObjectInputStream objects = new ObjectInputStream(input)) {
+            IncrementalAnalyticsState state = (IncrementalAnalyticsState) objects.readObject();
+            if (state.types().equals(typeLabels)) return state;
+            LOG.info("The maintained types have changed, rebuilding the maintained analytics of keyspace {}", keyspace);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.warn("Could not read the maintained analytics of keyspace {}, they will be rebuilt", keyspace, e);
+        }
+        delete(keyspace);
+        return null;
+    }
+
+    private void save(Keyspace keyspace, IncrementalAnalyticsState state) {
+        Path file = file(keyspace);
+        Path temporary = directory.resolve(keyspace.getValue() + ".ser.tmp");
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream output = Files.newOutputStream(temporary);
+                 ObjectOutputStream objects = new ObjectOutputStream(output)) {
+                objects.writeObject(state);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Could not save the maintained analytics of keyspace {}", keyspace, e);
+        }
+    }
+
+    private void delete(Keyspace keyspace) {
+        try {
+            Files.deleteIfExists(file(keyspace));
+        } catch (IOException e) {
+            LOG.warn("Could not delete the maintained analytics of keyspace {}", keyspace, e);
+        }
+    }
+}
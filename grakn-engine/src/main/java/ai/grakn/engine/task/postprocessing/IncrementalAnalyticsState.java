@@ -0,0 +1,166 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.task.postprocessing;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ *     The degrees and connected components of a subgraph of a single keyspace.
+ * </p>
+ *
+ * <p>
+ *     Degrees count the role player edges coming into each instance. The edges of every relationship are recorded, so
+ *     adding role players which are already known, e.g. from a commit which was already read when the results were
+ *     built, does not change the degrees. Connected components are kept as disjoint
+ *     sets: every instance points to the root of its set and each root holds the members of its set. Merging two
+ *     sets moves the smaller set into the larger one, so each instance is moved at most a logarithmic number of
+ *     times.
+ * </p>
+ */
+class IncrementalAnalyticsState implements Serializable {
+
+    private static final long serialVersionUID = 2L;
+
+    private final Set<String> types;
+    private final Map<String, Long> degrees = new HashMap<>();
+    private final Map<String, Map<String, Integer>> rolePlayerEdges = new HashMap<>();
+    private final Map<String, String> roots = new HashMap<>();
+    private final Map<String, Set<String>> members = new HashMap<>();
+
+    IncrementalAnalyticsState(Set<String> types) {
+        this.types = new HashSet<>(types);
+    }
+
+    /**
+     * @return the labels of the types of the instances in the subgraph
+     */
+    Set<String> types() {
+        return types;
+    }
+
+    synchronized int size() {
+        return roots.size();
+    }
+
+    synchronized boolean contains(String thing) {
+        return roots.containsKey(thing);
+    }
+
+    synchronized void addThing(String thing) {
+        if (roots.putIfAbsent(thing, thing) == null) {
+            Set<String> component = new HashSet<>();
+            component.add(thing);
+            members.put(thing, component);
+        }
+    }
+
+    synchronized void addRolePlayer(String relationship, String rolePlayer) {
+        addRolePlayer(relationship, rolePlayer, 1);
+    }
+
+    /**
+     * @param edges the number of role player edges from the relationship to the role player, one for each role it
+     *              plays in the relationship. Only edges beyond those already recorded are added to its degree.
+     */
+    synchronized void addRolePlayer(String relationship, String rolePlayer, int edges) {
+        addThing(relationship);
+        addThing(rolePlayer);
+
+        Map<String, Integer> recorded = rolePlayerEdges.computeIfAbsent(relationship, key -> new HashMap<>());
+        int added = edges - recorded.getOrDefault(rolePlayer, 0);
+        if (added > 0) {
+            recorded.put(rolePlayer, edges);
+            degrees.merge(rolePlayer, (long) added, Long::sum);
+        }
+        union(relationship, rolePlayer);
+    }
+
+    private void union(String thing1, String thing2) {
+        String root1 = roots.get(thing1);
+        String root2 = roots.get(thing2);
+        if (root1.equals(root2)) return;
+
+        if (members.get(root1).size() < members.get(root2).size()) {
+            String root = root1;
+            root1 = root2;
+            root2 = root;
+        }
+
+        Set<String> moved = members.remove(root2);
+        for (String thing : moved) {
+            roots.put(thing, root1);
+        }
+        members.get(root1).addAll(moved);
+    }
+
+    /**
+     * @return the members of the connected components containing the given instances
+     */
+    synchronized Set<String> components(Collection<String> things) {
+        Set<String> components = new HashSet<>();
+        things.stream().map(roots::get).filter(root -> root != null).distinct()
+                .forEach(root -> components.addAll(members.get(root)));
+        return components;
+    }
+
+    /**
+     * Removes the instances, which must make up whole connected components
+     */
+    synchronized void removeComponents(Set<String> things) {
+        for (String thing : things) {
+            String root = roots.remove(thing);
+            if (root != null) members.remove(root);
+            degrees.remove(thing);
+            rolePlayerEdges.remove(thing);
+        }
+    }
+
+    synchronized Map<Long, Set<String>> degrees() {
+        Map<Long, Set<String>> degreeDistribution = new HashMap<>();
+        degrees.forEach((thing, degree) ->
+                degreeDistribution.computeIfAbsent(degree, key -> new HashSet<>()).add(thing));
+        return degreeDistribution;
+    }
+
+    synchronized Map<String, Set<String>> clusters() {
+        Map<String, Set<String>> clusters = new HashMap<>();
+        members.values().forEach(component -> clusters.put(max(component), new HashSet<>(component)));
+        return clusters;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream output) throws IOException {
+        output.defaultWriteObject();
+    }
+
+    private static String max(Set<String> component) {
+        String max = null;
+        for (String thing : component) {
+            if (max == null || thing.compareTo(max) > 0) max = thing;
+        }
+        return max;
+    }
+}
@@ -19,7 +19,10 @@
 package ai.grakn.engine.controller;
 
 import ai.grakn.Keyspace;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.task.postprocessing.PostProcessor;
+import ai.grakn.factory.EmbeddedGraknSession;
 import ai.grakn.kb.log.CommitLog;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -33,8 +36,10 @@ import java.util.Collections;
 import static com.jayway.restassured.RestAssured.given;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Felix Chapman
@@ -44,13 +49,16 @@ public class CommitLogControllerTest {
     private static final Keyspace keyspace = Keyspace.of("myks");
     private static final CommitLog commitLog = CommitLog.create(keyspace, Collections.emptyMap(), Collections.emptyMap());
     private static final PostProcessor postProcessor = mock(PostProcessor.class);
+    private static final EngineGraknTxFactory factory = mock(EngineGraknTxFactory.class);
+    private static final EmbeddedGraknSession session = mock(EmbeddedGraknSession.class);
 
     @Rule
-    public final SparkContext sparkContext = SparkContext.withControllers(new CommitLogController(postProcessor));
+    public final SparkContext sparkContext = SparkContext.withControllers(new CommitLogController(factory, postProcessor));
 
     @Before
     public void resetMock(){
-        reset(postProcessor);
+        reset(postProcessor, factory, session);
+        when(factory.session(keyspace)).thenReturn(session);
     }
 
     @Test
@@ -63,4 +71,21 @@ public class CommitLogControllerTest {
         given().body(mapper.writeValueAsString(commitLog)).post("/kb/" + keyspace.getValue() +"/commit_log");
         verify(postProcessor, Mockito.times(1)).submit(commitLog);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenPostingANonEmptyCommitLog_TellTheSessionOfTheKeyspaceAboutTheCommit() throws JsonProcessingException {
+        CommitLog nonEmpty = CommitLog.create(
+                keyspace, Collections.singletonMap(ConceptId.of("V123"), 1L), Collections.emptyMap());
+
+        given().body(mapper.writeValueAsString(nonEmpty)).post("/kb/" + keyspace.getValue() +"/commit_log");
+
+        verify(session).committedElsewhere();
+    }
+
+    @Test
+    public void whenPostingAnEmptyCommitLog_DoNotTellTheSessionOfTheKeyspaceAboutACommit() throws JsonProcessingException {
+        given().body(mapper.writeValueAsString(commitLog)).post("/kb/" + keyspace.getValue() +"/commit_log");
+
+        verify(session, never()).committedElsewhere();
+    }
+}
@@ -18,6 +18,7 @@
 
 package ai.grakn.engine.controller;
 
+import ai.grakn.GraknTxType;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.GraknConfig;
 import ai.grakn.engine.GraknKeyspaceStoreFake;
@@ -28,6 +29,8 @@ import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.engine.task.postprocessing.PostProcessor;
 import ai.grakn.engine.printer.JacksonPrinter;
+import ai.grakn.exception.TemporaryWriteException;
+import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.Query;
 import ai.grakn.test.kbs.GenealogyKB;
 import ai.grakn.test.kbs.MovieKB;
@@ -37,6 +40,7 @@ import ai.grakn.util.Schema;
 import com.codahale.metrics.MetricRegistry;
 import com.jayway.restassured.RestAssured;
 import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.RequestSpecification;
 import mjson.Json;
 import org.apache.commons.lang.StringUtils;
 import org.junit.Assert;
@@ -47,20 +51,28 @@ import org.junit.rules.RuleChain;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static ai.grakn.graql.Graql.var;
 import static ai.grakn.util.REST.Request.Graql.ALLOW_MULTIPLE_QUERIES;
+import static ai.grakn.util.REST.Request.Graql.CHUNK_SIZE;
+import static ai.grakn.util.REST.Request.Graql.CURSOR;
 import static ai.grakn.util.REST.Request.Graql.DEFINE_ALL_VARS;
 import static ai.grakn.util.REST.Request.Graql.EXECUTE_WITH_INFERENCE;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
+import static ai.grakn.util.REST.Request.Graql.TX_TYPE;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_TEXT;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 public class GraqlControllerTest {
@@ -89,6 +101,18 @@ public class GraqlControllerTest {
                 .post(REST.resolveTemplate(REST.WebPath.KEYSPACE_GRAQL, keyspace));
     }
 
+    private Response sendChunkedQuery(String query, Object chunkSize) {
+        return sendChunkedQuery(query, chunkSize, RestAssured.with());
+    }
+
+    private Response sendChunkedQuery(String query, Object chunkSize, RequestSpecification request) {
+        return request
+                .body(query)
+                .queryParam(CHUNK_SIZE, chunkSize)
+                .accept(APPLICATION_JSON)
+                .post(REST.resolveTemplate(REST.WebPath.KEYSPACE_GRAQL, sampleKB.tx().keyspace().getValue()));
+    }
+
     private Response sendExplanationQuery(String query, String keyspace) {
         return RestAssured.with()
                 .queryParam(QUERY, query)
@@ -101,9 +125,10 @@ public class GraqlControllerTest {
 
     public static SampleKBContext genealogyKB = GenealogyKB.context();
 
+    private static EngineGraknTxFactory factory;
+
     public static SparkContext sparkContext = SparkContext.withControllers((spark, config) -> {
-        EngineGraknTxFactory factory = EngineGraknTxFactory
-                .create(mockLockProvider, GraknConfig.create(), GraknKeyspaceStoreFake.of());
+        factory = spy(EngineGraknTxFactory.create(mockLockProvider, GraknConfig.create(), GraknKeyspaceStoreFake.of()));
         factory.keyspaceStore().loadSystemSchema();
         new GraqlController(factory, mock(PostProcessor.class), printer, new MetricRegistry()).start(spark);
     });
@@ -193,6 +218,117 @@ public class GraqlControllerTest {
         assertEquals(Json.nil(), Json.read(resp.asString()));
     }
 
+    @Test
+    public void whenRunningChunkedQueries_ApplyThemToEveryAnswerAndReturnTheNumberCommitted() {
+        String movies = "match $x isa movie, has title \"chunked\";";
+        sendQuery("insert $a isa movie, has title \"chunked\"; $b isa movie, has title \"chunked\"; " +
+                "$c isa movie, has title \"chunked\";").then().statusCode(200);
+
+        Response resp = sendChunkedQuery(movies + " insert $x has tmdb-vote-count 7;", 2);
+        resp.then().statusCode(200);
+        assertEquals(3, Json.read(resp.asString()).at(REST.Response.COMMITTED).asInteger());
+
+        sampleKB.rollback();
+        assertEquals(3L, sampleKB.tx().graql().<AggregateQuery<Long>>parse(
+                movies + " $x has tmdb-vote-count 7; aggregate count;").execute().longValue());
+
+        resp = sendChunkedQuery(movies + " delete $x;", 2);
+        resp.then().statusCode(200);
+        assertEquals(3, Json.read(resp.asString()).at(REST.Response.COMMITTED).asInteger());
+
+        sampleKB.rollback();
+        assertEquals(0L, sampleKB.tx().graql().<AggregateQuery<Long>>parse(movies + " aggregate count;").execute().longValue());
+
+        sendQuery("match $x isa title val \"chunked\"; delete $x;").then().statusCode(200);
+        sendQuery("match $x isa tmdb-vote-count val 7; delete $x;").then().statusCode(200);
+    }
+
+    @Test
+    public void whenAChunkFailsWithATemporaryWriteException_CommittedChunksAreNotAppliedAgain() {
+        String movies = "match $x isa movie, has title \"retried\";";
+        String actors = "match $y isa person, has name \"retried\";";
+        sendQuery("insert $a isa movie, has title \"retried\"; $b isa movie, has title \"retried\"; " +
+                "$c isa movie, has title \"retried\";").then().statusCode(200);
+
+        try {
+            // The second chunk fails the first time, after the first chunk was committed
+            failSecondWriteTx();
+            Response resp = sendChunkedQuery(movies +
+                    " insert (production-with-cast: $x, actor: $y) isa has-cast; $y isa person, has name \"retried\";", 2);
+            resp.then().statusCode(200);
+            assertEquals(3, Json.read(resp.asString()).at(REST.Response.COMMITTED).asInteger());
+
+            sampleKB.rollback();
+            assertEquals(3L, sampleKB.tx().graql().<AggregateQuery<Long>>parse(actors + " aggregate count;").execute().longValue());
+
+            failSecondWriteTx();
+            resp = sendChunkedQuery(movies + " delete $x;", 2);
+            resp.then().statusCode(200);
+            assertEquals(3, Json.read(resp.asString()).at(REST.Response.COMMITTED).asInteger());
+
+            sampleKB.rollback();
+            assertEquals(0L, sampleKB.tx().graql().<AggregateQuery<Long>>parse(movies + " aggregate count;").execute().longValue());
+        } finally {
+            reset(factory);
+            sendQuery("match $r (actor: $y) isa has-cast; $y has name \"retried\"; delete $r;").then().statusCode(200);
+            sendQuery(actors + " delete $y;").then().statusCode(200);
+            sendQuery("match $x isa name val \"retried\"; delete $x;").then().statusCode(200);
+            sendQuery(movies + " delete $x;").then().statusCode(200);
+            sendQuery("match $x isa title val \"retried\"; delete $x;").then().statusCode(200);
+        }
+    }
+
+    private static void failSecondWriteTx() {
+        reset(factory);
+        AtomicInteger writeTxs = new AtomicInteger(0);
+        doAnswer(invocation -> {
+            if (writeTxs.incrementAndGet() == 2) throw TemporaryWriteException.temporaryLock(new Exception());
+            return invocation.callRealMethod();
+        }).when(factory).tx(any(), eq(GraknTxType.WRITE));
+    }
+
+    @Test
+    public void whenResumingAChunkedQueryFromItsCursor_CommittedAnswersAreNotAppliedAgain() {
+        String movies = "match $x isa movie, has title \"resumed\";";
+        sendQuery("insert $a isa movie, has title \"resumed\"; $b isa movie, has title \"resumed\";").then().statusCode(200);
+        String query = movies + " insert $x has tmdb-vote-count 8;";
+
+        try {
+            Response resp = sendChunkedQuery(query, 1);
+            resp.then().statusCode(200);
+            Json result = Json.read(resp.asString());
+            assertEquals(2, result.at(REST.Response.COMMITTED).asInteger());
+
+            resp = sendChunkedQuery(query, 1, RestAssured.with().queryParam(CURSOR, result.at(REST.Response.CURSOR).asString()));
+            resp.then().statusCode(200);
+            assertEquals(0, Json.read(resp.asString()).at(REST.Response.COMMITTED).asInteger());
+
+            sampleKB.rollback();
+            assertEquals(2L, sampleKB.tx().graql().<AggregateQuery<Long>>parse(
+                    "match $v isa tmdb-vote-count val 8; $x has tmdb-vote-count $v; aggregate count;").execute().longValue());
+        } finally {
+            sendQuery(movies + " delete $x;").then().statusCode(200);
+            sendQuery("match $x isa title val \"resumed\"; delete $x;").then().statusCode(200);
+            sendQuery("match $x isa tmdb-vote-count val 8; delete $x;").then().statusCode(200);
+        }
+    }
+
+    @Test
+    public void whenRunningAChunkedQueryInAReadTransactionOrWithAnInvalidCursor_Ensure400IsReturned() {
+        String query = "match $x isa movie, has title \"not chunked\"; delete $x;";
+        sendChunkedQuery(query, 2, RestAssured.with().queryParam(TX_TYPE, GraknTxType.READ)).then().statusCode(400);
+        sendChunkedQuery(query, 2, RestAssured.with().queryParam(CURSOR, "[\"V1\", \"V2\"]")).then().statusCode(400);
+        sendChunkedQuery(query, 2, RestAssured.with().queryParam(CURSOR, "V1")).then().statusCode(400);
+    }
+
+    @Test
+    public void whenChunkSizeIsNotAPositiveNumber_Ensure400IsReturned() {
+        String query = "match $x isa movie, has title \"not chunked\"; delete $x;";
+        sendChunkedQuery(query, 0).then().statusCode(400);
+        sendChunkedQuery(query, -1).then().statusCode(400);
+        sendChunkedQuery(query, "two").then().statusCode(400);
+    }
+
     @Test
     public void whenRunningAggregateQuery_JsonResponseIsTheSameAsJava() {
         assertResponseMatchesExpectedObject("match $x isa movie; aggregate count;");
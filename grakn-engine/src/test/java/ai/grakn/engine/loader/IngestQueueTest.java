@@ -0,0 +1,187 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.loader;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTxType;
+import ai.grakn.engine.GraknConfig;
+import ai.grakn.engine.GraknKeyspaceStoreFake;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.lock.LockProvider;
+import ai.grakn.engine.task.postprocessing.PostProcessor;
+import ai.grakn.exception.GraknServerException;
+import ai.grakn.exception.TemporaryWriteException;
+import ai.grakn.graql.AggregateQuery;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.test.kbs.MovieKB;
+import ai.grakn.test.rule.SampleKBContext;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import static org.apache.http.HttpStatus.SC_REQUEST_TOO_LONG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IngestQueueTest {
+    private static final LockProvider mockLockProvider = mock(LockProvider.class);
+
+    @ClassRule
+    public static final SampleKBContext sampleKB = MovieKB.context();
+
+    private EngineGraknTxFactory factory;
+    private IngestQueue ingestQueue;
+
+    @Before
+    public void setUp() {
+        when(mockLockProvider.getLock(any())).thenReturn(mock(Lock.class));
+        factory = spy(EngineGraknTxFactory.create(mockLockProvider, GraknConfig.create(), GraknKeyspaceStoreFake.of()));
+        factory.keyspaceStore().loadSystemSchema();
+        ingestQueue = IngestQueue.create(GraknConfig.create(), factory, mock(PostProcessor.class), new MetricRegistry());
+    }
+
+    private void recreateQueue(GraknConfigKey<Integer> key, int value) throws InterruptedException {
+        ingestQueue.close();
+        GraknConfig config = GraknConfig.create();
+        config.setConfigProperty(key, value);
+        ingestQueue = IngestQueue.create(config, factory, mock(PostProcessor.class), new MetricRegistry());
+    }
+
+    @After
+    public void closeQueue() throws InterruptedException {
+        ingestQueue.close();
+    }
+
+    @Test
+    public void whenIngestingQueries_AllOfThemAreCommitted() throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(ingest("insert $x isa movie, has title \"ingested together " + i + "\";"));
+        }
+        for (CompletableFuture<Void> future : futures) {
+            future.get();
+        }
+
+        assertEquals(20L, countMovies("ingested together"));
+    }
+
+    @Test
+    public void whenAnIngestedQueryFails_OnlyItsFutureFails() throws Exception {
+        CompletableFuture<Void> first = ingest("insert $x isa movie, has title \"ingested despite failure\";");
+        CompletableFuture<Void> failing = ingest("insert $x isa not-a-type;");
+        CompletableFuture<Void> last = ingest("insert $x isa movie, has title \"also ingested despite failure\";");
+
+        first.get();
+        last.get();
+        try {
+            failing.get();
+            fail("Expected the query inserting an instance of an undefined type to fail");
+        } catch (ExecutionException e) {
+            assertTrue(failing.isCompletedExceptionally());
+        }
+
+        assertEquals(2L, countMovies("ingested despite failure"));
+    }
+
+    @Test
+    public void whenSubmittingMoreQueriesThanTheQueueHolds_NoneOfThemAreQueued() throws Exception {
+        recreateQueue(GraknConfigKey.INGEST_QUEUE_SIZE, 2);
+
+        List<InsertQuery> queries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queries.add(Graql.<InsertQuery>parse("insert $x isa movie, has title \"too many to ingest " + i + "\";"));
+        }
+
+        try {
+            ingestQueue.submit(sampleKB.tx().keyspace(), queries);
+            fail("Expected more queries than the queue holds to be rejected");
+        } catch (GraknServerException e) {
+            assertEquals(SC_REQUEST_TOO_LONG, e.getStatus());
+        }
+
+        assertEquals(0L, countMovies("too many to ingest"));
+    }
+
+    @Test
+    public void whenAGroupFailsTemporarily_TheWholeGroupIsRetried() throws Exception {
+        recreateQueue(GraknConfigKey.INGEST_WRITERS, 1);
+
+        AtomicInteger batchTxs = new AtomicInteger(0);
+        doAnswer(invocation -> {
+            if (batchTxs.incrementAndGet() == 1) throw TemporaryWriteException.temporaryLock(new Exception());
+            return invocation.callRealMethod();
+        }).when(factory).tx(any(), eq(GraknTxType.BATCH));
+
+        List<InsertQuery> queries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queries.add(Graql.<InsertQuery>parse("insert $x isa movie, has title \"retried together " + i + "\";"));
+        }
+        for (CompletableFuture<Void> future : ingestQueue.submit(sampleKB.tx().keyspace(), queries)) {
+            future.get();
+        }
+
+        assertEquals(3L, countMovies("retried together"));
+        // One transaction failed and one wrote the whole group, rather than splitting it
+        verify(factory, times(2)).tx(any(), eq(GraknTxType.BATCH));
+    }
+
+    @Test
+    public void whenTheWritersShareOneThread_AllQueriesAreCommitted() throws Exception {
+        recreateQueue(GraknConfigKey.INGEST_THREADS, 1);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(ingest("insert $x isa movie, has title \"ingested on one thread " + i + "\";"));
+        }
+        for (CompletableFuture<Void> future : futures) {
+            future.get();
+        }
+
+        assertEquals(20L, countMovies("ingested on one thread"));
+    }
+
+    private CompletableFuture<Void> ingest(String query) throws InterruptedException {
+        return ingestQueue.submit(sampleKB.tx().keyspace(), Graql.<InsertQuery>parse(query));
+    }
+
+    private long countMovies(String titleContaining) {
+        sampleKB.rollback();
+        return sampleKB.tx().graql().<AggregateQuery<Long>>parse("match $x isa movie, has title $t; " +
+                "$t val contains \"" + titleContaining + "\"; aggregate count;").execute();
+    }
+}
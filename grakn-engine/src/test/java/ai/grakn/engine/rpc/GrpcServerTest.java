@@ -35,9 +35,11 @@ import ai.grakn.exception.GraqlSyntaxException;
 import ai.grakn.graql.DeleteQuery;
 import ai.grakn.graql.GetQuery;
 import ai.grakn.graql.Graql;
+import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.analytics.CountQuery;
+import ai.grakn.graql.analytics.DegreeQuery;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.grpc.ConceptMethod;
 import ai.grakn.grpc.ConceptMethods;
@@ -64,11 +66,13 @@ import ai.grakn.rpc.generated.GrpcGrakn.TxType;
 import ai.grakn.rpc.generated.GrpcIterator.IteratorId;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
 import io.grpc.Status;
+import mjson.Json;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -77,7 +81,13 @@ import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -118,6 +128,7 @@ public class GrpcServerTest {
     private static final int PORT = 5555;
     private static final Keyspace MYKS = Keyspace.of("myks");
     private static final String QUERY = "match $x isa person; get;";
+    private static final String INSERT_QUERY = "insert $x isa person; $y isa person;";
     private static final GrpcConcept.ConceptId V123 =
             GrpcConcept.ConceptId.newBuilder().setValue("V123").build();
     private static final GrpcConcept.ConceptId V456 =
@@ -392,6 +403,74 @@ public class GrpcServerTest {
         }
     }
 
+    @Test
+    public void whenExecutingAnInsertRemotely_ItIsExecutedAsItsResultsAreRequested() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        mockInsertQuery(executed);
+
+        try (TxGrpcCommunicator tx = TxGrpcCommunicator.create(stub)) {
+            tx.send(openRequest(MYKS, GraknTxType.WRITE));
+            tx.receive();
+
+            tx.send(execQueryRequest(INSERT_QUERY, null));
+            IteratorId iterator = tx.receive().ok().getIteratorId();
+            assertEquals(0, executed.get());
+
+            tx.send(nextRequest(iterator));
+            tx.receive().ok();
+            assertEquals(1, executed.get());
+        }
+    }
+
+    @Test
+    public void whenARequestFollowsAnInsertBeforeAllItsResultsAreRequested_TheInsertIsExecutedFirst()
+            throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        mockInsertQuery(executed);
+
+        AtomicInteger executedBeforeCommit = new AtomicInteger(-1);
+        doAnswer(params -> {
+            executedBeforeCommit.set(executed.get());
+            return Optional.empty();
+        }).when(tx).commitSubmitNoLogs();
+
+        try (TxGrpcCommunicator tx = TxGrpcCommunicator.create(stub)) {
+            tx.send(openRequest(MYKS, GraknTxType.WRITE));
+            tx.receive();
+
+            tx.send(execQueryRequest(INSERT_QUERY, null));
+            IteratorId iterator = tx.receive().ok().getIteratorId();
+
+            tx.send(commitRequest());
+            tx.receive().ok();
+            assertEquals(2, executedBeforeCommit.get());
+
+            // The results of the insert are still returned
+            tx.send(nextRequest(iterator));
+            assertTrue(tx.receive().ok().hasQueryResult());
+            tx.send(nextRequest(iterator));
+            assertTrue(tx.receive().ok().hasQueryResult());
+            tx.send(nextRequest(iterator));
+            assertEquals(doneResponse(), tx.receive().ok());
+        }
+    }
+
+    private void mockInsertQuery(AtomicInteger executed) {
+        Concept concept = mock(Concept.class, RETURNS_DEEP_STUBS);
+        when(concept.getId()).thenReturn(ConceptId.of("V123"));
+        when(concept.isEntity()).thenReturn(true);
+        when(concept.asEntity().type().getLabel()).thenReturn(Label.of("L123"));
+
+        ImmutableList<Answer> answers = ImmutableList.of(
+                new QueryAnswer(ImmutableMap.of(Graql.var("x"), concept)),
+                new QueryAnswer(ImmutableMap.of(Graql.var("y"), concept))
+        );
+
+        InsertQuery insertQuery = mock(InsertQuery.class);
+        when(tx.graql().parse(INSERT_QUERY)).thenReturn(insertQuery);
+        when(insertQuery.stream()).thenAnswer(params -> answers.stream().peek(answer -> executed.incrementAndGet()));
+    }
+
     @Test
     public void whenExecutingAQueryRemotelyThatReturnsOneResult_ReturnOneResult() throws InterruptedException {
         String COUNT_QUERY = "compute count;";
@@ -413,6 +492,77 @@ public class GrpcServerTest {
         }
     }
 
+    @Test
+    public void whenExecutingAComputeQueryRemotelyWithALargeResult_StreamTheResultInChunks()
+            throws InterruptedException {
+        String DEGREE_QUERY = "compute degree;";
+        DegreeQuery degreeQuery = mock(DegreeQuery.class);
+        when(tx.graql().parse(DEGREE_QUERY)).thenReturn(degreeQuery);
+
+        Map<Long, Set<String>> degrees = new HashMap<>();
+        for (long degree = 0; degree <= GrpcConverter.CHUNK_SIZE; degree++) {
+            degrees.put(degree, ImmutableSet.of("V" + degree));
+        }
+        when(degreeQuery.execute()).thenReturn(degrees);
+
+        try (TxGrpcCommunicator tx = TxGrpcCommunicator.create(stub)) {
+            tx.send(openRequest(MYKS, GraknTxType.WRITE));
+            tx.receive();
+
+            tx.send(execQueryRequest(DEGREE_QUERY, null));
+            IteratorId iterator = tx.receive().ok().getIteratorId();
+
+            tx.send(nextRequest(iterator));
+            String chunk1 = tx.receive().ok().getQueryResult().getOtherResult();
+            assertEquals(GrpcConverter.CHUNK_SIZE, Json.read(chunk1).asJsonMap().size());
+
+            tx.send(nextRequest(iterator));
+            String chunk2 = tx.receive().ok().getQueryResult().getOtherResult();
+            assertEquals(1, Json.read(chunk2).asJsonMap().size());
+
+            tx.send(nextRequest(iterator));
+            assertEquals(doneResponse(), tx.receive().ok());
+        }
+    }
+
+    @Test
+    public void whenExecutingAComputeQueryRemotelyWithALargeValue_SplitTheValueBetweenChunks()
+            throws InterruptedException {
+        String DEGREE_QUERY = "compute degree;";
+        DegreeQuery degreeQuery = mock(DegreeQuery.class);
+        when(tx.graql().parse(DEGREE_QUERY)).thenReturn(degreeQuery);
+
+        Set<String> ids = new HashSet<>();
+        for (long id = 0; id <= GrpcConverter.CHUNK_SIZE; id++) {
+            ids.add("V" + id);
+        }
+        when(degreeQuery.execute()).thenReturn(ImmutableMap.of(1L, ids));
+
+        try (TxGrpcCommunicator tx = TxGrpcCommunicator.create(stub)) {
+            tx.send(openRequest(MYKS, GraknTxType.WRITE));
+            tx.receive();
+
+            tx.send(execQueryRequest(DEGREE_QUERY, null));
+            IteratorId iterator = tx.receive().ok().getIteratorId();
+
+            tx.send(nextRequest(iterator));
+            Json chunk1 = Json.read(tx.receive().ok().getQueryResult().getOtherResult());
+            assertEquals(GrpcConverter.CHUNK_SIZE, chunk1.at("1").asJsonList().size());
+
+            tx.send(nextRequest(iterator));
+            Json chunk2 = Json.read(tx.receive().ok().getQueryResult().getOtherResult());
+            assertEquals(1, chunk2.at("1").asJsonList().size());
+
+            Set<String> received = new HashSet<>();
+            chunk1.at("1").asJsonList().forEach(id -> received.add(id.asString()));
+            chunk2.at("1").asJsonList().forEach(id -> received.add(id.asString()));
+            assertEquals(ids, received);
+
+            tx.send(nextRequest(iterator));
+            assertEquals(doneResponse(), tx.receive().ok());
+        }
+    }
+
     @Test
     public void whenExecutingAQueryRemotelyWithNoResult_ReturnDone() throws InterruptedException {
         String DELETE_QUERY = "match $x isa person; delete $x";
@@ -0,0 +1,88 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.engine.task.postprocessing;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class IncrementalAnalyticsStateTest {
+    private IncrementalAnalyticsState state;
+
+    @Before
+    public void setUp(){
+        state = new IncrementalAnalyticsState(ImmutableSet.of("person", "friendship"));
+        state.addThing("a");
+        state.addThing("b");
+        state.addThing("c");
+        state.addThing("d");
+        state.addRolePlayer("r1", "a");
+        state.addRolePlayer("r1", "b");
+        state.addRolePlayer("r2", "b");
+        state.addRolePlayer("r2", "c");
+    }
+
+    @Test
+    public void whenAddingRolePlayers_DegreesCountTheRelationshipsOfEachRolePlayer(){
+        assertEquals(ImmutableMap.of(
+                1L, ImmutableSet.of("a", "c"),
+                2L, ImmutableSet.of("b")), state.degrees());
+    }
+
+    @Test
+    public void whenAddingRolePlayers_ClustersAreLabelledByTheirLargestId(){
+        assertEquals(ImmutableMap.of(
+                "r2", ImmutableSet.of("a", "b", "c", "r1", "r2"),
+                "d", ImmutableSet.of("d")), state.clusters());
+    }
+
+    @Test
+    public void whenACommitAlreadyReadByTheInitialBuildIsApplied_DegreesAreUnchanged(){
+        // The results above were built after r1 was committed, its commit log is applied afterwards
+        state.addRolePlayer("r1", "a", 1);
+        state.addRolePlayer("r1", "b", 1);
+
+        assertEquals(ImmutableMap.of(
+                1L, ImmutableSet.of("a", "c"),
+                2L, ImmutableSet.of("b")), state.degrees());
+    }
+
+    @Test
+    public void whenARolePlayerPlaysSeveralRoles_EachRoleCountsTowardsItsDegreeOnce(){
+        state.addRolePlayer("r3", "d", 2);
+        state.addRolePlayer("r3", "d", 2);
+
+        assertEquals(ImmutableSet.of("b", "d"), state.degrees().get(2L));
+    }
+
+    @Test
+    public void whenRemovingComponents_OtherComponentsAreUnchanged(){
+        state.removeComponents(state.components(Arrays.asList("a")));
+
+        assertFalse(state.contains("b"));
+        assertEquals(ImmutableMap.of("d", ImmutableSet.of("d")), state.clusters());
+        assertEquals(ImmutableMap.of(), state.degrees());
+    }
+}
@@ -24,6 +24,7 @@ import ai.grakn.kb.internal.GraknTxJanus;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
@@ -38,19 +39,23 @@ import org.janusgraph.core.Namifiable;
 import org.janusgraph.core.PropertyKey;
 import org.janusgraph.core.RelationType;
 import org.janusgraph.core.VertexLabel;
+import org.janusgraph.core.schema.ConsistencyModifier;
 import org.janusgraph.core.schema.JanusGraphIndex;
 import org.janusgraph.core.schema.JanusGraphManagement;
+import org.janusgraph.diskstorage.configuration.backend.KCVSConfiguration;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
 import org.janusgraph.graphdb.transaction.StandardJanusGraphTx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -111,6 +116,15 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
     //This maps the storage backend to the needed value
     private static final Map<String, String> storageBackendMapper = ImmutableMap.of("grakn-production", "cassandra");
 
+    //Unique indices which are locked when committing, so concurrent transactions cannot both commit the same value.
+    //Attributes are unique by their index, locking it stops concurrent transactions creating duplicate attributes.
+    private static final Set<String> LOCKED_INDICES = ImmutableSet.of(Schema.VertexProperty.INDEX.name());
+
+    //Key of the global Janus configuration under which the version of the storage schema is persisted, once the
+    //labels, property keys and indices of that version have been built
+    private static final String STORAGE_SCHEMA_VERSION_KEY = "grakn.storage-schema-version";
+    static final String STORAGE_SCHEMA_VERSION = storageSchemaVersion();
+
     TxFactoryJanus(EmbeddedGraknSession session) {
         super(session);
     }
@@ -184,9 +198,12 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
     }
 
 
-    private static void buildJanusIndexes(JanusGraph graph) {
-        JanusGraphManagement management = graph.openManagement();
+    static void buildJanusIndexes(JanusGraph graph) {
+        //The storage schema only needs to be checked when it has changed since the graph was last opened
+        if (STORAGE_SCHEMA_VERSION.equals(storedStorageSchemaVersion(graph))) return;
 
+        LOG.debug("Building storage schema {}", STORAGE_SCHEMA_VERSION);
+        JanusGraphManagement management = graph.openManagement();
         makeVertexLabels(management);
         makeEdgeLabels(management);
         makePropertyKeys(management);
@@ -195,6 +212,49 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
         makeIndicesComposite(management);
 
         management.commit();
+
+        //The version is only stored once the schema is complete, replacing the version the graph was built with before
+        storeStorageSchemaVersion(graph, STORAGE_SCHEMA_VERSION);
+    }
+
+    /**
+     * @return the version of the storage schema the graph was last built with, or null if it has never been stored
+     */
+    @Nullable
+    static String storedStorageSchemaVersion(JanusGraph graph) {
+        return globalConfig(graph).get(STORAGE_SCHEMA_VERSION_KEY, String.class);
+    }
+
+    static void storeStorageSchemaVersion(JanusGraph graph, String version) {
+        globalConfig(graph).set(STORAGE_SCHEMA_VERSION_KEY, version);
+    }
+
+    private static KCVSConfiguration globalConfig(JanusGraph graph) {
+        return ((StandardJanusGraph) graph).getBackend().getGlobalSystemConfig();
+    }
+
+    /**
+     * Computes a version of the storage schema from everything {@link #buildJanusIndexes(JanusGraph)} creates,
+     * so any change to the labels, property keys or indices results in a new version.
+     *
+     * @return a version uniquely identifying the current storage schema
+     */
+    private static String storageSchemaVersion() {
+        Set<String> schema = new TreeSet<>();
+        stream(Schema.BaseType.values()).forEach(baseType -> schema.add("vertex:" + baseType.name()));
+        stream(Schema.EdgeLabel.values()).forEach(edgeLabel -> schema.add("edge:" + edgeLabel.getLabel()));
+        stream(Schema.VertexProperty.values()).forEach(property ->
+                schema.add("property:" + property.name() + ":" + property.getDataType().getName()));
+        stream(Schema.EdgeProperty.values()).forEach(property ->
+                schema.add("property:" + property.name() + ":" + property.getDataType().getName()));
+
+        ResourceBundle edgeIndices = ResourceBundle.getBundle("indices-edges");
+        edgeIndices.keySet().forEach(key -> schema.add("edge-index:" + key + ":" + edgeIndices.getString(key)));
+        ResourceBundle compositeIndices = ResourceBundle.getBundle("indices-composite");
+        compositeIndices.keySet().forEach(key -> schema.add("composite-index:" + key + ":" + compositeIndices.getString(key)));
+        LOCKED_INDICES.forEach(key -> schema.add("locked-index:" + key));
+
+        return Integer.toHexString(String.join(",", schema).hashCode());
     }
 
     private static void makeEdgeLabels(JanusGraphManagement management){
@@ -278,7 +338,12 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
                 if (isUnique) {
                     indexBuilder.unique();
                 }
-                indexBuilder.buildCompositeIndex();
+                index = indexBuilder.buildCompositeIndex();
+            }
+
+            //Graphs built before the index was locked are locked when their storage schema is next checked
+            if (LOCKED_INDICES.contains(propertyKeyLabel) && management.getConsistency(index) != ConsistencyModifier.LOCK) {
+                management.setConsistency(index, ConsistencyModifier.LOCK);
             }
         }
     }
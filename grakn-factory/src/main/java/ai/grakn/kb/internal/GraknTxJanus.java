@@ -27,14 +27,19 @@ import ai.grakn.factory.EmbeddedGraknSession;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphElement;
 import org.janusgraph.core.JanusGraphException;
+import org.janusgraph.core.JanusGraphVertex;
 import org.janusgraph.core.util.JanusGraphCleanup;
 import org.janusgraph.diskstorage.locking.PermanentLockingException;
 import org.janusgraph.diskstorage.locking.TemporaryLockingException;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
@@ -108,6 +113,17 @@ public class GraknTxJanus extends EmbeddedGraknTx<JanusGraph> {
         }
     }
 
+    @Override
+    public void prefetchProperties(Collection<Vertex> vertices) {
+        if (vertices.isEmpty()) return;
+
+        List<JanusGraphVertex> janusVertices = new ArrayList<>(vertices.size());
+        vertices.forEach(vertex -> janusVertices.add((JanusGraphVertex) vertex));
+
+        //Loads the properties of all the vertices with one multi-query instead of one query per vertex
+        getTinkerPopGraph().multiQuery(janusVertices).properties();
+    }
+
     @Override
     public boolean isValidElement(Element element) {
         return super.isValidElement(element) && !((JanusGraphElement) element).isRemoved();
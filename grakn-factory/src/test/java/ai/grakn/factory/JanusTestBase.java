@@ -21,6 +21,10 @@ package ai.grakn.factory;
 import ai.grakn.Grakn;
 import ai.grakn.Keyspace;
 import ai.grakn.engine.GraknConfig;
+import ai.grakn.kb.internal.cache.AttributeIdentities;
+import ai.grakn.kb.internal.cache.CommitWatermarks;
+import ai.grakn.kb.internal.cache.SharedAnswers;
+import ai.grakn.kb.internal.computer.GraphSnapshots;
 import ai.grakn.kb.internal.log.CommitLogHandler;
 import ai.grakn.test.rule.EmbeddedCassandraContext;
 import org.junit.BeforeClass;
@@ -55,6 +59,10 @@ public abstract class JanusTestBase {
         when(session.uri()).thenReturn(Grakn.IN_MEMORY);
         when(session.config()).thenReturn(TEST_CONFIG);
         when(session.commitLogHandler()).thenReturn(commitLogHandler);
+        when(session.graphSnapshots()).thenReturn(new GraphSnapshots(TEST_SHARED));
+        when(session.commitWatermarks()).thenReturn(new CommitWatermarks());
+        when(session.sharedAnswers()).thenReturn(new SharedAnswers());
+        when(session.attributeIdentities()).thenReturn(new AttributeIdentities());
         janusGraphFactory = new TxFactoryJanus(session);
     }
 
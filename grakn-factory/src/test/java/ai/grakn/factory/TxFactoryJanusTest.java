@@ -27,6 +27,8 @@ import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphFactory;
+import org.janusgraph.core.schema.ConsistencyModifier;
 import org.janusgraph.core.schema.JanusGraphManagement;
 import org.janusgraph.graphdb.database.StandardJanusGraph;
 import org.junit.BeforeClass;
@@ -49,6 +51,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
@@ -82,6 +85,10 @@ public class TxFactoryJanusTest extends JanusTestBase {
         assertEquals(byValueDouble, management.getGraphIndex(byValueDouble).toString());
         assertEquals(byValueBoolean, management.getGraphIndex(byValueBoolean).toString());
 
+        //Attributes are kept unique by their index
+        assertTrue(management.getGraphIndex(byIndex).isUnique());
+        assertEquals(ConsistencyModifier.LOCK, management.getConsistency(management.getGraphIndex(byIndex)));
+
         //Text Edge Indices
         ResourceBundle keys = ResourceBundle.getBundle("indices-edges");
         Set<String> keyString = keys.keySet();
@@ -99,6 +106,38 @@ public class TxFactoryJanusTest extends JanusTestBase {
         Arrays.stream(Schema.BaseType.values()).forEach(label -> assertNotNull(management.getVertexLabel(label.name())));
     }
 
+    @Test
+    public void whenTheStorageSchemaIsUpToDate_ItIsNotBuiltAgain() {
+        JanusGraph graph = JanusGraphFactory.build().set("storage.backend", "inmemory").open();
+        TxFactoryJanus.storeStorageSchemaVersion(graph, TxFactoryJanus.STORAGE_SCHEMA_VERSION);
+
+        TxFactoryJanus.buildJanusIndexes(graph);
+
+        JanusGraphManagement management = graph.openManagement();
+        assertNull(management.getPropertyKey(Schema.VertexProperty.ID.name()));
+        management.rollback();
+        graph.close();
+    }
+
+    @Test
+    public void whenTheStorageSchemaIsOutdated_ItIsBuiltAndTheVersionIsReplaced() {
+        JanusGraph graph = JanusGraphFactory.build().set("storage.backend", "inmemory").open();
+        TxFactoryJanus.storeStorageSchemaVersion(graph, "outdated");
+
+        TxFactoryJanus.buildJanusIndexes(graph);
+
+        JanusGraphManagement management = graph.openManagement();
+        assertNotNull(management.getPropertyKey(Schema.VertexProperty.ID.name()));
+        management.rollback();
+        assertEquals(TxFactoryJanus.STORAGE_SCHEMA_VERSION, TxFactoryJanus.storedStorageSchemaVersion(graph));
+        graph.close();
+    }
+
+    @Test
+    public void whenAGraphIsOpened_TheCurrentStorageSchemaVersionIsStored() {
+        assertEquals(TxFactoryJanus.STORAGE_SCHEMA_VERSION, TxFactoryJanus.storedStorageSchemaVersion(sharedGraph));
+    }
+
     @Test
     public void testSingleton(){
         when(session.keyspace()).thenReturn(Keyspace.of("anothertest"));
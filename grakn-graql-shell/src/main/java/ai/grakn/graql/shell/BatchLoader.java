@@ -21,18 +21,28 @@ package ai.grakn.graql.shell;
 import ai.grakn.Keyspace;
 import ai.grakn.client.BatchExecutorClient;
 import ai.grakn.client.GraknClient;
+import ai.grakn.graql.DefineQuery;
 import ai.grakn.graql.Graql;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.UndefineQuery;
 import ai.grakn.util.SimpleURI;
-import com.google.common.base.Charsets;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.io.Reader;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.stream.Collectors.toList;
+
 /**
  * Class for sending batch load requests from the {@link GraqlShell}.
  *
@@ -41,31 +51,83 @@ import java.util.concurrent.atomic.AtomicInteger;
 final class BatchLoader {
 
     private static final int DEFAULT_MAX_RETRY = 1;
+    private static final int CHUNK_SIZE = 1024 * 1024;
 
     static void sendBatchRequest(
             SimpleURI uri, Keyspace keyspace, Path graqlPath, PrintStream sout, PrintStream serr
     ) throws IOException {
 
         AtomicInteger queriesExecuted = new AtomicInteger(0);
+        long startTime = System.nanoTime();
+
+        int parsers = Runtime.getRuntime().availableProcessors();
+        ExecutorService parserPool = Executors.newFixedThreadPool(parsers);
 
-        try (FileInputStream inputStream = new FileInputStream(graqlPath.toFile());
-             Reader queryReader = new InputStreamReader(inputStream, Charsets.UTF_8);
-             BatchExecutorClient batchExecutorClient = loaderClient(uri)
+        try (FileChannel channel = FileChannel.open(graqlPath, StandardOpenOption.READ);
+             BatchExecutorClient batchExecutorClient = loaderClient(uri, keyspace)
         ) {
             batchExecutorClient.onNext(queryResponse -> queriesExecuted.incrementAndGet());
             batchExecutorClient.onError(serr::println);
 
-            Graql.parser().parseList(queryReader).forEach(query -> batchExecutorClient.add(query, keyspace));
+            // Chunks are parsed ahead on the pool, but a bounded number at a time and sent in the order of the file
+            Deque<Future<List<Query<?>>>> parsed = new ArrayDeque<>();
+            GraqlFileChunks chunks = GraqlFileChunks.of(channel, CHUNK_SIZE);
+
+            while (chunks.hasNext() || !parsed.isEmpty()) {
+                while (chunks.hasNext() && parsed.size() < parsers * 2) {
+                    GraqlFileChunks.Chunk chunk = chunks.next();
+                    parsed.add(parserPool.submit(() -> Graql.parser().parseList(chunk.read()).collect(toList())));
+                }
+
+                for (Query<?> query : getParsed(parsed.remove())) {
+                    send(batchExecutorClient, query, keyspace);
+                }
+            }
+        } finally {
+            parserPool.shutdownNow();
         }
 
+        double seconds = (System.nanoTime() - startTime) / 1e9;
         sout.println("Statements executed: " + queriesExecuted.get());
+        sout.println(String.format("Statements per second: %.1f", queriesExecuted.get() / seconds));
+
+    }
+
+    /**
+     * Schema changes must be seen by the queries after them, so they wait for all earlier queries to complete and
+     * complete before any later query is sent. All other queries are sent without waiting.
+     */
+    private static void send(BatchExecutorClient batchExecutorClient, Query<?> query, Keyspace keyspace) {
+        boolean changesSchema = query instanceof DefineQuery || query instanceof UndefineQuery;
 
+        if (changesSchema) batchExecutorClient.flush();
+        batchExecutorClient.add(query, keyspace);
+        if (changesSchema) batchExecutorClient.flush();
+    }
+
+    private static List<Query<?>> getParsed(Future<List<Query<?>>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
     }
 
-    private static BatchExecutorClient loaderClient(SimpleURI uri) {
+    /**
+     * Loads through the gRPC port of engine, or in batches of HTTP requests to the given URI when engine does not
+     * report a gRPC port
+     */
+    private static BatchExecutorClient loaderClient(SimpleURI uri, Keyspace keyspace) {
         return BatchExecutorClient.newBuilder()
                 .threadPoolCoreSize(Runtime.getRuntime().availableProcessors() * 8)
                 .taskClient(GraknClient.of(uri))
+                .grpcIfAvailable(keyspace)
                 .maxRetries(DEFAULT_MAX_RETRY)
                 .build();
     }
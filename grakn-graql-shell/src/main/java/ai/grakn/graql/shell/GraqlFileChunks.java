@@ -0,0 +1,247 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.shell;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ *     Splits a Graql file into chunks which each contain only whole queries, so the chunks can be parsed
+ *     independently.
+ * </p>
+ *
+ * <p>
+ *     The file is memory-mapped and scanned byte by byte. A chunk ends just before a keyword that starts a new query
+ *     ({@code match}, {@code define}, {@code undefine}, {@code compute} and {@code insert} unless it follows a
+ *     {@code match}), when it appears after a {@code ;} outside of strings, regexes, comments and disjunctions. This
+ *     works on the raw bytes because every character it looks for is ASCII, and bytes in the ASCII range never appear
+ *     inside a multi-byte UTF-8 character.
+ * </p>
+ */
+final class GraqlFileChunks implements Iterator<GraqlFileChunks.Chunk> {
+
+    private static final long WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_KEYWORD_LENGTH = 8;
+
+    private enum State {
+        CODE, WORD, DOUBLE_QUOTED, SINGLE_QUOTED, REGEX, COMMENT
+    }
+
+    private final FileChannel channel;
+    private final long size;
+    private final int targetChunkSize;
+
+    private MappedByteBuffer window = null;
+    private long windowStart = 0;
+    private long position = 0;
+    private long chunkStart = 0;
+
+    private State state = State.CODE;
+    private boolean escaped = false;
+    private int depth = 0;
+    private boolean afterSemicolon = true;
+    private boolean afterMatch = false;
+    private final StringBuilder word = new StringBuilder(MAX_KEYWORD_LENGTH);
+    private long wordStart = 0;
+
+    private GraqlFileChunks(FileChannel channel, int targetChunkSize) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.targetChunkSize = targetChunkSize;
+    }
+
+    /**
+     * @param channel         the file to split, which must remain open while the chunks are read
+     * @param targetChunkSize the size in bytes above which a chunk is ended at the next query
+     */
+    static GraqlFileChunks of(FileChannel channel, int targetChunkSize) throws IOException {
+        return new GraqlFileChunks(channel, targetChunkSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return chunkStart < size;
+    }
+
+    @Override
+    public Chunk next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        try {
+            while (position < size) {
+                long boundary = scan(read(position));
+                position++;
+                if (boundary >= 0 && boundary - chunkStart >= targetChunkSize) {
+                    return chunk(boundary);
+                }
+            }
+            return chunk(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Chunk chunk(long end) {
+        Chunk chunk = new Chunk(channel, chunkStart, (int) (end - chunkStart));
+        chunkStart = end;
+        return chunk;
+    }
+
+    private byte read(long index) throws IOException {
+        if (window == null || index >= windowStart + window.limit()) {
+            windowStart = index;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, index, Math.min(WINDOW_SIZE, size - index));
+        }
+        return window.get((int) (index - windowStart));
+    }
+
+    /**
+     * Advance the scan over the byte at {@link #position}
+     *
+     * @return the position of a query boundary which the byte reveals, or -1 if there is none
+     */
+    private long scan(byte b) {
+        switch (state) {
+            case WORD:
+                if (isWordByte(b)) {
+                    if (word.length() <= MAX_KEYWORD_LENGTH) word.append((char) b);
+                    return -1;
+                }
+                state = State.CODE;
+                long boundary = endWord();
+                scanCode(b);
+                return boundary;
+            case DOUBLE_QUOTED:
+                scanQuoted(b, '"');
+                return -1;
+            case SINGLE_QUOTED:
+                scanQuoted(b, '\'');
+                return -1;
+            case REGEX:
+                scanQuoted(b, '/');
+                return -1;
+            case COMMENT:
+                if (b == '\n') state = State.CODE;
+                return -1;
+            default:
+                scanCode(b);
+                return -1;
+        }
+    }
+
+    private void scanCode(byte b) {
+        switch (b) {
+            case ';':
+                afterSemicolon = depth == 0;
+                return;
+            case '#':
+                state = State.COMMENT;
+                return;
+            case ' ': case '\t': case '\r': case '\n':
+                return;
+            case '"':
+                state = State.DOUBLE_QUOTED;
+                break;
+            case '\'':
+                state = State.SINGLE_QUOTED;
+                break;
+            case '/':
+                state = State.REGEX;
+                break;
+            case '{':
+                depth++;
+                break;
+            case '}':
+                depth--;
+                break;
+            default:
+                if (afterSemicolon && isWordByte(b)) {
+                    state = State.WORD;
+                    word.setLength(0);
+                    word.append((char) b);
+                    wordStart = position;
+                    return;
+                }
+        }
+        afterSemicolon = false;
+    }
+
+    private void scanQuoted(byte b, char quote) {
+        if (escaped) {
+            escaped = false;
+        } else if (b == '\\') {
+            escaped = true;
+        } else if (b == quote) {
+            state = State.CODE;
+        }
+    }
+
+    private long endWord() {
+        afterSemicolon = false;
+        switch (word.toString()) {
+            case "match":
+                afterMatch = true;
+                return wordStart;
+            case "define":
+            case "undefine":
+            case "compute":
+                afterMatch = false;
+                return wordStart;
+            case "insert":
+                boolean startsQuery = !afterMatch;
+                afterMatch = false;
+                return startsQuery ? wordStart : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isWordByte(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') || b == '_' || b == '-';
+    }
+
+    /**
+     * A part of a Graql file containing only whole queries
+     */
+    static final class Chunk {
+        private final FileChannel channel;
+        private final long position;
+        private final int length;
+
+        private Chunk(FileChannel channel, long position, int length) {
+            this.channel = channel;
+            this.position = position;
+            this.length = length;
+        }
+
+        /**
+         * Decode the chunk. This may be called from any thread.
+         */
+        String read() throws IOException {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        }
+    }
+}
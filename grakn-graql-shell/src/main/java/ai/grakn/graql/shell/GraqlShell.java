@@ -43,7 +43,6 @@ import java.util.regex.Matcher;
 import java.util.stream.Stream;
 
 import static ai.grakn.util.CommonUtil.toImmutableSet;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang.StringEscapeUtils.unescapeJavaScript;
 
@@ -119,8 +118,7 @@ public class GraqlShell implements AutoCloseable {
 
 
     public static String loadQuery(Path filePath) throws IOException {
-        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
-        return lines.stream().collect(joining("\n"));
+        return new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
     }
 
     /**
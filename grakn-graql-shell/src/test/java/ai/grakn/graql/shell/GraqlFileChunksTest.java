@@ -0,0 +1,155 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.shell;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class GraqlFileChunksTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void whenEveryQueryIsLargerThanTheTargetSize_EachQueryIsInItsOwnChunk() throws IOException {
+        String first = "define person sub entity;\n";
+        String second = "insert $x isa person;\n";
+        String third = "match $x isa person; get;\n";
+        String fourth = "compute count;\n";
+
+        assertEquals(ImmutableList.of(first, second, third, fourth), chunks(first + second + third + fourth, 1));
+    }
+
+    @Test
+    public void whenTheTargetSizeIsReachedInsideAQuery_TheChunkEndsAtTheStartOfTheNextQuery() throws IOException {
+        String first = "insert $x isa person, has name \"Alice\";\n";
+        String second = "insert $y isa person, has name \"Bob\";\n";
+        String third = "insert $z isa person, has name \"Carol\";\n";
+
+        assertEquals(ImmutableList.of(first + second, third), chunks(first + second + third, first.length() + 4));
+    }
+
+    @Test
+    public void whenTheTargetSizeIsLargerThanTheFile_ThereIsOneChunk() throws IOException {
+        String queries = "insert $x isa person;\ninsert $y isa person;\n";
+
+        assertEquals(ImmutableList.of(queries), chunks(queries, 1024));
+    }
+
+    @Test
+    public void whenAMatchIsFollowedByAnInsert_TheyAreInTheSameChunk() throws IOException {
+        String first = "match $x isa person;\ninsert $y isa person;\n";
+        String second = "insert $z isa person;\n";
+
+        assertEquals(ImmutableList.of(first, second), chunks(first + second, 1));
+    }
+
+    @Test
+    public void whenStringsContainSemicolonsAndKeywords_TheyDoNotEndTheChunk() throws IOException {
+        String first = "insert $x val \"a; insert b; match c\";\n";
+        String second = "insert $y val 'd; define e';\n";
+        String third = "insert $z val \"an escaped \\\" quote; insert f\";\n";
+        String fourth = "insert $w val 'an escaped \\' quote; insert g';\n";
+        String fifth = "insert $v val \"a backslash \\\\\"; insert $u isa thing;\n";
+
+        assertEquals(
+                ImmutableList.of(first, second, third, fourth, "insert $v val \"a backslash \\\\\"; ", "insert $u isa thing;\n"),
+                chunks(first + second + third + fourth + fifth, 1)
+        );
+    }
+
+    @Test
+    public void whenRegexesContainSemicolonsAndKeywords_TheyDoNotEndTheChunk() throws IOException {
+        String first = "match $x val /a; insert b/; get;\n";
+        String second = "match $y val /escaped \\/; insert c/; get;\n";
+
+        assertEquals(ImmutableList.of(first, second), chunks(first + second, 1));
+    }
+
+    @Test
+    public void whenCommentsContainSemicolonsAndKeywords_TheyDoNotEndTheChunk() throws IOException {
+        String first = "insert $x isa person; # a comment; insert $y isa person;\n";
+        String second = "insert $z isa person; # match; insert\n";
+        String third = "insert $w isa person;\n";
+
+        assertEquals(ImmutableList.of(first, second, third), chunks(first + second + third, 1));
+    }
+
+    @Test
+    public void whenADisjunctionContainsSemicolons_ItDoesNotEndTheChunk() throws IOException {
+        String first = "match {$x isa person;} or {$x isa dog;}; insert $y isa cat;\n";
+        String second = "insert $z isa person;\n";
+
+        assertEquals(ImmutableList.of(first, second), chunks(first + second, 1));
+    }
+
+    @Test
+    public void whenAKeywordIsPartOfALongerWord_ItDoesNotEndTheChunk() throws IOException {
+        String queries = "define\ninsert-person sub entity;\nmatches sub entity;\n";
+
+        assertEquals(ImmutableList.of(queries), chunks(queries, 1));
+    }
+
+    @Test
+    public void whenTheFileContainsMultiByteCharacters_EveryChunkIsDecodedWhole() throws IOException {
+        String first = "insert $x val \"日本語; insert\";\n";
+        String second = "insert $y val \"ünïcödé\"; # 注释; match\n";
+        String third = "insert $z val \"😀\";\n";
+        String queries = first + second + third;
+
+        List<String> chunks = chunks(queries, 1);
+
+        assertEquals(ImmutableList.of(first, second, third), chunks);
+        assertEquals(queries, String.join("", chunks));
+        chunks.forEach(chunk -> assertFalse(chunk.contains("\uFFFD")));
+    }
+
+    @Test
+    public void whenTheFileIsEmpty_ThereAreNoChunks() throws IOException {
+        assertEquals(ImmutableList.of(), chunks("", 1));
+    }
+
+    private List<String> chunks(String contents, int targetChunkSize) throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+
+        List<String> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            GraqlFileChunks iterator = GraqlFileChunks.of(channel, targetChunkSize);
+            while (iterator.hasNext()) {
+                chunks.add(iterator.next().read());
+            }
+        }
+        return chunks;
+    }
+}
@@ -17,7 +17,7 @@ defineQuery    : DEFINE varPatterns ;
 undefineQuery  : UNDEFINE varPatterns ;
 deleteQuery    : matchPart 'delete' variables? ';' ;
 aggregateQuery : matchPart 'aggregate' aggregate ';' ;
-computeQuery   : 'compute' computeMethod ;
+computeQuery   : 'compute' computeMethod (USING SNAPSHOT ';')? ;
 
 variables      : VARIABLE (',' VARIABLE)* ;
 
@@ -26,17 +26,19 @@ computeMethod  : min | max | median | mean | std | sum | count | path | paths
 
 min            : MIN      'of' ofList      ('in' inList)? ';' ;
 max            : MAX      'of' ofList      ('in' inList)? ';' ;
-median         : MEDIAN   'of' ofList      ('in' inList)? ';' ;
-mean           : MEAN     'of' ofList      ('in' inList)? ';' ;
-std            : STD      'of' ofList      ('in' inList)? ';' ;
-sum            : SUM      'of' ofList      ('in' inList)? ';' ;
+median         : MEDIAN   'of' ofList      ('in' inList)? ';' approximation? ;
+mean           : MEAN     'of' ofList      ('in' inList)? ';' approximation? ;
+std            : STD      'of' ofList      ('in' inList)? ';' approximation? ;
+sum            : SUM      'of' ofList      ('in' inList)? ';' approximation? ;
 coreness       : CENTRALITY ('of' ofList)? ('in' inList)? ';' USING 'k-core' (WHERE 'min-k' '=' INTEGER)? ';';
 degree         : CENTRALITY ('of' ofList)? ('in' inList)? ';' USING DEGREE ';';
 connectedComponent    : CLUSTER            ('in' inList)? ';' USING 'connected-component' (WHERE ccParam+)? ';';
 kCore                 : CLUSTER            ('in' inList)? ';' USING 'k-core'              (WHERE kcParam+)? ';';
 path           : PATH    'from' id 'to' id ('in' inList)? ';' ;
 paths          : PATHS   'from' id 'to' id ('in' inList)? ';' ;
-count          : COUNT                     ('in' inList)? ';' ;
+count          : COUNT                     ('in' inList)? ';' approximation? ;
+
+approximation  : APPROXIMATE REAL ';' ;
 
 ccParam        : MEMBERS       '='      bool            # ccClusterMembers
                | SIZE          '='      INTEGER         # ccClusterSize
@@ -119,7 +121,7 @@ id             : identifier ;
 // Some keywords can also be used as identifiers
 identifier     : ID | STRING
                | MIN | MAX| MEDIAN | MEAN | STD | SUM | COUNT | PATH | CLUSTER
-               | DEGREE | MEMBERS | SIZE | WHERE
+               | DEGREE | MEMBERS | SIZE | WHERE | SNAPSHOT | APPROXIMATE
                ;
 
 datatype       : LONG_TYPE | DOUBLE_TYPE | STRING_TYPE | BOOLEAN_TYPE | DATE_TYPE ;
@@ -142,6 +144,8 @@ DEGREE         : 'degree' ;
 MEMBERS        : 'members' ;
 SIZE           : 'size' ;
 USING          : 'using' ;
+SNAPSHOT       : 'snapshot' ;
+APPROXIMATE    : 'approximate' ;
 WHERE          : 'where' ;
 MATCH          : 'match' ;
 INSERT         : 'insert' ;
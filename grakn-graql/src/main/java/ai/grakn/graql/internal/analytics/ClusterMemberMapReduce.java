@@ -61,6 +61,14 @@ public class ClusterMemberMapReduce extends GraknMapReduce<Set<String>> {
         if (clusterSize != null) this.persistentProperties.put(CLUSTER_SIZE, clusterSize);
     }
 
+    /**
+     * @return the size of the clusters to return, or null if clusters of any size are returned
+     */
+    @Nullable
+    Long clusterSize() {
+        return (Long) persistentProperties.get(CLUSTER_SIZE);
+    }
+
     @Override
     public void safeMap(final Vertex vertex, final MapEmitter<Serializable, Set<String>> emitter) {
         if (vertex.property((String) persistentProperties.get(CLUSTER_LABEL)).isPresent()) {
@@ -55,6 +55,14 @@ public class ClusterSizeMapReduce extends GraknMapReduce<Long> {
         if (clusterSize != null) this.persistentProperties.put(CLUSTER_SIZE, clusterSize);
     }
 
+    /**
+     * @return the size of the clusters to return, or null if clusters of any size are returned
+     */
+    @Nullable
+    Long clusterSize() {
+        return (Long) persistentProperties.get(CLUSTER_SIZE);
+    }
+
     @Override
     public void safeMap(final Vertex vertex, final MapEmitter<Serializable, Long> emitter) {
         if (vertex.property((String) persistentProperties.get(CLUSTER_LABEL)).isPresent()) {
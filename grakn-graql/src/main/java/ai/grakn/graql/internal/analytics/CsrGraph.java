@@ -0,0 +1,238 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.concept.LabelId;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     Compact In-Memory Projection Of A Subgraph
+ * </p>
+ *
+ * <p>
+ *     Holds the instances of a set of types and the edges between them in compressed sparse row form: the
+ *     neighbours of vertex <code>v</code> are <code>neighbours[offsets[v]]</code> to
+ *     <code>neighbours[offsets[v + 1] - 1]</code>. Vertices are identified by their position in the arrays, so the
+ *     algorithms run over primitive arrays rather than Tinkerpop elements.
+ *
+ *     The projection contains the same vertices and edges as the filters applied by
+ *     {@link ai.grakn.kb.internal.computer.GraknComputerImpl}, so the results match the vertex programs.
+ * </p>
+ */
+class CsrGraph {
+
+    private final String[] conceptIds;
+    private final int[] typeLabelIds;
+    private final int[] degrees;
+    private final int[] offsets;
+    private final int[] neighbours;
+
+    private CsrGraph(String[] conceptIds, int[] typeLabelIds, int[] degrees, int[] offsets, int[] neighbours) {
+        this.conceptIds = conceptIds;
+        this.typeLabelIds = typeLabelIds;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+    }
+
+    /**
+     * Loads the instances of the given types and the edges between them.
+     *
+     * @param tx                      the transaction used to read the graph
+     * @param types                   the types of the instances in the subgraph
+     * @param includesRolePlayerEdges whether {@link Schema.EdgeLabel#ROLE_PLAYER} edges are part of the subgraph
+     * @param maxElements             the maximum number of vertices and edges to load
+     * @return the loaded graph or null if the subgraph has more than <code>maxElements</code> vertices and edges
+     */
+    @Nullable
+    static CsrGraph load(EmbeddedGraknTx<?> tx, Set<LabelId> types, boolean includesRolePlayerEdges, long maxElements) {
+        Set<Integer> labelIds = types.stream().map(LabelId::getValue).collect(Collectors.toSet());
+
+        Map<Object, Integer> index = new HashMap<>();
+        List<String> conceptIds = new ArrayList<>();
+        IntList typeLabelIds = new IntList();
+
+        IntList edgeSources = new IntList();
+        IntList edgeIsAttribute = new IntList();
+        List<Object> edgeTargets = new ArrayList<>();
+
+        for (Integer labelId : labelIds) {
+            Iterator<Vertex> instances = tx.getTinkerTraversal().V()
+                    .has(Schema.VertexProperty.LABEL_ID.name(), labelId)
+                    .in(Schema.EdgeLabel.SHARD.getLabel())
+                    .in(Schema.EdgeLabel.ISA.getLabel());
+
+            while (instances.hasNext()) {
+                Vertex vertex = instances.next();
+                if (!Utility.isAlive(vertex)) continue;
+
+                int source = conceptIds.size();
+                index.put(vertex.id(), source);
+                conceptIds.add(vertex.value(Schema.VertexProperty.ID.name()));
+                typeLabelIds.add(labelId);
+
+                vertex.edges(Direction.OUT, Schema.EdgeLabel.ROLE_PLAYER.getLabel(),
+                        Schema.EdgeLabel.ATTRIBUTE.getLabel()).forEachRemaining(edge -> {
+                    boolean isAttribute = edge.label().equals(Schema.EdgeLabel.ATTRIBUTE.getLabel());
+                    if (isAttribute ? attributeEdgeInSubgraph(edge, labelIds) : includesRolePlayerEdges) {
+                        edgeSources.add(source);
+                        edgeIsAttribute.add(isAttribute ? 1 : 0);
+                        edgeTargets.add(edge.inVertex().id());
+                    }
+                });
+
+                if (conceptIds.size() + edgeTargets.size() > maxElements) return null;
+            }
+        }
+
+        return build(conceptIds, typeLabelIds, index, edgeSources, edgeIsAttribute, edgeTargets);
+    }
+
+    private static boolean attributeEdgeInSubgraph(Edge edge, Set<Integer> labelIds) {
+        return edge.property(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name()).isPresent() &&
+                labelIds.contains(edge.<Integer>value(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name()));
+    }
+
+    private static CsrGraph build(List<String> conceptIds, IntList typeLabelIds, Map<Object, Integer> index,
+                                  IntList edgeSources, IntList edgeIsAttribute, List<Object> edgeTargets) {
+        int vertexCount = conceptIds.size();
+
+        // Resolve the targets, dropping the edges which leave the subgraph
+        int[] sources = new int[edgeTargets.size()];
+        int[] targets = new int[edgeTargets.size()];
+        int[] degrees = new int[vertexCount];
+        int[] counts = new int[vertexCount + 1];
+        int edgeCount = 0;
+        for (int i = 0; i < edgeTargets.size(); i++) {
+            Integer target = index.get(edgeTargets.get(i));
+            if (target == null) continue;
+
+            int source = edgeSources.get(i);
+            sources[edgeCount] = source;
+            targets[edgeCount] = target;
+            edgeCount++;
+
+            // The degree of a vertex is the number of edges coming into it plus the number of attributes it has
+            degrees[target]++;
+            if (edgeIsAttribute.get(i) == 1) degrees[source]++;
+
+            counts[source + 1]++;
+            counts[target + 1]++;
+        }
+
+        // Both directions are stored so that traversals can ignore the direction of the edges
+        int[] offsets = new int[vertexCount + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] = offsets[v] + counts[v + 1];
+        }
+        int[] neighbours = new int[offsets[vertexCount]];
+        int[] next = Arrays.copyOf(offsets, vertexCount);
+        for (int i = 0; i < edgeCount; i++) {
+            neighbours[next[sources[i]]++] = targets[i];
+            neighbours[next[targets[i]]++] = sources[i];
+        }
+
+        return new CsrGraph(conceptIds.toArray(new String[vertexCount]), typeLabelIds.toArray(), degrees,
+                offsets, neighbours);
+    }
+
+    int vertexCount() {
+        return conceptIds.length;
+    }
+
+    String conceptId(int vertex) {
+        return conceptIds[vertex];
+    }
+
+    int typeLabelId(int vertex) {
+        return typeLabelIds[vertex];
+    }
+
+    /**
+     * @return the degree of the vertex, as computed by {@link DegreeVertexProgram}
+     */
+    int degree(int vertex) {
+        return degrees[vertex];
+    }
+
+    /**
+     * Computes the connected components using parallel label propagation with pointer jumping.
+     *
+     * @return for each vertex, the smallest vertex in its connected component
+     */
+    int[] connectedComponents() {
+        int[] components = new int[vertexCount()];
+        Arrays.setAll(components, v -> v);
+
+        AtomicBoolean changed = new AtomicBoolean(true);
+        while (changed.get()) {
+            changed.set(false);
+            IntStream.range(0, vertexCount()).parallel().forEach(v -> {
+                // labels only ever decrease, so reading a label being updated concurrently only delays convergence
+                int component = components[components[v]];
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    component = Math.min(component, components[neighbours[i]]);
+                }
+                if (component < components[v]) {
+                    components[v] = component;
+                    changed.set(true);
+                }
+            });
+        }
+        return components;
+    }
+
+    /**
+     * A growable array of primitive ints
+     */
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.GraknComputer;
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.util.MapMemory;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     {@link GraknComputer} Which Runs Simple Algorithms Within The JVM
+ * </p>
+ *
+ * <p>
+ *     Starting a pregel job has a fixed cost which dominates the runtime of degree and connected component queries
+ *     over small and medium subgraphs. This computer loads such subgraphs into a {@link CsrGraph} and runs the
+ *     algorithms over it using all the available cores. It produces the same results as the vertex programs and
+ *     map reduces it replaces.
+ *
+ *     Any other program, and any subgraph with more vertices and edges than the configured threshold, is passed on
+ *     to the wrapped {@link GraknComputer}.
+ * </p>
+ *
+ * <p>
+ *     Unlike the graph computer, this reads the subgraph through OLTP. It does so in a dedicated read transaction on
+ *     its own thread, which is closed as soon as the subgraph is loaded, so the caller's transaction and its cache
+ *     do not hold the whole subgraph. Like the graph computer, it only sees committed data.
+ * </p>
+ */
+public class NativeGraknComputer implements GraknComputer {
+    private static final Logger LOG = LoggerFactory.getLogger(NativeGraknComputer.class);
+
+    private final GraknComputer computer;
+    private final EmbeddedGraknTx<?> tx;
+    private final long maxElements;
+
+    NativeGraknComputer(GraknComputer computer, EmbeddedGraknTx<?> tx, long maxElements) {
+        this.computer = computer;
+        this.tx = tx;
+        this.maxElements = maxElements;
+    }
+
+    /**
+     * Wraps the computer if the native engine is enabled by {@link GraknConfigKey#KB_ANALYTICS_NATIVE_THRESHOLD}
+     *
+     * @param computer the computer to use for the programs which cannot run natively
+     * @param tx       the transaction used to load the subgraphs
+     * @return the computer to run the compute queries with
+     */
+    public static GraknComputer wrap(GraknComputer computer, EmbeddedGraknTx<?> tx) {
+        long maxElements = tx.session().config().getProperty(GraknConfigKey.KB_ANALYTICS_NATIVE_THRESHOLD, 0L);
+        if (maxElements <= 0) return computer;
+        return new NativeGraknComputer(computer, tx, maxElements);
+    }
+
+    @Override
+    public ComputerResult compute(@Nullable VertexProgram program, @Nullable MapReduce mapReduce,
+                                  @Nullable Set<LabelId> types, Boolean includesRolePlayerEdges) {
+        if (types != null && !types.isEmpty()) {
+            if (isDegree(program, mapReduce) || isConnectedComponents(program, mapReduce)) {
+                // The subgraph is only read when its size is not known to exceed the threshold already
+                CsrGraph graph = estimatedInstances(types) <= maxElements ?
+                        load(types, includesRolePlayerEdges) : null;
+                if (graph != null) {
+                    return result(mapReduce, isDegree(program, mapReduce) ?
+                            degrees(graph, (DegreeVertexProgram) program, (DegreeDistributionMapReduce) mapReduce) :
+                            clusters(graph, mapReduce));
+                }
+                LOG.debug("Subgraph is larger than {} elements, using the graph computer", maxElements);
+            }
+        }
+        return computer.compute(program, mapReduce, types, includesRolePlayerEdges);
+    }
+
+    @Override
+    public ComputerResult compute(@Nullable VertexProgram program, @Nullable MapReduce mapReduce,
+                                  @Nullable Set<LabelId> types) {
+        return compute(program, mapReduce, types, true);
+    }
+
+    @Override
+    public GraknComputer useSnapshot(boolean useSnapshot) {
+        computer.useSnapshot(useSnapshot);
+        return this;
+    }
+
+    @Override
+    public void killJobs() {
+        computer.killJobs();
+    }
+
+    @Nullable
+    private CsrGraph load(Set<LabelId> types, boolean includesRolePlayerEdges) {
+        // Transactions are bound to their thread, so the read transaction is opened on a thread of its own
+        ExecutorService loader = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("native-computer-loader-%d").setDaemon(true).build());
+        try {
+            return loader.submit(() -> {
+                try (EmbeddedGraknTx<?> readTx = tx.session().open(GraknTxType.READ)) {
+                    return CsrGraph.load(readTx, types, includesRolePlayerEdges, maxElements);
+                }
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the subgraph", e);
+        } catch (ExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause());
+            throw new IllegalStateException("Could not load the subgraph", e.getCause());
+        } finally {
+            loader.shutdownNow();
+        }
+    }
+
+    /**
+     * Estimates the number of instances of the types from their shards, without reading any instance. A new shard is
+     * only started once the previous one has reached the sharding threshold, so only the full shards are counted.
+     */
+    private long estimatedInstances(Set<LabelId> types) {
+        long fullShards = 0;
+        for (LabelId type : types) {
+            SchemaConcept schemaConcept = tx.getSchemaConcept(type);
+            if (schemaConcept != null && schemaConcept.isType()) {
+                fullShards += Math.max(0, tx.getShardCount(schemaConcept.asType()) - 1);
+            }
+        }
+        return fullShards * tx.shardingThreshold();
+    }
+
+    private static boolean isDegree(@Nullable VertexProgram program, @Nullable MapReduce mapReduce) {
+        return program != null && program.getClass().equals(DegreeVertexProgram.class) &&
+                mapReduce instanceof DegreeDistributionMapReduce &&
+                DegreeVertexProgram.DEGREE.equals(
+                        ((DegreeDistributionMapReduce) mapReduce).persistentProperties.get(DegreeVertexProgram.DEGREE));
+    }
+
+    private static boolean isConnectedComponents(@Nullable VertexProgram program, @Nullable MapReduce mapReduce) {
+        return program != null && program.getClass().equals(ConnectedComponentsVertexProgram.class) &&
+                (mapReduce instanceof ClusterSizeMapReduce || mapReduce instanceof ClusterMemberMapReduce);
+    }
+
+    private static Map<Serializable, Set<String>> degrees(
+            CsrGraph graph, DegreeVertexProgram program, DegreeDistributionMapReduce mapReduce) {
+        Set<Integer> ofLabelIds = labelIds(program.ofLabelIds);
+        Set<Integer> selectedLabelIds = labelIds(mapReduce.selectedTypes);
+
+        int[] vertices = IntStream.range(0, graph.vertexCount()).parallel()
+                .filter(v -> graph.degree(v) > 0)
+                .filter(v -> ofLabelIds.isEmpty() || ofLabelIds.contains(graph.typeLabelId(v)))
+                .filter(v -> selectedLabelIds.contains(graph.typeLabelId(v)))
+                .toArray();
+
+        Map<Serializable, Set<String>> degrees = new HashMap<>();
+        for (int v : vertices) {
+            degrees.computeIfAbsent((long) graph.degree(v), k -> new HashSet<>()).add(graph.conceptId(v));
+        }
+        return degrees;
+    }
+
+    private static Map<Serializable, ?> clusters(CsrGraph graph, MapReduce mapReduce) {
+        int[] components = graph.connectedComponents();
+
+        // Label each cluster with the largest concept id it contains, as the vertex program does
+        Map<Integer, String> labels = new HashMap<>();
+        for (int v = 0; v < components.length; v++) {
+            labels.merge(components[v], graph.conceptId(v), (a, b) -> a.compareTo(b) > 0 ? a : b);
+        }
+
+        Map<Serializable, Set<String>> members = new HashMap<>();
+        for (int v = 0; v < components.length; v++) {
+            members.computeIfAbsent(labels.get(components[v]), k -> new HashSet<>()).add(graph.conceptId(v));
+        }
+
+        Long clusterSize = mapReduce instanceof ClusterSizeMapReduce ?
+                ((ClusterSizeMapReduce) mapReduce).clusterSize() :
+                ((ClusterMemberMapReduce) mapReduce).clusterSize();
+        if (clusterSize != null) {
+            long size = clusterSize;
+            members.values().removeIf(cluster -> cluster.size() != size);
+        }
+
+        if (mapReduce instanceof ClusterMemberMapReduce) return members;
+
+        Map<Serializable, Long> sizes = new HashMap<>();
+        members.forEach((label, cluster) -> sizes.put(label, (long) cluster.size()));
+        return sizes;
+    }
+
+    private static Set<Integer> labelIds(Set<LabelId> labelIds) {
+        if (labelIds.isEmpty()) return Collections.emptySet();
+        return labelIds.stream().map(LabelId::getValue).collect(Collectors.toSet());
+    }
+
+    private static ComputerResult result(MapReduce mapReduce, Map<Serializable, ?> result) {
+        MapMemory memory = new MapMemory();
+        memory.addMapReduceMemoryKey(mapReduce);
+        memory.set(mapReduce.getMemoryKey(), result);
+        return new DefaultComputerResult(EmptyGraph.instance(), memory.asImmutable());
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
+import ai.grakn.graql.analytics.Estimate;
+import ai.grakn.kb.internal.concept.TypeImpl;
+import ai.grakn.kb.internal.structure.Shard;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ *     Estimates Statistics From A Random Sample Of Shards
+ * </p>
+ *
+ * <p>
+ *     The instances of every type are split into {@link Shard}s of roughly equal size. This class reads whole shards,
+ *     chosen uniformly at random without replacement, and scales the results up to all the shards of the types. The
+ *     sample grows until the 95% confidence interval of the estimate is narrow enough, or until every shard has been
+ *     read, in which case the result is exact.
+ *
+ *     The intervals treat each shard as one sampled unit, so they remain valid when the instances within a shard
+ *     resemble each other, for example because they were inserted together. Totals are scaled up directly, means use
+ *     a ratio estimator, the standard deviation is linearised around the sampled moments and the median uses the
+ *     Woodruff interval, which maps the interval of the proportion of values below the median back onto the values.
+ * </p>
+ */
+public class ShardSampling {
+
+    public static final double CONFIDENCE = 0.95;
+    private static final double Z = 1.959963984540054;
+
+    private final List<Shard> shards;
+    private final double relativeError;
+
+    private ShardSampling(List<Shard> shards, double relativeError) {
+        this.shards = shards;
+        this.relativeError = relativeError;
+    }
+
+    /**
+     * @param types         the types whose instances are sampled
+     * @param relativeError the acceptable error of the estimates, relative to the estimates
+     * @param random        the source of randomness used to pick the shards
+     */
+    public static ShardSampling of(Collection<? extends Type> types, double relativeError, Random random) {
+        List<Shard> shards = types.stream()
+                .filter(type -> !type.isAbstract())
+                .flatMap(type -> TypeImpl.from(type).shards())
+                .collect(Collectors.toList());
+        Collections.shuffle(shards, random);
+        return new ShardSampling(shards, relativeError);
+    }
+
+    /**
+     * @return the number of instances of the types
+     */
+    public Estimate count() {
+        return sample(shard -> {
+            Sample sample = new Sample(false);
+            sample.count = shard.vertex().getEdgesOfType(Direction.IN, Schema.EdgeLabel.ISA).count();
+            return sample;
+        }, this::total).orElse(Estimate.exact(0));
+    }
+
+    /**
+     * @param attributeTypes the attribute types, with a numeric data type, whose values are summed
+     * @return the sum of the values of the attributes the instances have, counting an attribute once for each of its
+     * owners, or nothing if the instances have no such attributes
+     */
+    public Optional<Estimate> sum(Collection<AttributeType<?>> attributeTypes) {
+        return sample(values(attributeTypes, false), samples -> {
+            if (samples.stream().allMatch(sample -> sample.count == 0)) return Optional.empty();
+            return total(samples.stream().map(sample -> {
+                Sample total = new Sample(false);
+                total.count = sample.sum;
+                return total;
+            }).collect(Collectors.toList()));
+        });
+    }
+
+    /**
+     * @return the mean of the values of the attributes the instances have, as {@link #sum(Collection)}
+     */
+    public Optional<Estimate> mean(Collection<AttributeType<?>> attributeTypes) {
+        return sample(values(attributeTypes, false), samples -> {
+            double count = samples.stream().mapToDouble(sample -> sample.count).sum();
+            if (count == 0) return Optional.empty();
+
+            double mean = samples.stream().mapToDouble(sample -> sample.sum).sum() / count;
+            double meanCount = count / samples.size();
+            double variance = sampleVariance(samples, sample -> sample.sum - mean * sample.count) /
+                    (meanCount * meanCount);
+            return Optional.of(estimate(mean, variance, samples.size()));
+        });
+    }
+
+    /**
+     * @return the population standard deviation of the values of the attributes the instances have, as
+     * {@link #sum(Collection)}
+     */
+    public Optional<Estimate> std(Collection<AttributeType<?>> attributeTypes) {
+        return sample(values(attributeTypes, false), samples -> {
+            double count = samples.stream().mapToDouble(sample -> sample.count).sum();
+            if (count == 0) return Optional.empty();
+
+            double mean = samples.stream().mapToDouble(sample -> sample.sum).sum() / count;
+            double meanSquare = samples.stream().mapToDouble(sample -> sample.squareSum).sum() / count;
+            double std = Math.sqrt(Math.max(0, meanSquare - mean * mean));
+
+            // The variance of the estimated variance, linearised around the sampled mean and mean square
+            double meanCount = count / samples.size();
+            double varianceOfVariance = sampleVariance(samples, sample ->
+                    (sample.squareSum - meanSquare * sample.count) - 2 * mean * (sample.sum - mean * sample.count)
+            ) / (meanCount * meanCount);
+            if (std > 0) return Optional.of(estimate(std, varianceOfVariance / (4 * std * std), samples.size()));
+
+            // The linearisation is undefined when every sampled value is the same, so the interval of the variance,
+            // which then starts at zero, is mapped onto the standard deviation instead
+            Estimate variance = estimate(0, varianceOfVariance, samples.size());
+            if (variance.isExact()) return Optional.of(variance);
+            return Optional.of(Estimate.create(0, 0, Math.sqrt(variance.upperBound()), CONFIDENCE,
+                    variance.sampledFraction()));
+        });
+    }
+
+    /**
+     * @return the median of the values of the attributes the instances have, as {@link #sum(Collection)}
+     */
+    public Optional<Estimate> median(Collection<AttributeType<?>> attributeTypes) {
+        return sample(values(attributeTypes, true), samples -> {
+            double[] values = samples.stream().flatMapToDouble(sample -> Arrays.stream(sample.values())).toArray();
+            if (values.length == 0) return Optional.empty();
+            Arrays.sort(values);
+
+            double median = quantile(values, 0.5);
+            if (samples.size() == shards.size()) return Optional.of(Estimate.exact(median));
+
+            // Woodruff interval: the interval of the proportion of values up to the median gives the interval of the
+            // median
+            double meanCount = (double) values.length / samples.size();
+            double proportionVariance = sampleVariance(samples, sample ->
+                    Arrays.stream(sample.values()).filter(value -> value <= median).count() - 0.5 * sample.count
+            ) / (meanCount * meanCount);
+            double margin = Z * Math.sqrt(proportionVariance * finitePopulationCorrection(samples.size()) /
+                    samples.size());
+            return Optional.of(Estimate.create(median,
+                    quantile(values, Math.max(0, 0.5 - margin)), quantile(values, Math.min(1, 0.5 + margin)),
+                    CONFIDENCE, sampledFraction(samples.size())));
+        });
+    }
+
+    private Function<Shard, Sample> values(Collection<AttributeType<?>> attributeTypes, boolean keepValues) {
+        AttributeType[] types = attributeTypes.toArray(new AttributeType[attributeTypes.size()]);
+        return shard -> {
+            Sample sample = new Sample(keepValues);
+            shard.<Thing>links().forEach(owner -> owner.attributes(types).forEach(attribute ->
+                    sample.add(((Number) attribute.getValue()).doubleValue())));
+            return sample;
+        };
+    }
+
+    /**
+     * Reads shards until the estimate is precise enough. Estimates are made each time the number of shards read
+     * doubles, as the cost of estimating some statistics grows with the size of the sample.
+     */
+    private Optional<Estimate> sample(Function<Shard, Sample> reader,
+                                      Function<List<Sample>, Optional<Estimate>> estimator) {
+        List<Sample> samples = new ArrayList<>();
+        int nextEstimate = 2;
+        for (Shard shard : shards) {
+            samples.add(reader.apply(shard));
+
+            boolean allRead = samples.size() == shards.size();
+            if (allRead || samples.size() == nextEstimate) {
+                Optional<Estimate> estimate = estimator.apply(samples);
+                if (allRead || estimate.isPresent() && isPreciseEnough(estimate.get())) return estimate;
+                nextEstimate *= 2;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isPreciseEnough(Estimate estimate) {
+        double error = Math.max(estimate.value() - estimate.lowerBound(), estimate.upperBound() - estimate.value());
+        return error <= relativeError * Math.abs(estimate.value());
+    }
+
+    /**
+     * Scales the sum of the sampled counts up to all the shards
+     */
+    private Optional<Estimate> total(List<Sample> samples) {
+        double mean = samples.stream().mapToDouble(sample -> sample.count).sum() / samples.size();
+        double variance = sampleVariance(samples, sample -> sample.count);
+        double shardCount = shards.size();
+        return Optional.of(estimate(mean * shardCount, variance * shardCount * shardCount, samples.size()));
+    }
+
+    /**
+     * @param value           the estimated value
+     * @param unitVariance    the variance of the estimate if it were made from a single shard, ignoring the finite
+     *                        population correction
+     * @param sampledShards   the number of shards the estimate was made from
+     */
+    private Estimate estimate(double value, double unitVariance, int sampledShards) {
+        if (sampledShards == shards.size()) return Estimate.exact(value);
+        if (sampledShards < 2) {
+            return Estimate.create(value, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, CONFIDENCE,
+                    sampledFraction(sampledShards));
+        }
+        double margin = Z * Math.sqrt(unitVariance * finitePopulationCorrection(sampledShards) / sampledShards);
+        return Estimate.create(value, value - margin, value + margin, CONFIDENCE, sampledFraction(sampledShards));
+    }
+
+    private double finitePopulationCorrection(int sampledShards) {
+        return 1 - sampledFraction(sampledShards);
+    }
+
+    private double sampledFraction(int sampledShards) {
+        return (double) sampledShards / shards.size();
+    }
+
+    private static double sampleVariance(List<Sample> samples, Function<Sample, Double> residual) {
+        if (samples.size() < 2) return Double.POSITIVE_INFINITY;
+        double mean = samples.stream().mapToDouble(residual::apply).sum() / samples.size();
+        double squares = samples.stream().mapToDouble(sample -> {
+            double deviation = residual.apply(sample) - mean;
+            return deviation * deviation;
+        }).sum();
+        return squares / (samples.size() - 1);
+    }
+
+    private static double quantile(double[] sortedValues, double quantile) {
+        int index = (int) Math.ceil(quantile * sortedValues.length) - 1;
+        return sortedValues[Math.min(sortedValues.length - 1, Math.max(0, index))];
+    }
+
+    /**
+     * The values read from one shard
+     */
+    private static class Sample {
+        private final List<Double> values;
+        private double count = 0;
+        private double sum = 0;
+        private double squareSum = 0;
+
+        Sample(boolean keepValues) {
+            this.values = keepValues ? new ArrayList<>() : null;
+        }
+
+        void add(double value) {
+            count++;
+            sum += value;
+            squareSum += value * value;
+            if (values != null) values.add(value);
+        }
+
+        double[] values() {
+            return values.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+    }
+}
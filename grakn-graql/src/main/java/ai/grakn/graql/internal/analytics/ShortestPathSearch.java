@@ -0,0 +1,204 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.LabelId;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.kb.internal.concept.ConceptImpl;
+import ai.grakn.util.Schema;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ *     Transactional Search For All The Shortest Paths Between Two Instances
+ * </p>
+ *
+ * <p>
+ *     Runs a bidirectional breadth first search from both instances over the same subgraph as
+ *     {@link ShortestPathVertexProgram}: the instances of the given types, connected by
+ *     {@link Schema.EdgeLabel#ROLE_PLAYER} edges and by the {@link Schema.EdgeLabel#ATTRIBUTE} edges of the given
+ *     implicit relationship types, ignoring the direction of the edges. Each step expands whole levels of the
+ *     smaller frontier, so the search only visits the neighbourhoods of the two instances rather than the whole
+ *     graph.
+ *
+ *     The search gives up once it has visited more than the given number of vertices, in which case the vertex
+ *     program should be used instead.
+ * </p>
+ */
+public class ShortestPathSearch {
+
+    public static final long DEFAULT_MAX_VISITED = 100_000L;
+
+    private final EmbeddedGraknTx<?> tx;
+    private final Set<Integer> labelIds;
+    private final long maxVisited;
+
+    public ShortestPathSearch(EmbeddedGraknTx<?> tx, Set<LabelId> types, long maxVisited) {
+        this.tx = tx;
+        this.labelIds = types.stream().map(LabelId::getValue).collect(Collectors.toSet());
+        this.maxVisited = maxVisited;
+    }
+
+    /**
+     * Finds all the shortest paths between two different instances which are in the subgraph
+     *
+     * @param sourceId      the id of the instance the paths start from
+     * @param destinationId the id of the instance the paths end at
+     * @return the successors of each instance on the shortest paths from the source to the destination, which are
+     * empty if there is no path, or nothing if the search visited too many vertices
+     */
+    public Optional<Multimap<ConceptId, ConceptId>> search(ConceptId sourceId, ConceptId destinationId) {
+        Frontier fromSource = new Frontier(vertex(sourceId));
+        Frontier fromDestination = new Frontier(vertex(destinationId));
+
+        while (!fromSource.isExhausted() && !fromDestination.isExhausted()) {
+            Frontier expanded = fromSource.size() <= fromDestination.size() ? fromSource : fromDestination;
+            Frontier other = expanded == fromSource ? fromDestination : fromSource;
+
+            Set<Vertex> middle = expanded.expand(this, other);
+            if (!middle.isEmpty()) return Optional.of(successors(middle, fromSource, fromDestination));
+            if (fromSource.visitedCount() + fromDestination.visitedCount() > maxVisited) return Optional.empty();
+        }
+        return Optional.of(HashMultimap.create());
+    }
+
+    private Vertex vertex(ConceptId conceptId) {
+        ConceptImpl concept = tx.getConcept(conceptId);
+        return concept.vertex().element();
+    }
+
+    private List<Vertex> neighbours(Vertex vertex) {
+        List<Vertex> neighbours = new ArrayList<>();
+        vertex.edges(Direction.BOTH, Schema.EdgeLabel.ROLE_PLAYER.getLabel(), Schema.EdgeLabel.ATTRIBUTE.getLabel())
+                .forEachRemaining(edge -> {
+                    if (isAttributeEdge(edge) && !attributeEdgeInSubgraph(edge)) return;
+
+                    Vertex neighbour = edge.outVertex().equals(vertex) ? edge.inVertex() : edge.outVertex();
+                    if (vertexInSubgraph(neighbour)) neighbours.add(neighbour);
+                });
+        return neighbours;
+    }
+
+    private static boolean isAttributeEdge(Edge edge) {
+        return edge.label().equals(Schema.EdgeLabel.ATTRIBUTE.getLabel());
+    }
+
+    private boolean attributeEdgeInSubgraph(Edge edge) {
+        return edge.property(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name()).isPresent() &&
+                labelIds.contains(edge.<Integer>value(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name()));
+    }
+
+    private boolean vertexInSubgraph(Vertex vertex) {
+        return Utility.isAlive(vertex) &&
+                vertex.property(Schema.VertexProperty.THING_TYPE_LABEL_ID.name()).isPresent() &&
+                labelIds.contains(vertex.<Integer>value(Schema.VertexProperty.THING_TYPE_LABEL_ID.name()));
+    }
+
+    /**
+     * Walks back from the vertices where the two searches met to both ends of the paths
+     */
+    private static Multimap<ConceptId, ConceptId> successors(
+            Set<Vertex> middle, Frontier fromSource, Frontier fromDestination) {
+        Multimap<ConceptId, ConceptId> successors = HashMultimap.create();
+        fromSource.walkBack(middle, (vertex, parent) -> successors.put(conceptId(parent), conceptId(vertex)));
+        fromDestination.walkBack(middle, (vertex, parent) -> successors.put(conceptId(vertex), conceptId(parent)));
+        return successors;
+    }
+
+    private static ConceptId conceptId(Vertex vertex) {
+        return ConceptId.of(vertex.value(Schema.VertexProperty.ID.name()));
+    }
+
+    /**
+     * The vertices reached from one end of the paths, with the vertices each was reached from
+     */
+    private static class Frontier {
+        private final Map<Vertex, Set<Vertex>> parents = new HashMap<>();
+        private Set<Vertex> current = new HashSet<>();
+
+        Frontier(Vertex start) {
+            parents.put(start, new HashSet<>());
+            current.add(start);
+        }
+
+        boolean isExhausted() {
+            return current.isEmpty();
+        }
+
+        int size() {
+            return current.size();
+        }
+
+        int visitedCount() {
+            return parents.size();
+        }
+
+        /**
+         * Visits the next level of vertices
+         *
+         * @return the vertices of the next level which have also been visited from the other end
+         */
+        Set<Vertex> expand(ShortestPathSearch search, Frontier other) {
+            Set<Vertex> next = new HashSet<>();
+            for (Vertex vertex : current) {
+                for (Vertex neighbour : search.neighbours(vertex)) {
+                    if (next.contains(neighbour)) {
+                        parents.get(neighbour).add(vertex);
+                    } else if (!parents.containsKey(neighbour)) {
+                        Set<Vertex> neighbourParents = new HashSet<>();
+                        neighbourParents.add(vertex);
+                        parents.put(neighbour, neighbourParents);
+                        next.add(neighbour);
+                    }
+                }
+            }
+            current = next;
+            return next.stream().filter(other.parents::containsKey).collect(Collectors.toSet());
+        }
+
+        void walkBack(Set<Vertex> middle, BiConsumer<Vertex, Vertex> consumer) {
+            Set<Vertex> seen = new HashSet<>(middle);
+            Deque<Vertex> queue = new ArrayDeque<>(middle);
+            while (!queue.isEmpty()) {
+                Vertex vertex = queue.pollFirst();
+                for (Vertex parent : parents.get(vertex)) {
+                    consumer.accept(vertex, parent);
+                    if (seen.add(parent)) queue.addLast(parent);
+                }
+            }
+        }
+    }
+}
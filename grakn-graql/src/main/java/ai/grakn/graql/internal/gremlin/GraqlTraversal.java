@@ -22,6 +22,8 @@ import ai.grakn.concept.ConceptId;
 import ai.grakn.graql.Match;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import ai.grakn.graql.internal.query.profile.TraversalProfile;
+import ai.grakn.graql.internal.query.profile.TraversalProfile.FragmentProfile;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.util.Schema;
 import com.google.auto.value.AutoValue;
@@ -37,6 +39,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectStep;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -72,14 +75,25 @@ public abstract class GraqlTraversal {
     // Because 'union' accepts an array, we can't use generics
     @SuppressWarnings("unchecked")
     public GraphTraversal<Vertex, Map<String, Element>> getGraphTraversal(EmbeddedGraknTx<?> tx, Set<Var> vars) {
+        return getGraphTraversal(tx, vars, null);
+    }
+
+    /**
+     * Get the {@code GraphTraversal} that this {@code GraqlTraversal} represents, recording the traversers passing
+     * each {@link Fragment} in the provided profile.
+     */
+    @SuppressWarnings("unchecked")
+    public GraphTraversal<Vertex, Map<String, Element>> getGraphTraversal(
+            EmbeddedGraknTx<?> tx, Set<Var> vars, @Nullable TraversalProfile profile
+    ) {
 
         if (fragments().size() == 1) {
             // If there are no disjunctions, we don't need to union them and get a performance boost
             ImmutableList<Fragment> list = Iterables.getOnlyElement(fragments());
-            return getConjunctionTraversal(tx, tx.getTinkerTraversal().V(), vars, list);
+            return getConjunctionTraversal(tx, tx.getTinkerTraversal().V(), vars, list, profile);
         } else {
             Traversal[] traversals = fragments().stream()
-                    .map(list -> getConjunctionTraversal(tx, __.V(), vars, list))
+                    .map(list -> getConjunctionTraversal(tx, __.V(), vars, list, profile))
                     .toArray(Traversal[]::new);
 
             // This is a sneaky trick - we want to do a union but tinkerpop requires all traversals to start from
@@ -113,7 +127,7 @@ public abstract class GraqlTraversal {
      */
     private GraphTraversal<Vertex, Map<String, Element>> getConjunctionTraversal(
             EmbeddedGraknTx<?> tx, GraphTraversal<Vertex, Vertex> traversal, Set<Var> vars,
-            ImmutableList<Fragment> fragmentList
+            ImmutableList<Fragment> fragmentList, @Nullable TraversalProfile profile
     ) {
         GraphTraversal<Vertex, ? extends Element> newTraversal = traversal;
 
@@ -122,22 +136,30 @@ public abstract class GraqlTraversal {
             newTraversal = traversal.union(__.identity(), __.outE(Schema.EdgeLabel.ATTRIBUTE.getLabel()));
         }
 
-        return applyFragments(tx, vars, fragmentList, newTraversal);
+        return applyFragments(tx, vars, fragmentList, newTraversal, profile);
     }
 
     private GraphTraversal<Vertex, Map<String, Element>> applyFragments(
             EmbeddedGraknTx<?> tx, Set<Var> vars, ImmutableList<Fragment> fragmentList,
-            GraphTraversal<Vertex, ? extends Element> traversal
+            GraphTraversal<Vertex, ? extends Element> traversal, @Nullable TraversalProfile profile
     ) {
         Set<Var> foundVars = new HashSet<>();
+        List<FragmentProfile> fragmentProfiles = profile != null ? profile.fragmentProfiles(fragmentList) : null;
 
         // Apply fragments in order into one single traversal
         Var currentName = null;
 
-        for (Fragment fragment : fragmentList) {
+        for (int i = 0; i < fragmentList.size(); i++) {
+            Fragment fragment = fragmentList.get(i);
+
             // Apply fragment to traversal
             fragment.applyTraversal(traversal, tx, foundVars, currentName);
             currentName = fragment.end() != null ? fragment.end() : fragment.start();
+
+            if (fragmentProfiles != null) {
+                FragmentProfile fragmentProfile = fragmentProfiles.get(i);
+                traversal.sideEffect(traverser -> fragmentProfile.record(traverser.bulk()));
+            }
         }
 
         // Select all the variable names
@@ -171,6 +193,26 @@ public abstract class GraqlTraversal {
         return listCost;
     }
 
+    /**
+     * @param fragments fragments of a conjunction in order of execution
+     * @return estimated number of traversers after each fragment, derived from the fragment costs
+     */
+    public static double[] estimatedTraversers(List<Fragment> fragments) {
+        Set<Var> names = new HashSet<>();
+        double[] estimates = new double[fragments.size()];
+
+        // Fragment costs are logarithms of the expected branching factor, so they are summed and exponentiated
+        double logTraversers = 0;
+        for (int i = 0; i < fragments.size(); i++) {
+            Fragment fragment = fragments.get(i);
+            logTraversers += fragmentCost(fragment, names);
+            names.addAll(fragment.vars());
+            estimates[i] = Math.exp(logTraversers);
+        }
+
+        return estimates;
+    }
+
     static double fragmentCost(Fragment fragment, Collection<Var> names) {
         if (names.contains(fragment.start()) || fragment.hasFixedFragmentCost()) {
             return fragment.fragmentCost();
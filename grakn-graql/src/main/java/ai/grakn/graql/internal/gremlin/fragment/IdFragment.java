@@ -61,9 +61,12 @@ abstract class IdFragment extends Fragment {
     }
 
     private GraphTraversal<Vertex, Vertex> vertexTraversal(GraphTraversal<Vertex, ? extends Element> traversal) {
-        // A vertex should always be looked up by vertex property, not the actual vertex ID which may be incorrect.
+        // A vertex should always be checked against its vertex property, as the actual vertex ID may be incorrect.
         // This is because a vertex may represent a reified relation, which will use the original edge ID as an ID.
-        
+        // Ids derived from a vertex ID can still use it to find the vertex without going through the property index.
+        Long vertexId = Schema.nativeVertexId(id());
+        if (vertexId != null) traversal = traversal.hasId(vertexId);
+
         // We know only vertices have this property, so the cast is safe
         //noinspection unchecked
         return (GraphTraversal<Vertex, Vertex>) traversal.has(Schema.VertexProperty.ID.name(), id().getValue());
@@ -37,6 +37,8 @@ import ai.grakn.graql.internal.antlr.GraqlParser.QueryEOFContext;
 import ai.grakn.graql.internal.antlr.GraqlParser.QueryListContext;
 import ai.grakn.graql.internal.query.aggregate.Aggregates;
 import ai.grakn.graql.internal.template.TemplateParser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
@@ -45,10 +47,12 @@ import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CommonTokenFactory;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.UnbufferedCharStream;
 import org.antlr.v4.runtime.UnbufferedTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 
@@ -69,6 +73,9 @@ import java.util.stream.StreamSupport;
  */
 public class QueryParserImpl implements QueryParser {
 
+    private static final int CACHED_PARSE_TREES = 1000;
+    private static final int MAX_CACHED_QUERY_LENGTH = 10_000;
+
     private final QueryBuilder queryBuilder;
     private final TemplateParser templateParser = TemplateParser.create();
     private final Map<String, Function<List<Object>, Aggregate>> aggregateMethods = new HashMap<>();
@@ -269,24 +276,37 @@ public class QueryParserImpl implements QueryParser {
         });
     }
 
+    /*
+        Parse trees of recently parsed strings, shared by all parsers. The parse trees are cached rather than the
+        queries themselves, because queries are bound to a transaction and a query builder, and compute queries can be
+        modified after they are parsed. Visiting a parse tree only reads it, so it is safe to share between threads.
+    */
+    private static final Cache<String, QueryEOFContext> QUERY_EOF_TREES = parseTreeCache();
+    private static final Cache<String, PatternsContext> PATTERNS_TREES = parseTreeCache();
+    private static final Cache<String, PatternContext> PATTERN_TREES = parseTreeCache();
+
     private final QueryPart<QueryListContext, Stream<? extends Query<?>>> QUERY_LIST =
-            createQueryPart(GraqlParser::queryList, QueryVisitor::visitQueryList);
+            createQueryPart(GraqlParser::queryList, QueryVisitor::visitQueryList, null);
 
     private final QueryPart<QueryEOFContext, Query<?>> QUERY_EOF =
-            createQueryPart(GraqlParser::queryEOF, QueryVisitor::visitQueryEOF);
+            createQueryPart(GraqlParser::queryEOF, QueryVisitor::visitQueryEOF, QUERY_EOF_TREES);
 
     private final QueryPart<QueryContext, Query<?>> QUERY =
-            createQueryPart(GraqlParser::query, QueryVisitor::visitQuery);
+            createQueryPart(GraqlParser::query, QueryVisitor::visitQuery, null);
 
     private final QueryPart<PatternsContext, List<Pattern>> PATTERNS =
-            createQueryPart(GraqlParser::patterns, QueryVisitor::visitPatterns);
+            createQueryPart(GraqlParser::patterns, QueryVisitor::visitPatterns, PATTERNS_TREES);
 
     private final QueryPart<PatternContext, Pattern> PATTERN =
-            createQueryPart(GraqlParser::pattern, QueryVisitor::visitPattern);
+            createQueryPart(GraqlParser::pattern, QueryVisitor::visitPattern, PATTERN_TREES);
 
+    private static <S extends ParseTree> Cache<String, S> parseTreeCache() {
+        return CacheBuilder.newBuilder().maximumSize(CACHED_PARSE_TREES).build();
+    }
 
     private <S extends ParseTree, T> QueryPart<S, T> createQueryPart(
-            Function<GraqlParser, S> parseTree, BiFunction<QueryVisitor, S, T> visit) {
+            Function<GraqlParser, S> parseTree, BiFunction<QueryVisitor, S, T> visit,
+            @Nullable Cache<String, S> parseTrees) {
 
         return new QueryPart<S, T>() {
             @Override
@@ -294,6 +314,12 @@ public class QueryParserImpl implements QueryParser {
                 return parseTree.apply(parser);
             }
 
+            @Nullable
+            @Override
+            Cache<String, S> parseTrees() {
+                return parseTrees;
+            }
+
             @Override
             T visit(QueryVisitor visitor, S context) {
                 return visit.apply(visitor, context);
@@ -316,19 +342,27 @@ public class QueryParserImpl implements QueryParser {
          */
         abstract T visit(QueryVisitor visitor, S context);
 
+        /**
+         * Get the cache of parse trees of this part, or null if the parse trees are not cached
+         */
+        @Nullable
+        abstract Cache<String, S> parseTrees();
+
         /**
          * Parse the string into a Java object
          */
         final T parse(String queryString) {
-            ANTLRInputStream charStream = new ANTLRInputStream(queryString);
-            GraqlErrorListener errorListener = GraqlErrorListener.of(queryString);
+            Cache<String, S> parseTrees = parseTrees();
+            boolean cacheable = parseTrees != null && queryString.length() <= MAX_CACHED_QUERY_LENGTH;
 
-            GraqlLexer lexer = createLexer(charStream, errorListener);
+            S tree = cacheable ? parseTrees.getIfPresent(queryString) : null;
 
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            GraqlParser parser = createParser(tokens, errorListener);
+            if (tree == null) {
+                tree = parseTree(queryString);
+                if (cacheable) parseTrees.put(queryString, tree);
+            }
 
-            return parse(parser, errorListener);
+            return visit(getQueryVisitor(), tree);
         }
 
         /**
@@ -336,6 +370,44 @@ public class QueryParserImpl implements QueryParser {
          * {@link GraqlErrorListener}.
          */
         final T parse(GraqlParser parser, GraqlErrorListener errorListener) {
+            return visit(getQueryVisitor(), parseTree(parser, errorListener));
+        }
+
+        private S parseTree(String queryString) {
+            ANTLRInputStream charStream = new ANTLRInputStream(queryString);
+            GraqlErrorListener errorListener = GraqlErrorListener.of(queryString);
+
+            GraqlLexer lexer = createLexer(charStream, errorListener);
+
+            CommonTokenStream tokens = new CommonTokenStream(lexer);
+            GraqlParser parser = createParser(tokens, errorListener);
+
+            /*
+                First try the faster SLL prediction, which is enough for almost all queries. It gives up on the
+                first problem it finds without reporting it. This may be a real syntax error or an ambiguity that
+                SLL cannot resolve, so in that case we parse again with full LL prediction, which also reports
+                syntax errors properly. The prediction DFA is shared by all parsers, so both stages warm up.
+            */
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            parser.removeErrorListeners();
+            parser.setErrorHandler(new BailErrorStrategy());
+
+            try {
+                S tree = parseTree(parser);
+                if (!errorListener.hasErrors()) return tree;
+            } catch (ParseCancellationException e) {
+                // Fall through to full LL prediction
+            }
+
+            parser.reset();
+            parser.addErrorListener(errorListener);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+
+            return parseTree(parser, errorListener);
+        }
+
+        private S parseTree(GraqlParser parser, GraqlErrorListener errorListener) {
             S tree;
 
             try {
@@ -350,7 +422,7 @@ public class QueryParserImpl implements QueryParser {
                 throw GraqlSyntaxException.create(errorListener.toString());
             }
 
-            return visit(getQueryVisitor(), tree);
+            return tree;
         }
     }
 }
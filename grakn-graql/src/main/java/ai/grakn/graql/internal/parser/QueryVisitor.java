@@ -188,7 +188,9 @@ class QueryVisitor extends GraqlBaseVisitor {
 
     @Override
     public ComputeQuery<?> visitComputeQuery(GraqlParser.ComputeQueryContext ctx) {
-        return visitComputeMethod(ctx.computeMethod());
+        ComputeQuery<?> query = visitComputeMethod(ctx.computeMethod());
+        if (ctx.SNAPSHOT() != null) query = query.useSnapshot();
+        return query;
     }
 
     @Override
@@ -226,6 +228,10 @@ class QueryVisitor extends GraqlBaseVisitor {
             median = median.in(visitInList(ctx.inList()));
         }
 
+        if (ctx.approximation() != null) {
+            median = median.approximate(visitApproximation(ctx.approximation()));
+        }
+
         return median;
     }
 
@@ -241,6 +247,10 @@ class QueryVisitor extends GraqlBaseVisitor {
             mean = mean.in(visitInList(ctx.inList()));
         }
 
+        if (ctx.approximation() != null) {
+            mean = mean.approximate(visitApproximation(ctx.approximation()));
+        }
+
         return mean;
     }
 
@@ -252,6 +262,10 @@ class QueryVisitor extends GraqlBaseVisitor {
             std = std.in(visitInList(ctx.inList()));
         }
 
+        if (ctx.approximation() != null) {
+            std = std.approximate(visitApproximation(ctx.approximation()));
+        }
+
         return std;
     }
 
@@ -263,6 +277,10 @@ class QueryVisitor extends GraqlBaseVisitor {
             sum = sum.in(visitInList(ctx.inList()));
         }
 
+        if (ctx.approximation() != null) {
+            sum = sum.approximate(visitApproximation(ctx.approximation()));
+        }
+
         return sum;
     }
 
@@ -274,9 +292,18 @@ class QueryVisitor extends GraqlBaseVisitor {
             count = count.in(visitInList(ctx.inList()));
         }
 
+        if (ctx.approximation() != null) {
+            count = count.approximate(visitApproximation(ctx.approximation()));
+        }
+
         return count;
     }
 
+    @Override
+    public Double visitApproximation(GraqlParser.ApproximationContext ctx) {
+        return Double.valueOf(ctx.REAL().getText());
+    }
+
     @Override
     public PathQuery visitPath(GraqlParser.PathContext ctx) {
         PathQuery path = queryBuilder.compute().path().from(visitId(ctx.id(0))).to(visitId(ctx.id(1)));
@@ -37,6 +37,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -61,11 +63,13 @@ import java.util.stream.Stream;
 public class QueryAnswer implements Answer {
 
     private final ImmutableMap<Var, Concept> map;
-    private final AnswerExplanation explanation;
+
+    //most answers are never explained, hence the default explanation is only created when requested
+    private AnswerExplanation explanation;
 
     public QueryAnswer(){
         this.map = ImmutableMap.of();
-        this.explanation = new Explanation();
+        this.explanation = null;
     }
 
     public QueryAnswer(Answer a){
@@ -84,7 +88,7 @@ public class QueryAnswer implements Answer {
     }
 
     public QueryAnswer(Map<Var, Concept> m){
-        this(m, new Explanation());
+        this(m, null);
     }
 
     @Override
@@ -98,8 +102,8 @@ public class QueryAnswer implements Answer {
     public boolean equals(Object obj) {
         if (obj == this) return true;
         if (obj == null || !(obj instanceof Answer)) return false;
-        QueryAnswer a2 = (QueryAnswer) obj;
-        return map.equals(a2.map);
+        Answer a2 = (Answer) obj;
+        return map.equals(a2.map());
     }
 
     @Override
@@ -150,6 +154,7 @@ public class QueryAnswer implements Answer {
     public Answer merge(Answer a2, boolean mergeExplanation){
         if(a2.isEmpty()) return this;
         if(this.isEmpty()) return a2;
+        if(a2 instanceof SlotAnswer) return SlotAnswer.of(map, explanation).merge(a2, mergeExplanation);
 
         Sets.SetView<Var> varUnion = Sets.union(this.vars(), a2.vars());
         Set<Var> varIntersection = Sets.intersection(this.vars(), a2.vars());
@@ -162,37 +167,42 @@ public class QueryAnswer implements Answer {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         varIntersection
                 .forEach(var -> {
-                    Concept concept = this.get(var);
-                    Concept otherConcept = a2.get(var);
-                    if (concept.equals(otherConcept)) entryMap.put(var, concept);
-                    else {
-                        if (concept.isSchemaConcept()
-                                && otherConcept.isSchemaConcept()
-                                && !ReasonerUtils.areDisjointTypes(concept.asSchemaConcept(), otherConcept.asSchemaConcept())) {
-                            entryMap.put(
-                                    var,
-                                    Iterables.getOnlyElement(ReasonerUtils.topOrMeta(
-                                            Sets.newHashSet(
-                                                    concept.asSchemaConcept(),
-                                                    otherConcept.asSchemaConcept())
-                                            )
-                                    )
-                            );
-                        }
-                    }
+                    Concept merged = mergeConcepts(this.get(var), a2.get(var));
+                    if (merged != null) entryMap.put(var, merged);
                 });
         if (!entryMap.keySet().equals(varUnion)) return new QueryAnswer();
 
         return new QueryAnswer(
                 entryMap,
-                mergeExplanation? this.mergeExplanation(a2) : this.getExplanation()
+                mergeExplanation? mergeExplanation(this, a2) : this.explanation
         );
     }
 
-    private AnswerExplanation mergeExplanation(Answer toMerge) {
+    /**
+     * @param concept concept bound to a join variable in the first answer
+     * @param otherConcept concept bound to the same variable in the second answer
+     * @return concept the join variable should be bound to in the merged answer, null if the concepts are incompatible
+     */
+    @Nullable
+    static Concept mergeConcepts(Concept concept, Concept otherConcept){
+        if (concept.equals(otherConcept)) return concept;
+        if (concept.isSchemaConcept()
+                && otherConcept.isSchemaConcept()
+                && !ReasonerUtils.areDisjointTypes(concept.asSchemaConcept(), otherConcept.asSchemaConcept())) {
+            return Iterables.getOnlyElement(ReasonerUtils.topOrMeta(
+                    Sets.newHashSet(
+                            concept.asSchemaConcept(),
+                            otherConcept.asSchemaConcept())
+                    )
+            );
+        }
+        return null;
+    }
+
+    static AnswerExplanation mergeExplanation(Answer answer, Answer toMerge) {
         List<Answer> partialAnswers = new ArrayList<>();
-        if (this.getExplanation().isJoinExplanation()) partialAnswers.addAll(this.getExplanation().getAnswers());
-        else partialAnswers.add(this);
+        if (answer.getExplanation().isJoinExplanation()) partialAnswers.addAll(answer.getExplanation().getAnswers());
+        else partialAnswers.add(answer);
         if (toMerge.getExplanation().isJoinExplanation()) partialAnswers.addAll(toMerge.getExplanation().getAnswers());
         else partialAnswers.add(toMerge);
         return new JoinExplanation(partialAnswers);
@@ -212,7 +222,7 @@ public class QueryAnswer implements Answer {
                 this.entrySet().stream()
                         .filter(e -> vars.contains(e.getKey()))
                         .collect(Collectors.toSet()),
-                this.getExplanation()
+                this.explanation
         );
     }
 
@@ -235,7 +245,7 @@ public class QueryAnswer implements Answer {
                 }
             }
         }
-        return new QueryAnswer(unified, this.getExplanation());
+        return new QueryAnswer(unified, this.explanation);
     }
 
     @Override
@@ -266,7 +276,10 @@ public class QueryAnswer implements Answer {
     }
 
     @Override
-    public AnswerExplanation getExplanation(){ return explanation;}
+    public AnswerExplanation getExplanation(){
+        if (explanation == null) explanation = new Explanation();
+        return explanation;
+    }
 
     @Override
     public Set<Answer> getExplicitPath(){
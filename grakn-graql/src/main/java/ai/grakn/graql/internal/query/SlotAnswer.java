@@ -0,0 +1,304 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.AnswerExplanation;
+import ai.grakn.graql.admin.Atomic;
+import ai.grakn.graql.admin.MultiUnifier;
+import ai.grakn.graql.admin.ReasonerQuery;
+import ai.grakn.graql.admin.Unifier;
+import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
+import ai.grakn.graql.internal.reasoner.explanation.Explanation;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ *
+ * <p>
+ * Compact implementation of {@link Answer} storing its concepts in an array indexed by the slots of a shared
+ * {@link VarSlots} layout. Projection, unification and merging only copy array elements according to layouts
+ * precomputed by {@link VarSlots}, and the explanation is only created when it is requested.
+ *
+ * The map view of the answer is built on demand, which makes {@link SlotAnswer}s interchangeable with {@link QueryAnswer}s.
+ * </p>
+ */
+public class SlotAnswer implements Answer {
+
+    private final VarSlots slots;
+    private final Concept[] concepts;
+
+    //explanation and map view are created lazily as most answers never need them
+    private AnswerExplanation explanation;
+    private ImmutableMap<Var, Concept> map = null;
+
+    /**
+     * @param slots variable layout of the answer
+     * @param concepts concepts indexed by the slots of the layout, the array is owned by the answer and must not be modified
+     * @param explanation explanation of the answer, null if the answer has a default explanation
+     */
+    public SlotAnswer(VarSlots slots, Concept[] concepts, @Nullable AnswerExplanation explanation){
+        if (slots.size() != concepts.length) {
+            throw new IllegalArgumentException("Answer with " + concepts.length + " concepts does not match layout " + slots);
+        }
+        this.slots = slots;
+        this.concepts = concepts;
+        this.explanation = explanation;
+    }
+
+    public SlotAnswer(VarSlots slots, Concept[] concepts){
+        this(slots, concepts, null);
+    }
+
+    /**
+     * @param map concepts of the answer by variable
+     * @return answer binding the same concepts, with a layout in the iteration order of the map
+     */
+    public static SlotAnswer of(Map<Var, ? extends Concept> map){
+        return of(map, null);
+    }
+
+    /**
+     * @param map concepts of the answer by variable
+     * @param explanation explanation of the answer, null if the answer has a default explanation
+     * @return answer binding the same concepts, with a layout in the iteration order of the map
+     */
+    public static SlotAnswer of(Map<Var, ? extends Concept> map, @Nullable AnswerExplanation explanation){
+        VarSlots slots = VarSlots.of(map.keySet());
+        Concept[] concepts = new Concept[slots.size()];
+        map.forEach((var, concept) -> concepts[slots.slotOf(var)] = concept);
+        return new SlotAnswer(slots, concepts, explanation);
+    }
+
+    /**
+     * @return variable layout of this answer
+     */
+    public VarSlots slots(){ return slots;}
+
+    @Override
+    public String toString(){
+        return entrySet().stream()
+                .sorted(Comparator.comparing(e -> e.getKey().getValue()))
+                .map(e -> "[" + e.getKey() + "/" + e.getValue().getId() + "]").collect(Collectors.joining());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || !(obj instanceof Answer)) return false;
+        if (obj instanceof SlotAnswer && ((SlotAnswer) obj).slots == slots) {
+            return Arrays.equals(concepts, ((SlotAnswer) obj).concepts);
+        }
+        return map().equals(((Answer) obj).map());
+    }
+
+    @Override
+    public int hashCode(){
+        //consistent with the hash code of the map view
+        int hashCode = 0;
+        for (int slot = 0; slot < concepts.length; slot++) {
+            hashCode += slots.varAt(slot).hashCode() ^ concepts[slot].hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public ImmutableMap<Var, Concept> map() {
+        if (map == null) {
+            ImmutableMap.Builder<Var, Concept> builder = ImmutableMap.builder();
+            for (int slot = 0; slot < concepts.length; slot++) builder.put(slots.varAt(slot), concepts[slot]);
+            map = builder.build();
+        }
+        return map;
+    }
+
+    @Override
+    public Set<Var> vars(){ return slots.varSet();}
+
+    @Override
+    public Collection<Concept> concepts(){ return Collections.unmodifiableList(Arrays.asList(concepts)); }
+
+    @Override
+    public Set<Map.Entry<Var, Concept>> entrySet(){ return map().entrySet();}
+
+    @Override
+    public Concept get(String var) {
+        return get(Graql.var(var));
+    }
+
+    @Override
+    public Concept get(Var var) {
+        int slot = slots.slotOf(var);
+        if (slot == -1) throw GraqlQueryException.varNotInQuery(var);
+        return concepts[slot];
+    }
+
+    @Override
+    public boolean containsVar(Var var){ return slots.slotOf(var) != -1;}
+
+    @Override
+    public boolean containsAll(Answer ans){
+        for (Map.Entry<Var, Concept> e : ans.entrySet()) {
+            int slot = slots.slotOf(e.getKey());
+            if (slot == -1 || !concepts[slot].equals(e.getValue())) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty(){ return concepts.length == 0;}
+
+    @Override
+    public int size(){ return concepts.length;}
+
+    @Override
+    public void forEach(BiConsumer<? super Var, ? super Concept> consumer) {
+        for (int slot = 0; slot < concepts.length; slot++) consumer.accept(slots.varAt(slot), concepts[slot]);
+    }
+
+    @Override
+    public Answer merge(Answer a2, boolean mergeExplanation){
+        if(a2.isEmpty()) return this;
+        if(this.isEmpty()) return a2;
+        //answers built from maps are converted, so that merged answers stay compact
+        SlotAnswer other = a2 instanceof SlotAnswer? (SlotAnswer) a2 : SlotAnswer.of(a2.map());
+        VarSlots.Merge merge = slots.merge(other.slots);
+        Concept[] merged = new Concept[merge.slots.size()];
+        for (int slot = 0; slot < merged.length; slot++) {
+            int left = merge.left[slot];
+            int right = merge.right[slot];
+            if (left == -1) merged[slot] = other.concepts[right];
+            else if (right == -1) merged[slot] = concepts[left];
+            else {
+                Concept concept = QueryAnswer.mergeConcepts(concepts[left], other.concepts[right]);
+                if (concept == null) return new QueryAnswer();
+                merged[slot] = concept;
+            }
+        }
+        return new SlotAnswer(
+                merge.slots,
+                merged,
+                mergeExplanation? QueryAnswer.mergeExplanation(this, a2) : this.explanation
+        );
+    }
+
+    @Override
+    public Answer merge(Answer a2){ return this.merge(a2, false);}
+
+    @Override
+    public Answer explain(AnswerExplanation exp){
+        //concepts are never modified, hence the array can be shared
+        return new SlotAnswer(slots, concepts, exp.childOf(this));
+    }
+
+    @Override
+    public Answer project(Set<Var> vars) {
+        long mask = slots.retainedMask(vars);
+        if (mask == -1) return asQueryAnswer().project(vars);
+
+        VarSlots.Projection projection = slots.projection(mask);
+        if (projection.slots.size() == concepts.length) return new SlotAnswer(slots, concepts, this.explanation);
+        Concept[] projected = new Concept[projection.sources.length];
+        for (int slot = 0; slot < projected.length; slot++) projected[slot] = concepts[projection.sources[slot]];
+        return new SlotAnswer(projection.slots, projected, this.explanation);
+    }
+
+    @Override
+    public Answer unify(Unifier unifier){
+        if (unifier.isEmpty()) return this;
+        VarSlots.Unification unification = slots.unification(unifier);
+        Concept[] unified = new Concept[unification.sources.length];
+        for (int slot = 0; slot < unified.length; slot++) {
+            int[] sources = unification.sources[slot];
+            Concept concept = concepts[sources[0]];
+            for (int i = 1; i < sources.length; i++) {
+                if (!concept.equals(concepts[sources[i]])) return new QueryAnswer();
+            }
+            unified[slot] = concept;
+        }
+        return new SlotAnswer(unification.slots, unified, this.explanation);
+    }
+
+    @Override
+    public Stream<Answer> unify(MultiUnifier multiUnifier) {
+        return multiUnifier.stream().map(this::unify);
+    }
+
+    @Override
+    public Stream<Answer> expandHierarchies(Set<Var> toExpand) {
+        if (toExpand.isEmpty()) return Stream.of(this);
+        return asQueryAnswer().expandHierarchies(toExpand);
+    }
+
+    @Override
+    public AnswerExplanation getExplanation(){
+        if (explanation == null) explanation = new Explanation();
+        return explanation;
+    }
+
+    @Override
+    public Set<Answer> getExplicitPath(){
+        return getPartialAnswers().stream().filter(ans -> ans.getExplanation().isLookupExplanation()).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<Answer> getPartialAnswers(){
+        Set<Answer> answers = Sets.newHashSet(this);
+        this.getExplanation().getAnswers().forEach(ans -> ans.getPartialAnswers().forEach(answers::add));
+        return answers;
+    }
+
+    @Override
+    public Set<AnswerExplanation> getExplanations(){
+        Set<AnswerExplanation> explanations = Sets.newHashSet(this.getExplanation());
+        this.getExplanation().getAnswers().forEach(ans -> ans.getExplanations().forEach(explanations::add));
+        return explanations;
+    }
+
+    @Override
+    public Set<Atomic> toPredicates(ReasonerQuery parent) {
+        Set<Var> varNames = parent.getVarNames();
+        Set<Atomic> predicates = new HashSet<>();
+        for (int slot = 0; slot < concepts.length; slot++) {
+            Var var = slots.varAt(slot);
+            if (varNames.contains(var)) predicates.add(IdPredicate.create(var, concepts[slot], parent));
+        }
+        return predicates;
+    }
+
+    private QueryAnswer asQueryAnswer(){
+        return new QueryAnswer(map(), explanation);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Unifier;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * <p>
+ * Resolves the variables of a query to integer slots, so that {@link SlotAnswer}s of the same query can store their
+ * concepts in a plain array and share a single variable layout.
+ *
+ * The layouts resulting from projecting, unifying and merging answers are computed once per layout and cached,
+ * so that the per-answer work of these operations is reduced to copying array elements.
+ * </p>
+ */
+public class VarSlots {
+
+    /**
+     * Maximum number of slots for which projections are cached, the projected variables are encoded as a bit mask
+     */
+    static final int MAX_PROJECTION_SLOTS = Long.SIZE;
+
+    /**
+     * Layouts of the same variables are shared, so that the layouts derived from them are computed only once
+     */
+    private static final Cache<ImmutableList<Var>, VarSlots> interned = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .build();
+
+    /**
+     * Maximum number of projections, unifications and merges cached for each layout
+     */
+    private static final int MAX_DERIVED_LAYOUTS = 64;
+
+    private final ImmutableList<Var> vars;
+    private final ImmutableSet<Var> varSet;
+    private final ImmutableMap<Var, Integer> slots;
+
+    // Derived layouts are interned as well, so these caches only ever refer to layouts of the bounded intern cache
+    private final Map<Long, Projection> projections = derivedCache();
+    private final Map<Unifier, Unification> unifications = derivedCache();
+    private final Map<VarSlots, Merge> merges = derivedCache();
+
+    private VarSlots(Collection<Var> vars){
+        this.vars = ImmutableList.copyOf(vars);
+        this.varSet = ImmutableSet.copyOf(vars);
+        ImmutableMap.Builder<Var, Integer> builder = ImmutableMap.builder();
+        for (int i = 0; i < this.vars.size(); i++) builder.put(this.vars.get(i), i);
+        this.slots = builder.build();
+    }
+
+    /**
+     * @param vars variables of the query, each variable gets the slot corresponding to its iteration order
+     * @return slot layout for the provided variables
+     */
+    public static VarSlots of(Collection<Var> vars){
+        ImmutableList<Var> key = ImmutableSet.copyOf(vars).asList();
+        return interned.asMap().computeIfAbsent(key, VarSlots::new);
+    }
+
+    private static <K, V> Map<K, V> derivedCache(){
+        return CacheBuilder.newBuilder().maximumSize(MAX_DERIVED_LAYOUTS).<K, V>build().asMap();
+    }
+
+    /**
+     * @return variables in slot order
+     */
+    public ImmutableList<Var> vars(){ return vars;}
+
+    ImmutableSet<Var> varSet(){ return varSet;}
+
+    public int size(){ return vars.size();}
+
+    /**
+     * @param var variable of interest
+     * @return slot of the variable or -1 if the variable is not part of this layout
+     */
+    public int slotOf(Var var){
+        Integer slot = slots.get(var);
+        return slot != null? slot : -1;
+    }
+
+    Var varAt(int slot){ return vars.get(slot);}
+
+    /**
+     * @param retained bit mask of slots to be retained
+     * @return projection retaining the specified slots
+     */
+    Projection projection(long retained){
+        return projections.computeIfAbsent(retained, mask -> {
+            List<Var> projectedVars = new ArrayList<>();
+            int[] sources = new int[Long.bitCount(mask)];
+            int i = 0;
+            for (int slot = 0; slot < vars.size(); slot++) {
+                if ((mask & (1L << slot)) != 0) {
+                    projectedVars.add(vars.get(slot));
+                    sources[i++] = slot;
+                }
+            }
+            return new Projection(VarSlots.of(projectedVars), sources);
+        });
+    }
+
+    /**
+     * @param unifier unifier to be applied to answers with this layout
+     * @return unification describing the slots of the unified answers
+     */
+    Unification unification(Unifier unifier){
+        return unifications.computeIfAbsent(unifier, u -> {
+            Map<Var, List<Integer>> targets = new LinkedHashMap<>();
+            Collection<Var> unifierValues = u.values();
+            for (int slot = 0; slot < vars.size(); slot++) {
+                Var var = vars.get(slot);
+                Collection<Var> uvars = u.get(var);
+                if (uvars.isEmpty() && !unifierValues.contains(var)) {
+                    targets.computeIfAbsent(var, v -> new ArrayList<>()).add(slot);
+                } else {
+                    for (Var uv : uvars) targets.computeIfAbsent(uv, v -> new ArrayList<>()).add(slot);
+                }
+            }
+            int[][] sources = new int[targets.size()][];
+            int i = 0;
+            for (List<Integer> targetSources : targets.values()) {
+                sources[i++] = targetSources.stream().mapToInt(Integer::intValue).toArray();
+            }
+            return new Unification(VarSlots.of(targets.keySet()), sources);
+        });
+    }
+
+    /**
+     * @param other layout of the answers to be merged with answers of this layout
+     * @return merge describing the slots of the merged answers
+     */
+    Merge merge(VarSlots other){
+        return merges.computeIfAbsent(other, o -> {
+            List<Var> mergedVars = new ArrayList<>(vars);
+            o.vars().stream().filter(v -> !varSet.contains(v)).forEach(mergedVars::add);
+            int[] left = new int[mergedVars.size()];
+            int[] right = new int[mergedVars.size()];
+            for (int i = 0; i < mergedVars.size(); i++) {
+                Var var = mergedVars.get(i);
+                left[i] = slotOf(var);
+                right[i] = o.slotOf(var);
+            }
+            return new Merge(VarSlots.of(mergedVars), left, right);
+        });
+    }
+
+    /**
+     * @param vars variables to be retained
+     * @return bit mask of the retained slots or -1 if the layout is too wide to be projected via masks
+     */
+    long retainedMask(Set<Var> vars){
+        if (this.vars.size() > MAX_PROJECTION_SLOTS - 1) return -1;
+        long mask = 0;
+        for (int slot = 0; slot < this.vars.size(); slot++) {
+            if (vars.contains(this.vars.get(slot))) mask |= 1L << slot;
+        }
+        return mask;
+    }
+
+    @Override
+    public String toString(){ return vars.toString();}
+
+    /**
+     * Layout of a projected answer together with the source slot of each projected slot.
+     */
+    static class Projection {
+        final VarSlots slots;
+        final int[] sources;
+
+        Projection(VarSlots slots, int[] sources){
+            this.slots = slots;
+            this.sources = sources;
+        }
+    }
+
+    /**
+     * Layout of a unified answer together with the source slots of each unified slot.
+     * All source slots of a unified slot need to be bound to the same concept for the unification to succeed.
+     */
+    static class Unification {
+        final VarSlots slots;
+        final int[][] sources;
+
+        Unification(VarSlots slots, int[][] sources){
+            this.slots = slots;
+            this.sources = sources;
+        }
+    }
+
+    /**
+     * Layout of a merged answer together with the source slots in the left and right answer (-1 if absent).
+     */
+    static class Merge {
+        final VarSlots slots;
+        final int[] left;
+        final int[] right;
+
+        Merge(VarSlots slots, int[] left, int[] right){
+            this.slots = slots;
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
@@ -21,12 +21,14 @@ package ai.grakn.graql.internal.query.analytics;
 import ai.grakn.ComputeJob;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
+import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.ComputeQuery;
 import ai.grakn.graql.internal.query.AbstractExecutableQuery;
 import ai.grakn.graql.internal.util.StringConverter;
 import com.google.common.collect.ImmutableSet;
 
 import javax.annotation.Nullable;
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
@@ -41,6 +43,8 @@ abstract class AbstractComputeQuery<T, V extends ComputeQuery<T>>
 
     private Optional<GraknTx> tx;
     private boolean includeAttribute;
+    private boolean useSnapshot = false;
+    private Optional<Double> relativeError = Optional.empty();
     private ImmutableSet<Label> subLabels = ImmutableSet.of();
 
     private Set<ComputeJob<T>> runningJobs = ConcurrentHashMap.newKeySet();
@@ -109,6 +113,27 @@ abstract class AbstractComputeQuery<T, V extends ComputeQuery<T>>
         return includeAttribute;
     }
 
+    @Override
+    public final V useSnapshot() {
+        this.useSnapshot = true;
+        return (V) this;
+    }
+
+    @Override
+    public final boolean isSnapshotUsed() {
+        return useSnapshot;
+    }
+
+    public final V approximate(double relativeError) {
+        if (!(relativeError > 0)) throw GraqlQueryException.relativeErrorMustBePositive(relativeError);
+        this.relativeError = Optional.of(relativeError);
+        return (V) this;
+    }
+
+    public final Optional<Double> relativeError() {
+        return relativeError;
+    }
+
     @Override
     public final void kill() {
         runningJobs.forEach(ComputeJob::kill);
@@ -121,9 +146,13 @@ abstract class AbstractComputeQuery<T, V extends ComputeQuery<T>>
                 + subLabels.stream().map(StringConverter::typeLabelToString).collect(joining(", ")) + ";";
     }
 
+    final String approximationString() {
+        return relativeError.map(error -> " approximate " + BigDecimal.valueOf(error).toPlainString() + ";").orElse("");
+    }
+
     @Override
     public final String toString() {
-        return "compute " + graqlString();
+        return "compute " + graqlString() + (useSnapshot ? " using snapshot;" : "");
     }
 
     @Nullable
@@ -139,13 +168,16 @@ abstract class AbstractComputeQuery<T, V extends ComputeQuery<T>>
 
         AbstractComputeQuery<?, ?> that = (AbstractComputeQuery<?, ?>) o;
 
-        return tx.equals(that.tx) && includeAttribute == that.includeAttribute && subLabels.equals(that.subLabels);
+        return tx.equals(that.tx) && includeAttribute == that.includeAttribute && useSnapshot == that.useSnapshot &&
+                relativeError.equals(that.relativeError) && subLabels.equals(that.subLabels);
     }
 
     @Override
     public int hashCode() {
         int result = tx.hashCode();
         result = 31 * result + Boolean.hashCode(includeAttribute);
+        result = 31 * result + Boolean.hashCode(useSnapshot);
+        result = 31 * result + relativeError.hashCode();
         result = 31 * result + subLabels.hashCode();
         return result;
     }
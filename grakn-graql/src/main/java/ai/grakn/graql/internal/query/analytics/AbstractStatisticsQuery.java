@@ -60,7 +60,7 @@ abstract class AbstractStatisticsQuery<T, V extends StatisticsQuery<T>>
 
     @Override
     final String graqlString() {
-        return getName() + resourcesString() + subtypeString();
+        return getName() + resourcesString() + subtypeString() + approximationString();
     }
 
     abstract String getName();
@@ -21,6 +21,7 @@ package ai.grakn.graql.internal.query.analytics;
 import ai.grakn.ComputeJob;
 import ai.grakn.GraknTx;
 import ai.grakn.graql.analytics.CountQuery;
+import ai.grakn.graql.analytics.Estimate;
 
 import java.util.Optional;
 
@@ -35,8 +36,13 @@ class CountQueryImpl extends AbstractComputeQuery<Long, CountQuery> implements C
         return queryRunner().run(this);
     }
 
+    @Override
+    public final Optional<Estimate> estimate() {
+        return queryRunner().estimate(this).get();
+    }
+
     @Override
     String graqlString() {
-        return "count" + subtypeString();
+        return "count" + subtypeString() + approximationString();
     }
 }
@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.analytics;
 
 import ai.grakn.ComputeJob;
 import ai.grakn.GraknTx;
+import ai.grakn.graql.analytics.Estimate;
 import ai.grakn.graql.analytics.MeanQuery;
 
 import java.util.Optional;
@@ -35,6 +36,11 @@ class MeanQueryImpl extends AbstractStatisticsQuery<Optional<Double>, MeanQuery>
         return queryRunner().run(this);
     }
 
+    @Override
+    public final Optional<Estimate> estimate() {
+        return queryRunner().estimate(this).get();
+    }
+
     @Override
     String getName() {
         return "mean";
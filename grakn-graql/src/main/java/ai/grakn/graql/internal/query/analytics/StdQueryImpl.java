@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.analytics;
 
 import ai.grakn.ComputeJob;
 import ai.grakn.GraknTx;
+import ai.grakn.graql.analytics.Estimate;
 import ai.grakn.graql.analytics.StdQuery;
 
 import java.util.Optional;
@@ -35,6 +36,11 @@ class StdQueryImpl extends AbstractStatisticsQuery<Optional<Double>, StdQuery> i
         return queryRunner().run(this);
     }
 
+    @Override
+    public final Optional<Estimate> estimate() {
+        return queryRunner().estimate(this).get();
+    }
+
     @Override
     String getName() {
         return "std";
@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.analytics;
 
 import ai.grakn.ComputeJob;
 import ai.grakn.GraknTx;
+import ai.grakn.graql.analytics.Estimate;
 import ai.grakn.graql.analytics.SumQuery;
 
 import java.util.Optional;
@@ -35,6 +36,11 @@ class SumQueryImpl extends AbstractStatisticsQuery<Optional<Number>, SumQuery> i
         return queryRunner().run(this);
     }
 
+    @Override
+    public final Optional<Estimate> estimate() {
+        return queryRunner().estimate(this).get();
+    }
+
     @Override
     String getName() {
         return "sum";
@@ -29,9 +29,13 @@ import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.PatternAdmin;
 import ai.grakn.graql.internal.gremlin.GraqlTraversal;
 import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
-import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.SlotAnswer;
+import ai.grakn.graql.internal.query.VarSlots;
+import ai.grakn.graql.internal.query.profile.QueryProfile;
+import ai.grakn.graql.internal.query.profile.TraversalProfile;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.util.CommonUtil;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -40,7 +44,10 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -59,6 +66,11 @@ public class MatchBase extends AbstractMatch {
 
     protected final Logger LOG = LoggerFactory.getLogger(MatchBase.class);
 
+    /**
+     * Largest number of results read from the traversal before the properties of their vertices are loaded together
+     */
+    private static final int MAX_PREFETCH_CHUNK_SIZE = 100;
+
     private final Conjunction<PatternAdmin> pattern;
 
     /**
@@ -78,10 +90,12 @@ public class MatchBase extends AbstractMatch {
 
         validatePattern(tx);
 
+        long planningStart = System.nanoTime();
         GraqlTraversal graqlTraversal = GreedyTraversalPlan.createTraversal(pattern, tx);
+        long planningNanos = System.nanoTime() - planningStart;
         LOG.trace("Created query plan");
         LOG.trace(graqlTraversal.toString());
-        return streamWithTraversal(this.getPattern().commonVars(), tx, graqlTraversal);
+        return streamWithTraversal(this.getPattern().commonVars(), tx, graqlTraversal, planningNanos);
     }
 
     /**
@@ -92,40 +106,92 @@ public class MatchBase extends AbstractMatch {
      */
     public static Stream<Answer> streamWithTraversal(
             Set<Var> commonVars, EmbeddedGraknTx<?> tx, GraqlTraversal graqlTraversal
+    ) {
+        return streamWithTraversal(commonVars, tx, graqlTraversal, 0);
+    }
+
+    /**
+     * @param commonVars set of variables of interest
+     * @param tx the graph to get results from
+     * @param graqlTraversal gral traversal corresponding to the provided pattern
+     * @param planningNanos time spent planning the traversal, reported when the query is profiled
+     * @return resulting answer stream
+     */
+    public static Stream<Answer> streamWithTraversal(
+            Set<Var> commonVars, EmbeddedGraknTx<?> tx, GraqlTraversal graqlTraversal, long planningNanos
     ) {
         Set<Var> vars = Sets.filter(commonVars, Var::isUserDefinedName);
+        VarSlots slots = VarSlots.of(vars);
 
-        GraphTraversal<Vertex, Map<String, Element>> traversal = graqlTraversal.getGraphTraversal(tx, vars);
+        TraversalProfile profile = QueryProfile.current()
+                .map(queryProfile -> queryProfile.addTraversal(graqlTraversal, planningNanos))
+                .orElse(null);
 
-        return traversal.toStream()
-                .map(elements -> makeResults(vars, tx, elements))
-                .flatMap(CommonUtil::optionalToStream)
+        GraphTraversal<Vertex, Map<String, Element>> traversal = graqlTraversal.getGraphTraversal(tx, vars, profile);
+        Iterator<Map<String, Element>> elements = profile != null ? profile.profile(traversal) : traversal;
+
+        // Results are read in small chunks, so they remain lazy but the vertices of a chunk can be loaded together
+        return CommonUtil.stream(growingChunks(elements))
+                .flatMap(chunk -> {
+                    prefetchProperties(slots, tx, chunk);
+                    return chunk.stream().map(result -> makeResults(slots, tx, result));
+                })
                 .distinct()
-                .sequential()
-                .map(QueryAnswer::new);
+                .sequential();
+    }
+
+    /**
+     * Split results into chunks which start with a single result and double in size up to
+     * {@link #MAX_PREFETCH_CHUNK_SIZE}, so a query which only needs its first few results does not read many more
+     */
+    private static <T> Iterator<List<T>> growingChunks(Iterator<T> results) {
+        return new AbstractIterator<List<T>>() {
+            private int size = 1;
+
+            @Override
+            protected List<T> computeNext() {
+                if (!results.hasNext()) return endOfData();
+
+                List<T> chunk = new ArrayList<>(size);
+                while (chunk.size() < size && results.hasNext()) chunk.add(results.next());
+                size = Math.min(size * 2, MAX_PREFETCH_CHUNK_SIZE);
+                return chunk;
+            }
+        };
+    }
+
+    private static void prefetchProperties(VarSlots slots, EmbeddedGraknTx<?> tx, List<Map<String, Element>> chunk) {
+        Set<Vertex> vertices = new HashSet<>();
+        for (Map<String, Element> elements : chunk) {
+            for (Var var : slots.vars()) {
+                Element element = elements.get(var.name());
+                if (element instanceof Vertex) vertices.add((Vertex) element);
+            }
+        }
+        tx.prefetchProperties(vertices);
     }
 
     /**
-     * @param vars set of variables of interest
+     * @param slots variable layout of the answers
      * @param tx the graph to get results from
      * @param elements a map of vertices and edges where the key is the variable name
-     * @return a map of concepts where the key is the variable name
+     * @return an answer binding each variable of the layout to the concept of the corresponding element
      */
-    private static Optional<Map<Var, Concept>> makeResults(
-            Set<Var> vars, EmbeddedGraknTx<?> tx, Map<String, Element> elements
+    private static Answer makeResults(
+            VarSlots slots, EmbeddedGraknTx<?> tx, Map<String, Element> elements
     ) {
-        Map<Var, Concept> map = new HashMap<>();
-        for (Var var : vars) {
+        Concept[] concepts = new Concept[slots.size()];
+        for (int slot = 0; slot < concepts.length; slot++) {
+            Var var = slots.vars().get(slot);
             Element element = elements.get(var.name());
             if (element == null) {
                 throw GraqlQueryException.unexpectedResult(var);
             } else {
-                Concept concept = buildConcept(tx, element);
-                map.put(var, concept);
+                concepts[slot] = buildConcept(tx, element);
             }
         }
 
-        return Optional.of(map);
+        return new SlotAnswer(slots, concepts);
     }
 
     private static Concept buildConcept(EmbeddedGraknTx<?> tx, Element element) {
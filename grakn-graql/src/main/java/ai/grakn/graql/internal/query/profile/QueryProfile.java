@@ -0,0 +1,205 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.profile;
+
+import ai.grakn.graql.Query;
+import ai.grakn.graql.internal.gremlin.GraqlTraversal;
+import com.google.common.collect.ImmutableList;
+import mjson.Json;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import static ai.grakn.graql.internal.query.profile.TraversalProfile.nanosToMillis;
+
+/**
+ * <p>
+ * Profile of a single query execution, the equivalent of an "explain analyze".
+ *
+ * A query is profiled by executing it with {@link #profile(Query)}. While the query executes, every traversal it runs,
+ * including the ones run by the reasoner for sub-goals, is instrumented and recorded as a {@link TraversalProfile}.
+ * The reasoner additionally records the number of sub-goals it resolved, how often its caches could answer them and
+ * the plans it resolved conjunctions of sub-goals with.
+ * </p>
+ */
+public class QueryProfile {
+
+    // Queries are executed on the thread requesting them, so the profile is attached to that thread
+    private static final ThreadLocal<QueryProfile> current = new ThreadLocal<>();
+
+    private static final int MAX_RESOLUTION_PLANS = 100;
+
+    private final String query;
+    private final List<TraversalProfile> traversals = new CopyOnWriteArrayList<>();
+    private final LongAdder subGoals = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final Set<String> resolutionPlans = Collections.synchronizedSet(new LinkedHashSet<>());
+    private long executionNanos = 0;
+    private long results = 0;
+
+    private QueryProfile(String query) {
+        this.query = query;
+    }
+
+    /**
+     * Execute the given query and profile its execution
+     *
+     * @param query the query to profile
+     * @return the profile of the query execution
+     */
+    public static QueryProfile profile(Query<?> query) {
+        QueryProfile profile = new QueryProfile(query.toString());
+        QueryProfile previous = current.get();
+        current.set(profile);
+
+        long start = System.nanoTime();
+        try {
+            Object result = query.execute();
+            profile.results = countResults(result);
+        } finally {
+            profile.executionNanos = System.nanoTime() - start;
+            if (previous != null) current.set(previous);
+            else current.remove();
+        }
+        return profile;
+    }
+
+    private static long countResults(@Nullable Object result) {
+        if (result == null) return 0;
+        if (result instanceof Collection) return ((Collection<?>) result).size();
+        if (result instanceof Map) return ((Map<?, ?>) result).size();
+        if (result instanceof Optional) return ((Optional<?>) result).isPresent() ? 1 : 0;
+        return 1;
+    }
+
+    /**
+     * @return the profile of the query executing on this thread, if it is being profiled
+     */
+    public static Optional<QueryProfile> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Start profiling a traversal executed as part of this query
+     *
+     * @param traversal the planned traversal
+     * @param planningNanos the time it took to plan the traversal
+     * @return the profile the traversal should record its statistics in
+     */
+    public TraversalProfile addTraversal(GraqlTraversal traversal, long planningNanos) {
+        TraversalProfile profile = new TraversalProfile(traversal, planningNanos);
+        traversals.add(profile);
+        return profile;
+    }
+
+    public void recordSubGoal() {
+        subGoals.increment();
+    }
+
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    /**
+     * Record a plan the reasoner made to resolve a conjunction of sub-goals. Identical plans are recorded once.
+     */
+    public void recordResolutionPlan(String plan) {
+        if (resolutionPlans.size() < MAX_RESOLUTION_PLANS) resolutionPlans.add(plan);
+    }
+
+    public String query() {
+        return query;
+    }
+
+    public ImmutableList<TraversalProfile> traversals() {
+        return ImmutableList.copyOf(traversals);
+    }
+
+    public long subGoals() {
+        return subGoals.sum();
+    }
+
+    public long cacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long cacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public ImmutableList<String> resolutionPlans() {
+        synchronized (resolutionPlans) {
+            return ImmutableList.copyOf(resolutionPlans);
+        }
+    }
+
+    public long executionNanos() {
+        return executionNanos;
+    }
+
+    public long results() {
+        return results;
+    }
+
+    public Json toJson() {
+        Json traversalsJson = Json.array();
+        traversals.forEach(traversal -> traversalsJson.add(traversal.toJson()));
+        Json plansJson = Json.array();
+        resolutionPlans().forEach(plansJson::add);
+        return Json.object(
+                "query", query,
+                "execution-time-ms", nanosToMillis(executionNanos),
+                "results", results,
+                "traversals", traversalsJson,
+                "reasoner", Json.object(
+                        "sub-goals", subGoals(),
+                        "cache-hits", cacheHits(),
+                        "cache-misses", cacheMisses(),
+                        "plans", plansJson
+                )
+        );
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(query).append("\n")
+                .append("execution ").append(nanosToMillis(executionNanos)).append(" ms, ")
+                .append(results).append(" results\n");
+        traversals.forEach(builder::append);
+        builder.append("reasoner sub-goals=").append(subGoals())
+                .append(" cache-hits=").append(cacheHits())
+                .append(" cache-misses=").append(cacheMisses());
+        resolutionPlans().forEach(plan -> builder.append("\nreasoner plan:\n").append(plan));
+        return builder.toString();
+    }
+}
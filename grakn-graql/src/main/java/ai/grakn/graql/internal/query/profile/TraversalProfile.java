@@ -0,0 +1,286 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.profile;
+
+import ai.grakn.graql.internal.gremlin.GraqlTraversal;
+import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import com.google.common.collect.ImmutableList;
+import mjson.Json;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static ai.grakn.util.CommonUtil.toImmutableList;
+
+/**
+ * <p>
+ * Runtime statistics of a single executed {@link GraqlTraversal}.
+ *
+ * For every {@link Fragment} of the plan it records the estimated number of traversers, derived from the same
+ * fragment costs the planner uses, together with the actual number of traversers that passed the fragment and the
+ * wall time spent producing them. The time of a fragment is the time elapsed since the previous fragment emitted a
+ * traverser, excluding time during which the consumer of the traversal was not pulling answers.
+ * </p>
+ */
+public class TraversalProfile {
+
+    private final String plan;
+    private final long planningNanos;
+    private final ImmutableList<ImmutableList<FragmentProfile>> conjunctions;
+    private final LongAdder answers = new LongAdder();
+
+    //traversals are pulled by a single thread, so the timing state does not need to be synchronised
+    private long lastMark = 0;
+    private boolean running = false;
+
+    TraversalProfile(GraqlTraversal traversal, long planningNanos) {
+        this.plan = traversal.toString();
+        this.planningNanos = planningNanos;
+        this.conjunctions = traversal.fragments().stream()
+                .map(this::profileConjunction)
+                .collect(toImmutableList());
+    }
+
+    private ImmutableList<FragmentProfile> profileConjunction(List<Fragment> fragments) {
+        ImmutableList.Builder<FragmentProfile> builder = ImmutableList.builder();
+        double[] estimates = GraqlTraversal.estimatedTraversers(fragments);
+        for (int i = 0; i < fragments.size(); i++) {
+            builder.add(new FragmentProfile(fragments.get(i), estimates[i]));
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param fragments fragments of a conjunction of the profiled traversal
+     * @return profiles of the given fragments, in the same order
+     */
+    public List<FragmentProfile> fragmentProfiles(List<Fragment> fragments) {
+        return conjunctions.stream()
+                .filter(conjunction -> conjunction.size() == fragments.size())
+                .filter(conjunction -> {
+                    for (int i = 0; i < fragments.size(); i++) {
+                        if (conjunction.get(i).fragment != fragments.get(i)) return false;
+                    }
+                    return true;
+                })
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Fragments " + fragments + " are not part of plan " + plan));
+    }
+
+    /**
+     * Wraps the iterator of the traversal, so that time spent by the consumer between pulls is not profiled
+     *
+     * @param iterator iterator of the profiled traversal
+     * @return iterator with identical elements
+     */
+    public <T> Iterator<T> profile(Iterator<T> iterator) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                resume();
+                try {
+                    return iterator.hasNext();
+                } finally {
+                    pause();
+                }
+            }
+
+            @Override
+            public T next() {
+                resume();
+                try {
+                    T next = iterator.next();
+                    answers.increment();
+                    return next;
+                } finally {
+                    pause();
+                }
+            }
+        };
+    }
+
+    private void resume() {
+        running = true;
+        lastMark = System.nanoTime();
+    }
+
+    private void pause() {
+        running = false;
+    }
+
+    private void mark(FragmentProfile fragment, long bulk) {
+        fragment.traversers.add(bulk);
+        if (running) {
+            long now = System.nanoTime();
+            fragment.nanos.add(now - lastMark);
+            lastMark = now;
+        }
+    }
+
+    public String plan() {
+        return plan;
+    }
+
+    public long planningNanos() {
+        return planningNanos;
+    }
+
+    public long answers() {
+        return answers.sum();
+    }
+
+    public ImmutableList<ImmutableList<FragmentProfile>> conjunctions() {
+        return conjunctions;
+    }
+
+    /**
+     * @return total time spent in the fragments of this traversal
+     */
+    public long fragmentNanos() {
+        return conjunctions.stream().flatMap(List::stream).mapToLong(FragmentProfile::nanos).sum();
+    }
+
+    /**
+     * @return the shape of the plan, consisting of the fragment kinds only, which is shared by queries with
+     * different variable names and constants
+     */
+    public String shape() {
+        return conjunctions.stream()
+                .map(conjunction -> conjunction.stream().map(f -> f.kind).collect(Collectors.joining(" ")))
+                .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    Json toJson() {
+        Json fragments = Json.array();
+        conjunctions.forEach(conjunction -> {
+            Json conjunctionJson = Json.array();
+            conjunction.forEach(fragment -> conjunctionJson.add(fragment.toJson()));
+            fragments.add(conjunctionJson);
+        });
+        return Json.object(
+                "plan", plan,
+                "planning-time-ms", nanosToMillis(planningNanos),
+                "answers", answers(),
+                "fragments", fragments
+        );
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("plan ").append(plan)
+                .append(" (planning ").append(nanosToMillis(planningNanos)).append(" ms, ")
+                .append(answers()).append(" answers)\n");
+        conjunctions.forEach(conjunction -> conjunction.forEach(fragment -> builder.append("  ").append(fragment).append("\n")));
+        return builder.toString();
+    }
+
+    static double nanosToMillis(long nanos) {
+        return nanos / 1_000_000D;
+    }
+
+    /**
+     * Runtime statistics of a single {@link Fragment} in a profiled traversal
+     */
+    public class FragmentProfile {
+
+        private final Fragment fragment;
+        private final String name;
+        private final String kind;
+        private final double estimatedTraversers;
+        private final LongAdder traversers = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        FragmentProfile(Fragment fragment, double estimatedTraversers) {
+            this.fragment = fragment;
+            this.name = fragment.name();
+            this.kind = kind(name);
+            this.estimatedTraversers = estimatedTraversers;
+        }
+
+        /**
+         * Strip everything after the first {@code :} of a fragment name, such as labels, values, ids and variables,
+         * so that only the kind of the fragment and its direction remain, e.g. {@code [label]} or {@code -[isa]->}
+         */
+        private String kind(String name) {
+            int colon = name.indexOf(':');
+            if (colon < 0) return name;
+
+            String end;
+            if (name.startsWith("<-")) {
+                end = "]-";
+            } else if (name.startsWith("-")) {
+                end = "]->";
+            } else {
+                end = "]";
+            }
+            return name.substring(0, colon) + end;
+        }
+
+        /**
+         * Record traversers that have passed this fragment
+         *
+         * @param bulk number of traversers represented by the Gremlin traverser
+         */
+        public void record(long bulk) {
+            mark(this, bulk);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return the name of the fragment without any constants or variables, which is shared by all fragments of
+         * the same kind
+         */
+        public String kind() {
+            return kind;
+        }
+
+        public double estimatedTraversers() {
+            return estimatedTraversers;
+        }
+
+        public long actualTraversers() {
+            return traversers.sum();
+        }
+
+        public long nanos() {
+            return nanos.sum();
+        }
+
+        Json toJson() {
+            return Json.object(
+                    "fragment", fragment.toString(),
+                    "estimated", Math.round(estimatedTraversers),
+                    "actual", actualTraversers(),
+                    "time-ms", nanosToMillis(nanos())
+            );
+        }
+
+        @Override
+        public String toString() {
+            return fragment + " estimated=" + Math.round(estimatedTraversers) + " actual=" + actualTraversers()
+                    + " time=" + nanosToMillis(nanos()) + "ms";
+        }
+    }
+}
@@ -194,6 +194,12 @@ class TinkerComputeQuery<Q extends ComputeQuery<?>> {
         return predecessors;
     }
 
+    final Multimap<Concept, Concept> getPredecessorMap(Multimap<ConceptId, ConceptId> successors) {
+        Multimap<Concept, Concept> predecessors = HashMultimap.create();
+        successors.forEach((id, id2) -> predecessors.put(tx.getConcept(id), tx.getConcept(id2)));
+        return predecessors;
+    }
+
     final List<List<Concept>> getAllPaths(Multimap<Concept, Concept> predecessorMapFromSource, ConceptId sourceId) {
         List<List<Concept>> allPaths = new ArrayList<>();
         List<Concept> firstPath = new ArrayList<>();
@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.runner;
 
 import ai.grakn.ComputeJob;
 import ai.grakn.GraknComputer;
+import ai.grakn.GraknConfigKey;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
@@ -28,12 +29,14 @@ import ai.grakn.concept.LabelId;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.Type;
 import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.ApproximableQuery;
 import ai.grakn.graql.ComputeQuery;
 import ai.grakn.graql.StatisticsQuery;
 import ai.grakn.graql.analytics.ConnectedComponentQuery;
 import ai.grakn.graql.analytics.CorenessQuery;
 import ai.grakn.graql.analytics.CountQuery;
 import ai.grakn.graql.analytics.DegreeQuery;
+import ai.grakn.graql.analytics.Estimate;
 import ai.grakn.graql.analytics.KCoreQuery;
 import ai.grakn.graql.analytics.MaxQuery;
 import ai.grakn.graql.analytics.MeanQuery;
@@ -60,7 +63,10 @@ import ai.grakn.graql.internal.analytics.MaxMapReduce;
 import ai.grakn.graql.internal.analytics.MeanMapReduce;
 import ai.grakn.graql.internal.analytics.MedianVertexProgram;
 import ai.grakn.graql.internal.analytics.MinMapReduce;
+import ai.grakn.graql.internal.analytics.NativeGraknComputer;
 import ai.grakn.graql.internal.analytics.NoResultException;
+import ai.grakn.graql.internal.analytics.ShardSampling;
+import ai.grakn.graql.internal.analytics.ShortestPathSearch;
 import ai.grakn.graql.internal.analytics.ShortestPathVertexProgram;
 import ai.grakn.graql.internal.analytics.StdMapReduce;
 import ai.grakn.graql.internal.analytics.SumMapReduce;
@@ -74,11 +80,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -105,6 +115,13 @@ public class TinkerComputeQueryRunner {
                 return (T) Collections.emptyMap();
             }
 
+            if (!query.sourceId().isPresent()) {
+                Optional<Map<String, Set<String>>> clusters =
+                        tx.session().maintainedAnalytics().flatMap(analytics ->
+                                analytics.clusters(tx.keyspace(), tinkerComputeQuery.subLabels()));
+                if (clusters.isPresent()) return (T) clusterResult(clusters.get(), query);
+            }
+
             Set<LabelId> subLabelIds = convertLabelsToIds(tinkerComputeQuery.subLabels());
 
             GraknVertexProgram<?> vertexProgram;
@@ -132,6 +149,19 @@ public class TinkerComputeQueryRunner {
         });
     }
 
+    private static Map<String, ?> clusterResult(Map<String, Set<String>> clusters, ConnectedComponentQuery<?> query) {
+        Long clusterSize = query.clusterSize();
+        Map<String, Set<String>> members = new HashMap<>();
+        clusters.forEach((label, cluster) -> {
+            if (clusterSize == null || cluster.size() == clusterSize) members.put(label, cluster);
+        });
+        if (query.isMembersSet()) return members;
+
+        Map<String, Long> sizes = new HashMap<>();
+        members.forEach((label, cluster) -> sizes.put(label, (long) cluster.size()));
+        return sizes;
+    }
+
     public ComputeJob<Map<Long, Set<String>>> run(CorenessQuery query) {
         return runCompute(query, tinkerComputeQuery -> {
             long k = query.minK();
@@ -179,6 +209,10 @@ public class TinkerComputeQueryRunner {
     }
 
     public ComputeJob<Long> run(CountQuery query) {
+        if (query.relativeError().isPresent()) {
+            return estimate(query).map(estimate -> Math.round(estimate.get().value()));
+        }
+
         return runCompute(query, tinkerComputeQuery -> {
 
             if (!tinkerComputeQuery.selectedTypesHaveInstance()) {
@@ -234,6 +268,12 @@ public class TinkerComputeQueryRunner {
                 return Collections.emptyMap();
             }
 
+            if (query.targetLabels().isEmpty()) {
+                Optional<Map<Long, Set<String>>> degrees = tx.session().maintainedAnalytics().flatMap(analytics ->
+                        analytics.degrees(tx.keyspace(), subLabels));
+                if (degrees.isPresent()) return degrees.get();
+            }
+
             Set<LabelId> subLabelIds = convertLabelsToIds(subLabels);
             Set<LabelId> ofLabelIds = convertLabelsToIds(ofLabels);
 
@@ -276,12 +316,19 @@ public class TinkerComputeQueryRunner {
     }
 
     public ComputeJob<Optional<Double>> run(MeanQuery query) {
+        if (query.relativeError().isPresent()) return estimate(query).map(TinkerComputeQueryRunner::doubleValue);
+
         return execWithMapReduce(query, MeanMapReduce::new, meanPair ->
                 meanPair.get(MeanMapReduce.SUM) / meanPair.get(MeanMapReduce.COUNT)
         );
     }
 
     public ComputeJob<Optional<Number>> run(MedianQuery query) {
+        if (query.relativeError().isPresent()) {
+            return estimateStatistics(query, query.relativeError().get(), ShardSampling::median,
+                    TinkerComputeQueryRunner::numberValue);
+        }
+
         return runStatistics(query, tinkerComputeQuery -> {
             AttributeType.DataType<?> dataType = tinkerComputeQuery.getDataTypeOfSelectedResourceTypes();
             if (!tinkerComputeQuery.selectedResourceTypesHaveInstance()) {
@@ -326,16 +373,28 @@ public class TinkerComputeQueryRunner {
                 return Collections.singletonList(Collections.singletonList(tx.getConcept(sourceId)));
             }
 
-            ComputerResult result;
             Set<LabelId> subLabelIds = convertLabelsToIds(tinkerComputeQuery.subLabels());
-            try {
-                result = tinkerComputeQuery.compute(
-                        new ShortestPathVertexProgram(sourceId, destinationId), null, subLabelIds);
-            } catch (NoResultException e) {
-                return Collections.emptyList();
+            long pathSearchBudget = tx.session().config().getProperty(
+                    GraknConfigKey.KB_ANALYTICS_PATH_SEARCH_BUDGET, ShortestPathSearch.DEFAULT_MAX_VISITED);
+            Optional<Multimap<ConceptId, ConceptId>> successors =
+                    new ShortestPathSearch(tx, subLabelIds, pathSearchBudget).search(sourceId, destinationId);
+
+            Multimap<Concept, Concept> predecessorMapFromSource;
+            if (successors.isPresent()) {
+                if (successors.get().isEmpty()) return Collections.emptyList();
+                predecessorMapFromSource = tinkerComputeQuery.getPredecessorMap(successors.get());
+            } else {
+                LOG.debug("Path search visited more than " + pathSearchBudget + " instances, using the graph computer");
+                ComputerResult result;
+                try {
+                    result = tinkerComputeQuery.compute(
+                            new ShortestPathVertexProgram(sourceId, destinationId), null, subLabelIds);
+                } catch (NoResultException e) {
+                    return Collections.emptyList();
+                }
+                predecessorMapFromSource = tinkerComputeQuery.getPredecessorMap(result);
             }
 
-            Multimap<Concept, Concept> predecessorMapFromSource = tinkerComputeQuery.getPredecessorMap(result);
             List<List<Concept>> allPaths = tinkerComputeQuery.getAllPaths(predecessorMapFromSource, sourceId);
             if (tinkerComputeQuery.isAttributeIncluded()) { // this can be slow
                 return tinkerComputeQuery.getExtendedPaths(allPaths);
@@ -347,6 +406,8 @@ public class TinkerComputeQueryRunner {
     }
 
     public ComputeJob<Optional<Double>> run(StdQuery query) {
+        if (query.relativeError().isPresent()) return estimate(query).map(TinkerComputeQueryRunner::doubleValue);
+
         return execWithMapReduce(query, StdMapReduce::new, stdTuple -> {
             double squareSum = stdTuple.get(StdMapReduce.SQUARE_SUM);
             double sum = stdTuple.get(StdMapReduce.SUM);
@@ -356,23 +417,103 @@ public class TinkerComputeQueryRunner {
     }
 
     public ComputeJob<Optional<Number>> run(SumQuery query) {
+        if (query.relativeError().isPresent()) {
+            return estimateStatistics(query, query.relativeError().get(), ShardSampling::sum,
+                    TinkerComputeQueryRunner::numberValue);
+        }
+
         return execWithMapReduce(query, SumMapReduce::new);
     }
 
+    public TinkerComputeJob<Optional<Estimate>> estimate(CountQuery query) {
+        return runCompute(query, tinkerComputeQuery -> {
+            if (!tinkerComputeQuery.selectedTypesHaveInstance()) return Optional.of(Estimate.exact(0));
+
+            Set<Type> types = tinkerComputeQuery.subLabels().stream()
+                    .map(label -> tx.<Type>getSchemaConcept(label))
+                    .collect(Collectors.toSet());
+            return Optional.of(ShardSampling.of(types, relativeError(query), new Random()).count());
+        });
+    }
+
+    public TinkerComputeJob<Optional<Estimate>> estimate(MeanQuery query) {
+        return estimateStatistics(query, relativeError(query), ShardSampling::mean, (estimate, dataType) -> estimate);
+    }
+
+    public TinkerComputeJob<Optional<Estimate>> estimate(MedianQuery query) {
+        return estimateStatistics(query, relativeError(query), ShardSampling::median, (estimate, dataType) -> estimate);
+    }
+
+    public TinkerComputeJob<Optional<Estimate>> estimate(StdQuery query) {
+        return estimateStatistics(query, relativeError(query), ShardSampling::std, (estimate, dataType) -> estimate);
+    }
+
+    public TinkerComputeJob<Optional<Estimate>> estimate(SumQuery query) {
+        return estimateStatistics(query, relativeError(query), ShardSampling::sum, (estimate, dataType) -> estimate);
+    }
+
+    private static double relativeError(ApproximableQuery<?> query) {
+        return query.relativeError().orElse(ApproximableQuery.DEFAULT_RELATIVE_ERROR);
+    }
+
+    /**
+     * Estimates a statistic of the attributes owned by the instances in the subgraph, by sampling the shards of the
+     * types of the owners
+     */
+    private <T> TinkerComputeJob<Optional<T>> estimateStatistics(
+            StatisticsQuery<?> query, double relativeError,
+            BiFunction<ShardSampling, Collection<AttributeType<?>>, Optional<Estimate>> statistic,
+            BiFunction<Estimate, AttributeType.DataType<?>, T> result) {
+
+        return runStatistics(query, tinkerComputeQuery -> {
+            AttributeType.DataType<?> dataType = tinkerComputeQuery.getDataTypeOfSelectedResourceTypes();
+            if (!tinkerComputeQuery.selectedResourceTypesHaveInstance()) {
+                return Optional.empty();
+            }
+
+            Set<Label> attributeLabels = tinkerComputeQuery.statisticsResourceLabels();
+            List<AttributeType<?>> attributeTypes = attributeLabels.stream()
+                    .map(label -> tx.<AttributeType<?>>getSchemaConcept(label))
+                    .collect(Collectors.toList());
+
+            List<Type> owners = tinkerComputeQuery.subLabels().stream()
+                    .filter(label -> !attributeLabels.contains(label))
+                    .map(label -> tx.<Type>getSchemaConcept(label))
+                    .filter(type -> !type.isImplicit())
+                    .collect(Collectors.toList());
+
+            Optional<Estimate> estimate =
+                    statistic.apply(ShardSampling.of(owners, relativeError, new Random()), attributeTypes);
+            LOG.debug("Estimate = {}", estimate);
+            return estimate.map(value -> result.apply(value, dataType));
+        });
+    }
+
+    private static Optional<Double> doubleValue(Optional<Estimate> estimate) {
+        return estimate.map(Estimate::value);
+    }
+
+    private static Number numberValue(Estimate estimate, AttributeType.DataType<?> dataType) {
+        if (dataType.equals(AttributeType.DataType.LONG)) return Math.round(estimate.value());
+        return estimate.value();
+    }
+
     private <T, Q extends ComputeQuery<?>> TinkerComputeJob<T> runCompute(
             Q query, ComputeRunner<T, TinkerComputeQuery<Q>> runner) {
-        return runComputeGeneric(computer -> TinkerComputeQuery.create(tx, query, computer), runner);
+        return runComputeGeneric(
+                computer -> TinkerComputeQuery.create(tx, query, computer.useSnapshot(query.isSnapshotUsed())), runner);
     }
 
     private <T, Q extends StatisticsQuery<?>> TinkerComputeJob<T> runStatistics(
             Q query, ComputeRunner<T, TinkerStatisticsQuery> runner) {
-        return runComputeGeneric(computer -> TinkerStatisticsQuery.create(tx, query, computer), runner);
+        return runComputeGeneric(
+                computer -> TinkerStatisticsQuery.create(tx, query, computer.useSnapshot(query.isSnapshotUsed())), runner);
     }
 
     private <T, Q extends ComputeQuery<?>, TQ extends TinkerComputeQuery<Q>> TinkerComputeJob<T> runComputeGeneric(
             Function<GraknComputer, TQ> tinkerComputeQueryFactory, ComputeRunner<T, TQ> runner) {
         return TinkerComputeJob.create(tx.session(), computer -> {
-            TQ tinkerComputeQuery = tinkerComputeQueryFactory.apply(computer);
+            TQ tinkerComputeQuery = tinkerComputeQueryFactory.apply(NativeGraknComputer.wrap(computer, tx));
             return runner.apply(tinkerComputeQuery);
         });
     }
@@ -37,6 +37,7 @@ import ai.grakn.graql.analytics.ConnectedComponentQuery;
 import ai.grakn.graql.analytics.CorenessQuery;
 import ai.grakn.graql.analytics.CountQuery;
 import ai.grakn.graql.analytics.DegreeQuery;
+import ai.grakn.graql.analytics.Estimate;
 import ai.grakn.graql.analytics.KCoreQuery;
 import ai.grakn.graql.analytics.MaxQuery;
 import ai.grakn.graql.analytics.MeanQuery;
@@ -201,6 +202,31 @@ public class TinkerQueryRunner implements QueryRunner {
         return tinkerComputeQueryRunner.run(query);
     }
 
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(CountQuery query) {
+        return tinkerComputeQueryRunner.estimate(query);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(MeanQuery query) {
+        return tinkerComputeQueryRunner.estimate(query);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(MedianQuery query) {
+        return tinkerComputeQueryRunner.estimate(query);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(StdQuery query) {
+        return tinkerComputeQueryRunner.estimate(query);
+    }
+
+    @Override
+    public ComputeJob<Optional<Estimate>> estimate(SumQuery query) {
+        return tinkerComputeQueryRunner.estimate(query);
+    }
+
     private void deleteResult(Answer result, Collection<? extends Var> vars) {
         Collection<? extends Var> toDelete = vars.isEmpty() ? result.vars() : vars;
 
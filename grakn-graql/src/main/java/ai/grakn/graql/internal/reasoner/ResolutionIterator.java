@@ -20,14 +20,18 @@ package ai.grakn.graql.internal.reasoner;
 
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.profile.QueryProfile;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
+import ai.grakn.graql.internal.reasoner.cache.SharedQueryCache;
 import ai.grakn.graql.internal.reasoner.iterator.ReasonerQueryIterator;
+import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.graql.internal.reasoner.state.ResolutionState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.HashSet;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -55,11 +59,21 @@ public class ResolutionIterator extends ReasonerQueryIterator {
     private Answer nextAnswer = null;
     private final boolean reiterationRequired;
 
+    //commit watermark when the transaction opened, the answers are shared once the resolution completes
+    private final SharedQueryCache sharedCache;
+    private final long watermark;
+    private boolean completed = false;
+
+    @Nullable
+    private final QueryProfile profile = QueryProfile.current().orElse(null);
+
     private static final Logger LOG = LoggerFactory.getLogger(ReasonerQueryImpl.class);
 
     public ResolutionIterator(ReasonerQueryImpl q){
         this.query = q;
         this.reiterationRequired = q.requiresReiteration();
+        this.sharedCache = SharedQueryCache.of(q.tx());
+        this.watermark = sharedCache.watermark();
         states.push(query.subGoal(new QueryAnswer(), new UnifierImpl(), null, new HashSet<>(), cache));
     }
 
@@ -73,6 +87,7 @@ public class ResolutionIterator extends ReasonerQueryIterator {
 
             ResolutionState newState = state.generateSubGoal();
             if (newState != null) {
+                if (profile != null) profile.recordSubGoal();
                 if (!state.isAnswerState()) states.push(state);
                 states.push(newState);
             }
@@ -108,6 +123,27 @@ public class ResolutionIterator extends ReasonerQueryIterator {
             }
         }
 
+        if (!completed) {
+            completed = true;
+            shareAnswers();
+        }
         return false;
     }
+
+    /**
+     * Shares the answer sets completed by this resolution. Without reiteration every sub-goal is resolved completely.
+     * With reiteration sub-goals may be visited before all answers to them are known, only the answers to the query
+     * itself are complete once no new answers are found.
+     */
+    private void shareAnswers(){
+        if (!sharedCache.isShared()) return;
+
+        if (!reiterationRequired) {
+            sharedCache.recordAll(cache, watermark);
+        } else if (query instanceof ReasonerAtomicQuery) {
+            QueryAnswers projected = new QueryAnswers();
+            answers.forEach(answer -> projected.add(answer.project(query.getVarNames())));
+            sharedCache.record((ReasonerAtomicQuery) query, watermark, projected);
+        }
+    }
 }
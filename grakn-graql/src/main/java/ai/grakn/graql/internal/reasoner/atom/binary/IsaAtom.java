@@ -32,7 +32,7 @@ import ai.grakn.graql.admin.Unifier;
 import ai.grakn.graql.admin.VarProperty;
 import ai.grakn.graql.internal.pattern.property.IsaExplicitProperty;
 import ai.grakn.graql.internal.pattern.property.IsaProperty;
-import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.SlotAnswer;
 import ai.grakn.graql.internal.reasoner.atom.Atom;
 import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.Predicate;
@@ -169,7 +169,7 @@ public abstract class IsaAtom extends IsaAtomBase {
         EntityType entityType = getSchemaConcept().asEntityType();
         return Stream.of(
                 getParentQuery().getSubstitution()
-                        .merge(new QueryAnswer(ImmutableMap.of(getVarName(), EntityTypeImpl.from(entityType).addEntityInferred())))
+                        .merge(SlotAnswer.of(ImmutableMap.of(getVarName(), EntityTypeImpl.from(entityType).addEntityInferred())))
         );
     }
 
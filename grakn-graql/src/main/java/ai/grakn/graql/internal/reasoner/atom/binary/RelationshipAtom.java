@@ -45,6 +45,7 @@ import ai.grakn.graql.admin.VarProperty;
 import ai.grakn.graql.internal.pattern.property.IsaProperty;
 import ai.grakn.graql.internal.pattern.property.RelationshipProperty;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.SlotAnswer;
 import ai.grakn.graql.internal.reasoner.MultiUnifierImpl;
 import ai.grakn.graql.internal.reasoner.UnifierImpl;
 import ai.grakn.graql.internal.reasoner.UnifierType;
@@ -220,7 +221,7 @@ public abstract class RelationshipAtom extends IsaAtomBase {
     private Answer getRoleSubstitution(){
         Map<Var, Concept> roleSub = new HashMap<>();
         getRolePredicates().forEach(p -> roleSub.put(p.getVarName(), tx().getConcept(p.getPredicate())));
-        return new QueryAnswer(roleSub);
+        return SlotAnswer.of(roleSub);
     }
 
     @Override
@@ -933,7 +934,7 @@ public abstract class RelationshipAtom extends IsaAtomBase {
 
         Answer relationSub = getRoleSubstitution().merge(
                 getVarName().isUserDefinedName()?
-                        new QueryAnswer(ImmutableMap.of(getVarName(), relationship)) :
+                        SlotAnswer.of(ImmutableMap.of(getVarName(), relationship)) :
                         new QueryAnswer()
         );
         return Stream.of(substitution.merge(relationSub));
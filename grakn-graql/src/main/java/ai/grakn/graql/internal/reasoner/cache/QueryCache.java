@@ -18,16 +18,22 @@
 
 package ai.grakn.graql.internal.reasoner.cache;
 
+import ai.grakn.concept.ConceptId;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.MultiUnifier;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.profile.QueryProfile;
 import ai.grakn.graql.internal.reasoner.MultiUnifierImpl;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
 import ai.grakn.graql.internal.reasoner.utils.Pair;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,10 +51,55 @@ import java.util.stream.Stream;
  */
 public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswers> {
 
+    //(rule id, whether the sub-goal had bound variables) -> number of sub-goals the rule was applied to and answers it inferred
+    private final Map<Pair<ConceptId, Boolean>, long[]> ruleStatistics = new HashMap<>();
+
     public QueryCache(){
         super();
     }
 
+    /**
+     * record that a rule is applied to resolve a sub-goal
+     * @param rule applied rule
+     * @param query sub-goal the rule is applied to
+     */
+    public void recordRuleApplication(InferenceRule rule, Q query){
+        ruleStatistics(rule, !query.getSubstitution().isEmpty())[0]++;
+    }
+
+    /**
+     * record that a rule inferred an answer to a sub-goal
+     * @param rule rule which inferred the answer
+     * @param query sub-goal the answer is inferred for
+     */
+    public void recordRuleAnswer(InferenceRule rule, Q query){
+        ruleStatistics(rule, !query.getSubstitution().isEmpty())[1]++;
+    }
+
+    /**
+     * @param rule rule of interest
+     * @param bound whether the sub-goals of interest have bound variables
+     * @return mean number of answers the rule inferred per sub-goal it was applied to, if it was applied to any
+     */
+    public Optional<Double> answersPerApplication(InferenceRule rule, boolean bound){
+        long[] statistics = ruleStatistics.get(new Pair<>(rule.getRuleId(), bound));
+        if (statistics == null || statistics[0] == 0) return Optional.empty();
+        return Optional.of((double) statistics[1] / statistics[0]);
+    }
+
+    /**
+     * @param query of interest
+     * @return number of answers cached for the query so far, if it has an entry
+     */
+    public Optional<Integer> answerCount(Q query){
+        CacheEntry<Q, QueryAnswers> match = this.getEntry(query);
+        return match != null? Optional.of(match.cachedElement().size()) : Optional.empty();
+    }
+
+    private long[] ruleStatistics(InferenceRule rule, boolean bound){
+        return ruleStatistics.computeIfAbsent(new Pair<>(rule.getRuleId(), bound), k -> new long[2]);
+    }
+
     @Override
     public QueryAnswers record(Q query, QueryAnswers answers) {
         CacheEntry<Q, QueryAnswers> match =  this.getEntry(query);
@@ -130,6 +181,10 @@ public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswe
     @Override
     public Pair<Stream<Answer>, MultiUnifier> getAnswerStreamWithUnifier(Q query) {
         CacheEntry<Q, QueryAnswers> match =  this.getEntry(query);
+        QueryProfile.current().ifPresent(profile -> {
+            if (match != null) profile.recordCacheHit();
+            else profile.recordCacheMiss();
+        });
         if (match != null) {
             Q equivalentQuery = match.query();
             QueryAnswers answers = match.cachedElement();
@@ -0,0 +1,222 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.cache;
+
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.MultiUnifier;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.query.SlotAnswer;
+import ai.grakn.graql.internal.reasoner.atom.Atom;
+import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
+import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryEquivalence;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.kb.internal.cache.CommitWatermarks;
+import ai.grakn.kb.internal.cache.SharedAnswers;
+import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ *
+ * <p>
+ * Cache of complete answer sets of atomic queries shared by the read transactions of a keyspace.
+ *
+ * A {@link QueryCache} only lives for a single resolution. When a resolution finishes, the answer sets it completed
+ * are stored here, together with the commit watermark of the keyspace when the transaction opened and the types
+ * the answers were derived from, including the types read by the rules the query is resolved with. Later
+ * resolutions of alpha-equivalent queries are answered from this cache instead of being resolved again, for as
+ * long as no commit has modified any of these types (see {@link CommitWatermarks}).
+ *
+ * Answers are held as {@link ConceptId}s, as concepts are bound to the transaction they were read in, and are
+ * returned without their explanations. The answer sets and watermarks of a keyspace are owned by its sessions
+ * (see {@link SharedAnswers}), this class only decides which answer sets are shared and when they can be reused.
+ * </p>
+ */
+public final class SharedQueryCache {
+
+    private final EmbeddedGraknTx<?> tx;
+    private final SharedAnswers sharedAnswers;
+    private final CommitWatermarks commitWatermarks;
+
+    private SharedQueryCache(EmbeddedGraknTx<?> tx){
+        this.tx = tx;
+        this.sharedAnswers = tx.session().sharedAnswers();
+        this.commitWatermarks = tx.session().commitWatermarks();
+    }
+
+    /**
+     * @param tx transaction the resolution is performed in
+     * @return the shared cache of the keyspace of the transaction
+     */
+    public static SharedQueryCache of(EmbeddedGraknTx<?> tx){
+        return new SharedQueryCache(tx);
+    }
+
+    /**
+     * Answer sets can only be shared between transactions which see the same data as every other transaction,
+     * that is transactions which cannot write.
+     * @return true if the transaction can use the shared cache
+     */
+    public boolean isShared(){
+        return GraknTxType.READ.equals(tx.txType());
+    }
+
+    /**
+     * The watermark is taken when the transaction opened rather than when the resolution starts, as the transaction
+     * reads the data as of its opening and does not see later commits.
+     * @return the watermark the answers of a resolution in the transaction need to be recorded with
+     */
+    public long watermark(){
+        return tx.openWatermark();
+    }
+
+    /**
+     * @param query to be answered
+     * @return complete answer set of the query, unified with the query, if it is cached and still valid
+     */
+    public Optional<QueryAnswers> getAnswers(ReasonerAtomicQuery query){
+        if (!isShared()) return Optional.empty();
+
+        int hash = ReasonerQueryEquivalence.AlphaEquivalence.hash(query);
+        SharedAnswers.Entry entry = sharedAnswers.get(hash);
+        if (entry == null) {
+            sharedAnswers.recordMiss();
+            return Optional.empty();
+        }
+        if (!commitWatermarks.unmodifiedSince(entry.watermark(), entry.types())){
+            sharedAnswers.remove(hash, entry);
+            sharedAnswers.recordMiss();
+            return Optional.empty();
+        }
+        //a transaction opened before the answers were computed may not see the data they were computed from
+        long watermark = watermark();
+        if (watermark < entry.watermark() && !commitWatermarks.unmodifiedSince(watermark, entry.types())){
+            sharedAnswers.recordMiss();
+            return Optional.empty();
+        }
+
+        //the cached query is rebuilt in this transaction, as the original one is bound to the transaction it was resolved in
+        ReasonerAtomicQuery cachedQuery = ReasonerQueries.atomic(entry.pattern(), tx);
+        if (!ReasonerQueryEquivalence.AlphaEquivalence.equivalent(cachedQuery, query)){
+            sharedAnswers.recordMiss();
+            return Optional.empty();
+        }
+
+        QueryAnswers answers = new QueryAnswers();
+        for (Map<Var, ConceptId> ids : entry.answers()) {
+            Map<Var, Concept> concepts = new HashMap<>();
+            for (Map.Entry<Var, ConceptId> id : ids.entrySet()) {
+                Concept concept = tx.getConcept(id.getValue());
+                if (concept == null) {
+                    sharedAnswers.recordMiss();
+                    return Optional.empty();
+                }
+                concepts.put(id.getKey(), concept);
+            }
+            answers.add(SlotAnswer.of(concepts));
+        }
+
+        MultiUnifier multiUnifier = cachedQuery.getMultiUnifier(query);
+        sharedAnswers.recordHit();
+        return Optional.of(answers.unify(multiUnifier));
+    }
+
+    /**
+     * record the complete answer set of a query
+     * @param query resolved query
+     * @param watermark watermark of the keyspace when the transaction of the resolution opened
+     * @param answers complete answer set of the query
+     */
+    public void record(ReasonerAtomicQuery query, long watermark, QueryAnswers answers){
+        if (!isShared()) return;
+
+        Set<ConceptId> types = involvedTypes(query);
+        //queries with untyped atoms may depend on any type
+        if (types == null) return;
+        //the answers may be stale if the types have been committed to during the resolution
+        if (!commitWatermarks.unmodifiedSince(watermark, types)) return;
+
+        ImmutableList.Builder<ImmutableMap<Var, ConceptId>> ids = ImmutableList.builder();
+        answers.forEach(answer -> ids.add(ImmutableMap.copyOf(Maps.transformValues(answer.map(), Concept::getId))));
+        Conjunction<VarPatternAdmin> pattern = Patterns.conjunction(query.getPattern().varPatterns());
+
+        int hash = ReasonerQueryEquivalence.AlphaEquivalence.hash(query);
+        sharedAnswers.put(hash, new SharedAnswers.Entry(pattern, ImmutableSet.copyOf(types), watermark, ids.build()));
+    }
+
+    /**
+     * record the answer sets of all queries in a cache, which must have been resolved completely
+     * @param cache of the finished resolution
+     * @param watermark watermark of the keyspace when the transaction of the resolution opened
+     */
+    public void recordAll(QueryCache<ReasonerAtomicQuery> cache, long watermark){
+        cache.entries().forEach(entry -> record(entry.query(), watermark, entry.cachedElement()));
+    }
+
+    /**
+     * @return the types the answers of the query are derived from, or null if the query has atoms without a type
+     */
+    private Set<ConceptId> involvedTypes(ReasonerAtomicQuery query){
+        Set<ConceptId> types = new HashSet<>();
+        Set<ReasonerQueryImpl> visited = new HashSet<>();
+        Deque<ReasonerQueryImpl> toVisit = new ArrayDeque<>();
+        toVisit.add(query);
+        while (!toVisit.isEmpty()) {
+            ReasonerQueryImpl q = toVisit.pop();
+            if (!visited.add(q)) continue;
+            for (Atom atom : q.getAtoms(Atom.class).collect(Collectors.toList())) {
+                SchemaConcept schemaConcept = atom.getSchemaConcept();
+                if (schemaConcept == null) return null;
+                schemaConcept.subs().forEach(sub -> types.add(sub.getId()));
+                if (schemaConcept.isAttributeType()) {
+                    //ownership of attributes is stored as instances of the implicit relationship types
+                    Stream.of(Schema.ImplicitType.HAS, Schema.ImplicitType.KEY)
+                            .map(implicitType -> tx.<SchemaConcept>getSchemaConcept(implicitType.getLabel(schemaConcept.getLabel())))
+                            .filter(Objects::nonNull)
+                            .forEach(implicit -> implicit.subs().forEach(sub -> types.add(sub.getId())));
+                }
+                atom.getApplicableRules().forEach(rule -> toVisit.add(rule.getBody()));
+            }
+        }
+        return types;
+    }
+}
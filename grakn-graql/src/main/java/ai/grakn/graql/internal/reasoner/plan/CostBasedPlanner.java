@@ -0,0 +1,254 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.plan;
+
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.internal.reasoner.atom.Atom;
+import ai.grakn.graql.internal.reasoner.atom.binary.OntologicalAtom;
+import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
+import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
+import ai.grakn.graql.internal.reasoner.cache.QueryCache;
+import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static ai.grakn.graql.internal.gremlin.fragment.Fragment.SHARD_LOAD_FACTOR;
+
+/**
+ *
+ * <p>
+ * Cost-based planner for queries containing rule-resolvable atoms.
+ *
+ * The {@link GraqlTraversalPlanner} only knows the cost of reading answers from the database. For every atom this
+ * planner also estimates the number of answers its rules infer, from the answers the rules produced so far during
+ * the resolution (recorded in the {@link QueryCache}), or from the number of stored instances of the atom's type if
+ * there are none yet. Atoms are then ordered greedily by the cost of resolving them, given the variables bound by the
+ * atoms before them.
+ *
+ * For each rule-resolvable atom the planner also chooses whether to push the bindings of the atoms before it into its
+ * sub-goal. Pushing them creates a separate, usually smaller, sub-goal for every partial answer. Not pushing them
+ * resolves a single sub-goal whose cached answers are then joined with every partial answer, which is cheaper when
+ * there are many partial answers and few answers to the unbound sub-goal, in particular when it has been resolved
+ * already.
+ * </p>
+ */
+final class CostBasedPlanner {
+
+    /**
+     * Fraction of the answers of an atom which remain when one of its variables is bound
+     */
+    private static final double BOUND_VARIABLE_SELECTIVITY = 0.01;
+
+    /**
+     * Cost of starting the resolution of a sub-goal with one rule, relative to reading one answer from the database
+     */
+    private static final double SUB_GOAL_COST = 50;
+
+    /**
+     * Cost of inferring one answer with a rule, relative to reading one answer from the database
+     */
+    private static final double INFERRED_ANSWER_COST = 10;
+
+    /**
+     * Upper bound of the estimated number of partial answers, so the costs of long conjunctions stay finite and
+     * comparable
+     */
+    private static final double MAX_PARTIAL_ANSWERS = 1e12;
+
+    private final EmbeddedGraknTx<?> tx;
+    private final QueryCache<ReasonerAtomicQuery> cache;
+
+    private CostBasedPlanner(EmbeddedGraknTx<?> tx, QueryCache<ReasonerAtomicQuery> cache) {
+        this.tx = tx;
+        this.cache = cache;
+    }
+
+    /**
+     * @param query the query to plan
+     * @param atoms the atoms of the query, in the order planned for reading them from the database
+     * @param cache the cache of the resolution in which the query is resolved
+     * @return the atoms ordered by cost
+     */
+    static ImmutableList<PlannedAtom> plan(ReasonerQueryImpl query, List<Atom> atoms,
+                                           QueryCache<ReasonerAtomicQuery> cache) {
+        return new CostBasedPlanner(query.tx(), cache).plan(query, atoms);
+    }
+
+    private ImmutableList<PlannedAtom> plan(ReasonerQueryImpl query, List<Atom> atoms) {
+        ImmutableList.Builder<PlannedAtom> plan = ImmutableList.builder();
+
+        // Schema atoms are always resolved first, as in the traversal plan
+        atoms.stream()
+                .filter(atom -> atom instanceof OntologicalAtom)
+                .forEach(atom -> plan.add(new PlannedAtom(atom, 0, 0, true)));
+
+        List<Atom> remaining = atoms.stream()
+                .filter(atom -> !(atom instanceof OntologicalAtom))
+                .collect(Collectors.toCollection(ArrayList::new));
+        // Variables with an id are bound in every sub-goal, whether or not bindings are pushed into it
+        Set<Var> substituted = query.getAtoms(IdPredicate.class)
+                .map(IdPredicate::getVarName)
+                .collect(Collectors.toSet());
+        Set<Var> bound = substituted;
+        double partialAnswers = 1;
+
+        while (!remaining.isEmpty()) {
+            Set<Var> boundVars = bound;
+            List<Atom> connected = remaining.stream()
+                    .filter(atom -> !Sets.intersection(atom.getVarNames(), boundVars).isEmpty())
+                    .collect(Collectors.toList());
+            List<Atom> candidates = connected.isEmpty() ? remaining : connected;
+
+            // Candidates are in the order of the traversal plan, which decides between atoms of equal cost
+            PlannedAtom best = estimate(candidates.get(0), boundVars, substituted, partialAnswers);
+            for (Atom candidate : candidates.subList(1, candidates.size())) {
+                PlannedAtom planned = estimate(candidate, boundVars, substituted, partialAnswers);
+                if (planned.cost() < best.cost()) best = planned;
+            }
+
+            plan.add(best);
+            remaining.remove(best.atom());
+            bound = Sets.union(bound, best.atom().getVarNames()).immutableCopy();
+            partialAnswers = Math.min(MAX_PARTIAL_ANSWERS, Math.max(1, partialAnswers * best.answers()));
+        }
+
+        return plan.build();
+    }
+
+    private PlannedAtom estimate(Atom atom, Set<Var> bound, Set<Var> substituted, double partialAnswers) {
+        int boundVars = Sets.intersection(atom.getVarNames(), bound).size();
+        int substitutedVars = Sets.intersection(atom.getVarNames(), substituted).size();
+        double storedAnswers = storedAnswers(atom, boundVars);
+
+        if (!atom.isRuleResolvable()) {
+            return new PlannedAtom(atom, storedAnswers, partialAnswers * storedAnswers, true);
+        }
+
+        long rules = atom.getApplicableRules().count();
+        double inferredAnswers = inferredAnswers(atom, boundVars > 0, storedAnswers);
+        double pushedCost = partialAnswers * (
+                rules * SUB_GOAL_COST + storedAnswers + inferredAnswers * INFERRED_ANSWER_COST
+        );
+
+        boolean canResolveUnbound = boundVars > substitutedVars && partialAnswers > 1
+                && !atom.getPredicates(NeqPredicate.class).findFirst().isPresent();
+        if (canResolveUnbound) {
+            // If the unbound sub-goal has been resolved already, its answers only need to be joined
+            Optional<Integer> cachedAnswers = cache.answerCount(ReasonerQueries.atomic(atom));
+            double unboundCost;
+            if (cachedAnswers.isPresent()) {
+                unboundCost = partialAnswers * cachedAnswers.get();
+            } else {
+                double unboundStoredAnswers = storedAnswers(atom, substitutedVars);
+                double unboundInferredAnswers = inferredAnswers(atom, substitutedVars > 0, unboundStoredAnswers);
+                double unboundAnswers = unboundStoredAnswers + unboundInferredAnswers;
+                unboundCost = rules * SUB_GOAL_COST + unboundStoredAnswers
+                        + unboundInferredAnswers * INFERRED_ANSWER_COST + partialAnswers * unboundAnswers;
+            }
+
+            if (unboundCost < pushedCost) {
+                return new PlannedAtom(atom, storedAnswers + inferredAnswers, unboundCost, false);
+            }
+        }
+
+        return new PlannedAtom(atom, storedAnswers + inferredAnswers, pushedCost, true);
+    }
+
+    /**
+     * Estimate the number of answers of the atom stored in the database from the number of shards of its type
+     */
+    private double storedAnswers(Atom atom, int boundVars) {
+        SchemaConcept schemaConcept = atom.getSchemaConcept();
+        long shards = schemaConcept != null && schemaConcept.isType() ?
+                tx.getShardCount(schemaConcept.asType()) : 1;
+        double instances = (Math.max(1, shards) - 1 + SHARD_LOAD_FACTOR) * tx.shardingThreshold();
+        return Math.max(1, instances * Math.pow(BOUND_VARIABLE_SELECTIVITY, boundVars));
+    }
+
+    /**
+     * Estimate the number of answers the rules of the atom infer. Rules which have not produced any statistics yet are
+     * assumed to infer as many answers as are stored.
+     */
+    private double inferredAnswers(Atom atom, boolean bound, double storedAnswers) {
+        return atom.getApplicableRules()
+                .mapToDouble(rule -> {
+                    Optional<Double> answers = cache.answersPerApplication(rule, bound);
+                    return answers.orElse(storedAnswers);
+                })
+                .sum();
+    }
+
+    /**
+     * An atom of the plan with the estimates the planner made for it
+     */
+    static final class PlannedAtom {
+        private final Atom atom;
+        private final double answers;
+        private final double cost;
+        private final boolean bindingsPushed;
+
+        private PlannedAtom(Atom atom, double answers, double cost, boolean bindingsPushed) {
+            this.atom = atom;
+            this.answers = answers;
+            this.cost = cost;
+            this.bindingsPushed = bindingsPushed;
+        }
+
+        Atom atom() {
+            return atom;
+        }
+
+        /**
+         * @return estimated number of answers of the atom for each partial answer of the atoms before it
+         */
+        double answers() {
+            return answers;
+        }
+
+        /**
+         * @return estimated cost of resolving the atom for all partial answers of the atoms before it
+         */
+        double cost() {
+            return cost;
+        }
+
+        /**
+         * @return true if the bindings of the atoms before this atom are pushed into its sub-goal
+         */
+        boolean bindingsPushed() {
+            return bindingsPushed;
+        }
+
+        @Override
+        public String toString() {
+            return atom + String.format(" {answers=%.0f, cost=%.0f%s}",
+                    answers, cost, bindingsPushed ? "" : ", unbound");
+        }
+    }
+}
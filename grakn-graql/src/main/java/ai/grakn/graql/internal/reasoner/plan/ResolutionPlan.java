@@ -18,12 +18,15 @@
 
 package ai.grakn.graql.internal.reasoner.plan;
 
+import ai.grakn.GraknConfigKey;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.internal.gremlin.GraqlTraversal;
 import ai.grakn.graql.internal.reasoner.atom.Atom;
 import ai.grakn.graql.internal.reasoner.atom.AtomicBase;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
+import ai.grakn.graql.internal.reasoner.cache.QueryCache;
+import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
@@ -36,11 +39,15 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static ai.grakn.util.CommonUtil.toImmutableList;
+
 /**
  *
  * <p>
  * Class defining the resolution plan for a given {@link ReasonerQueryImpl}.
  * The plan is constructed  using the {@link GraqlTraversal} with the aid of {@link GraqlTraversalPlanner}.
+ * If the query contains rule-resolvable atoms, the plan is then reordered by the {@link CostBasedPlanner}, which also
+ * decides which rule-resolvable atoms are resolved without the bindings of the atoms before them.
  * </p>
  *
  * @author Kasper Piskorski
@@ -49,12 +56,45 @@ import java.util.stream.Collectors;
 public final class ResolutionPlan {
 
     final private ImmutableList<Atom> plan;
+    final private ImmutableList<CostBasedPlanner.PlannedAtom> costBasedPlan;
+    final private Set<Atom> unboundAtoms;
     final private EmbeddedGraknTx<?> tx;
 
     public ResolutionPlan(ReasonerQueryImpl query){
+        this(query, new QueryCache<>());
+    }
+
+    /**
+     * @param query to plan
+     * @param cache of the resolution the query is part of, providing statistics of the answers inferred by rules
+     */
+    public ResolutionPlan(ReasonerQueryImpl query, QueryCache<ReasonerAtomicQuery> cache){
         this.tx =  query.tx();
-        this.plan = GraqlTraversalPlanner.refinedPlan(query);
-        if (!isValid()) {
+        ImmutableList<Atom> traversalPlan = GraqlTraversalPlanner.refinedPlan(query);
+
+        boolean costBased = tx.session().config().getProperty(GraknConfigKey.KB_REASONER_COST_BASED_PLANNING, true);
+        ImmutableList<CostBasedPlanner.PlannedAtom> costBasedPlan =
+                costBased && traversalPlan.stream().anyMatch(Atom::isRuleResolvable)?
+                CostBasedPlanner.plan(query, traversalPlan, cache) :
+                ImmutableList.of();
+        ImmutableList<Atom> plan = costBasedPlan.stream()
+                .map(CostBasedPlanner.PlannedAtom::atom)
+                .collect(toImmutableList());
+
+        //the cost based plan is only an improvement if it is valid, otherwise fall back to the traversal plan
+        if (costBasedPlan.isEmpty() || !isValid(plan)) {
+            costBasedPlan = ImmutableList.of();
+            plan = traversalPlan;
+        }
+
+        this.plan = plan;
+        this.costBasedPlan = costBasedPlan;
+        this.unboundAtoms = costBasedPlan.stream()
+                .filter(planned -> !planned.bindingsPushed())
+                .map(CostBasedPlanner.PlannedAtom::atom)
+                .collect(Collectors.toSet());
+
+        if (!isValid(this.plan)) {
             throw GraqlQueryException.nonGroundNeqPredicate(query);
         }
     }
@@ -64,6 +104,14 @@ public final class ResolutionPlan {
         return plan.stream().map(AtomicBase::toString).collect(Collectors.joining("\n"));
     }
 
+    /**
+     * @return the plan together with the estimates it is based on, if it is cost based
+     */
+    public String explain(){
+        if (costBasedPlan.isEmpty()) return toString();
+        return costBasedPlan.stream().map(CostBasedPlanner.PlannedAtom::toString).collect(Collectors.joining("\n"));
+    }
+
     /**
      * @return corresponding atom plan
      */
@@ -72,7 +120,7 @@ public final class ResolutionPlan {
     /**
      * @return true if the plan doesn't lead to any non-ground neq predicate
      */
-    private boolean isValid() {
+    private static boolean isValid(List<Atom> plan) {
         //check for neq groundness
         Set<NeqPredicate> nonGroundPredicates = new HashSet<>();
         Set<Var> mappedVars = new HashSet<>();
@@ -93,6 +141,14 @@ public final class ResolutionPlan {
         return nonGroundPredicates.isEmpty();
     }
 
+    /**
+     * @param query query of the query plan
+     * @return true if the query should be resolved without the bindings of the queries before it in the plan
+     */
+    public boolean isResolvedUnbound(ReasonerQueryImpl query){
+        return query instanceof ReasonerAtomicQuery && unboundAtoms.contains(((ReasonerAtomicQuery) query).getAtom());
+    }
+
     /**
      * compute the query resolution plan - list of queries ordered by their cost as computed by the graql traversal planner
      * @return list of prioritised queries
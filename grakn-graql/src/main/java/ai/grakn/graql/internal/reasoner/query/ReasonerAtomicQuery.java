@@ -33,6 +33,7 @@ import ai.grakn.graql.internal.reasoner.atom.Atom;
 import ai.grakn.graql.internal.reasoner.atom.binary.TypeAtom;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
+import ai.grakn.graql.internal.reasoner.cache.SharedQueryCache;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
 import ai.grakn.graql.internal.reasoner.state.AnswerState;
 import ai.grakn.graql.internal.reasoner.state.AtomicStateProducer;
@@ -181,6 +182,13 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
 
     @Override
     public Pair<Iterator<ResolutionState>, MultiUnifier> queryStateIterator(QueryStateBase parent, Set<ReasonerAtomicQuery> visitedSubGoals, QueryCache<ReasonerAtomicQuery> cache) {
+        //if this has been completely resolved by an earlier query then do not resolve it again
+        if (!visitedSubGoals.contains(this) && !cache.contains(this)) {
+            SharedQueryCache.of(tx()).getAnswers(this).ifPresent(answers -> {
+                cache.record(this, answers);
+                visitedSubGoals.add(this);
+            });
+        }
         Pair<Stream<Answer>, MultiUnifier> cacheEntry = cache.getAnswerStreamWithUnifier(this);
         MultiUnifier cacheUnifier = cacheEntry.getValue().inverse();
         Iterator<AnswerState> dbIterator = cacheEntry.getKey()
@@ -196,6 +204,7 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         } else {
             visitedSubGoals.add(this);
             subGoalIterator = this.getRuleStream()
+                    .peek(rulePair -> cache.recordRuleApplication(rulePair.getKey(), this))
                     .map(rulePair -> rulePair.getKey().subGoal(this.getAtom(), rulePair.getValue(), parent, visitedSubGoals, cache))
                     .iterator();
         }
@@ -35,6 +35,8 @@ import ai.grakn.graql.admin.UnifierComparison;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.query.SlotAnswer;
+import ai.grakn.graql.internal.query.profile.QueryProfile;
 import ai.grakn.graql.internal.reasoner.MultiUnifierImpl;
 import ai.grakn.graql.internal.reasoner.ResolutionIterator;
 import ai.grakn.graql.internal.reasoner.UnifierType;
@@ -433,7 +435,7 @@ public class ReasonerQueryImpl implements ReasonerQuery {
                 if (concept == null) throw GraqlQueryException.idNotFound(p.getPredicate());
                 answerMap.put(p.getVarName(), concept);
             });
-            substitution = new QueryAnswer(answerMap);
+            substitution = SlotAnswer.of(answerMap);
         }
         return substitution;
     }
@@ -447,7 +449,7 @@ public class ReasonerQueryImpl implements ReasonerQuery {
                     if (concept == null) throw GraqlQueryException.idNotFound(p.getPredicate());
                     roleSub.put(p.getVarName(), concept);
                 });
-        return new QueryAnswer(roleSub);
+        return SlotAnswer.of(roleSub);
     }
 
     /**
@@ -512,14 +514,19 @@ public class ReasonerQueryImpl implements ReasonerQuery {
             subGoalIterator = Collections.emptyIterator();
         } else {
             dbIterator = Collections.emptyIterator();
-            LinkedList<ReasonerQueryImpl> subQueries = new ResolutionPlan(this).queryPlan();
+            ResolutionPlan plan = new ResolutionPlan(this, cache);
+            LinkedList<ReasonerQueryImpl> subQueries = plan.queryPlan();
+            Set<ReasonerQueryImpl> unboundQueries = subQueries.stream()
+                    .filter(plan::isResolvedUnbound)
+                    .collect(Collectors.toSet());
 
             LOG.trace("CQ plan:\n" + subQueries.stream()
                     .map(sq -> sq.toString() + (sq.isRuleResolvable()? "*" : ""))
                     .collect(Collectors.joining("\n"))
             );
+            QueryProfile.current().ifPresent(profile -> profile.recordResolutionPlan(plan.explain()));
 
-            subGoalIterator = Iterators.singletonIterator(new CumulativeState(subQueries, new QueryAnswer(), parent.getUnifier(), parent, subGoals, cache));
+            subGoalIterator = Iterators.singletonIterator(new CumulativeState(subQueries, unboundQueries, new QueryAnswer(), parent.getUnifier(), parent, subGoals, cache));
         }
         return new Pair<>(
                 Iterators.concat(dbIterator, subGoalIterator),
@@ -76,6 +76,7 @@ public class AtomicState extends QueryState<ReasonerAtomicQuery>{
             answer = rule.requiresMaterialisation(query.getAtom()) ?
                     materialisedAnswer(baseAnswer, rule, unifier) :
                     ruleAnswer(baseAnswer, rule, unifier);
+            if (!answer.isEmpty()) getCache().recordRuleAnswer(rule, query);
         }
         return getCache().recordAnswerWithUnifier(query, answer, getCacheUnifier());
     }
@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.reasoner.state;
 
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Unifier;
+import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
@@ -40,6 +41,7 @@ import java.util.Set;
 public class CumulativeState extends QueryStateBase{
 
     private final LinkedList<ReasonerQueryImpl> subQueries;
+    private final Set<ReasonerQueryImpl> unboundQueries;
     private final Iterator<ResolutionState> feederStateIterator;
 
     public CumulativeState(LinkedList<ReasonerQueryImpl> qs,
@@ -48,22 +50,43 @@ public class CumulativeState extends QueryStateBase{
                            QueryStateBase parent,
                            Set<ReasonerAtomicQuery> subGoals,
                            QueryCache<ReasonerAtomicQuery> cache) {
+        this(qs, Collections.emptySet(), sub, u, parent, subGoals, cache);
+    }
+
+    /**
+     * @param unboundQueries queries which are resolved without the substitution obtained from the queries before them,
+     *                       their answers are joined with it instead
+     */
+    public CumulativeState(LinkedList<ReasonerQueryImpl> qs,
+                           Set<ReasonerQueryImpl> unboundQueries,
+                           Answer sub,
+                           Unifier u,
+                           QueryStateBase parent,
+                           Set<ReasonerAtomicQuery> subGoals,
+                           QueryCache<ReasonerAtomicQuery> cache) {
         super(sub, u, parent, subGoals, cache);
         this.subQueries = new LinkedList<>(qs);
+        this.unboundQueries = unboundQueries;
 
         //NB: we need lazy subGoal initialisation here, otherwise they are marked as visited before visit happens
-        this.feederStateIterator = !subQueries.isEmpty()?
-                subQueries.removeFirst().subGoals(sub, u, this, subGoals, cache).iterator() :
-                Collections.emptyIterator();
+        if (!subQueries.isEmpty()) {
+            ReasonerQueryImpl subQuery = subQueries.removeFirst();
+            Answer subGoalSub = unboundQueries.contains(subQuery)? new QueryAnswer() : sub;
+            this.feederStateIterator = subQuery.subGoals(subGoalSub, u, this, subGoals, cache).iterator();
+        } else {
+            this.feederStateIterator = Collections.emptyIterator();
+        }
     }
 
     @Override
     public ResolutionState propagateAnswer(AnswerState state) {
         Answer answer = getSubstitution().merge(state.getSubstitution(), true);
+        //answers of unbound queries may be incompatible with the substitution
+        if (answer.isEmpty() && !state.getSubstitution().isEmpty()) return null;
         if (subQueries.isEmpty()){
             return new AnswerState(answer, getUnifier(), getParentState());
         }
-        return new CumulativeState(subQueries, answer, getUnifier(), getParentState(), getVisitedSubGoals(), getCache());
+        return new CumulativeState(subQueries, unboundQueries, answer, getUnifier(), getParentState(), getVisitedSubGoals(), getCache());
     }
 
     @Override
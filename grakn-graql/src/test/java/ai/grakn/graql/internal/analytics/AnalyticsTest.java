@@ -29,6 +29,8 @@ import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.exception.InvalidKBException;
+import ai.grakn.factory.EmbeddedGraknSession;
+import ai.grakn.kb.internal.computer.GraphSnapshots;
 import ai.grakn.test.rule.SessionContext;
 import ai.grakn.util.GraknTestUtil;
 import ai.grakn.util.Schema;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeFalse;
 
@@ -144,6 +147,33 @@ public class AnalyticsTest {
         assertEquals(queryList.size(), result.size());
     }
 
+    @Test
+    public void whenComputeQueriesReuseASnapshot_TheirResultsAreTheSameAsWithoutTheSnapshot() {
+        assumeFalse(GraknTestUtil.usingTinker());
+
+        addSchemaAndEntities();
+
+        List<String> queryList = new ArrayList<>();
+        queryList.add("compute centrality; using degree;");
+        queryList.add("compute cluster; using connected-component;");
+
+        GraphSnapshots snapshots = ((EmbeddedGraknSession) session).graphSnapshots();
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            long hits = snapshots.hits();
+
+            // every query runs twice on the snapshot, so each job sees the snapshot the jobs before it used
+            for (int i = 0; i < 2; i++) {
+                for (String query : queryList) {
+                    Object expected = graph.graql().parse(query).execute();
+                    Object actual = graph.graql().parse(query + " using snapshot;").execute();
+                    assertEquals(expected, actual);
+                }
+            }
+
+            assertTrue(snapshots.hits() >= hits + 2);
+        }
+    }
+
     private void addSchemaAndEntities() throws InvalidKBException {
         try (GraknTx graph = session.open(GraknTxType.WRITE)) {
             EntityType entityType1 = graph.putEntityType(thingy);
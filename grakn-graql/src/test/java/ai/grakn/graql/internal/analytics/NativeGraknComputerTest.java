@@ -0,0 +1,163 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.GraknComputer;
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Attribute;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Entity;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.factory.EmbeddedGraknSession;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.test.rule.SessionContext;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class NativeGraknComputerTest {
+
+    private GraknSession session;
+    private Set<LabelId> allTypes;
+    private Set<LabelId> entityTypes;
+
+    @ClassRule
+    public final static SessionContext sessionContext = SessionContext.create();
+
+    @Before
+    public void setUp() {
+        session = sessionContext.newSession();
+
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            EntityType thingy = tx.putEntityType("thingy");
+            EntityType another = tx.putEntityType("another");
+            AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+            thingy.attribute(name);
+
+            Role role1 = tx.putRole("role1");
+            Role role2 = tx.putRole("role2");
+            thingy.plays(role1).plays(role2);
+            another.plays(role1).plays(role2);
+            RelationshipType related = tx.putRelationshipType("related").relates(role1).relates(role2);
+
+            Entity entity1 = thingy.addEntity();
+            Entity entity2 = thingy.addEntity();
+            Entity entity3 = thingy.addEntity();
+            Entity entity4 = another.addEntity();
+            another.addEntity();
+
+            related.addRelationship().addRolePlayer(role1, entity1).addRolePlayer(role2, entity2);
+            related.addRelationship().addRolePlayer(role1, entity2).addRolePlayer(role2, entity4);
+
+            Attribute<String> alice = name.putAttribute("alice");
+            entity1.attribute(alice);
+            entity3.attribute(alice);
+            entity3.attribute(name.putAttribute("bob"));
+
+            SchemaConcept hasName = tx.getSchemaConcept(Schema.ImplicitType.HAS.getLabel("name"));
+            allTypes = Stream.of(thingy, another, name, related, hasName)
+                    .map(SchemaConcept::getLabelId).collect(Collectors.toSet());
+            entityTypes = Stream.of(thingy, another).map(SchemaConcept::getLabelId).collect(Collectors.toSet());
+
+            tx.commit();
+        }
+    }
+
+    @Test
+    public void whenComputingDegrees_NativeResultMatchesGraphComputer() {
+        assertSameResult(new DegreeVertexProgram(entityTypes),
+                new DegreeDistributionMapReduce(entityTypes, DegreeVertexProgram.DEGREE), allTypes);
+        assertSameResult(new DegreeVertexProgram(allTypes),
+                new DegreeDistributionMapReduce(allTypes, DegreeVertexProgram.DEGREE), allTypes);
+        assertSameResult(new DegreeVertexProgram(entityTypes),
+                new DegreeDistributionMapReduce(entityTypes, DegreeVertexProgram.DEGREE), entityTypes);
+    }
+
+    @Test
+    public void whenComputingConnectedComponents_NativeResultMatchesGraphComputer() {
+        assertSameResult(new ConnectedComponentsVertexProgram(),
+                new ClusterSizeMapReduce(ConnectedComponentsVertexProgram.CLUSTER_LABEL), allTypes);
+        assertSameResult(new ConnectedComponentsVertexProgram(),
+                new ClusterMemberMapReduce(ConnectedComponentsVertexProgram.CLUSTER_LABEL), allTypes);
+        assertSameResult(new ConnectedComponentsVertexProgram(),
+                new ClusterMemberMapReduce(ConnectedComponentsVertexProgram.CLUSTER_LABEL, 1L), allTypes);
+        assertSameResult(new ConnectedComponentsVertexProgram(),
+                new ClusterSizeMapReduce(ConnectedComponentsVertexProgram.CLUSTER_LABEL), entityTypes);
+    }
+
+    @Test
+    public void whenSubgraphIsLargerThanThreshold_SubgraphIsNotLoaded() {
+        try (GraknTx tx = session.open(GraknTxType.READ)) {
+            assertNull(CsrGraph.load((EmbeddedGraknTx<?>) tx, allTypes, true, 3));
+        }
+    }
+
+    @Test
+    public void whenShardsShowTheSubgraphIsLargerThanThreshold_TheGraphComputerIsUsedWithoutLoadingTheSubgraph() {
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            EmbeddedGraknTx<?> embeddedTx = (EmbeddedGraknTx<?>) tx;
+            EntityType thingy = tx.getEntityType("thingy");
+            embeddedTx.shard(thingy.getId());
+            embeddedTx.shard(thingy.getId());
+
+            // The subgraph itself is tiny, so it would fit if it were loaded
+            GraknComputer computer = mock(GraknComputer.class);
+            long maxElements = 2 * embeddedTx.shardingThreshold() - 1;
+            VertexProgram<?> program = new ConnectedComponentsVertexProgram();
+            MapReduce<?, ?, ?, ?, ?> mapReduce = new ClusterSizeMapReduce(ConnectedComponentsVertexProgram.CLUSTER_LABEL);
+
+            new NativeGraknComputer(computer, embeddedTx, maxElements).compute(program, mapReduce, allTypes, true);
+
+            verify(computer).compute(program, mapReduce, allTypes, true);
+        }
+    }
+
+    private void assertSameResult(VertexProgram<?> program, MapReduce<?, ?, ?, ?, ?> mapReduce, Set<LabelId> types) {
+        Map<?, ?> expected;
+        Map<?, ?> actual;
+        try (GraknTx tx = session.open(GraknTxType.READ)) {
+            GraknComputer computer = ((EmbeddedGraknSession) session).getGraphComputer();
+            expected = computer.compute(program, mapReduce, types).memory().get(mapReduce.getMemoryKey());
+
+            GraknComputer nativeComputer = new NativeGraknComputer(
+                    ((EmbeddedGraknSession) session).getGraphComputer(), (EmbeddedGraknTx<?>) tx, Long.MAX_VALUE);
+            actual = nativeComputer.compute(program, mapReduce, types).memory().get(mapReduce.getMemoryKey());
+        }
+        assertEquals(expected, actual);
+    }
+}
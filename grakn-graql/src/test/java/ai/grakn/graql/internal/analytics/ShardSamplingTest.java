@@ -0,0 +1,219 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.EntityType;
+import ai.grakn.graql.analytics.Estimate;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.test.rule.SampleKBContext;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ShardSamplingTest {
+
+    private static final double DELTA = 1E-9;
+
+    @ClassRule
+    public static final SampleKBContext sampleKB = SampleKBContext.empty();
+
+    private EmbeddedGraknTx<?> tx;
+    private EntityType person;
+    private AttributeType<Long> age;
+    private Collection<AttributeType<?>> ages;
+
+    @Before
+    public void setUp() {
+        tx = sampleKB.tx();
+        age = tx.putAttributeType("age", AttributeType.DataType.LONG);
+        person = tx.putEntityType("person").attribute(age);
+        ages = ImmutableSet.of(age);
+    }
+
+    @After
+    public void tearDown() {
+        sampleKB.rollback();
+    }
+
+    @Test
+    public void whenEveryShardIsAlike_TheCountIsScaledUpFromASampleWithAnIntervalOfZeroWidth() {
+        addShards(ImmutableList.of(1L, 2L, 3L, 4L), ImmutableList.of(1L, 2L, 3L, 4L),
+                ImmutableList.of(1L, 2L, 3L, 4L), ImmutableList.of(1L, 2L, 3L, 4L));
+
+        Estimate count = sampling(0.01).count();
+
+        assertEstimate(16, 16, 16, count);
+        assertEquals(0.5, count.sampledFraction(), DELTA);
+    }
+
+    @Test
+    public void whenShardsDiffer_TheCountIsScaledUpFromASampleWithAFiniteInterval() {
+        addShards(ImmutableList.of(1L), ImmutableList.of(1L, 2L, 3L),
+                ImmutableList.of(1L, 2L), ImmutableList.of(1L, 2L, 3L, 4L));
+
+        Estimate count = sampling(1000).count();
+
+        assertFalse(count.isExact());
+        assertEquals(0.5, count.sampledFraction(), DELTA);
+        assertTrue(Double.isFinite(count.lowerBound()) && Double.isFinite(count.upperBound()));
+        assertTrue(count.lowerBound() < count.value() && count.value() < count.upperBound());
+    }
+
+    @Test
+    public void whenEveryShardIsAlike_TheMeanOfTheSampleIsTheMean() {
+        addShards(ImmutableList.of(1L, 2L, 3L, 4L), ImmutableList.of(1L, 2L, 3L, 4L),
+                ImmutableList.of(1L, 2L, 3L, 4L), ImmutableList.of(1L, 2L, 3L, 4L));
+
+        Estimate mean = sampling(0.01).mean(ages).get();
+
+        assertEstimate(2.5, 2.5, 2.5, mean);
+        assertEquals(0.5, mean.sampledFraction(), DELTA);
+    }
+
+    @Test
+    public void whenShardsHaveDifferentSizes_TheMeanIsWeightedByTheNumberOfValuesInEachShard() {
+        // The mean of the shard means is 49 / 12, but the mean of the values is 22 / 12
+        addShards(ImmutableList.of(12L), ImmutableList.of(0L, 0L, 0L),
+                ImmutableList.of(6L, 2L), ImmutableList.of(1L, 1L, 0L, 0L, 0L, 0L));
+
+        Estimate mean = sampling(DELTA).mean(ages).get();
+
+        assertTrue(mean.isExact());
+        assertEstimate(22D / 12, 22D / 12, 22D / 12, mean);
+    }
+
+    @Test
+    public void whenEveryShardIsAlike_TheLinearisedStdHasAnIntervalOfZeroWidth() {
+        addShards(ImmutableList.of(1L, 2L, 3L, 4L), ImmutableList.of(1L, 2L, 3L, 4L),
+                ImmutableList.of(1L, 2L, 3L, 4L), ImmutableList.of(1L, 2L, 3L, 4L));
+
+        Estimate std = sampling(0.01).std(ages).get();
+
+        assertEstimate(Math.sqrt(1.25), Math.sqrt(1.25), Math.sqrt(1.25), std);
+        assertEquals(0.5, std.sampledFraction(), DELTA);
+    }
+
+    @Test
+    public void whenShardsDiffer_TheLinearisedStdIntervalIsFiniteAndContainsTheEstimate() {
+        addShards(ImmutableList.of(1L, 5L), ImmutableList.of(2L, 2L, 3L),
+                ImmutableList.of(1L, 9L), ImmutableList.of(4L, 6L, 6L, 8L));
+
+        Estimate std = sampling(1000).std(ages).get();
+
+        assertFalse(std.isExact());
+        assertTrue(Double.isFinite(std.lowerBound()) && Double.isFinite(std.upperBound()));
+        assertTrue(std.lowerBound() <= std.value() && std.value() <= std.upperBound());
+    }
+
+    @Test
+    public void whenEverySampledValueIsTheSame_TheStdIsZeroWithAnIntervalInTheUnitsOfTheValues() {
+        addShards(ImmutableList.of(7L, 7L), ImmutableList.of(7L, 7L, 7L),
+                ImmutableList.of(7L), ImmutableList.of(7L, 7L));
+
+        Estimate std = sampling(1000).std(ages).get();
+
+        assertFalse(std.isExact());
+        assertEstimate(0, 0, 0, std);
+    }
+
+    @Test
+    public void whenEveryShardIsRead_TheStdIsExact() {
+        addShards(ImmutableList.of(1L, 5L), ImmutableList.of(2L, 2L, 3L),
+                ImmutableList.of(1L, 9L), ImmutableList.of(4L, 6L, 6L, 8L));
+
+        Estimate std = sampling(DELTA).std(ages).get();
+
+        // The values are 1, 1, 2, 2, 3, 4, 5, 6, 6, 8, 9, with mean 47 / 11 and mean square 277 / 11
+        double mean = 47D / 11;
+        double expected = Math.sqrt(277D / 11 - mean * mean);
+        assertTrue(std.isExact());
+        assertEstimate(expected, expected, expected, std);
+    }
+
+    @Test
+    public void whenEveryShardIsAlike_TheMedianOfTheSampleIsTheMedian() {
+        addShards(ImmutableList.of(1L, 2L, 3L, 4L), ImmutableList.of(1L, 2L, 3L, 4L),
+                ImmutableList.of(1L, 2L, 3L, 4L), ImmutableList.of(1L, 2L, 3L, 4L));
+
+        Estimate median = sampling(0.01).median(ages).get();
+
+        assertEstimate(2, 2, 2, median);
+        assertEquals(0.5, median.sampledFraction(), DELTA);
+    }
+
+    @Test
+    public void whenShardsDiffer_TheMedianIntervalIsMadeOfSampledValuesAroundTheMedian() {
+        addShards(ImmutableList.of(1L, 5L), ImmutableList.of(2L, 2L, 3L),
+                ImmutableList.of(1L, 9L), ImmutableList.of(4L, 6L, 6L, 8L));
+
+        Estimate median = sampling(1000).median(ages).get();
+
+        assertFalse(median.isExact());
+        assertTrue(median.lowerBound() <= median.value() && median.value() <= median.upperBound());
+        assertTrue(ImmutableSet.of(1D, 2D, 3D, 4D, 5D, 6D, 8D, 9D).contains(median.lowerBound()));
+        assertTrue(ImmutableSet.of(1D, 2D, 3D, 4D, 5D, 6D, 8D, 9D).contains(median.upperBound()));
+    }
+
+    @Test
+    public void whenTheInstancesHaveNoValues_ThereAreNoStatistics() {
+        addShards(ImmutableList.of(), ImmutableList.of());
+
+        ShardSampling sampling = sampling(0.01);
+
+        assertFalse(sampling.mean(ages).isPresent());
+        assertFalse(sampling.std(ages).isPresent());
+        assertFalse(sampling.median(ages).isPresent());
+        assertFalse(sampling.sum(ages).isPresent());
+    }
+
+    private ShardSampling sampling(double relativeError) {
+        return ShardSampling.of(ImmutableSet.of(person), relativeError, new Random(0));
+    }
+
+    /**
+     * Fills the current shard of {@link #person} with people of the first ages, then opens a new shard for each of
+     * the other lists of ages
+     */
+    @SafeVarargs
+    private final void addShards(ImmutableList<Long>... shards) {
+        for (int i = 0; i < shards.length; i++) {
+            if (i > 0) tx.shard(person.getId());
+            for (Long value : shards[i]) {
+                person.addEntity().attribute(age.putAttribute(value));
+            }
+        }
+    }
+
+    private static void assertEstimate(double value, double lowerBound, double upperBound, Estimate estimate) {
+        assertEquals(value, estimate.value(), DELTA);
+        assertEquals(lowerBound, estimate.lowerBound(), DELTA);
+        assertEquals(upperBound, estimate.upperBound(), DELTA);
+    }
+}
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.analytics;
 
+import ai.grakn.GraknConfigKey;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTx;
 import ai.grakn.GraknTxType;
@@ -28,11 +29,15 @@ import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
+import ai.grakn.engine.GraknConfig;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.exception.InvalidKBException;
+import ai.grakn.factory.EmbeddedGraknSession;
 import ai.grakn.graql.Graql;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.test.rule.SessionContext;
 import ai.grakn.util.GraknTestUtil;
 import ai.grakn.util.Schema;
@@ -48,11 +53,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ai.grakn.graql.internal.analytics.Utility.getResourceEdgeId;
 import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeFalse;
 
 public class ShortestPathTest {
@@ -113,6 +120,51 @@ public class ShortestPathTest {
         }
     }
 
+    @Test
+    public void whenPathSearchVisitsTooManyInstances_SearchGivesUp() {
+        addSchemaAndEntities();
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            Set<LabelId> types = Stream.of(thing, anotherThing, related)
+                    .map(label -> graph.getSchemaConcept(Label.of(label)).getLabelId())
+                    .collect(Collectors.toSet());
+
+            ShortestPathSearch search = new ShortestPathSearch((EmbeddedGraknTx<?>) graph, types, 1L);
+            assertEquals(Optional.empty(), search.search(entityId1, entityId4));
+
+            search = new ShortestPathSearch((EmbeddedGraknTx<?>) graph, types, ShortestPathSearch.DEFAULT_MAX_VISITED);
+            assertTrue(search.search(entityId1, entityId4).isPresent());
+        }
+    }
+
+    @Test
+    public void whenPathSearchGivesUp_TheVertexProgramFindsTheSamePaths() {
+        addSchemaAndEntities();
+        GraknConfig config = ((EmbeddedGraknSession) session).config();
+        Set<List<ConceptId>> searched;
+        Set<List<ConceptId>> computed;
+
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            searched = pathIds(graph.graql().compute().paths().from(entityId1).to(entityId4).execute());
+        }
+
+        // A budget of one instance makes every search give up and fall back to the vertex program
+        config.setConfigProperty(GraknConfigKey.KB_ANALYTICS_PATH_SEARCH_BUDGET, 1L);
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            computed = pathIds(graph.graql().compute().paths().from(entityId1).to(entityId4).execute());
+        } finally {
+            config.setConfigProperty(GraknConfigKey.KB_ANALYTICS_PATH_SEARCH_BUDGET, ShortestPathSearch.DEFAULT_MAX_VISITED);
+        }
+
+        assertEquals(2, searched.size());
+        assertEquals(searched, computed);
+    }
+
+    private static Set<List<ConceptId>> pathIds(List<List<Concept>> paths) {
+        return paths.stream()
+                .map(path -> path.stream().map(Concept::getId).collect(Collectors.toList()))
+                .collect(Collectors.toSet());
+    }
+
     @Test
     public void testShortestPath() {
         List<String> correctPath;
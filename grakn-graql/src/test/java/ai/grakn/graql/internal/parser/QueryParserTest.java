@@ -660,6 +660,21 @@ public class QueryParserTest {
         assertParseEquivalence("compute count in movie, person;");
     }
 
+    @Test
+    public void testParseComputeCountUsingSnapshot() {
+        assertParseEquivalence("compute count in movie, person; using snapshot;");
+    }
+
+    @Test
+    public void testParseComputeCountApproximately() {
+        assertParseEquivalence("compute count in movie, person; approximate 0.05;");
+    }
+
+    @Test
+    public void testParseComputeClusterUsingCCAndSnapshot() {
+        assertParseEquivalence("compute cluster in movie, person; using connected-component; using snapshot;");
+    }
+
     @Test
     public void testParseComputeClusterUsingCC() {
         assertParseEquivalence("compute cluster in movie, person; using connected-component;");
@@ -742,6 +757,11 @@ public class QueryParserTest {
         assertParseEquivalence("compute mean of person in movie;");
     }
 
+    @Test
+    public void testParseComputeMeanApproximately() {
+        assertParseEquivalence("compute mean of person in movie; approximate 0.01;");
+    }
+
     @Test
     public void testParseComputeMedian() {
         assertParseEquivalence("compute median of person in movie;");
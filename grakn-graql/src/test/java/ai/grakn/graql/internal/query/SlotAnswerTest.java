@@ -0,0 +1,122 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Unifier;
+import ai.grakn.graql.internal.reasoner.UnifierImpl;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class SlotAnswerTest {
+
+    private final Var x = var("x");
+    private final Var y = var("y");
+    private final Var z = var("z");
+    private final Concept conceptX = mock(Concept.class);
+    private final Concept conceptY = mock(Concept.class);
+    private final Concept conceptZ = mock(Concept.class);
+
+    private final SlotAnswer answer = new SlotAnswer(VarSlots.of(ImmutableList.of(x, y)), new Concept[]{conceptX, conceptY});
+    private final QueryAnswer queryAnswer = new QueryAnswer(ImmutableMap.of(x, conceptX, y, conceptY));
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void whenGettingAConceptThatIsInTheAnswer_ReturnTheConcept() {
+        assertEquals(conceptX, answer.get(x));
+        assertEquals(conceptY, answer.get(y));
+    }
+
+    @Test
+    public void whenGettingAConceptThatIsNotInTheAnswer_Throw() {
+        exception.expect(GraqlQueryException.class);
+        exception.expectMessage(GraqlQueryException.varNotInQuery(z).getMessage());
+
+        answer.get(z);
+    }
+
+    @Test
+    public void whenComparingWithEquivalentQueryAnswer_AnswersAreEqualAndHashesMatch() {
+        assertEquals(queryAnswer, answer);
+        assertEquals(answer, queryAnswer);
+        assertEquals(queryAnswer.hashCode(), answer.hashCode());
+        assertEquals(queryAnswer.map(), answer.map());
+    }
+
+    @Test
+    public void whenProjectingAnswer_ResultMatchesQueryAnswerProjection() {
+        assertEquals(queryAnswer.project(ImmutableSet.of(y)), answer.project(ImmutableSet.of(y)));
+        assertEquals(queryAnswer.project(ImmutableSet.of(z)), answer.project(ImmutableSet.of(z)));
+    }
+
+    @Test
+    public void whenUnifyingAnswer_ResultMatchesQueryAnswerUnification() {
+        Unifier unifier = new UnifierImpl(ImmutableMap.of(x, z));
+        assertEquals(queryAnswer.unify(unifier), answer.unify(unifier));
+    }
+
+    @Test
+    public void whenUnifyingVariablesBoundToDifferentConcepts_ReturnEmptyAnswer() {
+        Unifier unifier = new UnifierImpl(ImmutableMap.of(x, z, y, z));
+        assertTrue(answer.unify(unifier).isEmpty());
+    }
+
+    @Test
+    public void whenMergingAnswers_ResultMatchesQueryAnswerMerge() {
+        SlotAnswer other = new SlotAnswer(VarSlots.of(ImmutableList.of(y, z)), new Concept[]{conceptY, conceptZ});
+        Answer expected = queryAnswer.merge(new QueryAnswer(ImmutableMap.of(y, conceptY, z, conceptZ)));
+
+        Answer merged = answer.merge(other);
+        assertEquals(expected, merged);
+        assertEquals(conceptZ, merged.get(z));
+    }
+
+    @Test
+    public void whenMergingWithAQueryAnswer_ResultIsASlotAnswer() {
+        QueryAnswer other = new QueryAnswer(ImmutableMap.of(y, conceptY, z, conceptZ));
+        Answer expected = queryAnswer.merge(other);
+
+        assertEquals(expected, answer.merge(other));
+        assertTrue(answer.merge(other) instanceof SlotAnswer);
+        assertTrue(other.merge(answer) instanceof SlotAnswer);
+    }
+
+    @Test
+    public void whenDerivingLayouts_TheyAreSharedWithLayoutsOfTheSameVariables() {
+        VarSlots slots = VarSlots.of(ImmutableList.of(x, y));
+
+        assertSame(VarSlots.of(ImmutableList.of(y)), slots.projection(slots.retainedMask(ImmutableSet.of(y))).slots);
+        assertSame(VarSlots.of(ImmutableList.of(x, y, z)), slots.merge(VarSlots.of(ImmutableList.of(y, z))).slots);
+    }
+}
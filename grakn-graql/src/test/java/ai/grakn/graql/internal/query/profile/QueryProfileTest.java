@@ -0,0 +1,91 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.profile;
+
+import ai.grakn.graql.GetQuery;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.Var;
+import ai.grakn.test.kbs.MovieKB;
+import ai.grakn.test.rule.SampleKBContext;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QueryProfileTest {
+
+    private static final Var x = var("x");
+
+    private QueryBuilder qb;
+
+    @ClassRule
+    public static final SampleKBContext movieKB = MovieKB.context();
+
+    @Before
+    public void setUp() {
+        qb = movieKB.tx().graql();
+    }
+
+    @Test
+    public void whenProfilingAGetQuery_ProfileContainsPlanAndAnswerCounts() {
+        GetQuery query = qb.match(x.isa("movie")).get();
+        int expectedAnswers = query.execute().size();
+
+        QueryProfile profile = QueryProfile.profile(query);
+
+        assertEquals(expectedAnswers, profile.results());
+        assertEquals(1, profile.traversals().size());
+
+        TraversalProfile traversal = profile.traversals().get(0);
+        assertEquals(expectedAnswers, traversal.answers());
+
+        List<TraversalProfile.FragmentProfile> fragments = traversal.conjunctions().get(0);
+        assertFalse(fragments.isEmpty());
+        assertEquals(expectedAnswers, fragments.get(fragments.size() - 1).actualTraversers());
+        assertTrue(fragments.stream().allMatch(fragment -> fragment.estimatedTraversers() > 0));
+    }
+
+    @Test
+    public void whenProfilingQueriesWithDifferentConstants_TheShapesAreTheSame() {
+        TraversalProfile godfather = QueryProfile.profile(qb.match(x.has("title", "Godfather")).get()).traversals().get(0);
+        TraversalProfile heat = QueryProfile.profile(qb.match(x.has("title", "Heat")).get()).traversals().get(0);
+
+        assertEquals(godfather.shape(), heat.shape());
+        assertFalse(godfather.shape().contains("Godfather"));
+    }
+
+    @Test
+    public void whenAQueryIsLimitedToOneAnswer_OnlyOneResultIsReadFromTheTraversal() {
+        TraversalProfile traversal = QueryProfile.profile(qb.match(x.isa("movie")).limit(1).get()).traversals().get(0);
+
+        assertEquals(1, traversal.answers());
+    }
+
+    @Test
+    public void whenQueryIsNotProfiled_NoProfileIsAttachedToTheThread() {
+        QueryProfile.profile(qb.match(x.isa("movie")).get());
+        assertFalse(QueryProfile.current().isPresent());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.engine.GraknConfig;
+import ai.grakn.graql.GetQuery;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.test.kbs.GenealogyKB;
+import ai.grakn.test.kbs.GeoKB;
+import ai.grakn.test.rule.SampleKBContext;
+import ai.grakn.util.GraknTestUtil;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static ai.grakn.util.GraqlTestUtil.assertCollectionsEqual;
+import static org.junit.Assume.assumeTrue;
+
+public class CostBasedPlanningTest {
+
+    @ClassRule
+    public static final SampleKBContext geoKB = GeoKB.context();
+
+    @ClassRule
+    public static final SampleKBContext genealogyKB = GenealogyKB.context();
+
+    @BeforeClass
+    public static void onStartup() throws Exception {
+        assumeTrue(GraknTestUtil.usingTinker());
+    }
+
+    @Test
+    public void whenResolvingTransitiveQueriesWithAndWithoutThePlanner_AnswersAreTheSame(){
+        assertSameAnswersWithAndWithoutPlanner(geoKB.tx(),
+                "match $x isa university;$x has name $name;" +
+                        "(geo-entity: $x, entity-location: $y) isa is-located-in;" +
+                        "$y isa country;$y has name 'Poland'; get $x, $name;");
+        assertSameAnswersWithAndWithoutPlanner(geoKB.tx(),
+                "match (geo-entity: $x, entity-location: $y) isa is-located-in;" +
+                        "(geo-entity: $y, entity-location: $z) isa is-located-in;" +
+                        "$z isa continent; get;");
+    }
+
+    @Test
+    public void whenResolvingGenealogyQueriesWithAndWithoutThePlanner_AnswersAreTheSame(){
+        assertSameAnswersWithAndWithoutPlanner(genealogyKB.tx(),
+                "match ($x, $y) isa marriage; ($y, $z) isa marriage; $x != $z; get;");
+        assertSameAnswersWithAndWithoutPlanner(genealogyKB.tx(),
+                "match (parent-in-law: $x, child-in-law: $y) isa in-laws; $y has gender 'male'; get;");
+        assertSameAnswersWithAndWithoutPlanner(genealogyKB.tx(),
+                "match (child: $c, parent: $p) isa parentship; (sibling: $c, sibling: $s) isa siblings; get;");
+    }
+
+    private static void assertSameAnswersWithAndWithoutPlanner(EmbeddedGraknTx<?> tx, String queryString){
+        GraknConfig config = tx.session().config();
+        List<Answer> planned = tx.graql().infer(true).<GetQuery>parse(queryString).execute();
+        try {
+            config.setConfigProperty(GraknConfigKey.KB_REASONER_COST_BASED_PLANNING, false);
+            List<Answer> unplanned = tx.graql().infer(true).<GetQuery>parse(queryString).execute();
+            assertCollectionsEqual(planned, unplanned);
+        } finally {
+            config.setConfigProperty(GraknConfigKey.KB_REASONER_COST_BASED_PLANNING, true);
+        }
+    }
+}
@@ -27,9 +27,12 @@ import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.reasoner.atom.Atom;
+import ai.grakn.graql.internal.reasoner.cache.QueryCache;
 import ai.grakn.graql.internal.reasoner.plan.ResolutionPlan;
+import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.test.rule.SampleKBContext;
 import com.google.common.collect.ImmutableList;
@@ -52,6 +55,9 @@ public class ResolutionPlanTest {
     @ClassRule
     public static final SampleKBContext testContext = SampleKBContext.load("resolution-plan-test.gql");
 
+    @ClassRule
+    public static final SampleKBContext ruleContext = SampleKBContext.load("resolution-plan-test-with-rules.gql");
+
 
     @Test
     public void prioritiseSubbedRelationsOverNonSubbedOnes() {
@@ -206,6 +212,57 @@ public class ResolutionPlanTest {
         assertNotEquals(new ResolutionPlan(queryY).plan().get(0), getAtom(queryX, "resource", testTx));
     }
 
+    @Test
+    public void makeSureConnectednessPreservedWhenRuleResolvableAtomsPresent(){
+        EmbeddedGraknTx<?> testTx = ruleContext.tx();
+        String queryString = "{" +
+                "(role1:$x, role2: $y) isa derivedRelation;" +
+                "(role1:$z, role2: $w) isa anotherDerivedRelation;" +
+                "(role1:$y, role2: $z) isa relation;" +
+                "$w has resource 'a';" +
+                "}";
+        ReasonerQueryImpl query = ReasonerQueries.create(conjunction(queryString, testTx), testTx);
+        ImmutableList<Atom> plan = new ResolutionPlan(query).plan();
+
+        UnmodifiableIterator<Atom> iterator = plan.iterator();
+        Set<Var> vars = new HashSet<>();
+        vars.addAll(iterator.next().getVarNames());
+        while(iterator.hasNext()){
+            Atom next = iterator.next();
+            Set<Var> varNames = next.getVarNames();
+            assertTrue(!Sets.intersection(varNames, vars).isEmpty());
+            vars.addAll(varNames);
+        }
+    }
+
+    @Test
+    public void prioritiseAtomsWhoseRulesInferFewerAnswers(){
+        EmbeddedGraknTx<?> testTx = ruleContext.tx();
+        String queryString = "{" +
+                "(role1:$x, role2: $y) isa derivedRelation;" +
+                "(role1:$y, role2: $z) isa anotherDerivedRelation;" +
+                "}";
+        ReasonerQueryImpl query = ReasonerQueries.create(conjunction(queryString, testTx), testTx);
+        Atom derived = getAtom(query, "derivedRelation", testTx);
+        Atom anotherDerived = getAtom(query, "anotherDerivedRelation", testTx);
+
+        QueryCache<ReasonerAtomicQuery> cache = new QueryCache<>();
+        recordUnproductiveApplications(anotherDerived, cache);
+        ResolutionPlan plan = new ResolutionPlan(query, cache);
+        assertEquals(plan.plan(), ImmutableList.of(anotherDerived, derived));
+        assertTrue(plan.explain().contains("cost="));
+
+        cache = new QueryCache<>();
+        recordUnproductiveApplications(derived, cache);
+        assertEquals(new ResolutionPlan(query, cache).plan(), ImmutableList.of(derived, anotherDerived));
+    }
+
+    private void recordUnproductiveApplications(Atom atom, QueryCache<ReasonerAtomicQuery> cache){
+        ReasonerAtomicQuery atomicQuery = ReasonerQueries.atomic(atom);
+        InferenceRule rule = atom.getApplicableRules().findFirst().orElse(null);
+        for (int i = 0; i < 10; i++) cache.recordRuleApplication(rule, atomicQuery);
+    }
+
     private Atom getAtom(ReasonerQueryImpl query, String typeString, GraknTx tx){
         Type type = tx.getType(Label.of(typeString));
         return query.getAtoms(Atom.class).filter(at -> at.getTypeId().equals(type.getId())).findFirst().orElse(null);
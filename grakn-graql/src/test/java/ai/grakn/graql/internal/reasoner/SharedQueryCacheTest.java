@@ -0,0 +1,121 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.factory.EmbeddedGraknSession;
+import ai.grakn.graql.GetQuery;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.test.rule.SessionContext;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SharedQueryCacheTest {
+
+    @ClassRule
+    public static final SessionContext sessionContext = SessionContext.create();
+
+    private static final String QUERY = "match (role1: $x, role2: $y) isa derivedRelation; get;";
+
+    private static GraknSession session;
+
+    @BeforeClass
+    public static void loadContext(){
+        session = sessionContext.newSession();
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parser().parseList(
+                    "define " +
+                    "role1 sub role; role2 sub role;" +
+                    "baseEntity sub entity, plays role1, plays role2;" +
+                    "relation sub relationship, relates role1, relates role2;" +
+                    "derivedRelation sub relationship, relates role1, relates role2;" +
+                    "derived-relation-rule when {(role1: $x, role2: $y) isa relation;}, " +
+                    "then {(role1: $x, role2: $y) isa derivedRelation;};"
+            ).forEach(query -> query.execute());
+            tx.graql().parse("insert $x isa baseEntity; $y isa baseEntity; (role1: $x, role2: $y) isa relation;").execute();
+            tx.commit();
+        }
+    }
+
+    @Test
+    public void whenQueryIsRepeatedInAnotherReadTransaction_AnswersAreSharedUntilInvolvedTypesAreCommittedTo(){
+        List<Answer> answers = execute(GraknTxType.READ);
+        assertEquals(1, answers.size());
+
+        long hits = hits();
+        assertEquals(answers, execute(GraknTxType.READ));
+        assertTrue(hits() > hits);
+
+        insertRelation();
+
+        hits = hits();
+        assertEquals(2, execute(GraknTxType.READ).size());
+        assertEquals(hits, hits());
+    }
+
+    @Test
+    public void whenQueryIsExecutedInWriteTransaction_AnswersAreNotShared(){
+        execute(GraknTxType.READ);
+
+        long hits = hits();
+        execute(GraknTxType.WRITE);
+        assertEquals(hits, hits());
+    }
+
+    @Test
+    public void whenACommitHappensAfterAReadTransactionOpens_TheAnswersOfTheTransactionAreNotShared() throws InterruptedException {
+        try (GraknTx tx = session.open(GraknTxType.READ)) {
+            //transactions are bound to their thread, so the commit is made from another one
+            Thread writer = new Thread(SharedQueryCacheTest::insertRelation);
+            writer.start();
+            writer.join();
+
+            tx.graql().infer(true).<GetQuery>parse(QUERY).execute();
+        }
+
+        long hits = hits();
+        execute(GraknTxType.READ);
+        assertEquals(hits, hits());
+    }
+
+    private static long hits(){
+        return ((EmbeddedGraknSession) session).sharedAnswers().hits();
+    }
+
+    private static void insertRelation(){
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().parse("insert $x isa baseEntity; $y isa baseEntity; (role1: $x, role2: $y) isa relation;").execute();
+            tx.commit();
+        }
+    }
+
+    private List<Answer> execute(GraknTxType txType){
+        try (GraknTx tx = session.open(txType)) {
+            return tx.graql().infer(true).<GetQuery>parse(QUERY).execute();
+        }
+    }
+}
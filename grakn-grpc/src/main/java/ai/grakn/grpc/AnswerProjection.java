@@ -0,0 +1,94 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.grpc;
+
+import ai.grakn.concept.Label;
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableSet;
+import io.grpc.Metadata;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static ai.grakn.util.CommonUtil.toImmutableSet;
+
+/**
+ * Describes what a client wants to know about the concepts in the answers of a transaction, so the server can send it
+ * along with every answer instead of the client asking for it concept by concept.
+ *
+ * <p>
+ *     With a projection, every concept in an answer carries its type and label, the value and data type of an
+ *     attribute, and for every thing the attributes it owns of the {@link #attributeTypes()}.
+ * </p>
+ *
+ * <p>
+ *     A projection is sent as a header when the transaction stream is opened, under {@link #KEY}. The server then
+ *     sends each answer as a JSON object under the key {@link #ANSWER}, mapping each variable to an object with the
+ *     keys below.
+ * </p>
+ */
+@AutoValue
+public abstract class AnswerProjection {
+
+    public static final String ANSWER = "@answer";
+    public static final String ID = "id";
+    public static final String BASE_TYPE = "base-type";
+    public static final String LABEL = "label";
+    public static final String TYPE = "type";
+    public static final String DATA_TYPE = "data-type";
+    public static final String VALUE = "value";
+    public static final String ATTRIBUTES = "attributes";
+
+    private static final String SEPARATOR = "\n";
+
+    private static final Metadata.BinaryMarshaller<AnswerProjection> MARSHALLER =
+            new Metadata.BinaryMarshaller<AnswerProjection>() {
+                @Override
+                public byte[] toBytes(AnswerProjection value) {
+                    String labels = value.attributeTypes().stream()
+                            .map(Label::getValue)
+                            .reduce((a, b) -> a + SEPARATOR + b)
+                            .orElse("");
+                    return labels.getBytes(StandardCharsets.UTF_8);
+                }
+
+                @Override
+                public AnswerProjection parseBytes(byte[] serialized) {
+                    String labels = new String(serialized, StandardCharsets.UTF_8);
+                    if (labels.isEmpty()) return create();
+                    return create(Arrays.stream(labels.split(SEPARATOR)).map(Label::of).collect(toImmutableSet()));
+                }
+            };
+
+    public static final Metadata.Key<AnswerProjection> KEY = Metadata.Key.of("answer-projection-bin", MARSHALLER);
+
+    /**
+     * @return the types of the attributes which are sent along with every thing in an answer
+     */
+    public abstract ImmutableSet<Label> attributeTypes();
+
+    public static AnswerProjection create(Label... attributeTypes) {
+        return create(Arrays.asList(attributeTypes));
+    }
+
+    public static AnswerProjection create(Collection<Label> attributeTypes) {
+        return new AutoValue_AnswerProjection(ImmutableSet.copyOf(attributeTypes));
+    }
+}
@@ -22,6 +22,7 @@ import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
+import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.Query;
@@ -31,6 +32,8 @@ import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.grpc.GrpcUtil.ErrorType;
 import ai.grakn.grpc.TxGrpcCommunicator.Response;
 import ai.grakn.rpc.generated.GraknGrpc;
+import ai.grakn.rpc.generated.GrpcConcept;
+import ai.grakn.rpc.generated.GrpcConcept.ConceptMethod.ConceptMethodCase;
 import ai.grakn.rpc.generated.GrpcGrakn;
 import ai.grakn.rpc.generated.GrpcGrakn.TxRequest;
 import ai.grakn.rpc.generated.GrpcGrakn.TxResponse;
@@ -43,9 +46,15 @@ import io.grpc.StatusRuntimeException;
 import mjson.Json;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -57,12 +66,19 @@ import java.util.stream.StreamSupport;
  *     how to translate gRPC objects into Java objects and back.
  * </p>
  *
+ * <p>
+ *     The methods ending in {@code Async} send their request without waiting for earlier requests to be answered, so
+ *     many requests can be in flight at once. Their futures are completed on a gRPC thread, so anything chained onto
+ *     them must not block.
+ * </p>
+ *
  * @author Felix Chapman
  */
 public class GrpcClient implements AutoCloseable {
 
     private final GrpcConceptConverter conceptConverter;
     private final TxGrpcCommunicator communicator;
+    private final PrefetchedFacts prefetched = new PrefetchedFacts();
 
     private GrpcClient(GrpcConceptConverter conceptConverter, TxGrpcCommunicator communicator) {
         this.conceptConverter = conceptConverter;
@@ -80,13 +96,15 @@ public class GrpcClient implements AutoCloseable {
     }
 
     public Iterator<Object> execQuery(Query<?> query) {
+        if (!query.isReadOnly()) prefetched.clear();
+        long epoch = prefetched.epoch();
         communicator.send(GrpcUtil.execQueryRequest(query.toString(), query.inferring()));
 
         TxResponse txResponse = responseOrThrow();
 
         switch (txResponse.getResponseCase()) {
             case QUERYRESULT:
-                return Collections.singleton(convert(txResponse.getQueryResult())).iterator();
+                return Collections.singleton(convert(txResponse.getQueryResult(), epoch)).iterator();
             case DONE:
                 return Collections.emptyIterator();
             case ITERATORID:
@@ -95,7 +113,7 @@ public class GrpcClient implements AutoCloseable {
                 return new GraknGrpcIterator<Object>(this, iteratorId) {
                     @Override
                     protected Object getNextFromResponse(TxResponse response) {
-                        return convert(response.getQueryResult());
+                        return convert(response.getQueryResult(), epoch);
                     }
                 };
             default:
@@ -103,6 +121,35 @@ public class GrpcClient implements AutoCloseable {
         }
     }
 
+    /**
+     * Execute a query without waiting for the responses to earlier requests. If the query has a stream of results,
+     * they are all retrieved before the future is completed.
+     */
+    public CompletableFuture<List<Object>> execQueryAsync(Query<?> query) {
+        if (!query.isReadOnly()) prefetched.clear();
+        long epoch = prefetched.epoch();
+        return request(GrpcUtil.execQueryRequest(query.toString(), query.inferring())).thenCompose(txResponse -> {
+            switch (txResponse.getResponseCase()) {
+                case QUERYRESULT:
+                    Object result = convert(txResponse.getQueryResult(), epoch);
+                    return CompletableFuture.completedFuture(Collections.singletonList(result));
+                case DONE:
+                    return CompletableFuture.completedFuture(Collections.emptyList());
+                case ITERATORID:
+                    CompletableFuture<List<Object>> results = new CompletableFuture<>();
+                    drain(txResponse.getIteratorId(), epoch, new ArrayList<>(), results);
+                    return results;
+                default:
+                    throw CommonUtil.unreachableStatement("Unexpected " + txResponse);
+            }
+        });
+    }
+
+    public CompletableFuture<Optional<Concept>> getConceptAsync(ConceptId id) {
+        return request(GrpcUtil.getConceptRequest(id))
+                .thenApply(response -> conceptConverter.convert(response.getOptionalConcept()));
+    }
+
     public void commit() {
         communicator.send(GrpcUtil.commitRequest());
         responseOrThrow();
@@ -115,6 +162,13 @@ public class GrpcClient implements AutoCloseable {
 
     @Nullable
     public <T> T runConceptMethod(ConceptId id, ConceptMethod<T> conceptMethod) {
+        GrpcConcept.ConceptMethod grpcConceptMethod = conceptMethod.toGrpc();
+
+        Optional<Object> fact = prefetched.get(id, grpcConceptMethod);
+        if (fact.isPresent()) return (T) fact.get();
+
+        if (!isRead(grpcConceptMethod)) prefetched.clear();
+
         communicator.send(GrpcUtil.runConceptMethodRequest(id, conceptMethod));
         return conceptMethod.get(conceptConverter, this, responseOrThrow());
     }
@@ -124,6 +178,19 @@ public class GrpcClient implements AutoCloseable {
         return conceptConverter.convert(responseOrThrow().getOptionalConcept());
     }
 
+    /**
+     * Get many concepts in one round trip, by sending all the requests before reading any of the responses
+     */
+    public List<Optional<Concept>> getConcepts(Collection<ConceptId> ids) {
+        ids.forEach(id -> communicator.send(GrpcUtil.getConceptRequest(id)));
+
+        List<Optional<Concept>> concepts = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            concepts.add(conceptConverter.convert(responseOrThrow().getOptionalConcept()));
+        }
+        return concepts;
+    }
+
     public Optional<Concept> getSchemaConcept(Label label) {
         communicator.send(GrpcUtil.getSchemaConceptRequest(label));
         return conceptConverter.convert(responseOrThrow().getOptionalConcept());
@@ -145,26 +212,31 @@ public class GrpcClient implements AutoCloseable {
     }
 
     public Concept putEntityType(Label label) {
+        prefetched.clear();
         communicator.send(GrpcUtil.putEntityTypeRequest(label));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
 
     public Concept putRelationshipType(Label label) {
+        prefetched.clear();
         communicator.send(GrpcUtil.putRelationshipTypeRequest(label));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
 
     public Concept putAttributeType(Label label, AttributeType.DataType<?> dataType) {
+        prefetched.clear();
         communicator.send(GrpcUtil.putAttributeTypeRequest(label, dataType));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
 
     public Concept putRole(Label label) {
+        prefetched.clear();
         communicator.send(GrpcUtil.putRoleRequest(label));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
 
     public Concept putRule(Label label, Pattern when, Pattern then) {
+        prefetched.clear();
         communicator.send(GrpcUtil.putRuleRequest(label, when, then));
         return conceptConverter.convert(responseOrThrow().getConcept());
     }
@@ -190,6 +262,49 @@ public class GrpcClient implements AutoCloseable {
             throw new RuntimeException(e);
         }
 
+        return okOrThrow(response);
+    }
+
+    private CompletableFuture<TxResponse> request(TxRequest request) {
+        CompletableFuture<Response> future;
+
+        try {
+            future = communicator.sendAsync(request);
+        } catch (RuntimeException e) {
+            CompletableFuture<TxResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        return future.thenApply(response -> {
+            if (response.type() == Response.Type.COMPLETED) {
+                throw GraknTxOperationException.transactionClosed(null, "The gRPC connection closed");
+            }
+            return okOrThrow(response);
+        });
+    }
+
+    /**
+     * Request the remaining results of an iterator one by one, then complete the future with all of them
+     */
+    private void drain(IteratorId iteratorId, long epoch, List<Object> results, CompletableFuture<List<Object>> done) {
+        request(GrpcUtil.nextRequest(iteratorId)).whenComplete((response, error) -> {
+            try {
+                if (error != null) {
+                    done.completeExceptionally(error);
+                } else if (response.getResponseCase() == TxResponse.ResponseCase.DONE) {
+                    done.complete(results);
+                } else {
+                    results.add(convert(response.getQueryResult(), epoch));
+                    drain(iteratorId, epoch, results, done);
+                }
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+    }
+
+    private static TxResponse okOrThrow(Response response) {
         switch (response.type()) {
             case OK:
                 return response.ok();
@@ -215,12 +330,19 @@ public class GrpcClient implements AutoCloseable {
         }
     }
 
-    private Object convert(GrpcGrakn.QueryResult queryResult) {
+    /**
+     * @param epoch the epoch of {@link PrefetchedFacts} in which the query was sent
+     */
+    private Object convert(GrpcGrakn.QueryResult queryResult, long epoch) {
         switch (queryResult.getQueryResultCase()) {
             case ANSWER:
                 return convert(queryResult.getAnswer());
             case OTHERRESULT:
-                return Json.read(queryResult.getOtherResult()).getValue();
+                Json json = Json.read(queryResult.getOtherResult());
+                if (json.isObject() && json.has(AnswerProjection.ANSWER)) {
+                    return convertProjected(json.at(AnswerProjection.ANSWER), epoch);
+                }
+                return json.getValue();
             default:
             case QUERYRESULT_NOT_SET:
                 throw new IllegalArgumentException("Unexpected " + queryResult);
@@ -237,4 +359,58 @@ public class GrpcClient implements AutoCloseable {
         return new QueryAnswer(map.build());
     }
 
+
+    /**
+     * Convert an answer sent with an {@link AnswerProjection}, remembering the facts the server sent about its concepts
+     */
+    private Answer convertProjected(Json vars, long epoch) {
+        ImmutableMap.Builder<Var, Concept> map = ImmutableMap.builder();
+        vars.asJsonMap().forEach((var, concept) -> map.put(Graql.var(var), convertProjectedConcept(concept, epoch)));
+        return new QueryAnswer(map.build());
+    }
+
+    private Concept convertProjectedConcept(Json json, long epoch) {
+        ConceptId id = ConceptId.of(json.at(AnswerProjection.ID).asString());
+
+        GrpcConcept.Concept grpcConcept = GrpcConcept.Concept.newBuilder()
+                .setId(GrpcConcept.ConceptId.newBuilder().setValue(id.getValue()))
+                .setBaseType(GrpcConcept.BaseType.valueOf(json.at(AnswerProjection.BASE_TYPE).asString()))
+                .build();
+
+        if (json.has(AnswerProjection.LABEL)) {
+            prefetched.put(epoch, id, ConceptMethodCase.GETLABEL, Label.of(json.at(AnswerProjection.LABEL).asString()));
+        }
+
+        if (json.has(AnswerProjection.TYPE)) {
+            prefetched.put(epoch, id, ConceptMethodCase.GETDIRECTTYPE,
+                    convertProjectedConcept(json.at(AnswerProjection.TYPE), epoch));
+        }
+
+        if (json.has(AnswerProjection.DATA_TYPE)) {
+            AttributeType.DataType<?> dataType =
+                    AttributeType.DataType.SUPPORTED_TYPES.get(json.at(AnswerProjection.DATA_TYPE).asString());
+            String value = json.at(AnswerProjection.VALUE).asString();
+            prefetched.put(epoch, id, ConceptMethodCase.GETDATATYPEOFATTRIBUTE, dataType);
+            // Dates are persisted as epoch milliseconds, everything else is parsed from its string by the data type
+            Object persistedValue = dataType.equals(AttributeType.DataType.DATE) ? Long.valueOf(value) : value;
+            prefetched.put(epoch, id, ConceptMethodCase.GETVALUE, dataType.getValue(persistedValue));
+        }
+
+        if (json.has(AnswerProjection.ATTRIBUTES)) {
+            Map<ConceptId, List<Concept>> attributes = new HashMap<>();
+            json.at(AnswerProjection.ATTRIBUTES).asJsonMap().forEach((typeId, attributesOfType) -> {
+                List<Concept> concepts = new ArrayList<>();
+                attributesOfType.asJsonList().forEach(attribute -> concepts.add(convertProjectedConcept(attribute, epoch)));
+                attributes.put(ConceptId.of(typeId), concepts);
+            });
+            prefetched.putAttributes(epoch, id, attributes);
+        }
+
+        return conceptConverter.convert(grpcConcept);
+    }
+
+    private static boolean isRead(GrpcConcept.ConceptMethod conceptMethod) {
+        String method = conceptMethod.getConceptMethodCase().name();
+        return method.startsWith("GET") || method.startsWith("IS");
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.grpc;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.rpc.generated.GrpcConcept;
+import ai.grakn.rpc.generated.GrpcConcept.ConceptMethod.ConceptMethodCase;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Facts about concepts which the server sent along with answers because of an {@link AnswerProjection}. They are
+ * used instead of running the equivalent {@link ConceptMethod}s on the server.
+ *
+ * <p>
+ *     The owned attributes of a thing are kept per attribute type, and used for a request for the attributes of some
+ *     types only if all of those types were sent.
+ * </p>
+ *
+ * <p>
+ *     Facts are kept for a bounded number of concepts, the least recently used are forgotten first. Every write
+ *     starts a new epoch, and facts are tagged with the epoch in which the request they answer was sent. Facts from an
+ *     earlier epoch are never used, even if their response only arrives after the write.
+ * </p>
+ */
+final class PrefetchedFacts {
+
+    private static final int MAX_CONCEPTS = 10_000;
+
+    private final Map<ConceptId, Map<ConceptMethodCase, Fact>> facts =
+            CacheBuilder.newBuilder().maximumSize(MAX_CONCEPTS).<ConceptId, Map<ConceptMethodCase, Fact>>build().asMap();
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * @return the current epoch, which requests sent now must tag their facts with
+     */
+    long epoch() {
+        return epoch.get();
+    }
+
+    void put(long epoch, ConceptId id, ConceptMethodCase method, Object value) {
+        if (epoch != this.epoch.get()) return;
+        facts.computeIfAbsent(id, k -> new ConcurrentHashMap<>()).put(method, new Fact(epoch, value));
+    }
+
+    void putAttributes(long epoch, ConceptId id, Map<ConceptId, List<Concept>> attributesByType) {
+        put(epoch, id, ConceptMethodCase.GETATTRIBUTESBYTYPES, attributesByType);
+    }
+
+    /**
+     * @return the result of running the method on the concept, if it was sent by the server since the last write
+     */
+    Optional<Object> get(ConceptId id, GrpcConcept.ConceptMethod method) {
+        Map<ConceptMethodCase, Fact> conceptFacts = facts.get(id);
+        if (conceptFacts == null) return Optional.empty();
+
+        Fact fact = conceptFacts.get(method.getConceptMethodCase());
+        if (fact == null || fact.epoch != epoch.get()) return Optional.empty();
+
+        if (method.getConceptMethodCase() == ConceptMethodCase.GETATTRIBUTESBYTYPES) {
+            return attributes((Map<ConceptId, List<Concept>>) fact.value, method.getGetAttributesByTypes());
+        } else {
+            return Optional.of(fact.value);
+        }
+    }
+
+    private static Optional<Object> attributes(Map<ConceptId, List<Concept>> attributesByType, GrpcConcept.Concepts types) {
+        Stream.Builder<List<Concept>> attributes = Stream.builder();
+
+        for (GrpcConcept.Concept type : types.getConceptList()) {
+            List<Concept> attributesOfType = attributesByType.get(ConceptId.of(type.getId().getValue()));
+            if (attributesOfType == null) return Optional.empty();
+            attributes.add(attributesOfType);
+        }
+
+        return Optional.of(attributes.build().flatMap(List::stream).distinct());
+    }
+
+    /**
+     * Forget everything that might have been changed by a write
+     */
+    void clear() {
+        epoch.incrementAndGet();
+        facts.clear();
+    }
+
+    private static final class Fact {
+        private final long epoch;
+        private final Object value;
+
+        private Fact(long epoch, Object value) {
+            this.epoch = epoch;
+            this.value = value;
+        }
+    }
+}
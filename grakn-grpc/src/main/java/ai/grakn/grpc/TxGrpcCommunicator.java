@@ -24,12 +24,18 @@ import ai.grakn.rpc.generated.GrpcGrakn.TxRequest;
 import ai.grakn.rpc.generated.GrpcGrakn.TxResponse;
 import com.google.auto.value.AutoValue;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 
 import javax.annotation.Nullable;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -51,20 +57,27 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * }
  * </pre>
  *
+ * Alternatively, a request can be sent with {@link #sendAsync(TxRequest)}, which returns a future of its response
+ * instead. This allows many requests to be in flight at once. The server handles the requests of a transaction one
+ * at a time in the order they were sent, so responses are matched to requests by their order.
+ *
  * @author Felix Chapman
  */
 public class TxGrpcCommunicator implements AutoCloseable {
 
     private final StreamObserver<TxRequest> requests;
-    private final QueueingObserver responses;
+    private final ResponseObserver responses;
+
+    // Responses to requests sent with {@link #send(TxRequest)}, in the order they will be returned by {@link #receive()}
+    private final Queue<CompletableFuture<Response>> unreceived = new ConcurrentLinkedQueue<>();
 
-    private TxGrpcCommunicator(StreamObserver<TxRequest> requests, QueueingObserver responses) {
+    private TxGrpcCommunicator(StreamObserver<TxRequest> requests, ResponseObserver responses) {
         this.requests = requests;
         this.responses = responses;
     }
 
     public static TxGrpcCommunicator create(GraknGrpc.GraknStub stub) {
-        QueueingObserver responseListener = new QueueingObserver();
+        ResponseObserver responseListener = new ResponseObserver();
         StreamObserver<TxRequest> requestSender = stub.tx(responseListener);
         return new TxGrpcCommunicator(requestSender, responseListener);
     }
@@ -75,17 +88,42 @@ public class TxGrpcCommunicator implements AutoCloseable {
      * This method is non-blocking - it returns immediately.
      */
     public void send(TxRequest request) {
-        if (responses.terminated.get()) {
-            throw GraknTxOperationException.transactionClosed(null, "The gRPC connection closed");
+        unreceived.add(sendAsync(request));
+    }
+
+    /**
+     * Send a request and return a future of its response.
+     *
+     * This method is non-blocking - it returns immediately. The future is completed on a gRPC thread, so anything
+     * chained onto it must not block.
+     */
+    public CompletableFuture<Response> sendAsync(TxRequest request) {
+        // The response is expected before the request is sent, so the two happen in the same order across threads
+        synchronized (requests) {
+            if (responses.terminated.get()) {
+                throw GraknTxOperationException.transactionClosed(null, "The gRPC connection closed");
+            }
+            CompletableFuture<Response> response = responses.expect();
+            requests.onNext(request);
+            return response;
         }
-        requests.onNext(request);
     }
 
     /**
      * Block until a response is returned.
      */
     public Response receive() throws InterruptedException {
-        Response response = responses.poll();
+        CompletableFuture<Response> next = unreceived.poll();
+
+        if (next == null) {
+            // Check if the connection was already terminated, so we don't block for a response forever
+            if (responses.terminated.get()) {
+                throw GraknTxOperationException.transactionClosed(null, "The gRPC connection closed");
+            }
+            next = responses.termination;
+        }
+
+        Response response = get(next);
         if (response.type() != Response.Type.OK) {
             close();
         }
@@ -95,7 +133,9 @@ public class TxGrpcCommunicator implements AutoCloseable {
     @Override
     public void close() {
         try{
-            requests.onCompleted();
+            synchronized (requests) {
+                requests.onCompleted();
+            }
         } catch (IllegalStateException e) {
             //IGNORED
             //This is needed to handle the fact that:
@@ -110,60 +150,71 @@ public class TxGrpcCommunicator implements AutoCloseable {
         return responses.terminated.get();
     }
 
+    private static Response get(CompletableFuture<Response> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Responses are never completed exceptionally", e.getCause());
+        }
+    }
+
     /**
-     * A {@link StreamObserver} that stores all responses in a blocking queue.
+     * A {@link StreamObserver} that completes the futures of the expected responses in order.
      *
-     * A response can be polled with the {@link #poll()} method.
+     * When the connection terminates, all outstanding responses are completed with the error or "completed" message.
      */
-    private static class QueueingObserver implements StreamObserver<TxResponse>, AutoCloseable {
+    private static class ResponseObserver implements StreamObserver<TxResponse>, AutoCloseable {
 
-        private final BlockingQueue<Response> queue = new LinkedBlockingDeque<>();
+        private final Queue<CompletableFuture<Response>> pending = new ArrayDeque<>();
+        private final CompletableFuture<Response> termination = new CompletableFuture<>();
         private final AtomicBoolean terminated = new AtomicBoolean(false);
 
+        synchronized CompletableFuture<Response> expect() {
+            if (terminated.get()) return termination;
+
+            CompletableFuture<Response> response = new CompletableFuture<>();
+            pending.add(response);
+            return response;
+        }
+
         @Override
         public void onNext(TxResponse value) {
-            queue.add(Response.ok(value));
+            CompletableFuture<Response> response;
+            synchronized (this) {
+                response = pending.poll();
+            }
+            assert response != null : "The server only responds to requests";
+            if (response != null) response.complete(Response.ok(value));
         }
 
         @Override
         public void onError(Throwable throwable) {
-            terminated.set(true);
             assert throwable instanceof StatusRuntimeException : "The server only yields these exceptions";
-            queue.add(Response.error((StatusRuntimeException) throwable));
+            terminate(Response.error((StatusRuntimeException) throwable));
         }
 
         @Override
         public void onCompleted() {
-            terminated.set(true);
-            queue.add(Response.completed());
+            terminate(Response.completed());
         }
 
-        Response poll() throws InterruptedException {
-            // First check for a response without blocking
-            Response response = queue.poll();
-
-            if (response != null) {
-                return response;
+        private void terminate(Response response) {
+            List<CompletableFuture<Response>> outstanding;
+            synchronized (this) {
+                terminated.set(true);
+                outstanding = new ArrayList<>(pending);
+                pending.clear();
             }
-
-            // Only after checking for existing messages, we check if the connection was already terminated, so we don't
-            // block for a response forever
-            if (terminated.get()) {
-                throw GraknTxOperationException.transactionClosed(null, "The gRPC connection closed");
-            }
-
-            // Block for a response (because we are confident there are no responses and the connection has not closed)
-            return queue.take();
+            outstanding.forEach(future -> future.complete(response));
+            termination.complete(response);
         }
 
         @Override
         public void close() {
-            while (!terminated.get()) {
-                try {
-                    poll();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+            try {
+                Uninterruptibles.getUninterruptibly(termination);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Responses are never completed exceptionally", e.getCause());
             }
         }
     }
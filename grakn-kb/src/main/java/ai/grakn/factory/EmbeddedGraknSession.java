@@ -29,7 +29,12 @@ import ai.grakn.engine.GraknConfig;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.kb.internal.GraknTxTinker;
+import ai.grakn.kb.internal.cache.AttributeIdentities;
+import ai.grakn.kb.internal.cache.CommitWatermarks;
+import ai.grakn.kb.internal.cache.SharedAnswers;
 import ai.grakn.kb.internal.computer.GraknComputerImpl;
+import ai.grakn.kb.internal.computer.GraphSnapshots;
+import ai.grakn.kb.internal.computer.MaintainedAnalytics;
 import ai.grakn.kb.internal.log.CommitLogHandler;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
@@ -43,6 +48,7 @@ import javax.annotation.Nullable;
 import javax.annotation.CheckReturnValue;
 import javax.ws.rs.core.UriBuilder;
 import java.net.URI;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
@@ -82,6 +88,13 @@ public class EmbeddedGraknSession implements GraknSession {
     private final TxFactory<?> txFactory;
     private final TxFactory<?> computerTxFactory;
 
+    //State about the keyspace which is shared by all its transactions in this JVM
+    private final GraphSnapshots graphSnapshots;
+    private final CommitWatermarks commitWatermarks;
+    private final SharedAnswers sharedAnswers;
+    private final AttributeIdentities attributeIdentities;
+    private volatile @Nullable MaintainedAnalytics maintainedAnalytics = null;
+
 
 
     //References so we don't have to open a tx just to check the count of the transactions
@@ -126,6 +139,13 @@ public class EmbeddedGraknSession implements GraknSession {
 
         this.txFactory = txFactoryBuilder.getFactory(this, false);
         this.computerTxFactory = txFactoryBuilder.getFactory(this, true);
+
+        //Sessions of the same keyspace share the transactions built for the first of them, so they share its state too
+        EmbeddedGraknSession owner = txFactory.session();
+        this.graphSnapshots = owner == this ? new GraphSnapshots(keyspace) : owner.graphSnapshots();
+        this.commitWatermarks = owner == this ? new CommitWatermarks() : owner.commitWatermarks();
+        this.sharedAnswers = owner == this ? new SharedAnswers() : owner.sharedAnswers();
+        this.attributeIdentities = owner == this ? new AttributeIdentities() : owner.attributeIdentities();
     }
 
     public CommitLogHandler commitLogHandler(){
@@ -190,6 +210,7 @@ public class EmbeddedGraknSession implements GraknSession {
         config.setConfigProperty(GraknConfigKey.SESSION_CACHE_TIMEOUT_MS, 30_000);
         config.setConfigProperty(GraknConfigKey.KB_MODE, GraknTxFactoryBuilder.IN_MEMORY);
         config.setConfigProperty(GraknConfigKey.KB_ANALYTICS, GraknTxFactoryBuilder.IN_MEMORY);
+        config.setConfigProperty(GraknConfigKey.KB_ANALYTICS_NATIVE_THRESHOLD, 0L);
         return config;
     }
 
@@ -217,7 +238,61 @@ public class EmbeddedGraknSession implements GraknSession {
     @CheckReturnValue
     public GraknComputer getGraphComputer() {
         Graph graph = computerTxFactory.getTinkerPopGraph(false);
-        return new GraknComputerImpl(graph);
+        return new GraknComputerImpl(graph, graphSnapshots);
+    }
+
+    /**
+     * @return the persisted graph snapshots of the keyspace, which are reused by compute queries
+     */
+    public GraphSnapshots graphSnapshots() {
+        return graphSnapshots;
+    }
+
+    /**
+     * @return the watermarks of the commits to the keyspace, which tell whether results derived from it are stale
+     */
+    public CommitWatermarks commitWatermarks() {
+        return commitWatermarks;
+    }
+
+    /**
+     * @return the complete answer sets the reasoner shares between the read transactions of the keyspace
+     */
+    public SharedAnswers sharedAnswers() {
+        return sharedAnswers;
+    }
+
+    /**
+     * @return the reservations and recently committed ids of the attributes of the keyspace
+     */
+    public AttributeIdentities attributeIdentities() {
+        return attributeIdentities;
+    }
+
+    /**
+     * @return the analytics results maintained for the keyspace, if any
+     */
+    public Optional<MaintainedAnalytics> maintainedAnalytics() {
+        return Optional.ofNullable(txFactory.session().maintainedAnalytics);
+    }
+
+    /**
+     * Answers degree and connected component queries on the keyspace with the given maintained results when possible
+     *
+     * @param maintainedAnalytics the maintained results, or null to always run the vertex programs
+     */
+    public void maintainAnalytics(@Nullable MaintainedAnalytics maintainedAnalytics) {
+        txFactory.session().maintainedAnalytics = maintainedAnalytics;
+    }
+
+    /**
+     * Records a commit to the keyspace which was made outside this JVM, for example by an embedded client session,
+     * and which is only known from its commit log. Everything derived from the keyspace is treated as stale.
+     */
+    public void committedElsewhere() {
+        //The logs do not say everything a commit modified, so every type is treated as modified
+        commitWatermarks.committed(Collections.emptySet(), true);
+        graphSnapshots.committed();
     }
 
     @Override
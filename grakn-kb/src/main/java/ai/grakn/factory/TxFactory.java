@@ -50,4 +50,10 @@ public interface TxFactory<T extends Graph> {
      * @return An instance of a tinker graph
      */
     T getTinkerPopGraph(boolean batchLoading);
+
+    /**
+     *
+     * @return the {@link EmbeddedGraknSession} this factory was built for, which the transactions it opens belong to
+     */
+    EmbeddedGraknSession session();
 }
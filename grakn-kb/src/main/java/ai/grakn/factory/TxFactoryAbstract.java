@@ -81,6 +81,7 @@ public abstract class TxFactoryAbstract<Tx extends EmbeddedGraknTx<G>, G extends
     @CheckReturnValue(when = NEVER)
     protected abstract G getGraphWithNewTransaction(G graph, boolean batchloading);
 
+    @Override
     final public EmbeddedGraknSession session() {
         return session;
     }
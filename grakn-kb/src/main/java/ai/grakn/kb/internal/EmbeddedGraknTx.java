@@ -43,6 +43,7 @@ import ai.grakn.factory.EmbeddedGraknSession;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.kb.internal.cache.AttributeIdentities;
 import ai.grakn.kb.internal.cache.GlobalCache;
 import ai.grakn.kb.internal.cache.TxCache;
 import ai.grakn.kb.internal.concept.AttributeImpl;
@@ -77,8 +78,10 @@ import javax.ws.rs.core.UriBuilder;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -135,7 +138,7 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
         globalCache = new GlobalCache(session.config());
 
         //Initialise Graph
-        txCache().openTx(GraknTxType.WRITE);
+        txCache().openTx(GraknTxType.WRITE, session().commitWatermarks().current(), maintainsAnalytics());
 
         if (initialiseMetaConcepts()) close(true, false);
     }
@@ -193,7 +196,23 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
      * Opens the thread bound transaction
      */
     public void openTransaction(GraknTxType txType) {
-        txCache().openTx(txType);
+        //Read before the underlying transaction is opened, so no commit it can see is newer than the watermark
+        txCache().openTx(txType, session().commitWatermarks().current(), maintainsAnalytics());
+    }
+
+    /**
+     * @return true if analytics are maintained incrementally, so the commit log needs the changes to the graph
+     */
+    private boolean maintainsAnalytics() {
+        return !session().config().getProperty(
+                GraknConfigKey.KB_ANALYTICS_INCREMENTAL_TYPES, Collections.emptyList()).isEmpty();
+    }
+
+    /**
+     * @return the {@link ai.grakn.kb.internal.cache.CommitWatermarks} watermark of the keyspace when this transaction was opened
+     */
+    public long openWatermark() {
+        return txCache().openWatermark();
     }
 
     /**
@@ -206,6 +225,19 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
         return session().config().getProperty(GraknConfigKey.SHARDING_THRESHOLD);
     }
 
+    /**
+     * Reserves the index of an {@link ai.grakn.concept.Attribute} this transaction is about to create, so that
+     * concurrent transactions in this JVM do not create duplicates of it.
+     *
+     * @param index the index of the {@link ai.grakn.concept.Attribute}
+     * @return the id of the {@link ai.grakn.concept.Attribute} if another transaction committed it in the meantime
+     */
+    public Optional<ConceptId> reserveAttribute(String index){
+        AttributeIdentities.Reservation reservation = session().attributeIdentities().reserve(index, txCache());
+        if (reservation.isGranted()) txCache().addReservedAttribute(index);
+        return reservation.existing();
+    }
+
     public TxCache txCache() {
         TxCache txCache = localConceptLog.get();
         if (txCache == null) {
@@ -256,6 +288,16 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
         return factory().buildConcept(edge);
     }
 
+    /**
+     * Load the properties of the given vertices before {@link Concept}s are built from them. Vendors which can read the
+     * properties of many vertices in one request should do so here, instead of reading each vertex's properties
+     * when they are first accessed.
+     *
+     * @param vertices vertices which concepts are about to be built from
+     */
+    public void prefetchProperties(Collection<Vertex> vertices) {
+    }
+
     /**
          * A flag to check if batch loading is enabled and consistency checks are switched off
          *
@@ -305,10 +347,7 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
      * @param schemaConcept the {@link SchemaConcept} to be copied into the {@link TxCache}
      */
     private void copyToCache(SchemaConcept schemaConcept) {
-        schemaConcept.subs().forEach(concept -> {
-            getGlobalCache().cacheLabel(concept.getLabel(), concept.getLabelId());
-            getGlobalCache().cacheType(concept.getLabel(), concept);
-        });
+        getGlobalCache().cacheTypes(schemaConcept.subs().collect(Collectors.toList()));
     }
 
     private boolean isMetaSchemaNotInitialised() {
@@ -390,6 +429,7 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
     public void checkSchemaMutationAllowed() {
         checkMutationAllowed();
         if (isBatchTx()) throw GraknTxOperationException.schemaMutation();
+        txCache().modifiedSchema();
     }
 
     public void checkMutationAllowed() {
@@ -566,11 +606,67 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
                     Optional<T> concept = getConceptEdge(id);
                     if (concept.isPresent()) return concept.get();
                 }
+
+                Long vertexId = Schema.nativeVertexId(id);
+                if (vertexId != null) return this.<T>getConceptVertex(id, vertexId).orElse(null);
+
                 return this.<T>getConcept(Schema.VertexProperty.ID, id.getValue()).orElse(null);
             }
         });
     }
 
+    @Override
+    public <T extends Concept> List<T> getConcepts(Collection<ConceptId> ids) {
+        return operateOnOpenGraph(() -> {
+            Map<ConceptId, T> concepts = new HashMap<>();
+            Set<ConceptId> vertexConceptIds = new HashSet<>();
+            Set<Long> vertexIds = new HashSet<>();
+
+            for (ConceptId id : ids) {
+                if (concepts.containsKey(id)) continue;
+
+                Long vertexId = Schema.nativeVertexId(id);
+                if (vertexId != null && !txCache().isConceptCached(id)) {
+                    vertexConceptIds.add(id);
+                    vertexIds.add(vertexId);
+                } else {
+                    concepts.put(id, getConcept(id));
+                }
+            }
+
+            if (!vertexIds.isEmpty()) {
+                List<Vertex> vertices = new ArrayList<>(vertexIds.size());
+                getTinkerPopGraph().vertices(vertexIds.toArray()).forEachRemaining(vertices::add);
+                prefetchProperties(vertices);
+
+                vertices.forEach(v -> {
+                    VertexElement vertex = factory().buildVertexElement(v);
+                    //Reified relationships keep the id of their edge, so the vertex id may belong to a different concept id
+                    if (vertexConceptIds.contains(vertex.conceptId())) {
+                        concepts.put(vertex.conceptId(), factory().buildConcept(vertex));
+                    }
+                });
+            }
+
+            List<T> orderedConcepts = new ArrayList<>(ids.size());
+            for (ConceptId id : ids) {
+                orderedConcepts.add(concepts.get(id));
+            }
+            return orderedConcepts;
+        });
+    }
+
+    private <T extends Concept> Optional<T> getConceptVertex(ConceptId id, long vertexId) {
+        Iterator<Vertex> vertices = getTinkerPopGraph().vertices(vertexId);
+        if (!vertices.hasNext()) return Optional.empty();
+
+        VertexElement vertex = factory().buildVertexElement(vertices.next());
+        //Reified relationships keep the id of their edge, so the vertex id may belong to a different concept id
+        if (!vertex.conceptId().equals(id)) return Optional.empty();
+
+        return Optional.of(factory().buildConcept(vertex));
+    }
+
     private <T extends Concept> Optional<T> getConceptEdge(ConceptId id) {
         String edgeId = id.getValue().substring(1);
         GraphTraversal<Edge, Edge> traversal = getTinkerTraversal().E(edgeId);
@@ -657,6 +753,11 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
     public void delete() {
         closeSession();
         clearGraph();
+        session().commitWatermarks().committed(Collections.emptySet(), true);
+        session().sharedAnswers().clear();
+        session().attributeIdentities().clear();
+        session().graphSnapshots().clear();
+        session().maintainedAnalytics().ifPresent(analytics -> analytics.deleted(keyspace()));
         txCache().closeTx(ErrorMessage.CLOSED_CLEAR.getMessage());
 
         //TODO We should not hit the REST endpoint when deleting keyspaces through a graph
@@ -732,6 +833,8 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
         } catch (UnsupportedOperationException e) {
             //Ignored for Tinker
         } finally {
+            //Reservations of attributes which were committed have been released already
+            session().attributeIdentities().release(txCache().getReservedAttributes(), txCache());
             txCache().closeTx(closedReason);
         }
     }
@@ -749,11 +852,30 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
         validateGraph();
 
         Map<ConceptId, Long> newInstances = txCache().getShardingCount();
-        Map<String, ConceptId> newAttributes = txCache().getNewAttributes();
-        boolean logsExist = !newInstances.isEmpty() || !newAttributes.isEmpty();
+        //Attributes created under a reservation are unique, so only the others need to be merged by post-processing
+        Map<String, ConceptId> newAttributes = new HashMap<>();
+        Map<String, ConceptId> reservedAttributes = new HashMap<>();
+        txCache().getNewAttributes().forEach((index, id) -> {
+            if (txCache().getReservedAttributes().contains(index)) {
+                reservedAttributes.put(index, id);
+            } else {
+                newAttributes.put(index, id);
+            }
+        });
+
+        //Changes to the structure of the graph are only tracked when analytics are maintained incrementally
+        Set<ConceptId> newThings = new HashSet<>(txCache().getNewThings());
+        Map<ConceptId, List<ConceptId>> newRolePlayers = new HashMap<>(txCache().getNewRolePlayers());
+        Set<ConceptId> detachedThings = new HashSet<>(txCache().getDetachedThings());
+
+        boolean logsExist = !newInstances.isEmpty() || !newAttributes.isEmpty() ||
+                !newThings.isEmpty() || !newRolePlayers.isEmpty() || !detachedThings.isEmpty();
 
         LOG.trace("Graph is valid. Committing graph . . . ");
         commitTransactionInternal();
+        session().graphSnapshots().committed();
+        session().commitWatermarks().committed(txCache().getModifiedTypes(), txCache().allTypesModified());
+        session().attributeIdentities().committed(reservedAttributes, txCache());
 
         LOG.trace("Graph committed.");
 
@@ -762,10 +884,12 @@ public abstract class EmbeddedGraknTx<G extends Graph> implements GraknAdmin {
             if(trackingNeeded) {
                 session().commitLogHandler().addNewInstances(newInstances);
                 session().commitLogHandler().addNewAttributes(newAttributes);
+                session().commitLogHandler().addGraphChanges(newThings, newRolePlayers, detachedThings);
             } else {
                 Map<String, Set<ConceptId>> attributes = newAttributes.entrySet().stream().
                         collect(Collectors.toMap(Map.Entry::getKey, e -> Collections.singleton(e.getValue())));
-                return Optional.of(CommitLog.create(keyspace(), newInstances, attributes));
+                return Optional.of(CommitLog.create(
+                        keyspace(), newInstances, attributes, newThings, newRolePlayers, detachedThings));
             }
         }
 
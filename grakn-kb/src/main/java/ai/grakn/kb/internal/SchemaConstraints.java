@@ -0,0 +1,133 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal;
+
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
+import ai.grakn.kb.internal.concept.TypeImpl;
+import ai.grakn.kb.internal.structure.Casting;
+import com.google.common.collect.ImmutableList;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *     Schema Constraints Used During Validation
+ * </p>
+ *
+ * <p>
+ *     Validation checks the same schema facts for every {@link Thing} and {@link Casting} of a commit, such as which
+ *     {@link Role}s a {@link Type} is allowed to play. This table derives each fact once per {@link Type} and
+ *     {@link Role}, stores it as a {@link BitSet} indexed by label id and answers every subsequent check with a
+ *     lookup.
+ *
+ *     The table reflects the schema as seen by the transaction being validated, including its uncommitted schema
+ *     mutations, so it must only be used for a single validation.
+ * </p>
+ */
+class SchemaConstraints {
+    private final Map<Integer, BitSet> relationshipTypesOfRole = new HashMap<>();
+    private final Map<Integer, PlaysConstraints> playsOfType = new HashMap<>();
+
+    /**
+     *
+     * @param role The {@link Role} to check
+     * @param relationshipType The {@link RelationshipType} which should relate the {@link Role}
+     * @return true if the {@link RelationshipType} relates the {@link Role}
+     */
+    boolean isRelatedBy(Role role, RelationshipType relationshipType){
+        BitSet relationshipTypes = relationshipTypesOfRole.computeIfAbsent(labelId(role), id -> {
+            BitSet labelIds = new BitSet();
+            role.relationshipTypes().forEach(type -> labelIds.set(labelId(type)));
+            return labelIds;
+        });
+        return relationshipTypes.get(labelId(relationshipType));
+    }
+
+    /**
+     *
+     * @param type The {@link Type} of the role player
+     * @param role The {@link Role} being played
+     * @return true if the {@link Type} or any of its super types plays the {@link Role}
+     */
+    boolean canPlay(Type type, Role role){
+        return plays(type).playable.get(labelId(role));
+    }
+
+    /**
+     *
+     * @param type The {@link Type} of the role player
+     * @param role The {@link Role} being played
+     * @return true if the {@link Type} or any of its super types is required to play the {@link Role}
+     */
+    boolean mustPlay(Type type, Role role){
+        return plays(type).required.get(labelId(role));
+    }
+
+    /**
+     *
+     * @param type The {@link Type} of the role player
+     * @return All the {@link Role}s the {@link Type} is required to play, starting with its own
+     */
+    List<Role> requiredRoles(Type type){
+        return plays(type).requiredRoles;
+    }
+
+    private PlaysConstraints plays(Type type){
+        return playsOfType.computeIfAbsent(labelId(type), id -> new PlaysConstraints(type));
+    }
+
+    private static int labelId(SchemaConcept schemaConcept){
+        return schemaConcept.getLabelId().getValue();
+    }
+
+    /**
+     * The {@link Role}s a {@link Type} plays, including the ones it inherits from its super types
+     */
+    private static class PlaysConstraints {
+        private final BitSet playable = new BitSet();
+        private final BitSet required = new BitSet();
+        private final List<Role> requiredRoles;
+
+        PlaysConstraints(Type type){
+            Map<Integer, Role> required = new LinkedHashMap<>();
+
+            TypeImpl<?, ?> currentConcept = (TypeImpl<?, ?>) type;
+            while(currentConcept != null){
+                currentConcept.directPlays().forEach((role, isRequired) -> {
+                    playable.set(labelId(role));
+                    if(isRequired) {
+                        this.required.set(labelId(role));
+                        required.putIfAbsent(labelId(role), role);
+                    }
+                });
+                currentConcept = (TypeImpl<?, ?>) currentConcept.sup();
+            }
+
+            requiredRoles = ImmutableList.copyOf(required.values());
+        }
+    }
+}
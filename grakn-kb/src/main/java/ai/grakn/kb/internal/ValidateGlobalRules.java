@@ -37,7 +37,6 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.kb.internal.concept.RelationshipTypeImpl;
 import ai.grakn.kb.internal.concept.RuleImpl;
 import ai.grakn.kb.internal.concept.SchemaConceptImpl;
-import ai.grakn.kb.internal.concept.TypeImpl;
 import ai.grakn.kb.internal.structure.Casting;
 import ai.grakn.util.CommonUtil;
 import ai.grakn.util.ErrorMessage;
@@ -47,7 +46,6 @@ import com.google.common.collect.Iterables;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -101,6 +99,16 @@ class ValidateGlobalRules {
      * @return Specific errors if any are found
      */
     static Set<String> validatePlaysAndRelatesStructure(Casting casting) {
+        return validatePlaysAndRelatesStructure(casting, new SchemaConstraints());
+    }
+
+    /**
+     * Same as {@link #validatePlaysAndRelatesStructure(Casting)} but answers the schema checks using the
+     * {@link SchemaConstraints} shared by all the {@link Casting}s of a commit.
+     *
+     * @return Specific errors if any are found
+     */
+    static Set<String> validatePlaysAndRelatesStructure(Casting casting, SchemaConstraints constraints) {
         Set<String> errors = new HashSet<>();
 
         //Gets here to make sure we traverse/read only once
@@ -109,8 +117,8 @@ class ValidateGlobalRules {
         Relationship relationship = casting.getRelationship();
 
         //Actual checks
-        roleNotAllowedToBePlayed(role, thing).ifPresent(errors::add);
-        roleNotLinkedToRelationShip(role, relationship.type(), relationship).ifPresent(errors::add);
+        roleNotAllowedToBePlayed(constraints, role, thing).ifPresent(errors::add);
+        roleNotLinkedToRelationShip(constraints, role, relationship.type(), relationship).ifPresent(errors::add);
 
         return errors;
     }
@@ -119,15 +127,14 @@ class ValidateGlobalRules {
      * Checks if the {@link Role} of the {@link Casting} has been linked to the {@link RelationshipType} of
      * the {@link Relationship} which the {@link Casting} connects to.
      *
+     * @param constraints the {@link SchemaConstraints} of the current validation
      * @param role the {@link Role} which the {@link Casting} refers to
      * @param relationshipType the {@link RelationshipType} which should connect to the role
      * @param relationship the {@link Relationship} which the {@link Casting} refers to
      * @return an error if one is found
      */
-    private static Optional<String> roleNotLinkedToRelationShip(Role role, RelationshipType relationshipType, Relationship relationship){
-        boolean notFound = role.relationshipTypes().
-                noneMatch(innerRelationType -> innerRelationType.getLabel().equals(relationshipType.getLabel()));
-        if(notFound){
+    private static Optional<String> roleNotLinkedToRelationShip(SchemaConstraints constraints, Role role, RelationshipType relationshipType, Relationship relationship){
+        if(!constraints.isRelatedBy(role, relationshipType)){
             return Optional.of(VALIDATION_RELATION_CASTING_LOOP_FAIL.getMessage(relationship.getId(), role.getLabel(), relationshipType.getLabel()));
         }
         return Optional.empty();
@@ -139,37 +146,24 @@ class ValidateGlobalRules {
      *
      * Also checks that required {@link Role} are satisfied
      *
+     * @param constraints the {@link SchemaConstraints} of the current validation
      * @param role The {@link Role} which the role-player is playing
      * @param thing the role-player
      * @return an error if one is found
      */
-    private static Optional<String> roleNotAllowedToBePlayed(Role role, Thing thing){
-        TypeImpl<?, ?> currentConcept = (TypeImpl<?, ?>) thing.type();
-
-        boolean satisfiesPlays = false;
-        while(currentConcept != null){
-            Map<Role, Boolean> plays = currentConcept.directPlays();
-
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                Role rolePlayed = playsEntry.getKey();
-                Boolean required = playsEntry.getValue();
-                if(rolePlayed.getLabel().equals(role.getLabel())){
-                    satisfiesPlays = true;
-
-                    // Assert unique relationship for this role type
-                    if (required && !CommonUtil.containsOnly(thing.relationships(role), 1)) {
-                        return Optional.of(VALIDATION_REQUIRED_RELATION.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel(), thing.relationships(role).count()));
-                    }
-                }
-            }
-            currentConcept = (TypeImpl) currentConcept.sup();
+    private static Optional<String> roleNotAllowedToBePlayed(SchemaConstraints constraints, Role role, Thing thing){
+        Type type = thing.type();
+
+        if(!constraints.canPlay(type, role)) {
+            return Optional.of(VALIDATION_CASTING.getMessage(type.getLabel(), thing.getId(), role.getLabel()));
         }
 
-        if(satisfiesPlays) {
-            return Optional.empty();
-        } else {
-            return Optional.of(VALIDATION_CASTING.getMessage(thing.type().getLabel(), thing.getId(), role.getLabel()));
+        // Assert unique relationship for this role type
+        if (constraints.mustPlay(type, role) && !CommonUtil.containsOnly(thing.relationships(role), 1)) {
+            return Optional.of(VALIDATION_REQUIRED_RELATION.getMessage(thing.getId(), type.getLabel(), role.getLabel(), thing.relationships(role).count()));
         }
+
+        return Optional.empty();
     }
 
     /**
@@ -248,24 +242,24 @@ class ValidateGlobalRules {
      * @return An error message if the thing does not have all the required resources
      */
     static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing) {
-        TypeImpl<?, ?> currentConcept = (TypeImpl) thing.type();
-
-        while(currentConcept != null){
-
-            Map<Role, Boolean> plays = currentConcept.directPlays();
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                if(playsEntry.getValue()){
-                    Role role = playsEntry.getKey();
-                    // Assert there is a relationship for this type
-                    Stream<Relationship> relationships = thing.relationships(role);
+        return validateInstancePlaysAllRequiredRoles(thing, new SchemaConstraints());
+    }
 
-                    if(!CommonUtil.containsOnly(relationships, 1)){
-                        Label resourceTypeLabel = Schema.ImplicitType.explicitLabel(role.getLabel());
-                        return Optional.of(VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(thing.getId(), resourceTypeLabel));
-                    }
-                }
+    /**
+     *
+     * @param thing The thing to be validated
+     * @param constraints The {@link SchemaConstraints} shared by all the {@link Thing}s of a commit
+     * @return An error message if the thing does not have all the required resources
+     */
+    static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing, SchemaConstraints constraints) {
+        for (Role role : constraints.requiredRoles(thing.type())) {
+            // Assert there is a relationship for this type
+            Stream<Relationship> relationships = thing.relationships(role);
+
+            if(!CommonUtil.containsOnly(relationships, 1)){
+                Label resourceTypeLabel = Schema.ImplicitType.explicitLabel(role.getLabel());
+                return Optional.of(VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(thing.getId(), resourceTypeLabel));
             }
-            currentConcept = (TypeImpl) currentConcept.sup();
         }
         return Optional.empty();
     }
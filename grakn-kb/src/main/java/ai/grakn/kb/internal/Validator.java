@@ -45,6 +45,7 @@ import java.util.Set;
 class Validator {
     private final EmbeddedGraknTx<?> graknGraph;
     private final List<String> errorsFound = new ArrayList<>();
+    private final SchemaConstraints schemaConstraints = new SchemaConstraints();
 
     public Validator(EmbeddedGraknTx graknGraph){
         this.graknGraph = graknGraph;
@@ -108,7 +109,7 @@ class Validator {
      * @param casting The Role player to validate
      */
     private void validateCasting(Casting casting){
-        errorsFound.addAll(ValidateGlobalRules.validatePlaysAndRelatesStructure(casting));
+        errorsFound.addAll(ValidateGlobalRules.validatePlaysAndRelatesStructure(casting, schemaConstraints));
     }
 
     /**
@@ -133,7 +134,7 @@ class Validator {
      * @param thing The {@link Thing} to validate
      */
     private void validateThing(Thing thing) {
-        ValidateGlobalRules.validateInstancePlaysAllRequiredRoles(thing).ifPresent(errorsFound::add);
+        ValidateGlobalRules.validateInstancePlaysAllRequiredRoles(thing, schemaConstraints).ifPresent(errorsFound::add);
     }
 
     /**
@@ -0,0 +1,135 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.Attribute;
+import ai.grakn.concept.ConceptId;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     Keeps {@link Attribute}s Unique Across Concurrent Transactions
+ * </p>
+ *
+ * <p>
+ *     Before a transaction creates an {@link Attribute} it reserves the attribute's index. A reservation never waits:
+ *     if another transaction holds it, the transaction creates the {@link Attribute} without a reservation and the
+ *     unique index of the storage backend decides which of the two commits succeeds. The other commit fails with an
+ *     error which can be retried, and finds the committed {@link Attribute} when it is retried.
+ * </p>
+ *
+ * <p>
+ *     The ids of recently committed {@link Attribute}s are remembered, so a transaction which did not find an
+ *     {@link Attribute} because it was committed after the lookup still finds it here. The graph remains the source
+ *     of truth: a remembered id may belong to an {@link Attribute} which has since been deleted.
+ * </p>
+ *
+ * <p>
+ *     The identities of a keyspace are owned by the {@link ai.grakn.factory.EmbeddedGraknSession}s of the keyspace.
+ *     {@link Attribute}s created under a reservation are unique, the others are logged for post-processing, which
+ *     merges the duplicates a storage backend without a unique index lets through.
+ * </p>
+ */
+public final class AttributeIdentities {
+
+    private static final long MAX_COMMITTED = 1_000_000;
+
+    private final Map<String, Object> reservations = new ConcurrentHashMap<>();
+    private final Map<String, ConceptId> committed = CacheBuilder.newBuilder()
+            .maximumSize(MAX_COMMITTED)
+            .<String, ConceptId>build()
+            .asMap();
+
+    /**
+     * Reserve the index of an {@link Attribute} which the owner is about to create
+     *
+     * @param index the index of the {@link Attribute}
+     * @param owner the transaction creating the {@link Attribute}, which must later commit or release the reservation
+     * @return the outcome of the reservation
+     */
+    public Reservation reserve(String index, Object owner){
+        ConceptId existing = committed.get(index);
+        if (existing != null) return new Reservation(existing, false);
+
+        Object holder = reservations.putIfAbsent(index, owner);
+        if (holder == null || holder == owner) return Reservation.GRANTED;
+        return Reservation.HELD;
+    }
+
+    /**
+     * Remember the {@link Attribute}s the owner has committed and release their reservations
+     *
+     * @param attributes the ids of the committed {@link Attribute}s which were reserved, by index
+     * @param owner the transaction which committed
+     */
+    public void committed(Map<String, ConceptId> attributes, Object owner){
+        committed.putAll(attributes);
+        release(attributes.keySet(), owner);
+    }
+
+    /**
+     * Release reservations without creating their {@link Attribute}s, for example because the owner did not commit
+     */
+    public void release(Collection<String> indices, Object owner){
+        indices.forEach(index -> reservations.remove(index, owner));
+    }
+
+    /**
+     * Forget the committed {@link Attribute}s of a keyspace which has been cleared
+     */
+    public void clear(){
+        committed.clear();
+    }
+
+    /**
+     * The outcome of reserving the index of an {@link Attribute}
+     */
+    public static final class Reservation {
+        private static final Reservation GRANTED = new Reservation(null, true);
+        private static final Reservation HELD = new Reservation(null, false);
+
+        private final ConceptId existing;
+        private final boolean granted;
+
+        private Reservation(ConceptId existing, boolean granted){
+            this.existing = existing;
+            this.granted = granted;
+        }
+
+        /**
+         * @return true if the owner holds the reservation, false if another transaction holds it or has committed
+         * the {@link Attribute}
+         */
+        public boolean isGranted(){
+            return granted;
+        }
+
+        /**
+         * @return the id of an {@link Attribute} with the index which another transaction committed
+         */
+        public Optional<ConceptId> existing(){
+            return Optional.ofNullable(existing);
+        }
+    }
+}
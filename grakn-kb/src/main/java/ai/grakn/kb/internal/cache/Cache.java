@@ -44,6 +44,9 @@ import java.util.function.Supplier;
  *
  */
 public class Cache<V> {
+    //The object which owns this cache
+    private final CacheOwner owner;
+
     //If no cache can produce the data then the database is read
     private final Supplier<V> databaseReader;
 
@@ -68,6 +71,7 @@ public class Cache<V> {
         this.isClearable = isClearable;
         this.cacheable = cacheable;
         this.databaseReader = databaseReader;
+        this.owner = owner;
         owner.registerCache(this);
     }
 
@@ -107,7 +111,7 @@ public class Cache<V> {
         if(value == null) value = databaseReader.get();
         if(value == null) return null;
 
-        valueTx.set(value);
+        setTxValue(value);
 
         return valueTx.get();
     }
@@ -127,7 +131,13 @@ public class Cache<V> {
      * @param value the value to be cached
      */
     public void set(@Nullable V value){
+        setTxValue(value);
+    }
+
+    private void setTxValue(@Nullable V value){
+        boolean populated = valueTx.get() == null;
         valueTx.set(value);
+        if(populated && isClearable) owner.txCachePopulated();
     }
 
     /**
@@ -56,6 +56,13 @@ public interface CacheOwner {
         caches().add(cache);
     }
 
+    /**
+     * Notifies the owner that one of its {@link Cache}s now holds a value bound to the current transaction
+     */
+    default void txCachePopulated() {
+        //Only owners which outlive a transaction need to be tracked
+    }
+
     /**
      * Flushes the internal transaction caches so they can refresh with persisted graph
      */
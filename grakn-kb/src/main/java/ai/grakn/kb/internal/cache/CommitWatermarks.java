@@ -0,0 +1,84 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Type;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     Tracks Which Types Commits Have Modified
+ * </p>
+ *
+ * <p>
+ *     Every commit to a keyspace moves its watermark forward and records the watermark against the {@link Type}s
+ *     whose instances it added or connected. Commits which remove things or modify the schema are recorded against
+ *     all types. Results derived from a keyspace can be tagged with the watermark at the time they were computed and
+ *     are still valid as long as none of the types they were derived from have been modified since.
+ * </p>
+ *
+ * <p>
+ *     The watermarks of a keyspace are owned by the {@link ai.grakn.factory.EmbeddedGraknSession}s of the keyspace.
+ *     Commits made through this JVM are tracked as they happen. Commits made by embedded sessions in other JVMs are
+ *     only tracked once their commit logs are submitted to engine, and are recorded against all types.
+ * </p>
+ */
+public final class CommitWatermarks {
+
+    private volatile long current = 0;
+    private volatile long allTypesModified = 0;
+    private final Map<ConceptId, Long> typeModified = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @return the watermark of the last commit to the keyspace
+     */
+    public long current(){
+        return current;
+    }
+
+    /**
+     * Moves the watermark of the keyspace forward
+     *
+     * @param modifiedTypes the ids of the {@link Type}s whose instances have been added or connected
+     * @param allTypesModified true if things have been removed or the schema has been modified
+     */
+    public synchronized void committed(Set<ConceptId> modifiedTypes, boolean allTypesModified){
+        long next = current + 1;
+        modifiedTypes.forEach(type -> typeModified.put(type, next));
+        if (allTypesModified) this.allTypesModified = next;
+        //Published last, so a reader which sees the new watermark also sees the types it modified
+        current = next;
+    }
+
+    /**
+     *
+     * @param watermark the watermark the results of interest were computed at
+     * @param types the ids of the {@link Type}s the results were derived from
+     * @return true if no commit after the watermark has modified any of the types
+     */
+    public boolean unmodifiedSince(long watermark, Set<ConceptId> types){
+        if (allTypesModified > watermark) return false;
+        return types.stream().allMatch(type -> typeModified.getOrDefault(type, 0L) <= watermark);
+    }
+}
@@ -24,14 +24,13 @@ import ai.grakn.concept.LabelId;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.engine.GraknConfig;
 import ai.grakn.kb.internal.concept.SchemaConceptImpl;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
+import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * <p>
@@ -49,43 +48,32 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *     <ol/>
  * </p>
  *
+ * <p>
+ *     Both caches are held in an immutable {@link SchemaSnapshot} which is replaced atomically whenever the schema
+ *     changes. Transactions read the current {@link SchemaSnapshot} directly, so opening a transaction neither locks
+ *     nor copies the schema.
+ * </p>
+ *
  * @author fppt
  *
  */
 public class GlobalCache {
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicReference<SchemaSnapshot> schema = new AtomicReference<>(SchemaSnapshot.empty());
 
-    //Caches
-    private final Cache<Label, SchemaConcept> cachedTypes;
-    private final Map<Label, LabelId> cachedLabels;
+    //Types expire when the schema has not been read for this long. Labels never expire.
+    private final long cacheTimeout;
+    private volatile long lastAccess = System.currentTimeMillis();
 
     public GlobalCache(GraknConfig config) {
-        cachedLabels = new ConcurrentHashMap<>();
-
-        int cacheTimeout = config.getProperty(GraknConfigKey.SESSION_CACHE_TIMEOUT_MS);
-        cachedTypes = CacheBuilder.newBuilder()
-                .maximumSize(1000)
-                .expireAfterAccess(cacheTimeout, TimeUnit.MILLISECONDS)
-                .build();
+        cacheTimeout = config.getProperty(GraknConfigKey.SESSION_CACHE_TIMEOUT_MS);
     }
 
     void populateSchemaTxCache(TxCache txCache){
-        try {
-            lock.writeLock().lock();
-
-            Map<Label, SchemaConcept> cachedSchemaSnapshot = getCachedTypes();
-            Map<Label, LabelId> cachedLabelsSnapshot = getCachedLabels();
-
-            //Read central cache into txCache cloning only base concepts. Sets clones later
-            for (SchemaConcept type : cachedSchemaSnapshot.values()) {
-                txCache.cacheConcept(type);
-            }
-
-            //Load Labels Separately. We do this because the TypeCache may have expired.
-            cachedLabelsSnapshot.forEach(txCache::cacheLabel);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        long now = System.currentTimeMillis();
+        if(now - lastAccess > cacheTimeout) publish(SchemaSnapshot::withoutTypes);
+        lastAccess = now;
+
+        txCache.setSchemaSnapshot(schema.get());
     }
 
     /**
@@ -95,7 +83,7 @@ public class GlobalCache {
      * @param type The type to cache
      */
     public void cacheType(Label label, SchemaConcept type) {
-        cachedTypes.put(label, type);
+        publish(snapshot -> snapshot.apply(ImmutableSet.of(), ImmutableMap.of(label, type), ImmutableMap.of()));
     }
 
     /**
@@ -106,7 +94,17 @@ public class GlobalCache {
      * @param id The id of the type to cache
      */
     public void cacheLabel(Label label, LabelId id) {
-        cachedLabels.put(label, id);
+        publish(snapshot -> snapshot.withLabel(label, id));
+    }
+
+    /**
+     * Caches the types and their labels in a single new version of the schema.
+     *
+     * @param types The types to cache
+     */
+    public void cacheTypes(Collection<? extends SchemaConcept> types) {
+        if(types.isEmpty()) return;
+        publish(snapshot -> snapshot.withTypes(types));
     }
 
     /**
@@ -117,43 +115,43 @@ public class GlobalCache {
      * @param txCache The transaction cache
      */
     void readTxCache(TxCache txCache) {
-        //Check if the ontology has been changed and should be flushed into this cache
-        if(!cachedLabels.equals(txCache.getLabelCache())) {
-            try {
-                lock.readLock().lock();
-
-                //Clear the cache
-                cachedLabels.clear();
-                cachedTypes.invalidateAll();
-
-                //Add a new one
-                cachedLabels.putAll(txCache.getLabelCache());
-                cachedTypes.putAll(txCache.getSchemaConceptCache());
-            } finally {
-                lock.readLock().unlock();
-            }
-        }
+        //Publish a new version of the schema if it has been changed by the transaction
+        publish(snapshot -> snapshot.apply(txCache.getRemovedLabels(), txCache.getSchemaConceptCache(), txCache.getLabelCache()));
 
         //Flush All The Internal Transaction Caches
-        txCache.getSchemaConceptCache().values().forEach(schemaConcept
+        txCache.getTouchedSchemaConcepts().forEach(schemaConcept
                 -> SchemaConceptImpl.from(schemaConcept).txCacheFlush());
     }
 
     /**
-     * A copy of the cached labels. This is used when creating a new transaction.
+     * Atomically replaces the current {@link SchemaSnapshot}. The update is retried if another thread published a
+     * new version in the meantime, so concurrent updates are never lost.
+     *
+     * @param update Creates the next version of the schema from the current one
+     */
+    private void publish(UnaryOperator<SchemaSnapshot> update){
+        SchemaSnapshot current;
+        SchemaSnapshot next;
+        do {
+            current = schema.get();
+            next = update.apply(current);
+        } while (next != current && !schema.compareAndSet(current, next));
+    }
+
+    /**
      *
-     * @return an immutable copy of the cached labels.
+     * @return the version of the schema currently shared across transactions
      */
-    private Map<Label, LabelId> getCachedLabels() {
-        return ImmutableMap.copyOf(cachedLabels);
+    public long schemaVersion() {
+        return schema.get().version();
     }
 
     /**
-     * A copy of the cached schema. This is used when creating a new transaction.
+     * The cached schema. This is used when creating a new transaction.
      *
-     * @return an immutable copy of the cached schema.
+     * @return an immutable view of the cached schema.
      */
     public Map<Label, SchemaConcept> getCachedTypes() {
-        return ImmutableMap.copyOf(cachedTypes.asMap());
+        return schema.get().types();
     }
 }
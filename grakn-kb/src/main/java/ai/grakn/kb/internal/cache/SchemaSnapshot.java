@@ -0,0 +1,167 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.SchemaConcept;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>
+ *     Immutable Version Of The Schema
+ * </p>
+ *
+ * <p>
+ *     Holds the {@link SchemaConcept}s and {@link Label}s of a knowledge base at a specific version.
+ *     A {@link SchemaSnapshot} is never mutated once it has been built, which means it can be published by the
+ *     {@link GlobalCache} and read by any number of transactions without locking or copying.
+ *     Schema mutations create a new {@link SchemaSnapshot} with a higher version.
+ * </p>
+ */
+final class SchemaSnapshot {
+    private static final SchemaSnapshot EMPTY = new SchemaSnapshot(0, ImmutableMap.of(), ImmutableMap.of());
+
+    private final long version;
+    private final ImmutableMap<Label, SchemaConcept> types;
+    private final ImmutableMap<Label, LabelId> labels;
+    private final ImmutableMap<ConceptId, SchemaConcept> typesById;
+
+    private SchemaSnapshot(long version, ImmutableMap<Label, SchemaConcept> types, ImmutableMap<Label, LabelId> labels){
+        this.version = version;
+        this.types = types;
+        this.labels = labels;
+
+        ImmutableMap.Builder<ConceptId, SchemaConcept> byId = ImmutableMap.builder();
+        types.values().forEach(type -> byId.put(type.getId(), type));
+        this.typesById = byId.build();
+    }
+
+    static SchemaSnapshot empty(){
+        return EMPTY;
+    }
+
+    long version(){
+        return version;
+    }
+
+    Map<Label, SchemaConcept> types(){
+        return types;
+    }
+
+    Map<Label, LabelId> labels(){
+        return labels;
+    }
+
+    SchemaConcept type(Label label){
+        return types.get(label);
+    }
+
+    SchemaConcept type(ConceptId id){
+        return typesById.get(id);
+    }
+
+    LabelId labelId(Label label){
+        return labels.get(label);
+    }
+
+    /**
+     *
+     * @param schemaConcepts The {@link SchemaConcept}s to add or replace
+     * @return the next version of this snapshot containing the provided {@link SchemaConcept}s
+     */
+    SchemaSnapshot withTypes(Collection<? extends SchemaConcept> schemaConcepts){
+        Map<Label, SchemaConcept> newTypes = new HashMap<>(types);
+        Map<Label, LabelId> newLabels = new HashMap<>(labels);
+        schemaConcepts.forEach(schemaConcept -> {
+            newTypes.put(schemaConcept.getLabel(), schemaConcept);
+            newLabels.put(schemaConcept.getLabel(), schemaConcept.getLabelId());
+        });
+        return next(newTypes, newLabels);
+    }
+
+    /**
+     *
+     * @param label The label to add or replace
+     * @param id The id the label maps to
+     * @return the next version of this snapshot containing the provided label
+     */
+    SchemaSnapshot withLabel(Label label, LabelId id){
+        if(id.equals(labels.get(label))) return this;
+        Map<Label, LabelId> newLabels = new HashMap<>(labels);
+        newLabels.put(label, id);
+        return next(types, newLabels);
+    }
+
+    /**
+     * Applies the schema changes made within a transaction to this snapshot.
+     *
+     * @param removed The labels which have been removed from the schema
+     * @param addedTypes The {@link SchemaConcept}s which have been created or modified
+     * @param addedLabels The labels which have been created or modified
+     * @return the next version of this snapshot or this snapshot if nothing has changed
+     */
+    SchemaSnapshot apply(Set<Label> removed, Map<Label, SchemaConcept> addedTypes, Map<Label, LabelId> addedLabels){
+        if(!changedBy(removed, addedTypes, addedLabels)) return this;
+
+        Map<Label, SchemaConcept> newTypes = new HashMap<>(types);
+        Map<Label, LabelId> newLabels = new HashMap<>(labels);
+        removed.forEach(label -> {
+            newTypes.remove(label);
+            newLabels.remove(label);
+        });
+        newTypes.putAll(addedTypes);
+        newLabels.putAll(addedLabels);
+        return next(newTypes, newLabels);
+    }
+
+    /**
+     * Drops all the cached {@link SchemaConcept}s but keeps the labels, which are needed to look up the schema.
+     *
+     * @return the next version of this snapshot without any {@link SchemaConcept}s
+     */
+    SchemaSnapshot withoutTypes(){
+        if(types.isEmpty()) return this;
+        return new SchemaSnapshot(version + 1, ImmutableMap.of(), labels);
+    }
+
+    private boolean changedBy(Set<Label> removed, Map<Label, SchemaConcept> addedTypes, Map<Label, LabelId> addedLabels){
+        for (Label label : removed) {
+            if(labels.containsKey(label) || types.containsKey(label)) return true;
+        }
+        for (Map.Entry<Label, SchemaConcept> type : addedTypes.entrySet()) {
+            if(types.get(type.getKey()) != type.getValue()) return true;
+        }
+        for (Map.Entry<Label, LabelId> label : addedLabels.entrySet()) {
+            if(!Objects.equals(labels.get(label.getKey()), label.getValue())) return true;
+        }
+        return false;
+    }
+
+    private SchemaSnapshot next(Map<Label, SchemaConcept> newTypes, Map<Label, LabelId> newLabels){
+        return new SchemaSnapshot(version + 1, ImmutableMap.copyOf(newTypes), ImmutableMap.copyOf(newLabels));
+    }
+}
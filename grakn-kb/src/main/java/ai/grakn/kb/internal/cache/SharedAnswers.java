@@ -0,0 +1,168 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ *     Complete Answer Sets Shared By The Read Transactions Of A Keyspace
+ * </p>
+ *
+ * <p>
+ *     Holds the answer sets the reasoner has completed, keyed by the alpha-equivalence hash of their query, together
+ *     with what is needed to decide whether they are still valid. Deciding which answer sets are recorded and when
+ *     they can be reused is left to the reasoner. The answer sets of a keyspace are owned by the
+ *     {@link ai.grakn.factory.EmbeddedGraknSession}s of the keyspace and are bounded by the total number of answers
+ *     they hold, the least recently used answer sets are evicted first.
+ * </p>
+ */
+public final class SharedAnswers {
+
+    private static final long MAX_ANSWERS = 1_000_000;
+    private static final long TIMEOUT_MINUTES = 10;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final RemovalListener<Integer, Entry> countEvictions = notification -> {
+        if (notification.wasEvicted()) evictions.incrementAndGet();
+    };
+
+    private final Cache<Integer, Entry> entries = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_ANSWERS)
+            .weigher((Integer hash, Entry entry) -> Math.max(1, entry.answers().size()))
+            .expireAfterAccess(TIMEOUT_MINUTES, TimeUnit.MINUTES)
+            .removalListener(countEvictions)
+            .build();
+
+    /**
+     * @param hash alpha-equivalence hash of the query
+     * @return the answer set recorded for a query with the hash, if any
+     */
+    @Nullable
+    public Entry get(int hash){
+        return entries.getIfPresent(hash);
+    }
+
+    /**
+     * @param hash alpha-equivalence hash of the query
+     * @param entry the complete answer set of the query
+     */
+    public void put(int hash, Entry entry){
+        entries.put(hash, entry);
+    }
+
+    /**
+     * Removes an answer set which is no longer valid, unless it has been replaced in the meantime
+     */
+    public void remove(int hash, Entry entry){
+        entries.asMap().remove(hash, entry);
+    }
+
+    /**
+     * Removes all answer sets
+     */
+    public void clear(){
+        entries.invalidateAll();
+    }
+
+    public void recordHit(){
+        hits.incrementAndGet();
+    }
+
+    public void recordMiss(){
+        misses.incrementAndGet();
+    }
+
+    /**
+     * @return the number of sub-goals answered from the shared answer sets
+     */
+    public long hits(){
+        return hits.get();
+    }
+
+    /**
+     * @return the number of sub-goals which had to be resolved, including those whose answers were no longer valid
+     */
+    public long misses(){
+        return misses.get();
+    }
+
+    /**
+     * @return the number of answer sets evicted to bound the size of the cache or because they were not used
+     */
+    public long evictions(){
+        return evictions.get();
+    }
+
+    /**
+     * A complete answer set, held as {@link ConceptId}s as concepts are bound to the transaction they were read in
+     */
+    public static final class Entry {
+        private final Conjunction<VarPatternAdmin> pattern;
+        private final ImmutableSet<ConceptId> types;
+        private final long watermark;
+        private final ImmutableList<ImmutableMap<Var, ConceptId>> answers;
+
+        /**
+         * @param pattern the pattern of the query the answers belong to
+         * @param types the ids of the types the answers were derived from
+         * @param watermark the {@link CommitWatermarks} watermark the answers were computed at
+         * @param answers the answers
+         */
+        public Entry(Conjunction<VarPatternAdmin> pattern, ImmutableSet<ConceptId> types, long watermark,
+                     ImmutableList<ImmutableMap<Var, ConceptId>> answers){
+            this.pattern = pattern;
+            this.types = types;
+            this.watermark = watermark;
+            this.answers = answers;
+        }
+
+        public Conjunction<VarPatternAdmin> pattern(){
+            return pattern;
+        }
+
+        public ImmutableSet<ConceptId> types(){
+            return types;
+        }
+
+        public long watermark(){
+            return watermark;
+        }
+
+        public ImmutableList<ImmutableMap<Var, ConceptId>> answers(){
+            return answers;
+        }
+    }
+}
@@ -33,8 +33,11 @@ import ai.grakn.concept.Type;
 import ai.grakn.kb.internal.concept.AttributeImpl;
 import ai.grakn.kb.internal.structure.Casting;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -61,10 +64,20 @@ public class TxCache{
     //Cache which is shared across multiple transactions
     private final GlobalCache globalCache;
 
+    //The schema shared across transactions. It is read only and never copied into this cache.
+    private SchemaSnapshot schemaSnapshot = null;
+
     //Caches any concept which has been touched before
     private final Map<ConceptId, Concept> conceptCache = new HashMap<>();
+
+    //Schema changes made by this transaction which overlay the shared schema
     private final Map<Label, SchemaConcept> schemaConceptCache = new HashMap<>();
     private final Map<Label, LabelId> labelCache = new HashMap<>();
+    private final Set<Label> removedLabels = new HashSet<>();
+    private final Set<ConceptId> removedSchemaConcepts = new HashSet<>();
+
+    //Shared schema concepts whose internal caches hold values bound to this transaction
+    private final Set<SchemaConcept> touchedSchemaConcepts = new HashSet<>();
 
     //Elements Tracked For Validation
     private final Set<Relationship> newRelationships = new HashSet<>();
@@ -84,12 +97,27 @@ public class TxCache{
     // This is a map of attribute indices to concept ids
     // The index and id are directly cached to prevent unneeded reads
     private Map<String, ConceptId> newAttributes = new HashMap<>();
+    private final Set<String> reservedAttributes = new HashSet<>();
+
+    //New things and role players are tracked so that analytics can be maintained incrementally in post.
+    // Things which are deleted or lose a role player are tracked so that the affected results can be recomputed.
+    // They are only tracked when analytics are maintained incrementally, as tracking them costs every write.
+    private boolean trackGraphChanges = false;
+    private final Set<ConceptId> newThings = new HashSet<>();
+    private final Map<ConceptId, List<ConceptId>> newRolePlayers = new HashMap<>();
+    private final Set<ConceptId> detachedThings = new HashSet<>();
+
+    //Types whose instances were added or connected to other things are tracked so that results derived from them
+    // can be invalidated after commit. Removals and schema changes affect types which are harder to pin down.
+    private final Set<ConceptId> modifiedTypes = new HashSet<>();
+    private boolean allTypesModified = false;
 
     //Transaction Specific Meta Data
     private boolean isTxOpen = false;
     private boolean writeOccurred = false;
     private GraknTxType txType;
     private String closedReason = null;
+    private long openWatermark = 0;
 
     public TxCache(GlobalCache globalCache) {
         this.globalCache = globalCache;
@@ -121,19 +149,38 @@ public class TxCache{
      * @return true if ths schema labels have been cached. The graph cannot operate if this is false.
      */
     public boolean schemaNotCached(){
-        return labelCache.isEmpty();
+        return labelCache.isEmpty() && (schemaSnapshot == null || schemaSnapshot.labels().isEmpty());
     }
 
     /**
-     * Refreshes the transaction schema cache by reading the central schema cache is read into this transaction cache.
-     * This method performs this operation whilst making a deep clone of the cached concepts to ensure transactions
-     * do not accidentally break the central schema cache.
+     * Refreshes the transaction schema cache by pointing it at the current version of the central schema cache.
+     * The central schema is immutable, schema mutations made by this transaction are kept in this cache until
+     * they are written back to the central schema cache.
      *
      */
     public void refreshSchemaCache(){
         globalCache.populateSchemaTxCache(this);
     }
 
+    /**
+     *
+     * @param schemaSnapshot The version of the central schema this transaction reads from
+     */
+    void setSchemaSnapshot(SchemaSnapshot schemaSnapshot){
+        this.schemaSnapshot = schemaSnapshot;
+    }
+
+    /**
+     * Notifies the cache that the internal caches of a {@link SchemaConcept} now hold values bound to this transaction.
+     * These need to be cleared when the transaction closes, even when the {@link SchemaConcept} itself is only
+     * cached centrally.
+     *
+     * @param schemaConcept The {@link SchemaConcept} whose internal caches have been populated
+     */
+    public void trackSchemaConcept(SchemaConcept schemaConcept){
+        touchedSchemaConcepts.add(schemaConcept);
+    }
+
     /**
      *
      * @param concept The element to be later validated
@@ -169,7 +216,7 @@ public class TxCache{
 
     /**
      *
-     * @return All the types currently cached in the transaction. Used for
+     * @return All the types created or modified in the transaction.
      */
     Map<Label, SchemaConcept> getSchemaConceptCache(){
         return schemaConceptCache;
@@ -177,12 +224,30 @@ public class TxCache{
 
     /**
      *
-     * @return All the types labels currently cached in the transaction.
+     * @return All the types labels created or modified in the transaction.
      */
     Map<Label, LabelId> getLabelCache(){
         return labelCache;
     }
 
+    /**
+     *
+     * @return All the types labels removed in the transaction.
+     */
+    Set<Label> getRemovedLabels(){
+        return removedLabels;
+    }
+
+    /**
+     *
+     * @return All the types whose internal caches have been used in the transaction.
+     */
+    Collection<SchemaConcept> getTouchedSchemaConcepts(){
+        List<SchemaConcept> touched = new ArrayList<>(schemaConceptCache.values());
+        touched.addAll(touchedSchemaConcepts);
+        return touched;
+    }
+
     /**
      *
      * @return All the concepts which have been accessed in this transaction
@@ -197,6 +262,7 @@ public class TxCache{
      */
     @SuppressWarnings("SuspiciousMethodCalls")
     public void remove(Concept concept){
+        allTypesModified = true;
         modifiedThings.remove(concept);
         modifiedRoles.remove(concept);
         modifiedRelationshipTypes.remove(concept);
@@ -210,15 +276,22 @@ public class TxCache{
             newRelationships.remove(concept.asRelationship());
         }
 
+        if(concept.isThing() && trackGraphChanges){
+            detachedThings.add(concept.getId());
+        }
+
         conceptCache.remove(concept.getId());
         if (concept.isSchemaConcept()) {
             Label label = concept.asSchemaConcept().getLabel();
             schemaConceptCache.remove(label);
             labelCache.remove(label);
+            removedLabels.add(label);
+            removedSchemaConcepts.add(concept.getId());
         }
     }
 
     public void remove(Casting casting){
+        allTypesModified = true;
         modifiedCastings.remove(casting);
     }
 
@@ -233,6 +306,8 @@ public class TxCache{
             SchemaConcept schemaConcept = concept.asSchemaConcept();
             schemaConceptCache.put(schemaConcept.getLabel(), schemaConcept);
             labelCache.put(schemaConcept.getLabel(), schemaConcept.getLabelId());
+            removedLabels.remove(schemaConcept.getLabel());
+            removedSchemaConcepts.remove(schemaConcept.getId());
         }
     }
 
@@ -245,6 +320,7 @@ public class TxCache{
      */
     void cacheLabel(Label label, LabelId id){
         labelCache.put(label, id);
+        removedLabels.remove(label);
     }
 
     /**
@@ -254,7 +330,7 @@ public class TxCache{
      * @return true if the concept is cached
      */
     public boolean isConceptCached(ConceptId id){
-        return conceptCache.containsKey(id);
+        return conceptCache.containsKey(id) || sharedSchemaConcept(id) != null;
     }
 
     /**
@@ -263,7 +339,7 @@ public class TxCache{
      * @return true if the concept is cached
      */
     public boolean isTypeCached(Label label){
-        return schemaConceptCache.containsKey(label);
+        return schemaConceptCache.containsKey(label) || sharedSchemaConcept(label) != null;
     }
 
     /**
@@ -272,7 +348,7 @@ public class TxCache{
      * @return true if the label is cached and has a valid mapping to a id
      */
     public boolean isLabelCached(Label label){
-        return labelCache.containsKey(label);
+        return convertLabelToId(label) != null;
     }
 
     /**
@@ -283,8 +359,10 @@ public class TxCache{
      * @return The cached concept
      */
     public <X extends Concept> X getCachedConcept(ConceptId id){
+        Concept concept = conceptCache.get(id);
+        if(concept == null) concept = sharedSchemaConcept(id);
         //noinspection unchecked
-        return (X) conceptCache.get(id);
+        return (X) concept;
     }
 
     /**
@@ -295,19 +373,37 @@ public class TxCache{
      * @return The cached type
      */
     public <X extends SchemaConcept> X getCachedSchemaConcept(Label label){
+        SchemaConcept schemaConcept = schemaConceptCache.get(label);
+        if(schemaConcept == null) schemaConcept = sharedSchemaConcept(label);
         //noinspection unchecked
-        return (X) schemaConceptCache.get(label);
+        return (X) schemaConcept;
     }
 
     public LabelId convertLabelToId(Label label){
-        return labelCache.get(label);
+        LabelId labelId = labelCache.get(label);
+        if(labelId == null && schemaSnapshot != null && !removedLabels.contains(label)) {
+            labelId = schemaSnapshot.labelId(label);
+        }
+        return labelId;
+    }
+
+    private SchemaConcept sharedSchemaConcept(Label label){
+        if(schemaSnapshot == null || removedLabels.contains(label)) return null;
+        return schemaSnapshot.type(label);
+    }
+
+    private SchemaConcept sharedSchemaConcept(ConceptId id){
+        if(schemaSnapshot == null || removedSchemaConcepts.contains(id)) return null;
+        return schemaSnapshot.type(id);
     }
 
     public void addedInstance(ConceptId conceptId){
+        modifiedTypes.add(conceptId);
         shardingCount.compute(conceptId, (key, value) -> value == null ? 1 : value + 1);
         cleanupShardingCount(conceptId);
     }
     public void removedInstance(ConceptId conceptId){
+        allTypesModified = true;
         shardingCount.compute(conceptId, (key, value) -> value == null ? -1 : value - 1);
         cleanupShardingCount(conceptId);
     }
@@ -323,6 +419,68 @@ public class TxCache{
         return newAttributes;
     }
 
+    /**
+     * Records that this transaction holds the reservation of an attribute index in {@link AttributeIdentities}
+     */
+    public void addReservedAttribute(String index){
+        reservedAttributes.add(index);
+    }
+    public Set<String> getReservedAttributes() {
+        return reservedAttributes;
+    }
+
+    public void addNewThing(ConceptId thing){
+        if (trackGraphChanges) newThings.add(thing);
+    }
+    public Set<ConceptId> getNewThings() {
+        return newThings;
+    }
+
+    public void addNewRolePlayer(ConceptId relationship, ConceptId rolePlayer){
+        if (trackGraphChanges) newRolePlayers.computeIfAbsent(relationship, key -> new ArrayList<>()).add(rolePlayer);
+    }
+    public Map<ConceptId, List<ConceptId>> getNewRolePlayers() {
+        return newRolePlayers;
+    }
+
+    public void detachThing(ConceptId thing){
+        if (trackGraphChanges) detachedThings.add(thing);
+    }
+    public Set<ConceptId> getDetachedThings() {
+        return detachedThings;
+    }
+
+    /**
+     *
+     * @param type The {@link Type} whose instances have been connected to other things
+     */
+    public void modifiedType(ConceptId type){
+        modifiedTypes.add(type);
+    }
+
+    /**
+     * Notifies the cache that the schema has been modified
+     */
+    public void modifiedSchema(){
+        allTypesModified = true;
+    }
+
+    /**
+     *
+     * @return All the types whose instances have been added or connected to other things
+     */
+    public Set<ConceptId> getModifiedTypes() {
+        return modifiedTypes;
+    }
+
+    /**
+     *
+     * @return true if things have been removed or the schema has been modified, which may affect any type
+     */
+    public boolean allTypesModified() {
+        return allTypesModified;
+    }
+
     //--------------------------------------- Concepts Needed For Validation -------------------------------------------
     public Set<Thing> getModifiedThings() {
         return modifiedThings;
@@ -358,6 +516,7 @@ public class TxCache{
 
         //Clear Concept Caches
         conceptCache.values().forEach(concept -> CacheOwner.from(concept).txCacheClear());
+        touchedSchemaConcepts.forEach(concept -> CacheOwner.from(concept).txCacheClear());
 
         //Clear Collection Caches
         modifiedThings.clear();
@@ -366,15 +525,27 @@ public class TxCache{
         modifiedRules.clear();
         modifiedCastings.clear();
         newAttributes.clear();
+        reservedAttributes.clear();
         newRelationships.clear();
+        newThings.clear();
+        newRolePlayers.clear();
+        detachedThings.clear();
+        modifiedTypes.clear();
+        allTypesModified = false;
         shardingCount.clear();
         conceptCache.clear();
         schemaConceptCache.clear();
         labelCache.clear();
+        removedLabels.clear();
+        removedSchemaConcepts.clear();
+        touchedSchemaConcepts.clear();
+        schemaSnapshot = null;
     }
-    public void openTx(GraknTxType txType){
+    public void openTx(GraknTxType txType, long openWatermark, boolean trackGraphChanges){
         isTxOpen = true;
         this.txType = txType;
+        this.openWatermark = openWatermark;
+        this.trackGraphChanges = trackGraphChanges;
         closedReason = null;
     }
     public boolean isTxOpen(){
@@ -385,6 +556,14 @@ public class TxCache{
         return txType;
     }
 
+    /**
+     *
+     * @return the {@link CommitWatermarks} watermark of the keyspace when the transaction was opened
+     */
+    public long openWatermark(){
+        return openWatermark;
+    }
+
     public String getClosedReason(){
         return closedReason;
     }
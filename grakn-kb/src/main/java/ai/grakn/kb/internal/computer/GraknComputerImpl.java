@@ -62,12 +62,15 @@ import java.util.stream.Collectors;
  */
 public class GraknComputerImpl implements GraknComputer {
     private final Graph graph;
+    private final GraphSnapshots snapshots;
     private final Class<? extends GraphComputer> graphComputerClass;
     private GraphComputer graphComputer = null;
     private boolean filterAllEdges = false;
+    private boolean useSnapshot = false;
 
-    public GraknComputerImpl(Graph graph) {
+    public GraknComputerImpl(Graph graph, GraphSnapshots snapshots) {
         this.graph = graph;
+        this.snapshots = snapshots;
         if (graph instanceof TinkerGraph) {
             graphComputerClass = TinkerGraphComputer.class;
         } else {
@@ -87,6 +90,9 @@ public class GraknComputerImpl implements GraknComputer {
             }
             if (mapReduce != null) graphComputer.mapReduce(mapReduce);
             applyFilters(types, includesRolePlayerEdges);
+            if (useSnapshot && graphComputer instanceof GraknSparkComputer) {
+                ((GraknSparkComputer) graphComputer).snapshot(snapshots, snapshotKey(types, includesRolePlayerEdges));
+            }
             return graphComputer.submit().get();
         } catch (InterruptedException | ExecutionException e) {
             throw asRuntimeException(e.getCause());
@@ -99,6 +105,12 @@ public class GraknComputerImpl implements GraknComputer {
         return compute(program, mapReduce, types, true);
     }
 
+    @Override
+    public GraknComputer useSnapshot(boolean useSnapshot) {
+        this.useSnapshot = useSnapshot;
+        return this;
+    }
+
     @Override
     public void killJobs() {
         if (graphComputer != null && graphComputerClass.equals(GraknSparkComputer.class)) {
@@ -115,6 +127,22 @@ public class GraknComputerImpl implements GraknComputer {
         }
     }
 
+    /**
+     * The key of a snapshot identifies the graph loaded by {@link #applyFilters(Set, boolean)} at the current commit
+     * watermark of the keyspace.
+     */
+    private String snapshotKey(@Nullable Set<LabelId> types, boolean includesRolePlayerEdge) {
+        String filter;
+        if (types == null || types.isEmpty()) {
+            filter = "all";
+        } else {
+            filter = types.stream().map(LabelId::getValue).sorted().map(Object::toString)
+                    .collect(Collectors.joining(",", "[", "]"));
+            filter += filterAllEdges ? "-noedges" : (includesRolePlayerEdge ? "-roleplayers" : "-attributes");
+        }
+        return snapshots.keyPrefix() + filter;
+    }
+
     protected GraphComputer getGraphComputer() {
         return graph.compute(this.graphComputerClass);
     }
@@ -108,6 +108,8 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
     }
 
     private String jobGroupId = null;
+    private GraphSnapshots snapshots = null;
+    private String snapshotKey = null;
 
     public GraknSparkComputer(final HadoopGraph hadoopGraph) {
         super(hadoopGraph);
@@ -140,6 +142,20 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                 .runWithBackgroundThread(exec -> submitWithExecutor(), "SparkSubmitter");
     }
 
+    /**
+     * Reuses the persisted graph snapshot with the given key instead of loading the graph, or persists the loaded
+     * graph under that key so that following computations can reuse it.
+     *
+     * @param snapshots the snapshots of the keyspace of the graph
+     * @param snapshotKey the key identifying the keyspace, subgraph and commit watermark of the graph
+     * @return this computer
+     */
+    public GraknSparkComputer snapshot(GraphSnapshots snapshots, String snapshotKey) {
+        this.snapshots = snapshots;
+        this.snapshotKey = snapshotKey;
+        return this;
+    }
+
     public void cancelJobs() {
         if (jobGroupId != null) {
             Spark.getContext().cancelJobGroup(jobGroupId);
@@ -268,56 +284,72 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
             this.loadJars(hadoopConfiguration, sparkContext);
             updateLocalConfiguration(sparkContext, hadoopConfiguration);
 
+            // reuse the persisted snapshot of this graph if there is one
+            final boolean useSnapshot = null != snapshotKey;
+            final JavaPairRDD<Object, VertexWritable> snapshotGraphRDD =
+                    useSnapshot ? snapshots.get(snapshotKey) : null;
+            final long loadStartTime = System.currentTimeMillis();
+
             // create a message-passing friendly rdd from the input rdd
             boolean partitioned = false;
-            JavaPairRDD<Object, VertexWritable> loadedGraphRDD =
-                    inputRDD.readGraphRDD(graphComputerConfiguration, sparkContext);
-
-            // if there are vertex or edge filters, filter the loaded graph rdd prior to partitioning and persisting
-            if (filtered) {
-                this.logger.debug("Filtering the loaded graphRDD: " + this.graphFilter);
-                loadedGraphRDD = GraknSparkExecutor.applyGraphFilter(loadedGraphRDD, this.graphFilter);
-            }
-            // if the loaded graph RDD is already partitioned use that partitioner,
-            // else partition it with HashPartitioner
-            if (loadedGraphRDD.partitioner().isPresent()) {
-                this.logger.debug("Using the existing partitioner associated with the loaded graphRDD: " +
-                        loadedGraphRDD.partitioner().get());
+            JavaPairRDD<Object, VertexWritable> loadedGraphRDD;
+            if (null != snapshotGraphRDD) {
+                this.logger.debug("Using the persisted graph snapshot: " + snapshotKey);
+                loadedGraphRDD = snapshotGraphRDD;
             } else {
-                if (!skipPartitioner) {
-                    final Partitioner partitioner =
-                            new HashPartitioner(this.workersSet ?
-                                    this.workers : loadedGraphRDD.partitions().size());
-                    this.logger.debug("Partitioning the loaded graphRDD: " + partitioner);
-                    loadedGraphRDD = loadedGraphRDD.partitionBy(partitioner);
-                    partitioned = true;
-                    assert loadedGraphRDD.partitioner().isPresent();
-                } else {
-                    // no easy way to test this with a test case
-                    assert skipPartitioner == !loadedGraphRDD.partitioner().isPresent();
+                loadedGraphRDD = inputRDD.readGraphRDD(graphComputerConfiguration, sparkContext);
 
-                    this.logger.debug("Partitioning has been skipped for the loaded graphRDD via " +
-                            Constants.GREMLIN_SPARK_SKIP_PARTITIONER);
+                // if there are vertex or edge filters, filter the loaded graph rdd prior to partitioning and persisting
+                if (filtered) {
+                    this.logger.debug("Filtering the loaded graphRDD: " + this.graphFilter);
+                    loadedGraphRDD = GraknSparkExecutor.applyGraphFilter(loadedGraphRDD, this.graphFilter);
                 }
-            }
-            // if the loaded graphRDD was already partitioned previous,
-            // then this coalesce/repartition will not take place
-            if (this.workersSet) {
-                // ensures that the loaded graphRDD does not have more partitions than workers
-                if (loadedGraphRDD.partitions().size() > this.workers) {
-                    loadedGraphRDD = loadedGraphRDD.coalesce(this.workers);
+                // if the loaded graph RDD is already partitioned use that partitioner,
+                // else partition it with HashPartitioner
+                if (loadedGraphRDD.partitioner().isPresent()) {
+                    this.logger.debug("Using the existing partitioner associated with the loaded graphRDD: " +
+                            loadedGraphRDD.partitioner().get());
                 } else {
-                    // ensures that the loaded graphRDD does not have less partitions than workers
-                    if (loadedGraphRDD.partitions().size() < this.workers) {
-                        loadedGraphRDD = loadedGraphRDD.repartition(this.workers);
+                    if (!skipPartitioner) {
+                        final Partitioner partitioner =
+                                new HashPartitioner(this.workersSet ?
+                                        this.workers : loadedGraphRDD.partitions().size());
+                        this.logger.debug("Partitioning the loaded graphRDD: " + partitioner);
+                        loadedGraphRDD = loadedGraphRDD.partitionBy(partitioner);
+                        partitioned = true;
+                        assert loadedGraphRDD.partitioner().isPresent();
+                    } else {
+                        // no easy way to test this with a test case
+                        assert skipPartitioner == !loadedGraphRDD.partitioner().isPresent();
+
+                        this.logger.debug("Partitioning has been skipped for the loaded graphRDD via " +
+                                Constants.GREMLIN_SPARK_SKIP_PARTITIONER);
                     }
                 }
-            }
-            // persist the vertex program loaded graph as specified by configuration
-            // or else use default cache() which is MEMORY_ONLY
-            if (!skipPersist && (!inputFromSpark || partitioned || filtered)) {
-                loadedGraphRDD = loadedGraphRDD.persist(StorageLevel.fromString(hadoopConfiguration.get(
-                        Constants.GREMLIN_SPARK_GRAPH_STORAGE_LEVEL, "MEMORY_ONLY")));
+                // if the loaded graphRDD was already partitioned previous,
+                // then this coalesce/repartition will not take place
+                if (this.workersSet) {
+                    // ensures that the loaded graphRDD does not have more partitions than workers
+                    if (loadedGraphRDD.partitions().size() > this.workers) {
+                        loadedGraphRDD = loadedGraphRDD.coalesce(this.workers);
+                    } else {
+                        // ensures that the loaded graphRDD does not have less partitions than workers
+                        if (loadedGraphRDD.partitions().size() < this.workers) {
+                            loadedGraphRDD = loadedGraphRDD.repartition(this.workers);
+                        }
+                    }
+                }
+                // persist the vertex program loaded graph as specified by configuration
+                // or else use default cache() which is MEMORY_ONLY
+                if ((useSnapshot || !skipPersist) && (!inputFromSpark || partitioned || filtered)) {
+                    loadedGraphRDD = loadedGraphRDD.persist(StorageLevel.fromString(hadoopConfiguration.get(
+                            Constants.GREMLIN_SPARK_GRAPH_STORAGE_LEVEL, "MEMORY_ONLY")));
+                }
+                // materialise the snapshot so its load time can be reported when it is reused
+                if (useSnapshot) {
+                    loadedGraphRDD.count();
+                    snapshots.put(snapshotKey, loadedGraphRDD, System.currentTimeMillis() - loadStartTime);
+                }
             }
             // final graph with view
             // (for persisting and/or mapReducing -- may be null and thus, possible to save space/time)
@@ -373,7 +405,7 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                         if ((null != outputRDD && !this.persist.equals(Persist.NOTHING)) ||
                                 !this.mapReducers.isEmpty()) {
                             computedGraphRDD = GraknSparkExecutor.prepareFinalGraphRDD(
-                                    loadedGraphRDD, viewIncomingRDD, this.vertexProgram.getVertexComputeKeys());
+                                    loadedGraphRDD, viewIncomingRDD, this.vertexProgram.getVertexComputeKeys(), useSnapshot);
                             assert null != computedGraphRDD && computedGraphRDD != loadedGraphRDD;
                         } else {
                             // ensure that the computedGraphRDD was not created
@@ -404,7 +436,8 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                 if (!this.mapReducers.isEmpty()) {
                     // create a mapReduceRDD for executing the map reduce jobs on
                     JavaPairRDD<Object, VertexWritable> mapReduceRDD = computedGraphRDD;
-                    if (computedGraphCreated && !outputToSpark) {
+                    // the vertices of the computed graph are shared with a snapshot so they must not be modified
+                    if (computedGraphCreated && !outputToSpark && !useSnapshot) {
                         // drop all the edges of the graph as they are not used in mapReduce processing
                         mapReduceRDD = computedGraphRDD.mapValues(vertexWritable -> {
                             vertexWritable.get().dropEdges(Direction.BOTH);
@@ -440,7 +473,7 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                         }
                     }
                     // if the mapReduceRDD is not simply the computed graph, unpersist the mapReduceRDD
-                    if (computedGraphCreated && !outputToSpark) {
+                    if (computedGraphCreated && !outputToSpark && !useSnapshot) {
                         assert loadedGraphRDD != computedGraphRDD;
                         assert mapReduceRDD != computedGraphRDD;
                         mapReduceRDD.unpersist();
@@ -449,9 +482,9 @@ public final class GraknSparkComputer extends AbstractHadoopGraphComputer {
                     }
                 }
 
-                // unpersist the loaded graph if it will not be used again (no PersistedInputRDD)
+                // unpersist the loaded graph if it will not be used again (no PersistedInputRDD or snapshot)
                 // if the graphRDD was loaded from Spark, but then partitioned or filtered, its a different RDD
-                if (!inputFromSpark || partitioned || filtered) {
+                if (!useSnapshot && (!inputFromSpark || partitioned || filtered)) {
                     loadedGraphRDD.unpersist();
                 }
                 // unpersist the computed graph if it will not be used again (no PersistedOutputRDD)
@@ -195,14 +195,18 @@ public class GraknSparkExecutor {
     public static <M> JavaPairRDD<Object, VertexWritable> prepareFinalGraphRDD(
             final JavaPairRDD<Object, VertexWritable> graphRDD,
             final JavaPairRDD<Object, ViewIncomingPayload<M>> viewIncomingRDD,
-            final Set<VertexComputeKey> vertexComputeKeys) {
+            final Set<VertexComputeKey> vertexComputeKeys,
+            final boolean sharedGraphRDD) { // the vertices of a shared graphRDD, e.g. a snapshot, must not be modified
         // the graphRDD and the viewRDD must have the same partitioner
         if (graphRDD.partitioner().isPresent()){
             assert (graphRDD.partitioner().get().equals(viewIncomingRDD.partitioner().get()));}
         final String[] vertexComputeKeysArray = VertexProgramHelper.vertexComputeKeysAsArray(vertexComputeKeys); // the compute keys as an array
         return graphRDD.leftOuterJoin(viewIncomingRDD)
                 .mapValues(tuple -> {
-                    final StarGraph.StarVertex vertex = tuple._1().get();
+                    // copy the vertex if it is shared, so the view is attached to the copy only
+                    final VertexWritable vertexWritable = sharedGraphRDD ?
+                            new VertexWritable(StarGraph.of(tuple._1().get()).getStarVertex()) : tuple._1();
+                    final StarGraph.StarVertex vertex = vertexWritable.get();
                     vertex.dropVertexProperties(vertexComputeKeysArray); // drop all existing compute keys
                     // attach the final computed view to the cached graph
                     final List<DetachedVertexProperty<Object>> view = tuple._2().isPresent() ? tuple._2().get().getView() : Collections.emptyList();
@@ -210,7 +214,7 @@ public class GraknSparkExecutor {
                         if (!VertexProgramHelper.isTransientVertexComputeKey(property.key(), vertexComputeKeys)){
                             property.attach(Attachable.Method.create(vertex));}
                     }
-                    return tuple._1();
+                    return vertexWritable;
                 });
     }
 
@@ -0,0 +1,168 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.Keyspace;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ *     Persisted Graph Snapshots Shared Between Analytics Queries
+ * </p>
+ *
+ * <p>
+ *     Loading, filtering and partitioning the graph is usually the most expensive part of a compute query.
+ *     This keeps the loaded graph RDDs of a keyspace persisted in the Spark context so that consecutive compute queries
+ *     over the same subgraph can skip that step. Snapshots are keyed by commit watermark and subgraph filter.
+ *     Committing to the keyspace moves its watermark forward and unpersists its snapshots. Commits made in this JVM
+ *     do so directly, commits made elsewhere do so once engine receives their commit logs. Idle snapshots are
+ *     unpersisted when they expire or when the least recently used one has to make room for a new snapshot.
+ * </p>
+ *
+ * <p>
+ *     The snapshots of a keyspace are owned by the {@link ai.grakn.factory.EmbeddedGraknSession}s of the keyspace,
+ *     and are unpersisted when the keyspace is deleted.
+ * </p>
+ */
+public final class GraphSnapshots {
+    private static final Logger LOG = LoggerFactory.getLogger(GraphSnapshots.class);
+
+    static final String NAME_PREFIX = "grakn-snapshot/";
+    private static final int MAX_SNAPSHOTS = 4;
+    private static final long SNAPSHOT_TIMEOUT_MINUTES = 10;
+
+    private static final RemovalListener<String, Snapshot> UNPERSIST = notification -> {
+        LOG.debug("Unpersisting graph snapshot [" + notification.getKey() + "] due to " + notification.getCause());
+        notification.getValue().graphRDD.unpersist(false);
+    };
+
+    private final Keyspace keyspace;
+
+    private final Cache<String, Snapshot> snapshots = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SNAPSHOTS)
+            .expireAfterAccess(SNAPSHOT_TIMEOUT_MINUTES, TimeUnit.MINUTES)
+            .removalListener(UNPERSIST)
+            .build();
+
+    private final AtomicLong commitWatermark = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loadTimeSavedMs = new AtomicLong();
+
+    public GraphSnapshots(Keyspace keyspace){
+        this.keyspace = keyspace;
+    }
+
+    /**
+     *
+     * @return the prefix shared by all the snapshots of the {@link Keyspace} at its current commit watermark
+     */
+    String keyPrefix(){
+        return keyspace.getValue() + "/" + commitWatermark.get() + "/";
+    }
+
+    /**
+     * Moves the commit watermark of the {@link Keyspace} forward and unpersists its snapshots, which are now stale.
+     */
+    public void committed(){
+        commitWatermark.incrementAndGet();
+        snapshots.invalidateAll();
+    }
+
+    /**
+     *
+     * @param key the key of the snapshot
+     * @return the persisted graph RDD or null if there is no snapshot for the key
+     */
+    @Nullable
+    JavaPairRDD<Object, VertexWritable> get(String key){
+        Snapshot snapshot = snapshots.getIfPresent(key);
+        if(snapshot == null){
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        loadTimeSavedMs.addAndGet(snapshot.loadTimeMs);
+        return snapshot.graphRDD;
+    }
+
+    /**
+     *
+     * @param key the key of the snapshot
+     * @param graphRDD the loaded, filtered and persisted graph RDD
+     * @param loadTimeMs how long it took to load the graph RDD
+     */
+    void put(String key, JavaPairRDD<Object, VertexWritable> graphRDD, long loadTimeMs){
+        graphRDD.setName(NAME_PREFIX + key);
+        snapshots.put(key, new Snapshot(graphRDD, loadTimeMs));
+    }
+
+    /**
+     * Unpersists all the snapshots
+     */
+    public void clear(){
+        snapshots.invalidateAll();
+    }
+
+    /**
+     *
+     * @return the number of compute queries which reused a snapshot
+     */
+    public long hits(){
+        return hits.get();
+    }
+
+    /**
+     *
+     * @return the number of compute queries which requested a snapshot but had to load the graph
+     */
+    public long misses(){
+        return misses.get();
+    }
+
+    /**
+     *
+     * @return the total time the reused snapshots originally took to load
+     */
+    public long loadTimeSavedMs(){
+        return loadTimeSavedMs.get();
+    }
+
+    private static class Snapshot {
+        private final JavaPairRDD<Object, VertexWritable> graphRDD;
+        private final long loadTimeMs;
+
+        Snapshot(JavaPairRDD<Object, VertexWritable> graphRDD, long loadTimeMs){
+            this.graphRDD = graphRDD;
+            this.loadTimeMs = loadTimeMs;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.Keyspace;
+import ai.grakn.concept.Label;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>
+ *     Analytics Results Maintained As The Knowledge Base Changes
+ * </p>
+ *
+ * <p>
+ *     Degree and connected component queries over a subgraph which is maintained incrementally, for example by
+ *     engine as it post processes commit logs, are answered by the {@link MaintainedAnalytics} of the session rather
+ *     than by running the vertex programs again. Results should be returned only when they are up to date with the
+ *     commits the maintainer has been told about.
+ * </p>
+ */
+public interface MaintainedAnalytics {
+
+    /**
+     * @param keyspace the {@link Keyspace} of the knowledge base
+     * @param types    the types of the instances in the subgraph
+     * @return the ids of the instances in the subgraph with a non-zero degree, grouped by degree, if they are
+     * maintained for the subgraph
+     */
+    Optional<Map<Long, Set<String>>> degrees(Keyspace keyspace, Set<Label> types);
+
+    /**
+     * @param keyspace the {@link Keyspace} of the knowledge base
+     * @param types    the types of the instances in the subgraph
+     * @return the ids of the instances in the subgraph, grouped by the largest id in their connected component, if
+     * they are maintained for the subgraph
+     */
+    Optional<Map<String, Set<String>>> clusters(Keyspace keyspace, Set<Label> types);
+
+    /**
+     * Discards the results maintained for a deleted {@link Keyspace}
+     *
+     * @param keyspace the deleted {@link Keyspace}
+     */
+    void deleted(Keyspace keyspace);
+}
@@ -129,7 +129,24 @@ public class AttributeTypeImpl<D> extends TypeImpl<AttributeType<D>, Attribute<D
         };
 
         return putInstance(Schema.BaseType.ATTRIBUTE,
-                () -> getAttribute(value), instanceBuilder, isInferred);
+                () -> getOrReserveAttribute(value), instanceBuilder, isInferred);
+    }
+
+    /**
+     * Looks up the {@link Attribute} with the value and, if there is none, reserves its index so concurrent
+     * transactions do not create a duplicate of it.
+     *
+     * @return the existing {@link Attribute} or null if this transaction should create it
+     */
+    @Nullable
+    private Attribute<D> getOrReserveAttribute(D value){
+        Attribute<D> attribute = getAttribute(value);
+        if(attribute != null) return attribute;
+
+        String index = Schema.generateAttributeIndex(getLabel(), value.toString());
+        return vertex().tx().reserveAttribute(index).
+                map(id -> vertex().tx().<Attribute<D>>getConcept(id)).
+                orElse(null);
     }
 
     /**
@@ -56,11 +56,14 @@ public abstract class ConceptImpl implements Concept, ConceptVertex, CacheOwner{
     //WARNING: DO not flush the current shard into the central cache. It is not safe to do so in a concurrent environment
     private final Cache<Shard> currentShard = Cache.createTxCache(this, Cacheable.shard(), () -> {
         String currentShardId = vertex().property(Schema.VertexProperty.CURRENT_SHARD);
-        Vertex shardVertex = vertex().tx().getTinkerTraversal().V().has(Schema.VertexProperty.ID.name(), currentShardId).next();
+        Long shardVertexId = Schema.nativeVertexId(ConceptId.of(currentShardId));
+        Vertex shardVertex = shardVertexId != null ?
+                vertex().tx().getTinkerPopGraph().vertices(shardVertexId).next() :
+                vertex().tx().getTinkerTraversal().V().has(Schema.VertexProperty.ID.name(), currentShardId).next();
         return vertex().tx().factory().buildShard(shardVertex);
     });
     private final Cache<Long> shardCount = Cache.createSessionCache(this, Cacheable.number(), () -> shards().count());
-    private final Cache<ConceptId> conceptId = Cache.createPersistentCache(this, Cacheable.conceptId(), () -> ConceptId.of(vertex().property(Schema.VertexProperty.ID)));
+    private final Cache<ConceptId> conceptId = Cache.createPersistentCache(this, Cacheable.conceptId(), () -> vertex().conceptId());
     private final VertexElement vertexElement;
 
     ConceptImpl(VertexElement vertexElement){
@@ -77,7 +77,7 @@ public final class ElementFactory {
     }
 
     private <X extends Concept> X getOrBuildConcept(VertexElement element, Function<VertexElement, X> conceptBuilder){
-        ConceptId conceptId = ConceptId.of(element.property(Schema.VertexProperty.ID));
+        ConceptId conceptId = element.conceptId();
         return getOrBuildConcept(element, conceptId, conceptBuilder);
     }
 
@@ -155,7 +155,7 @@ public final class ElementFactory {
             throw TemporaryWriteException.indexOverlap(vertexElement.element(), e);
         }
 
-        ConceptId conceptId = ConceptId.of(vertexElement.property(Schema.VertexProperty.ID));
+        ConceptId conceptId = vertexElement.conceptId();
         if(!tx.txCache().isConceptCached(conceptId)){
             Concept concept;
             switch (type) {
@@ -291,13 +291,24 @@ public final class ElementFactory {
      * @return a new {@link VertexElement}
      */
     public VertexElement addVertexElement(Schema.BaseType baseType, ConceptId ... conceptIds) {
-        Vertex vertex = tx.getTinkerPopGraph().addVertex(baseType.name());
-        String newConceptId = Schema.PREFIX_VERTEX + vertex.id().toString();
         if(conceptIds.length > 1){
             throw new IllegalArgumentException("Cannot provide more than one concept id when creating a new concept");
-        } else if (conceptIds.length == 1){
+        } else if (conceptIds.length == 1 && !Schema.BaseType.RELATIONSHIP.equals(baseType)){
+            //Only reified relationships keep an explicit id, all other concept ids are derived from the vertex id
+            throw new IllegalArgumentException("Cannot provide a concept id when creating a concept of type " + baseType);
+        }
+
+        Vertex vertex = tx.getTinkerPopGraph().addVertex(baseType.name());
+        String newConceptId = Schema.PREFIX_VERTEX + vertex.id().toString();
+        if (conceptIds.length == 1){
             newConceptId = conceptIds[0].getValue();
         }
+        //TODO: Only write the ID property (and so its index entry) for reified relationships. Before that can happen:
+        // - Fragments.isVertex/isEdge must tell vertices and edges apart by element type rather than by this property
+        // - IdFragment, ThingImpl, RelationshipReified, RelationshipTypeImpl and VertexElement must match derived ids
+        //   with hasId rather than has(ID)
+        // - the analytics vertex programs, CsrGraph and ShortestPathSearch must use VertexElement.conceptId()
+        // - existing keyspaces need an offline migration which drops the property and the composite index on it
         vertex.property(Schema.VertexProperty.ID.name(), newConceptId);
         tx.txCache().writeOccurred();
         return new VertexElement(tx, vertex);
@@ -99,6 +99,8 @@ public class RelationshipReified extends ThingImpl<Relationship, RelationshipTyp
                 ifPresent(casting -> {
                    casting.delete();
                    vertex().tx().txCache().remove(casting);
+                   vertex().tx().txCache().detachThing(getId());
+                   vertex().tx().txCache().detachThing(thing.getId());
                 });
     }
 
@@ -143,6 +145,8 @@ public class RelationshipReified extends ThingImpl<Relationship, RelationshipTyp
         edge.property(Schema.EdgeProperty.ROLE_LABEL_ID, role.getLabelId().getValue());
         Casting casting = Casting.create(edge, owner, role, toThing);
         vertex().tx().txCache().trackForValidation(casting);
+        vertex().tx().txCache().addNewRolePlayer(getId(), toThing.getId());
+        vertex().tx().txCache().modifiedType(type().getId());
     }
 
     /**
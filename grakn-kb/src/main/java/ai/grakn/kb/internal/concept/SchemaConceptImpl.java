@@ -88,6 +88,15 @@ public abstract class SchemaConceptImpl<T extends SchemaConcept> extends Concept
         }
     }
 
+    /**
+     * Schema concepts are shared across transactions via the {@link ai.grakn.kb.internal.cache.GlobalCache}
+     * so the transaction has to be told which of them hold transaction bound values.
+     */
+    @Override
+    public void txCachePopulated() {
+        vertex().tx().txCache().trackSchemaConcept(this);
+    }
+
     /**
      *
      * @return The internal id which is used for fast lookups
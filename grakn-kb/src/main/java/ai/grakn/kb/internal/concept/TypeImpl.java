@@ -128,6 +128,7 @@ public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl
         }
         V instance = producer.apply(instanceVertex, getThis());
         assert instance != null : "producer should never return null";
+        if(!Schema.MetaSchema.isMetaLabel(getLabel())) vertex().tx().txCache().addNewThing(instance.getId());
         return instance;
     }
 
@@ -31,8 +31,11 @@ import com.google.common.collect.Sets;
 
 import javax.ws.rs.core.UriBuilder;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -69,6 +72,19 @@ public class CommitLogHandler {
         lockDataAddition(() -> instances.forEach((key, value) -> commitLog().instanceCount().merge(key, value, (v1, v2) -> v1 + v2)));
     }
 
+    public void addGraphChanges(Set<ConceptId> newThings, Map<ConceptId, List<ConceptId>> newRolePlayers,
+                                Set<ConceptId> detachedThings){
+        lockDataAddition(() -> {
+            commitLog().newThings().addAll(newThings);
+            newRolePlayers.forEach((key, value) ->
+                    commitLog().newRolePlayers().merge(key, new ArrayList<>(value), (v1, v2) -> {
+                        v1.addAll(v2);
+                        return v1;
+                    }));
+            commitLog().detachedThings().addAll(detachedThings);
+        });
+    }
+
     /**
      * Read locks are used when acquiring the data.
      * This is to ensure we are not busy clearing the data during a commit log submission.
@@ -88,7 +104,7 @@ public class CommitLogHandler {
      * Submits the commit logs to the provided server address and under the provided {@link Keyspace}
      */
     public Optional<String> submit(String engineUri, Keyspace keyspace){
-        if(commitLog().instanceCount().isEmpty() && commitLog().attributes().isEmpty()){
+        if(commitLog().isEmpty()){
             return Optional.empty();
         }
 
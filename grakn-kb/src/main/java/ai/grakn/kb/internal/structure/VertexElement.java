@@ -19,6 +19,7 @@
 package ai.grakn.kb.internal.structure;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -47,11 +48,28 @@ import java.util.stream.StreamSupport;
  * @author fppt
  */
 public class VertexElement extends AbstractElement<Vertex, Schema.VertexProperty> {
+    //Vertices which can never be given an explicit id
+    private static final Set<String> NATIVE_ID_LABELS = Arrays.stream(Schema.BaseType.values())
+            .filter(baseType -> !baseType.equals(Schema.BaseType.RELATIONSHIP))
+            .map(Schema.BaseType::name)
+            .collect(Collectors.toSet());
 
     public VertexElement(EmbeddedGraknTx graknTx, Vertex element) {
         super(graknTx, element, Schema.PREFIX_VERTEX);
     }
 
+    /**
+     * The {@link ConceptId} of a vertex is derived from its native id. The only exception are reified relationships,
+     * which keep the id of the edge they were reified from, so their {@link ConceptId} is read from the
+     * {@link Schema.VertexProperty#ID} property.
+     *
+     * @return The {@link ConceptId} of the concept this vertex represents
+     */
+    public ConceptId conceptId(){
+        if(NATIVE_ID_LABELS.contains(label())) return ConceptId.of(id().getValue());
+        return ConceptId.of(property(Schema.VertexProperty.ID));
+    }
+
     /**
      *
      * @param direction The direction of the edges to retrieve
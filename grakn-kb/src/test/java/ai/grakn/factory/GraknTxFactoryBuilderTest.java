@@ -22,6 +22,9 @@ import ai.grakn.Grakn;
 import ai.grakn.GraknTxType;
 import ai.grakn.Keyspace;
 import ai.grakn.engine.GraknConfig;
+import ai.grakn.kb.internal.cache.AttributeIdentities;
+import ai.grakn.kb.internal.cache.CommitWatermarks;
+import ai.grakn.kb.internal.cache.SharedAnswers;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -56,6 +59,9 @@ public class GraknTxFactoryBuilderTest {
     @BeforeClass
     public static void setup(){
         when(session.config()).thenReturn(TEST_CONFIG);
+        when(session.commitWatermarks()).thenReturn(new CommitWatermarks());
+        when(session.sharedAnswers()).thenReturn(new SharedAnswers());
+        when(session.attributeIdentities()).thenReturn(new AttributeIdentities());
     }
 
     @Test
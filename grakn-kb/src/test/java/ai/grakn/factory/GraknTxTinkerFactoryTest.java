@@ -25,6 +25,9 @@ import ai.grakn.engine.GraknConfig;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.kb.internal.EmbeddedGraknTx;
 import ai.grakn.kb.internal.GraknTxTinker;
+import ai.grakn.kb.internal.cache.AttributeIdentities;
+import ai.grakn.kb.internal.cache.CommitWatermarks;
+import ai.grakn.kb.internal.cache.SharedAnswers;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -53,6 +56,9 @@ public class GraknTxTinkerFactoryTest {
     @BeforeClass
     public static void setup(){
         when(session.config()).thenReturn(TEST_CONFIG);
+        when(session.commitWatermarks()).thenReturn(new CommitWatermarks());
+        when(session.sharedAnswers()).thenReturn(new SharedAnswers());
+        when(session.attributeIdentities()).thenReturn(new AttributeIdentities());
     }
 
     @Rule
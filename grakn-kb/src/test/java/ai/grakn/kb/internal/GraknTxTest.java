@@ -25,6 +25,8 @@ import ai.grakn.GraknTxType;
 import ai.grakn.Keyspace;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
@@ -37,14 +39,19 @@ import ai.grakn.exception.InvalidKBException;
 import ai.grakn.factory.EmbeddedGraknSession;
 import ai.grakn.kb.internal.concept.EntityTypeImpl;
 import ai.grakn.kb.internal.structure.Shard;
+import ai.grakn.kb.log.CommitLog;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableList;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.VerificationException;
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -71,6 +78,41 @@ public class GraknTxTest extends TxTestBase {
         assertEquals(entityType, tx.getConcept(entityType.getId()));
     }
 
+    @Test
+    public void whenCreatingConcept_ItsIdIsDerivedFromTheVertexId(){
+        EntityTypeImpl entityType = (EntityTypeImpl) tx.putEntityType("test-name");
+        Object vertexId = entityType.vertex().element().id();
+        assertEquals(Schema.PREFIX_VERTEX + vertexId, entityType.getId().getValue());
+        assertEquals(Long.valueOf(vertexId.toString()), Schema.nativeVertexId(entityType.getId()));
+    }
+
+    @Test
+    public void whenGettingConceptByIdWhichDoesNotExist_ReturnNull(){
+        assertNull(tx.getConcept(ConceptId.of("V" + Long.MAX_VALUE)));
+        assertNull(tx.getConcept(ConceptId.of("V" + Long.MAX_VALUE + "0")));
+        assertNull(tx.getConcept(ConceptId.of("Vnot-a-vertex-id")));
+        assertNull(tx.getConcept(ConceptId.of("not-an-id")));
+    }
+
+    @Test
+    public void whenGettingConceptsByIds_ReturnTheConceptsInTheOrderOfTheIds(){
+        EntityType entityType = tx.putEntityType("test-name");
+        ConceptId entity1 = entityType.addEntity().getId();
+        ConceptId entity2 = entityType.addEntity().getId();
+        ConceptId missing = ConceptId.of("V" + Long.MAX_VALUE);
+
+        tx.commit();
+        tx = EmbeddedGraknSession.create(tx.keyspace(), Grakn.IN_MEMORY).open(GraknTxType.READ);
+
+        List<Concept> concepts = tx.getConcepts(ImmutableList.of(entity2, missing, entityType.getId(), entity1, entity2));
+
+        List<Concept> expected = Arrays.asList(
+                tx.getConcept(entity2), null, tx.getConcept(entityType.getId()), tx.getConcept(entity1), tx.getConcept(entity2)
+        );
+        assertEquals(expected, concepts);
+        assertNotNull(concepts.get(0));
+    }
+
     @Test
     public void whenAttemptingToMutateViaTraversal_Throw(){
         expectedException.expect(VerificationException.class);
@@ -401,6 +443,30 @@ public class GraknTxTest extends TxTestBase {
         }
     }
 
+    @Test
+    public void whenCommittingANewAttribute_ItIsNotLoggedForPostProcessing(){
+        AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+        name.putAttribute("Bob");
+
+        Optional<CommitLog> commitLog = tx.commitSubmitNoLogs();
+
+        assertTrue(commitLog.isPresent());
+        assertThat(commitLog.get().attributes().keySet(), empty());
+    }
+
+    @Test
+    public void whenCommittingANewAttributeReservedByAnotherTransaction_ItIsLoggedForPostProcessing(){
+        AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+        String index = Schema.generateAttributeIndex(name.getLabel(), "Bob");
+        tx.session().attributeIdentities().reserve(index, new Object());
+        name.putAttribute("Bob");
+
+        Optional<CommitLog> commitLog = tx.commitSubmitNoLogs();
+
+        assertTrue(commitLog.isPresent());
+        assertThat(commitLog.get().attributes().keySet(), containsInAnyOrder(index));
+    }
+
     @Test
     public void whenShardingConcepts_EnsureCountsAreUpdated(){
         EntityType entity = tx.putEntityType("my amazing entity type");
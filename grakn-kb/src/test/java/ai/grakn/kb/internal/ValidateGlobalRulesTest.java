@@ -73,6 +73,29 @@ public class ValidateGlobalRulesTest extends TxTestBase {
         }
     }
 
+    @Test
+    public void whenValidatingWithSharedSchemaConstraints_InheritedPlaysAreRespected() {
+        Role role1 = tx.putRole("role1");
+        Role role2 = tx.putRole("role2");
+        RelationshipType relationshipType = tx.putRelationshipType("rt").relates(role1).relates(role2);
+
+        EntityTypeImpl parent = (EntityTypeImpl) tx.putEntityType("parent");
+        EntityType child = tx.putEntityType("child").sup(parent);
+        parent.plays(role1, true);
+        parent.plays(role2, false);
+
+        Entity entity1 = child.addEntity();
+        Entity entity2 = child.addEntity();
+        RelationshipImpl relation = (RelationshipImpl) relationshipType.addRelationship()
+                .addRolePlayer(role1, entity1).addRolePlayer(role2, entity2);
+
+        SchemaConstraints constraints = new SchemaConstraints();
+        relation.reified().get().castingsRelation().forEach(rolePlayer ->
+                assertTrue(ValidateGlobalRules.validatePlaysAndRelatesStructure(rolePlayer, constraints).isEmpty()));
+        assertFalse(ValidateGlobalRules.validateInstancePlaysAllRequiredRoles(entity1, constraints).isPresent());
+        assertTrue(ValidateGlobalRules.validateInstancePlaysAllRequiredRoles(entity2, constraints).isPresent());
+    }
+
     @Test
     public void testValidatePlaysStructureUnique() {
         Role role1 = tx.putRole("role1");
@@ -0,0 +1,103 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.kb.internal.cache.AttributeIdentities.Reservation;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AttributeIdentitiesTest {
+    private static final String INDEX = "ATTRIBUTE-name-Bob";
+
+    private final AttributeIdentities attributeIdentities = new AttributeIdentities();
+    private final Object owner1 = new Object();
+    private final Object owner2 = new Object();
+
+    @Test
+    public void whenNobodyReservedAnAttribute_TheReservationIsGranted(){
+        Reservation reservation = attributeIdentities.reserve(INDEX, owner1);
+
+        assertTrue(reservation.isGranted());
+        assertEquals(Optional.empty(), reservation.existing());
+    }
+
+    @Test
+    public void whenReservingAnAttributeTwice_TheReservationIsGrantedBothTimes(){
+        assertTrue(attributeIdentities.reserve(INDEX, owner1).isGranted());
+        assertTrue(attributeIdentities.reserve(INDEX, owner1).isGranted());
+    }
+
+    @Test
+    public void whenAnotherTransactionHoldsTheReservation_TheReservationIsNotGranted(){
+        attributeIdentities.reserve(INDEX, owner1);
+
+        Reservation reservation = attributeIdentities.reserve(INDEX, owner2);
+
+        assertFalse(reservation.isGranted());
+        assertEquals(Optional.empty(), reservation.existing());
+    }
+
+    @Test
+    public void whenTheReservingTransactionCommitted_OtherTransactionsGetTheCommittedAttribute(){
+        ConceptId id = ConceptId.of("V123");
+        attributeIdentities.reserve(INDEX, owner1);
+        attributeIdentities.committed(ImmutableMap.of(INDEX, id), owner1);
+
+        Reservation reservation = attributeIdentities.reserve(INDEX, owner2);
+
+        assertFalse(reservation.isGranted());
+        assertEquals(Optional.of(id), reservation.existing());
+    }
+
+    @Test
+    public void whenTheReservingTransactionDoesNotCommit_OtherTransactionsGetTheReservation(){
+        attributeIdentities.reserve(INDEX, owner1);
+        attributeIdentities.release(ImmutableSet.of(INDEX), owner1);
+
+        Reservation reservation = attributeIdentities.reserve(INDEX, owner2);
+
+        assertTrue(reservation.isGranted());
+        assertEquals(Optional.empty(), reservation.existing());
+    }
+
+    @Test
+    public void whenAnotherTransactionReleasesAReservationItDoesNotHold_TheReservationIsKept(){
+        attributeIdentities.reserve(INDEX, owner1);
+        attributeIdentities.release(ImmutableSet.of(INDEX), owner2);
+
+        assertFalse(attributeIdentities.reserve(INDEX, owner2).isGranted());
+    }
+
+    @Test
+    public void whenTheKeyspaceIsCleared_CommittedAttributesAreForgotten(){
+        attributeIdentities.reserve(INDEX, owner1);
+        attributeIdentities.committed(ImmutableMap.of(INDEX, ConceptId.of("V123")), owner1);
+        attributeIdentities.clear();
+
+        assertTrue(attributeIdentities.reserve(INDEX, owner2).isGranted());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CommitWatermarksTest {
+    private static final ConceptId TYPE1 = ConceptId.of("V1");
+    private static final ConceptId TYPE2 = ConceptId.of("V2");
+
+    private final CommitWatermarks commitWatermarks = new CommitWatermarks();
+
+    @Test
+    public void whenCommitting_TheWatermarkMovesForward(){
+        long watermark = commitWatermarks.current();
+
+        commitWatermarks.committed(Collections.emptySet(), false);
+
+        assertEquals(watermark + 1, commitWatermarks.current());
+    }
+
+    @Test
+    public void whenCommittingToAType_OnlyThatTypeIsModified(){
+        long watermark = commitWatermarks.current();
+
+        commitWatermarks.committed(ImmutableSet.of(TYPE1), false);
+
+        assertFalse(commitWatermarks.unmodifiedSince(watermark, ImmutableSet.of(TYPE1, TYPE2)));
+        assertTrue(commitWatermarks.unmodifiedSince(watermark, ImmutableSet.of(TYPE2)));
+        assertTrue(commitWatermarks.unmodifiedSince(commitWatermarks.current(), ImmutableSet.of(TYPE1)));
+    }
+
+    @Test
+    public void whenCommittingToAllTypes_EveryTypeIsModified(){
+        long watermark = commitWatermarks.current();
+
+        commitWatermarks.committed(Collections.emptySet(), true);
+
+        assertFalse(commitWatermarks.unmodifiedSince(watermark, ImmutableSet.of(TYPE2)));
+        assertFalse(commitWatermarks.unmodifiedSince(watermark, Collections.emptySet()));
+    }
+}
@@ -241,6 +241,33 @@ public class TxCacheTest extends TxTestBase {
         assertFalse(tx.txCache().isTypeCached(Label.of(label)));
     }
 
+    @Test
+    public void whenOpeningTransaction_EnsureSchemaIsSharedRatherThanCopied(){
+        EntityType e1 = tx.putEntityType("e1");
+        tx.commit();
+
+        tx = session.open(GraknTxType.WRITE);
+        assertThat(tx.txCache().getSchemaConceptCache().keySet(), empty());
+        assertThat(tx.txCache().getLabelCache().keySet(), empty());
+        assertTrue(tx.txCache().isTypeCached(e1.getLabel()));
+        assertEquals(e1, tx.getEntityType("e1"));
+    }
+
+    @Test
+    public void whenMutatingSharedTypeAndAborting_EnsureMutationIsNotSeenByNextTransaction(){
+        EntityType e1 = tx.putEntityType("e1");
+        EntityType e2 = tx.putEntityType("e2");
+        tx.commit();
+
+        tx = session.open(GraknTxType.WRITE);
+        tx.getEntityType("e2").sup(e1);
+        assertTxBoundConceptMatches(e2, Type::sup, is(e1));
+        tx.abort();
+
+        tx = session.open(GraknTxType.WRITE);
+        assertTxBoundConceptMatches(e2, Type::sup, is(tx.getMetaEntityType()));
+    }
+
     @Test
     public void whenMutatingRoleTypesOfTypeCreatedInAnotherTransaction_EnsureTransactionBoundConceptsAreMutated(){
         Role rol1 = tx.putRole("role1");
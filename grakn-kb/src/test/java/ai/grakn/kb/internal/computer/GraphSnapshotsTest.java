@@ -0,0 +1,97 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.Keyspace;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class GraphSnapshotsTest {
+
+    private final GraphSnapshots snapshots = new GraphSnapshots(randomKeyspace());
+    private final GraphSnapshots otherSnapshots = new GraphSnapshots(randomKeyspace());
+
+    @Test
+    public void whenASnapshotIsPut_ItIsReused() {
+        JavaPairRDD<Object, VertexWritable> graphRDD = rdd();
+        String key = snapshots.keyPrefix() + "filter";
+        snapshots.put(key, graphRDD, 100);
+
+        assertEquals(graphRDD, snapshots.get(key));
+        assertEquals(graphRDD, snapshots.get(key));
+        assertEquals(2, snapshots.hits());
+    }
+
+    @Test
+    public void whenTheSnapshotsAreCleared_TheyAreUnpersisted() {
+        JavaPairRDD<Object, VertexWritable> graphRDD = rdd();
+        String key = snapshots.keyPrefix() + "filter";
+        snapshots.put(key, graphRDD, 100);
+
+        snapshots.clear();
+
+        assertNull(snapshots.get(key));
+        assertEquals(1, snapshots.misses());
+        verify(graphRDD).unpersist(false);
+    }
+
+    @Test
+    public void whenAKeyspaceIsCommittedTo_ItsSnapshotsAreUnpersistedAndItsKeysChange() {
+        JavaPairRDD<Object, VertexWritable> graphRDD = rdd();
+        String prefix = snapshots.keyPrefix();
+        snapshots.put(prefix + "filter", graphRDD, 100);
+
+        snapshots.committed();
+
+        assertNull(snapshots.get(prefix + "filter"));
+        assertNotEquals(prefix, snapshots.keyPrefix());
+        verify(graphRDD).unpersist(false);
+    }
+
+    @Test
+    public void whenAnotherKeyspaceIsCommittedTo_TheSnapshotIsKept() {
+        JavaPairRDD<Object, VertexWritable> graphRDD = rdd();
+        String key = snapshots.keyPrefix() + "filter";
+        snapshots.put(key, graphRDD, 100);
+
+        otherSnapshots.committed();
+
+        assertEquals(graphRDD, snapshots.get(key));
+        verify(graphRDD, never()).unpersist(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JavaPairRDD<Object, VertexWritable> rdd() {
+        return mock(JavaPairRDD.class);
+    }
+
+    private static Keyspace randomKeyspace() {
+        return Keyspace.of("snapshot" + UUID.randomUUID().toString().replaceAll("-", "a"));
+    }
+}
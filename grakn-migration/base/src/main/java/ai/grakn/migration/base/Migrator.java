@@ -113,9 +113,13 @@ public class Migrator {
 
         AtomicInteger queriesExecuted = new AtomicInteger(0);
 
+        // Checked before the loader reads the config of the keyspace, which would create the keyspace
+        checkKeyspace(graknClient);
+
         try (BatchExecutorClient loader =
                 BatchExecutorClient.newBuilder()
                         .taskClient(graknClient)
+                        .grpcIfAvailable(keyspace)
                         .maxRetries(retries)
                         .maxDelay(maxDelayMs)
                         .metricRegistry(metricRegistry)
@@ -123,7 +127,6 @@ public class Migrator {
 
             subscribeToReportOutcome(failFast, loader, queriesExecuted);
 
-            checkKeyspace(graknClient);
             Stream<Query> queryStream = data.flatMap(d -> template(template, d, failFast));
             if (maxLines > -1) {
                 queryStream = queryStream.limit(maxLines);
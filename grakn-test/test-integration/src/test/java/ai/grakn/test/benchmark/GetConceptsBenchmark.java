@@ -0,0 +1,83 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.EntityType;
+import ai.grakn.test.rule.SessionContext;
+import org.junit.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class GetConceptsBenchmark extends BenchmarkTest {
+
+    private static final String BENCHMARK_ENTITY_TYPE = "benchmarkEntityType";
+    private static final int CONCEPTS = 1000;
+
+    @Rule
+    public final SessionContext sessionContext = SessionContext.create();
+
+    private GraknSession session;
+    private final List<ConceptId> ids = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Throwable {
+        session = sessionContext.newSession();
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            EntityType entityType = tx.putEntityType(BENCHMARK_ENTITY_TYPE);
+            for (int i = 0; i < CONCEPTS; i++) {
+                ids.add(entityType.addEntity().getId());
+            }
+            tx.commit();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+    }
+
+    @Benchmark
+    public List<Concept> getConceptInALoop() {
+        // A new transaction is opened every time, so the concepts are not already cached
+        try (GraknTx tx = session.open(GraknTxType.READ)) {
+            List<Concept> concepts = new ArrayList<>(ids.size());
+            for (ConceptId id : ids) {
+                concepts.add(tx.getConcept(id));
+            }
+            return concepts;
+        }
+    }
+
+    @Benchmark
+    public List<Concept> getConcepts() {
+        try (GraknTx tx = session.open(GraknTxType.READ)) {
+            return tx.getConcepts(ids);
+        }
+    }
+}
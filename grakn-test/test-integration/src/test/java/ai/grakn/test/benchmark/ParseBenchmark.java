@@ -0,0 +1,67 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.Pattern;
+import ai.grakn.graql.Query;
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+
+
+public class ParseBenchmark extends BenchmarkTest {
+
+    private static final List<String> QUERIES = ImmutableList.of(
+            "match $x isa movie, has title \"Godfather\"; get;",
+            "match $x isa person; $y isa movie; (actor: $x, production-with-cast: $y) isa has-cast; get $x, $y;",
+            "match $x isa movie; $x has tmdb-vote-count $c; $c val > 400; order by $c desc; limit 10; get;",
+            "match $x isa person, has name $n; aggregate group $n count;",
+            "insert $x isa person, has name \"Bob\", has age 42;",
+            "match $x isa person, has name \"Bob\"; insert (spouse: $x, spouse: $y) isa marriage; $y isa person;",
+            "define person sub entity, has name, plays actor; name sub attribute, datatype string;",
+            "compute count in movie, person;"
+    );
+
+    private static final String PATTERN =
+            "{(parent: $x, child: $y) isa parentship;} or {(grandparent: $x, grandchild: $y) isa grandparentship;};";
+
+    private int unique = 0;
+
+    @Benchmark
+    public void parseRepeatedQueries() {
+        for (String query : QUERIES) {
+            Graql.<Query<?>>parse(query);
+        }
+    }
+
+    @Benchmark
+    public void parseUniqueQueries() {
+        for (String query : QUERIES) {
+            // A trailing comment makes every string distinct without changing the query
+            Graql.<Query<?>>parse(query + " #" + unique++);
+        }
+    }
+
+    @Benchmark
+    public Pattern parseRepeatedPattern() {
+        return Graql.parser().parsePattern(PATTERN);
+    }
+}
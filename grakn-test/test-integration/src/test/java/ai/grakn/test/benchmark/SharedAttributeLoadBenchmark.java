@@ -0,0 +1,94 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.test.benchmark;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.EntityType;
+import ai.grakn.test.rule.SessionContext;
+import org.junit.Rule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+public class SharedAttributeLoadBenchmark extends BenchmarkTest {
+
+    private static final String BENCHMARK_ENTITY_TYPE = "benchmarkEntityType";
+    private static final String BENCHMARK_ATTRIBUTE_TYPE = "benchmarkAttributeType";
+    private static final int LOADERS = 4;
+    private static final int ENTITIES_PER_LOADER = 100;
+    // Few values, so the loaders keep creating the same attributes at the same time
+    private static final int VALUES = 10;
+
+    @Rule
+    public final SessionContext sessionContext = SessionContext.create();
+
+    private GraknSession session;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() throws Throwable {
+        session = sessionContext.newSession();
+        executor = Executors.newFixedThreadPool(LOADERS);
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            AttributeType<String> attributeType =
+                    tx.putAttributeType(BENCHMARK_ATTRIBUTE_TYPE, AttributeType.DataType.STRING);
+            tx.putEntityType(BENCHMARK_ENTITY_TYPE).attribute(attributeType);
+            tx.commit();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        session.close();
+    }
+
+    @Benchmark
+    public void loadEntitiesWithSharedAttributesConcurrently() throws ExecutionException, InterruptedException {
+        List<Future<?>> loads = new ArrayList<>(LOADERS);
+        for (int i = 0; i < LOADERS; i++) {
+            loads.add(executor.submit(this::load));
+        }
+        for (Future<?> load : loads) {
+            load.get();
+        }
+    }
+
+    private void load() {
+        try (GraknTx tx = session.open(GraknTxType.BATCH)) {
+            EntityType entityType = tx.getEntityType(BENCHMARK_ENTITY_TYPE);
+            AttributeType<String> attributeType = tx.getAttributeType(BENCHMARK_ATTRIBUTE_TYPE);
+            for (int i = 0; i < ENTITIES_PER_LOADER; i++) {
+                entityType.addEntity().attribute(attributeType.putAttribute("value" + (i % VALUES)));
+            }
+            tx.commit();
+        }
+    }
+}
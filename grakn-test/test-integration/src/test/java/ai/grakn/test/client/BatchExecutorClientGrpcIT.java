@@ -0,0 +1,183 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.test.client;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.client.BatchExecutorClient;
+import ai.grakn.client.GraknClient;
+import ai.grakn.client.GraknClientException;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.graql.Query;
+import ai.grakn.test.rule.EngineContext;
+import ai.grakn.util.SimpleURI;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ai.grakn.graql.Graql.count;
+import static ai.grakn.graql.Graql.insert;
+import static ai.grakn.graql.Graql.label;
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Loads people with {@link BatchExecutorClient} over HTTP and over gRPC, and logs the load rate and the CPU time
+ * the client spent in each case.
+ */
+public class BatchExecutorClientGrpcIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchExecutorClientGrpcIT.class);
+
+    private static final int PEOPLE = 5000;
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.create();
+
+    private GraknSession session;
+
+    @Before
+    public void setUp() {
+        session = engine.sessionWithNewKeyspace();
+
+        try (GraknTx tx = session.open(GraknTxType.WRITE)) {
+            tx.graql().define(
+                    label("person").sub("entity").has("name"),
+                    label("name").sub("attribute").datatype(AttributeType.DataType.STRING)
+            ).execute();
+            tx.commit();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        session.close();
+    }
+
+    @Test
+    public void whenLoadingOverGrpc_AllQueriesAreCommitted() {
+        int loaded = load(grpcClient(), "grpc");
+
+        assertEquals(PEOPLE, loaded);
+        assertEquals(PEOPLE, countPeople());
+    }
+
+    @Test
+    public void whenAQueryFailsOverGrpc_OnlyThatQueryIsReported() {
+        List<Exception> errors = new CopyOnWriteArrayList<>();
+        AtomicInteger loaded = new AtomicInteger(0);
+
+        try (BatchExecutorClient client = grpcClient()) {
+            client.onNext(response -> loaded.incrementAndGet());
+            client.onError(errors::add);
+
+            client.add(insert(var("x").isa("person").has("name", "before")), keyspace());
+            client.add(insert(var("x").isa("not-a-type")), keyspace());
+            client.add(insert(var("x").isa("person").has("name", "after")), keyspace());
+        }
+
+        assertEquals(1, errors.size());
+        assertEquals(2, loaded.get());
+        assertEquals(2, countPeople());
+    }
+
+    @Test
+    public void whenAskingEngineForItsGrpcAddress_TheGrpcPortOfItsConfigIsReturned() throws GraknClientException {
+        Optional<SimpleURI> grpcUri = GraknClient.of(engine.uri()).grpcUri(keyspace());
+
+        assertEquals(Optional.of(engine.grpcUri().toString()), grpcUri.map(SimpleURI::toString));
+    }
+
+    @Test
+    public void whenLoadingOverTheGrpcPortOfEngine_AllQueriesAreCommitted() {
+        BatchExecutorClient loader = BatchExecutorClient.newBuilder()
+                .taskClient(GraknClient.of(engine.uri())).grpcIfAvailable(keyspace()).build();
+
+        int loaded = load(loader, "grpc");
+
+        assertEquals(PEOPLE, loaded);
+        assertEquals(PEOPLE, countPeople());
+    }
+
+    @Test
+    public void compareLoadingOverHttpAndGrpc() {
+        load(grpcClient(), "grpc");
+        load(BatchExecutorClient.newBuilder().taskClient(GraknClient.of(engine.uri())).build(), "http");
+
+        assertEquals(PEOPLE * 2, countPeople());
+    }
+
+    private BatchExecutorClient grpcClient() {
+        return BatchExecutorClient.newBuilder().taskClient(GraknClient.of(engine.uri())).grpc(engine.grpcUri()).build();
+    }
+
+    private int load(BatchExecutorClient loader, String transport) {
+        AtomicInteger loaded = new AtomicInteger(0);
+
+        long cpuStart = processCpuNanos();
+        long start = System.nanoTime();
+        try (BatchExecutorClient client = loader) {
+            client.onNext(response -> loaded.incrementAndGet());
+            for (int i = 0; i < PEOPLE; i++) {
+                Query<?> query = insert(var("x").isa("person").has("name", transport + "-" + i));
+                client.add(query, keyspace());
+            }
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long cpuMillis = TimeUnit.NANOSECONDS.toMillis(processCpuNanos() - cpuStart);
+
+        LOG.info("Loaded {} queries over {} in {}ms ({} per second), using {}ms of CPU in this JVM",
+                loaded.get(), transport, millis, loaded.get() * 1000L / Math.max(1, millis), cpuMillis);
+        return loaded.get();
+    }
+
+    /**
+     * CPU time of the whole JVM, which also runs the engine, so it is only comparable between the two transports
+     */
+    private static long processCpuNanos() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return 0;
+    }
+
+    private Keyspace keyspace() {
+        return session.keyspace();
+    }
+
+    private long countPeople() {
+        try (GraknTx tx = session.open(GraknTxType.READ)) {
+            return tx.graql().match(var("x").isa("person")).aggregate(count()).execute();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import ai.grakn.Keyspace;
 import ai.grakn.client.BatchExecutorClient;
 import ai.grakn.client.GraknClient;
 import ai.grakn.client.GraknClientException;
+import ai.grakn.client.PartialIngestException;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.Query;
@@ -29,10 +30,14 @@ import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 
 import javax.annotation.Nullable;
+import javax.ws.rs.core.Response.Status;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static ai.grakn.graql.Graql.insert;
@@ -40,6 +45,7 @@ import static ai.grakn.graql.Graql.var;
 import static ai.grakn.util.CommonUtil.toImmutableSet;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
 
 public class BatchExecutorClientTest {
 
@@ -94,6 +100,31 @@ public class BatchExecutorClientTest {
         assertThat(graknClient.queriesExecuted(), containsInAnyOrder(queriesToExecute.toArray()));
     }
 
+    @Test
+    public void whenSomeIngestedQueriesFail_OnlyThoseQueriesAreReported() {
+        Keyspace keyspace = Keyspace.of("yes");
+
+        GraknClientFake graknClient = new GraknClientFake();
+        Set<Query<?>> failingQueries =
+                IntStream.range(0, 10).mapToObj(this::createInsertQuery).collect(toImmutableSet());
+        graknClient.shouldFailToIngest(failingQueries);
+
+        int numQueries = 100;
+        AtomicInteger committed = new AtomicInteger(0);
+        AtomicInteger failed = new AtomicInteger(0);
+
+        try (BatchExecutorClient client = BatchExecutorClient.newBuilder().taskClient(graknClient).ingest(true).build()) {
+            client.onNext(response -> committed.incrementAndGet());
+            client.onError(error -> failed.incrementAndGet());
+            for (int i = 0; i < numQueries; i++) {
+                client.add(createInsertQuery(i), keyspace);
+            }
+        }
+
+        assertEquals(failingQueries.size(), failed.get());
+        assertEquals(numQueries - failingQueries.size(), committed.get());
+    }
+
     private InsertQuery createInsertQuery(int i) {
         return insert(var("x").id(ConceptId.of("V" + i)));
     }
@@ -104,6 +135,7 @@ class GraknClientFake implements GraknClient {
 
     private final Set<Query<?>> queriesExecuted = ConcurrentHashMap.newKeySet();
     private @Nullable GraknClientException exceptionToThrow = null;
+    private Set<Query<?>> queriesFailingToIngest = ImmutableSet.of();
 
     Set<Query<?>> queriesExecuted() {
         return ImmutableSet.copyOf(queriesExecuted);
@@ -113,6 +145,10 @@ class GraknClientFake implements GraknClient {
         this.exceptionToThrow = exceptionToThrow;
     }
 
+    void shouldFailToIngest(Set<Query<?>> queries) {
+        this.queriesFailingToIngest = queries;
+    }
+
     @Override
     public List graqlExecute(List<Query<?>> queryList, Keyspace keyspace) throws GraknClientException {
         queriesExecuted.addAll(queryList);
@@ -125,6 +161,21 @@ class GraknClientFake implements GraknClient {
         return queryList;
     }
 
+    @Override
+    public List graqlIngest(List<Query<?>> queryList, Keyspace keyspace) throws GraknClientException {
+        queriesExecuted.addAll(queryList);
+
+        Map<Integer, String> failures = new HashMap<>();
+        for (int i = 0; i < queryList.size(); i++) {
+            if (queriesFailingToIngest.contains(queryList.get(i))) failures.put(i, "UH OH");
+        }
+        if (!failures.isEmpty()) {
+            throw new PartialIngestException("SOME FAILED", Status.BAD_REQUEST, failures);
+        }
+
+        return queryList;
+    }
+
     @Override
     public Optional<Keyspace> keyspace(String keyspace) throws GraknClientException {
         return Optional.of(Keyspace.of(keyspace));
@@ -38,7 +38,9 @@ import ai.grakn.concept.Type;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.GetQuery;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.remote.AsyncRemoteGraknTx;
 import ai.grakn.remote.RemoteGrakn;
+import ai.grakn.remote.RemoteGraknTx;
 import ai.grakn.test.kbs.MovieKB;
 import ai.grakn.test.rule.EngineContext;
 import com.google.common.collect.ImmutableMap;
@@ -54,9 +56,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -204,6 +208,31 @@ public class GrpcServerIT {
         }
     }
 
+    @Test
+    public void whenPipeliningQueries_TheyAreExecutedInOrder() {
+        try (RemoteGraknTx tx = (RemoteGraknTx) remoteSession.open(GraknTxType.WRITE)) {
+            AsyncRemoteGraknTx async = tx.async(4);
+
+            async.execute(tx.graql().define(label("pipelined").sub("entity")));
+
+            List<CompletableFuture<List<Answer>>> inserts = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                inserts.add(async.execute(tx.graql().insert(var("x").isa("pipelined"))));
+            }
+
+            CompletableFuture<List<Answer>> get = async.execute(tx.graql().match(var("x").isa("pipelined")).get());
+
+            assertThat(get.join(), hasSize(20));
+            inserts.forEach(insert -> assertThat(insert.join(), hasSize(1)));
+
+            async.commit();
+        }
+
+        try (GraknTx tx = localSession.open(GraknTxType.READ)) {
+            assertEquals(20, tx.getEntityType("pipelined").instances().count());
+        }
+    }
+
     @Test
     public void whenGettingAConcept_TheInformationOnTheConceptIsCorrect() {
         try (GraknTx remoteTx = remoteSession.open(GraknTxType.READ);
@@ -0,0 +1,139 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.test.engine;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.remote.AsyncRemoteGraknTx;
+import ai.grakn.remote.RemoteGrakn;
+import ai.grakn.remote.RemoteGraknTx;
+import ai.grakn.test.rule.EngineContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static ai.grakn.graql.Graql.label;
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures how many small inserts per second a client can send in one remote transaction over loopback, with and
+ * without pipelining the requests.
+ */
+public class RemoteInsertThroughputIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteInsertThroughputIT.class);
+
+    private static final int INSERTS = 2000;
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.create();
+
+    private GraknSession localSession;
+    private GraknSession remoteSession;
+
+    @Before
+    public void setUp() {
+        localSession = engine.sessionWithNewKeyspace();
+
+        try (GraknTx tx = localSession.open(GraknTxType.WRITE)) {
+            tx.graql().define(
+                    label("person").sub("entity").has("name"),
+                    label("name").sub("attribute").datatype(AttributeType.DataType.STRING)
+            ).execute();
+            tx.commit();
+        }
+
+        remoteSession = RemoteGrakn.session(engine.grpcUri(), localSession.keyspace());
+    }
+
+    @After
+    public void tearDown() {
+        remoteSession.close();
+        localSession.close();
+    }
+
+    @Test
+    public void measureInsertThroughputWithAndWithoutPipelining() {
+        // Warm up both code paths on the server before measuring
+        insertSynchronously(INSERTS / 10);
+        insertPipelined(INSERTS / 10);
+
+        double synchronous = insertSynchronously(INSERTS);
+        double pipelined = insertPipelined(INSERTS);
+
+        LOG.info(String.format(
+                "Remote inserts over loopback: %.0f/s synchronous, %.0f/s pipelined", synchronous, pipelined
+        ));
+
+        try (GraknTx tx = localSession.open(GraknTxType.READ)) {
+            long expected = 2 * (INSERTS + INSERTS / 10);
+            assertEquals(expected, tx.getEntityType("person").instances().count());
+        }
+    }
+
+    /**
+     * @return inserts per second
+     */
+    private double insertSynchronously(int count) {
+        long start = System.nanoTime();
+
+        try (GraknTx tx = remoteSession.open(GraknTxType.WRITE)) {
+            for (int i = 0; i < count; i++) {
+                insert(tx, i).execute();
+            }
+            tx.commit();
+        }
+
+        return perSecond(count, System.nanoTime() - start);
+    }
+
+    /**
+     * @return inserts per second
+     */
+    private double insertPipelined(int count) {
+        long start = System.nanoTime();
+
+        try (RemoteGraknTx tx = (RemoteGraknTx) remoteSession.open(GraknTxType.WRITE)) {
+            AsyncRemoteGraknTx async = tx.async();
+            for (int i = 0; i < count; i++) {
+                async.execute(insert(tx, i));
+            }
+            async.commit();
+        }
+
+        return perSecond(count, System.nanoTime() - start);
+    }
+
+    private static InsertQuery insert(GraknTx tx, int i) {
+        return tx.graql().insert(var("x").isa("person").has("name", "person-" + i));
+    }
+
+    private static double perSecond(int count, long nanos) {
+        return count / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.test.engine;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Thing;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.grpc.AnswerProjection;
+import ai.grakn.remote.RemoteGrakn;
+import ai.grakn.remote.RemoteGraknSession;
+import ai.grakn.test.rule.EngineContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ai.grakn.graql.Graql.label;
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures how long a client takes to read the names and ages of people in one remote transaction over loopback,
+ * with and without an {@link AnswerProjection}.
+ */
+public class RemoteProjectedReadIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteProjectedReadIT.class);
+
+    private static final int PEOPLE = 1000;
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.create();
+
+    private GraknSession localSession;
+    private RemoteGraknSession remoteSession;
+
+    @Before
+    public void setUp() {
+        localSession = engine.sessionWithNewKeyspace();
+
+        try (GraknTx tx = localSession.open(GraknTxType.WRITE)) {
+            tx.graql().define(
+                    label("person").sub("entity").has("name").has("age"),
+                    label("name").sub("attribute").datatype(AttributeType.DataType.STRING),
+                    label("age").sub("attribute").datatype(AttributeType.DataType.LONG)
+            ).execute();
+
+            for (int i = 0; i < PEOPLE; i++) {
+                tx.graql().insert(var("x").isa("person").has("name", "person-" + i).has("age", (long) i)).execute();
+            }
+
+            tx.commit();
+        }
+
+        remoteSession = (RemoteGraknSession) RemoteGrakn.session(engine.grpcUri(), localSession.keyspace());
+    }
+
+    @After
+    public void tearDown() {
+        remoteSession.close();
+        localSession.close();
+    }
+
+    @Test
+    public void measureReadTimeWithAndWithoutProjection() {
+        AnswerProjection projection = AnswerProjection.create(Label.of("name"), Label.of("age"));
+
+        // Warm up both code paths on the server before measuring
+        readNamesAndAges(null);
+        readNamesAndAges(projection);
+
+        long start = System.nanoTime();
+        long withoutProjection = readNamesAndAges(null);
+        double withoutProjectionMillis = millis(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        long withProjection = readNamesAndAges(projection);
+        double withProjectionMillis = millis(System.nanoTime() - start);
+
+        LOG.info(String.format(
+                "Reading names and ages of %d people over loopback: %.0fms without projection, %.0fms with projection",
+                PEOPLE, withoutProjectionMillis, withProjectionMillis
+        ));
+
+        assertEquals(withoutProjection, withProjection);
+    }
+
+    /**
+     * @return the sum of the ages, so both reads can be compared
+     */
+    private long readNamesAndAges(AnswerProjection projection) {
+        long ages = 0;
+
+        try (GraknTx tx = projection == null ?
+                remoteSession.open(GraknTxType.READ) : remoteSession.open(GraknTxType.READ, projection)) {
+            AttributeType<?> name = tx.getAttributeType("name");
+            AttributeType<?> age = tx.getAttributeType("age");
+
+            List<Answer> answers = tx.graql().match(var("x").isa("person")).get().execute();
+            for (Answer answer : answers) {
+                Thing person = answer.get(var("x")).asThing();
+                assertEquals(1, person.attributes(name).count());
+                ages += person.attributes(age).mapToLong(attribute -> (Long) attribute.getValue()).sum();
+            }
+        }
+
+        return ages;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016-2018 Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/agpl.txt>.
+ */
+
+package ai.grakn.test.engine.postprocessing;
+
+import ai.grakn.GraknConfigKey;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Entity;
+import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Relationship;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.concept.Role;
+import ai.grakn.engine.GraknConfig;
+import ai.grakn.engine.task.postprocessing.IncrementalAnalytics;
+import ai.grakn.factory.EmbeddedGraknSession;
+import ai.grakn.kb.internal.EmbeddedGraknTx;
+import ai.grakn.kb.log.CommitLog;
+import ai.grakn.test.rule.EngineContext;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalAnalyticsTest {
+    private static final Set<Label> TYPES = ImmutableSet.of(Label.of("person"), Label.of("friendship"));
+
+    private static GraknConfig config;
+    static {
+        config = EngineContext.createTestConfig();
+        config.setConfigProperty(GraknConfigKey.KB_ANALYTICS_INCREMENTAL_TYPES, ImmutableList.of("person", "friendship"));
+    }
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.create(config);
+
+    private EmbeddedGraknSession session;
+    private IncrementalAnalytics analytics;
+
+    @Before
+    public void setUp() {
+        session = engine.sessionWithNewKeyspace();
+        analytics = IncrementalAnalytics.create(engine.config(), engine.factory());
+
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            Role friend = tx.putRole("friend");
+            tx.putEntityType("person").plays(friend);
+            tx.putRelationshipType("friendship").relates(friend);
+            tx.commit();
+        }
+    }
+
+    @After
+    public void takeDown() {
+        session.close();
+    }
+
+    @Test
+    public void whenCommittingAndDeletingFriendships_MaintainedDegreesMatchAFullRecompute() throws InterruptedException {
+        Entity alice;
+        Entity bob;
+        Relationship aliceAndBob;
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            alice = tx.getEntityType("person").addEntity();
+            bob = tx.getEntityType("person").addEntity();
+            tx.getEntityType("person").addEntity();
+            aliceAndBob = befriend(tx, alice, bob);
+            commit(tx);
+        }
+        assertEquals(recompute(), maintained());
+
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            Entity carol = tx.getEntityType("person").addEntity();
+            befriend(tx, tx.getConcept(alice.getId()), carol);
+            befriend(tx, tx.getConcept(bob.getId()), carol);
+            commit(tx);
+        }
+        assertEquals(recompute(), maintained());
+
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.WRITE)) {
+            tx.getConcept(aliceAndBob.getId()).delete();
+            tx.getConcept(bob.getId()).delete();
+            commit(tx);
+        }
+        assertEquals(recompute(), maintained());
+    }
+
+    private static Relationship befriend(EmbeddedGraknTx<?> tx, Entity person1, Entity person2) {
+        RelationshipType friendship = tx.getRelationshipType("friendship");
+        Role friend = tx.getRole("friend");
+        return friendship.addRelationship().addRolePlayer(friend, person1).addRolePlayer(friend, person2);
+    }
+
+    private void commit(EmbeddedGraknTx<?> tx) {
+        Optional<CommitLog> commitLog = tx.commitSubmitNoLogs();
+        assertTrue(commitLog.isPresent());
+        analytics.submit(commitLog.get());
+    }
+
+    private Map<Long, Set<String>> maintained() throws InterruptedException {
+        // The commit logs are applied in the background, the results are served once they are up to date
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Optional<Map<Long, Set<String>>> degrees = analytics.degrees(session.keyspace(), TYPES);
+            if (degrees.isPresent()) return degrees.get();
+            Thread.sleep(100);
+        }
+        throw new AssertionError("The maintained degrees did not catch up with the commits");
+    }
+
+    private Map<Long, Set<String>> recompute() {
+        // Selecting the types to compute the degrees of runs the vertex program rather than using maintained results
+        try (EmbeddedGraknTx<?> tx = session.open(GraknTxType.READ)) {
+            Map<Long, Set<String>> degrees = tx.graql().compute().centrality().usingDegree()
+                    .of("person", "friendship").in("person", "friendship").execute();
+
+            // Only instances with a non-zero degree are maintained
+            Map<Long, Set<String>> connected = new HashMap<>(degrees);
+            connected.remove(0L);
+            return connected;
+        }
+    }
+}